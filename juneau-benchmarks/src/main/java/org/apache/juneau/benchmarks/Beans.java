@@ -0,0 +1,88 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.util.*;
+
+/**
+ * Bean graphs used as input to the marshalling benchmarks.
+ */
+public class Beans {
+
+	/**
+	 * Creates a bean graph of the specified size.
+	 *
+	 * @param size Either <js>"small"</js> (a single bean) or <js>"large"</js> (a list of 1000 beans).
+	 * @return A new bean graph.
+	 */
+	public static Object create(String size) {
+		if ("small".equals(size))
+			return Person.create(1);
+		List<Person> l = new ArrayList<>();
+		for (int i = 0; i < 1000; i++)
+			l.add(Person.create(i));
+		return l;
+	}
+
+	/**
+	 * Returns the class to use when parsing a bean graph created by {@link #create(String)}.
+	 *
+	 * @param size Either <js>"small"</js> or <js>"large"</js>.
+	 * @return The type of the graph.
+	 */
+	public static Class<?> type(String size) {
+		return "small".equals(size) ? Person.class : Person[].class;
+	}
+
+	@SuppressWarnings("javadoc")
+	public static class Person {
+		public int id;
+		public String name;
+		public boolean active;
+		public double score;
+		public Address address;
+		public List<String> tags;
+		public Map<String,Integer> counts;
+
+		static Person create(int i) {
+			Person p = new Person();
+			p.id = i;
+			p.name = "Person " + i;
+			p.active = i % 2 == 0;
+			p.score = i * 1.5;
+			p.address = Address.create(i);
+			p.tags = Arrays.asList("a" + i, "b" + i, "c" + i);
+			p.counts = new LinkedHashMap<>();
+			p.counts.put("x", i);
+			p.counts.put("y", i * 2);
+			return p;
+		}
+	}
+
+	@SuppressWarnings("javadoc")
+	public static class Address {
+		public String street;
+		public String city;
+		public String state;
+		public int zip;
+
+		static Address create(int i) {
+			Address a = new Address();
+			a.street = i + " Main St";
+			a.city = "Anytown";
+			a.state = "NY";
+			a.zip = 10000 + i;
+			return a;
+		}
+	}
+}
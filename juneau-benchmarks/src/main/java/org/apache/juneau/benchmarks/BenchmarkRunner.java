@@ -0,0 +1,66 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import org.openjdk.jmh.*;
+import org.openjdk.jmh.results.format.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+/**
+ * Entry point for the benchmarks jar.
+ *
+ * <p>
+ * Accepts the same command-line arguments as the standard JMH runner, but writes results as JSON to
+ * <js>"target/jmh-result.json"</js> unless a result format or file is specified (<code>-rf</code> / <code>-rff</code>)
+ * so that runs can be compared between releases.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	<jc>// Run everything.</jc>
+ * 	java -jar target/benchmarks.jar
+ *
+ * 	<jc>// Run only JSON marshalling over large graphs.</jc>
+ * 	java -jar target/benchmarks.jar MarshallBenchmark -p format=json -p size=large
+ * </p>
+ */
+public class BenchmarkRunner {
+
+	/**
+	 * Default location of the result file.
+	 */
+	public static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+	/**
+	 * Runs the benchmarks.
+	 *
+	 * @param args Standard JMH command-line arguments.
+	 * @throws Exception
+	 */
+	public static void main(String[] args) throws Exception {
+		CommandLineOptions cmd = new CommandLineOptions(args);
+
+		if (cmd.shouldHelp() || cmd.shouldList() || cmd.shouldListProfilers() || cmd.shouldListResultFormats()) {
+			Main.main(args);
+			return;
+		}
+
+		ChainedOptionsBuilder b = new OptionsBuilder().parent(cmd);
+		if (! cmd.getResultFormat().hasValue())
+			b.resultFormat(ResultFormatType.JSON);
+		if (! cmd.getResult().hasValue())
+			b.result(DEFAULT_RESULT_FILE);
+
+		new Runner(b.build()).run();
+	}
+}
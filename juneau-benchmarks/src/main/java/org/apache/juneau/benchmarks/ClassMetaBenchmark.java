@@ -0,0 +1,78 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import org.apache.juneau.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * {@link ClassMeta} lookups on a freshly-created {@link BeanContext} with an empty cache (cold) and on a shared one (warm).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("javadoc")
+public class ClassMetaBenchmark {
+
+	private BeanContext bc;
+
+	@Setup
+	public void setup() {
+		bc = BeanContext.create().build();
+		bc.getClassMeta(Beans.Person.class);
+	}
+
+	/**
+	 * A property store that no other bean context has been created from.
+	 *
+	 * <p>
+	 * Bean contexts share their class metadata with every other context created from an equivalent property store, so
+	 * a throwaway property is added to make sure each invocation starts with an empty cache.
+	 */
+	@State(Scope.Thread)
+	public static class ColdState {
+		private static final AtomicInteger COUNTER = new AtomicInteger();
+		PropertyStore ps;
+
+		@Setup(Level.Invocation)
+		public void setup() {
+			ps = PropertyStore.create().set("BeanContext.benchmarkId.i", COUNTER.incrementAndGet()).build();
+		}
+	}
+
+	// Single-shot so that the number of distinct cached property stores stays bounded.
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	@Warmup(iterations = 20)
+	@Measurement(iterations = 200)
+	public Object cold(ColdState state) {
+		return new BeanContext(state.ps).getClassMeta(Beans.Person.class).getBeanMeta();
+	}
+
+	@Benchmark
+	public Object warm() {
+		return bc.getClassMeta(Beans.Person.class).getBeanMeta();
+	}
+
+	@Benchmark
+	public Object warmBeanSession() {
+		return bc.createSession().newBean(Beans.Person.class);
+	}
+}
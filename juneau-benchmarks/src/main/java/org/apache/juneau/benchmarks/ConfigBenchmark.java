@@ -0,0 +1,72 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.util.concurrent.*;
+
+import org.apache.juneau.config.*;
+import org.apache.juneau.config.store.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * {@link Config} reads of raw, converted, variable-resolved and parsed entries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("javadoc")
+public class ConfigBenchmark {
+
+	private Config config;
+
+	@Setup
+	public void setup() {
+		ConfigMemoryStore store = ConfigMemoryStore.create().build();
+		store.update("Benchmark.cfg",
+			"[Section]\n"
+			+ "string = foo\n"
+			+ "int = 123\n"
+			+ "vars = $S{java.version}\n"
+			+ "bean = {id:1,name:'Person 1',active:true,score:1.5,address:{street:'1 Main St',city:'Anytown',state:'NY',zip:10001},tags:['a1','b1','c1']}\n"
+		);
+		config = Config.create().store(store).name("Benchmark.cfg").build();
+	}
+
+	@Benchmark
+	public String getString() {
+		return config.getString("Section/string");
+	}
+
+	@Benchmark
+	public int getInt() {
+		return config.getInt("Section/int");
+	}
+
+	@Benchmark
+	public String getStringWithVars() {
+		return config.getString("Section/vars");
+	}
+
+	@Benchmark
+	public Object getObject() throws Exception {
+		return config.getObject("Section/bean", Beans.Person.class);
+	}
+
+	@Benchmark
+	public String getMissing() {
+		return config.getString("Section/missing", "default");
+	}
+}
@@ -0,0 +1,62 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.util.concurrent.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.httppart.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * {@link HttpPartSchema} validation of parsed bean graphs using the interpreted and compiled validators.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("javadoc")
+public class HttpPartSchemaBenchmark {
+
+	@Param({"small", "large"})
+	public String size;
+
+	private HttpPartSchema schema;
+	private Object input;
+	private BeanSession session;
+
+	@Setup
+	public void setup() {
+		HttpPartSchemaBuilder person = HttpPartSchema.create("object")
+			.property("id", HttpPartSchema.create("integer").minimum(0))
+			.property("score", HttpPartSchema.create("number").minimum(0).maximum(100000))
+			.property("tags", HttpPartSchema.create("array").maxItems(10L))
+			.property("counts", HttpPartSchema.create("object").additionalProperties(HttpPartSchema.create("integer").minimum(0)))
+			.property("address", HttpPartSchema.create("object").property("zip", HttpPartSchema.create("integer").minimum(0)));
+		schema = ("small".equals(size) ? person : HttpPartSchema.create("array").items(person)).build();
+		input = Beans.create(size);
+		session = BeanContext.DEFAULT.createSession();
+	}
+
+	@Benchmark
+	public Object interpreted() throws Exception {
+		return schema.validateOutput(input, BeanContext.DEFAULT);
+	}
+
+	@Benchmark
+	public Object compiled() throws Exception {
+		return schema.validateOutput(input, session);
+	}
+}
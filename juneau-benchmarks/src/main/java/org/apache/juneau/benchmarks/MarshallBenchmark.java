@@ -0,0 +1,77 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.util.concurrent.*;
+
+import org.apache.juneau.html.*;
+import org.apache.juneau.jena.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.serializer.*;
+import org.apache.juneau.uon.*;
+import org.apache.juneau.urlencoding.*;
+import org.apache.juneau.xml.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Serialize and parse throughput for each supported format over small and large bean graphs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("javadoc")
+public class MarshallBenchmark {
+
+	@Param({"json", "xml", "html", "uon", "urlenc", "msgpack", "rdfxml"})
+	public String format;
+
+	@Param({"small", "large"})
+	public String size;
+
+	private Serializer serializer;
+	private Parser parser;
+	private Object graph, serialized;
+	private Class<?> type;
+
+	@Setup
+	public void setup() throws Exception {
+		switch (format) {
+			case "json":    serializer = JsonSerializer.DEFAULT;        parser = JsonParser.DEFAULT;        break;
+			case "xml":     serializer = XmlSerializer.DEFAULT;         parser = XmlParser.DEFAULT;         break;
+			case "html":    serializer = HtmlSerializer.DEFAULT;        parser = HtmlParser.DEFAULT;        break;
+			case "uon":     serializer = UonSerializer.DEFAULT;         parser = UonParser.DEFAULT;         break;
+			case "urlenc":  serializer = UrlEncodingSerializer.DEFAULT; parser = UrlEncodingParser.DEFAULT; break;
+			case "msgpack": serializer = MsgPackSerializer.DEFAULT;     parser = MsgPackParser.DEFAULT;     break;
+			case "rdfxml":  serializer = RdfXmlSerializer.DEFAULT;      parser = RdfXmlParser.DEFAULT;      break;
+			default: throw new IllegalArgumentException("Unknown format: " + format);
+		}
+		graph = Beans.create(size);
+		type = Beans.type(size);
+		serialized = serializer.serialize(graph);
+	}
+
+	@Benchmark
+	public Object serialize() throws Exception {
+		return serializer.serialize(graph);
+	}
+
+	@Benchmark
+	public Object parse() throws Exception {
+		return parser.parse(serialized, type);
+	}
+}
@@ -0,0 +1,109 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import static org.apache.juneau.http.HttpMethodName.*;
+
+import java.util.concurrent.*;
+
+import org.apache.juneau.http.annotation.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.mock.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * End-to-end request dispatch through the REST call router using {@link MockRest}.
+ *
+ * <p>
+ * Covers routing to static paths, paths with variables, and request bodies parsed into beans.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("javadoc")
+public class RestDispatchBenchmark {
+
+	@RestResource(serializers=SimpleJsonSerializer.class, parsers=JsonParser.class)
+	public static class A {
+
+		@RestMethod(name=GET, path="/")
+		public String root() {
+			return "root";
+		}
+
+		@RestMethod(name=GET, path="/a/b/c")
+		public String staticPath() {
+			return "abc";
+		}
+
+		@RestMethod(name=GET, path="/people/{id}")
+		public Beans.Person pathVar(@Path("id") int id) {
+			return PERSON;
+		}
+
+		@RestMethod(name=GET, path="/people/{id}/address/*")
+		public Beans.Address remainder(@Path("id") int id) {
+			return PERSON.address;
+		}
+
+		@RestMethod(name=PUT, path="/people/{id}")
+		public Beans.Person body(@Path("id") int id, @Body Beans.Person p) {
+			return p;
+		}
+	}
+
+	static final Beans.Person PERSON = (Beans.Person)Beans.create("small");
+
+	private MockRest a;
+	private String body;
+
+	@Setup
+	public void setup() throws Exception {
+		a = MockRest.create(A.class);
+		body = JsonSerializer.DEFAULT.serialize(PERSON);
+	}
+
+	@Benchmark
+	public Object root() throws Exception {
+		return a.get("/").execute().getBody();
+	}
+
+	@Benchmark
+	public Object staticPath() throws Exception {
+		return a.get("/a/b/c").execute().getBody();
+	}
+
+	@Benchmark
+	public Object pathVar() throws Exception {
+		return a.get("/people/123").execute().getBody();
+	}
+
+	@Benchmark
+	public Object remainder() throws Exception {
+		return a.get("/people/123/address/foo/bar").execute().getBody();
+	}
+
+	@Benchmark
+	public Object body() throws Exception {
+		return a.put("/people/123", body).contentType("application/json").execute().getBody();
+	}
+
+	@Benchmark
+	public Object notFound() throws Exception {
+		return a.get("/nowhere").execute().getStatus();
+	}
+}
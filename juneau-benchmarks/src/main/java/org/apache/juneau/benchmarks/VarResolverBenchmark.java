@@ -0,0 +1,54 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.util.concurrent.*;
+
+import org.apache.juneau.svl.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * {@link VarResolver} resolution of strings with no, simple, and nested variables.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@SuppressWarnings("javadoc")
+public class VarResolverBenchmark {
+
+	@Param({"none", "simple", "multiple", "nested"})
+	public String vars;
+
+	private VarResolver vr;
+	private String input;
+
+	@Setup
+	public void setup() {
+		vr = VarResolver.DEFAULT;
+		switch (vars) {
+			case "none": input = "No variables here"; break;
+			case "simple": input = "$S{java.version}"; break;
+			case "multiple": input = "Hello $S{user.name,nobody} from $S{os.name}!"; break;
+			case "nested": input = "$IF{$NE{$S{java.version}},$UC{$S{os.name}},none} $SW{$S{os.arch},*64*:x64,*:other}"; break;
+			default: throw new IllegalArgumentException("Unknown vars: " + vars);
+		}
+	}
+
+	@Benchmark
+	public String resolve() {
+		return vr.resolve(input);
+	}
+}
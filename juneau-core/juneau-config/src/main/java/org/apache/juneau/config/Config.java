@@ -20,6 +20,7 @@ import java.beans.*;
 import java.io.*;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.config.encode.*;
@@ -370,6 +371,7 @@ public final class Config extends Context implements ConfigEventListener, Writab
 	private final ConfigMap configMap;
 	private final BeanSession beanSession;
 	private final List<ConfigEventListener> listeners = Collections.synchronizedList(new LinkedList<ConfigEventListener>());
+	private final ConcurrentHashMap<String,Memo> memos = new ConcurrentHashMap<>();
 
 
 	/**
@@ -485,24 +487,8 @@ public final class Config extends Context implements ConfigEventListener, Writab
 	 * @return The value, or <jk>null</jk> if the section or value doesn't exist.
 	 */
 	public String get(String key) {
-
-		String sname = sname(key);
-		String skey = skey(key);
-
-		ConfigEntry ce = configMap.getEntry(sname, skey);
-
-		if (ce == null || ce.getValue() == null)
-			return null;
-
-		String val = ce.getValue();
-		for (ConfigMod m : ConfigMod.asModifiersReverse(ce.getModifiers())) {
-			if (m == ENCODED) {
-				if (encoder.isEncoded(val))
-					val = encoder.decode(key, val);
-			}
-		}
-
-		return val;
+		Memo m = memo(key);
+		return m == null ? null : m.value;
 	}
 
 
@@ -703,12 +689,8 @@ public final class Config extends Context implements ConfigEventListener, Writab
 	 * @return The value, or <jk>null</jk> if the section or key does not exist.
 	 */
 	public String getString(String key) {
-		String s = get(key);
-		if (s == null)
-			return null;
-		if (varSession != null)
-			s = varSession.resolve(s);
-		return s;
+		Memo m = memo(key);
+		return m == null ? null : m.resolve(varSession);
 	}
 
 	/**
@@ -728,12 +710,10 @@ public final class Config extends Context implements ConfigEventListener, Writab
 	 * @return The value, or the default value if the section or key does not exist.
 	 */
 	public String getString(String key, String def) {
-		String s = get(key);
-		if (isEmpty(s))
+		Memo m = memo(key);
+		if (m == null || isEmpty(m.value))
 			return def;
-		if (varSession != null)
-			s = varSession.resolve(s);
-		return s;
+		return m.resolve(varSession);
 	}
 
 	/**
@@ -1066,7 +1046,7 @@ public final class Config extends Context implements ConfigEventListener, Writab
 	 */
 	public <T> T getObject(String key, Parser parser, Type type, Type...args) throws ParseException {
 		assertFieldNotNull(type, "type");
-		return parse(getString(key), parser, type, args);
+		return parse(key, getString(key), parser, type, args);
 	}
 
 	/**
@@ -1123,7 +1103,7 @@ public final class Config extends Context implements ConfigEventListener, Writab
 	 */
 	public <T> T getObject(String key, Parser parser, Class<T> type) throws ParseException {
 		assertFieldNotNull(type, "c");
-		return parse(getString(key), parser, type);
+		return parse(key, getString(key), parser, type);
 	}
 
 	/**
@@ -1157,7 +1137,7 @@ public final class Config extends Context implements ConfigEventListener, Writab
 	 */
 	public <T> T getObjectWithDefault(String key, Parser parser, T def, Class<T> type) throws ParseException {
 		assertFieldNotNull(type, "c");
-		T t = parse(getString(key), parser, type);
+		T t = parse(key, getString(key), parser, type);
 		return (t == null ? def : t);
 	}
 
@@ -1204,7 +1184,7 @@ public final class Config extends Context implements ConfigEventListener, Writab
 	 */
 	public <T> T getObjectWithDefault(String key, Parser parser, T def, Type type, Type...args) throws ParseException {
 		assertFieldNotNull(type, "type");
-		T t = parse(getString(key), parser, type, args);
+		T t = parse(key, getString(key), parser, type, args);
 		return (t == null ? def : t);
 	}
 
@@ -1740,6 +1720,8 @@ public final class Config extends Context implements ConfigEventListener, Writab
 
 	@Override /* ConfigEventListener */
 	public void onConfigChange(List<ConfigEvent> events) {
+		// Values may reference other entries through $C variables, so start over on any change.
+		memos.clear();
 		for (ConfigEventListener l : listeners)
 			l.onConfigChange(events);
 	}
@@ -1801,6 +1783,43 @@ public final class Config extends Context implements ConfigEventListener, Writab
 		return s;
 	}
 
+	// Returns the memoized value and state of the specified entry, or null if the entry doesn't exist.
+	private Memo memo(String key) {
+		ConfigEntry ce = configMap.getEntry(sname(key), skey(key));
+		if (ce == null || ce.getValue() == null)
+			return null;
+		Memo m = memos.get(key);
+		if (m == null || m.entry != ce) {
+			String val = ce.getValue();
+			for (ConfigMod cm : ConfigMod.asModifiersReverse(ce.getModifiers())) {
+				if (cm == ENCODED) {
+					if (encoder.isEncoded(val))
+						val = encoder.decode(key, val);
+				}
+			}
+			m = new Memo(ce, val, varSession);
+			memos.put(key, m);
+		}
+		return m;
+	}
+
+	// Same as parse(String,Parser,Type,Type...) but reuses the previous result for the entry if the type is immutable.
+	@SuppressWarnings({ "unchecked" })
+	private <T> T parse(String key, String s, Parser parser, Type type, Type...args) throws ParseException {
+		if (s == null || (parser != null && parser != this.parser) || args.length > 0 || ! isImmutableType(type))
+			return parse(s, parser, type, args);
+		Memo m = memos.get(key);
+		if (m != null) {
+			Parsed p = m.parsed;
+			if (p != null && p.type == type && p.source.equals(s))
+				return (T)p.value;
+		}
+		T t = parse(s, parser, type, args);
+		if (m != null)
+			m.parsed = new Parsed(type, s, t);
+		return t;
+	}
+
 	@SuppressWarnings({ "unchecked" })
 	private <T> T parse(String s, Parser parser, Type type, Type...args) throws ParseException {
 
@@ -1845,6 +1864,15 @@ public final class Config extends Context implements ConfigEventListener, Writab
 		return (c == String.class || c.isPrimitive() || c.isAssignableFrom(Number.class) || c == Boolean.class || c.isEnum());
 	}
 
+	private boolean isImmutableType(Type t) {
+		if (! (t instanceof Class))
+			return false;
+		Class<?> c = (Class<?>)t;
+		return c == String.class || c.isPrimitive() || c.isEnum() || c == Integer.class || c == Long.class
+			|| c == Short.class || c == Byte.class || c == Double.class || c == Float.class || c == Boolean.class
+			|| c == Character.class;
+	}
+
 	private boolean isArray(Type t) {
 		if (! (t instanceof Class))
 			return false;
@@ -1880,6 +1908,49 @@ public final class Config extends Context implements ConfigEventListener, Writab
 	}
 
 
+	//-----------------------------------------------------------------------------------------------------------------
+	// Memoized values
+	//-----------------------------------------------------------------------------------------------------------------
+
+	/*
+	 * The decoded value of a config entry along with anything derived from it.
+	 * Only valid as long as the entry it was created from is still the current entry in the config map.
+	 */
+	private static final class Memo {
+		final ConfigEntry entry;
+		final String value;     // The decoded value.
+		final String resolved;  // The resolved value, or null if it contains variables that must be resolved on every call.
+		volatile Parsed parsed; // The last immutable value parsed from the resolved value.
+
+		Memo(ConfigEntry entry, String value, VarResolverSession varSession) {
+			this.entry = entry;
+			this.value = value;
+			if (varSession == null)
+				this.resolved = value;
+			else if (value.indexOf('$') == -1)
+				this.resolved = varSession.resolve(value);
+			else
+				this.resolved = null;
+		}
+
+		String resolve(VarResolverSession varSession) {
+			return resolved != null ? resolved : varSession.resolve(value);
+		}
+	}
+
+	private static final class Parsed {
+		final Type type;
+		final String source;
+		final Object value;
+
+		Parsed(Type type, String source, Object value) {
+			this.type = type;
+			this.source = source;
+			this.value = value;
+		}
+	}
+
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Other methods
 	//-----------------------------------------------------------------------------------------------------------------
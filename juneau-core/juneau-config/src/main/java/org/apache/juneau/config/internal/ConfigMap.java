@@ -48,6 +48,9 @@ public class ConfigMap implements ConfigStoreListener {
 	// The original entries of this map before any changes were applied.
 	final Map<String,ConfigSection> oentries = Collections.synchronizedMap(new LinkedHashMap<String,ConfigSection>());
 
+	// Immutable copy of the entries above, republished after every modification so that reads don't need to lock.
+	private volatile Map<String,Map<String,ConfigEntry>> snapshot = Collections.emptyMap();
+
 	private final ReadWriteLock lock = new ReentrantReadWriteLock();
 
 	/**
@@ -61,12 +64,14 @@ public class ConfigMap implements ConfigStoreListener {
 		this.store = store;
 		this.name = name;
 		load(store.read(name));
+		publish();
 	}
 
 	ConfigMap(String contents) {
 		this.store = null;
 		this.name = null;
 		load(contents);
+		publish();
 	}
 
 	private ConfigMap load(String contents) {
@@ -187,15 +192,14 @@ public class ConfigMap implements ConfigStoreListener {
 	 * @return The entry, or <jk>null</jk> if the entry doesn't exist.
 	 */
 	public ConfigEntry getEntry(String section, String key) {
-		checkSectionName(section);
-		checkKeyName(key);
-		readLock();
-		try {
-			ConfigSection cs = entries.get(section);
-			return cs == null ? null : cs.entries.get(key);
-		} finally {
-			readUnlock();
+		Map<String,ConfigEntry> cs = snapshot.get(section);
+		ConfigEntry ce = cs == null ? null : cs.get(key);
+		if (ce == null) {
+			// Names are only validated on a miss since anything found in the snapshot is valid.
+			checkSectionName(section);
+			checkKeyName(key);
 		}
+		return ce;
 	}
 
 	/**
@@ -259,7 +263,7 @@ public class ConfigMap implements ConfigStoreListener {
 	 */
 	public boolean hasSection(String section) {
 		checkSectionName(section);
-		return entries.get(section) != null;
+		return snapshot.containsKey(section);
 	}
 
 	//-----------------------------------------------------------------------------------------------------------------
@@ -386,8 +390,10 @@ public class ConfigMap implements ConfigStoreListener {
 				if (cs != null)
 					entries.remove(section);
 			}
-			if (addToChangeList)
+			if (addToChangeList) {
 				changes.add(ce);
+				publish();
+			}
 		} finally {
 			writeUnlock();
 		}
@@ -502,6 +508,8 @@ public class ConfigMap implements ConfigStoreListener {
 				// Reapply our changes on top of the modifications.
 				for (ConfigEvent ce : this.changes)
 					applyChange(false, ce);
+
+				publish();
 			}
 		} finally {
 			writeUnlock();
@@ -576,6 +584,7 @@ public class ConfigMap implements ConfigStoreListener {
 			try {
 				changes.clear();
 				load(contents);
+				publish();
 		 	} finally {
 				writeUnlock();
 			}
@@ -604,6 +613,15 @@ public class ConfigMap implements ConfigStoreListener {
 		lock.writeLock().unlock();
 	}
 
+	// Swaps in a new read-only copy of the entries.
+	// This method should only be called from behind a write lock.
+	private void publish() {
+		Map<String,Map<String,ConfigEntry>> m = new HashMap<>();
+		for (ConfigSection cs : entries.values())
+			m.put(cs.name, new HashMap<>(cs.entries));
+		snapshot = m;
+	}
+
 	private void checkSectionName(String s) {
 		if (! ("".equals(s) || isValidNewSectionName(s)))
 			throw new IllegalArgumentException("Invalid section name: '" + s + "'");
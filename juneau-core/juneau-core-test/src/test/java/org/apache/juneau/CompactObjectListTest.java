@@ -0,0 +1,139 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.junit.*;
+
+public class CompactObjectListTest {
+
+	private static final JsonParser p = JsonParser.create().compactObjects().build();
+
+	@Test
+	public void a01_parse() throws Exception {
+		String json = "[[1,2,3],[1,3000000000],[1.5,2.5],[0.1,1e300],['a',1],[]]";
+		ObjectList l = p.parse(json, ObjectList.class);
+		assertEquals(JsonParser.DEFAULT.parse(json, ObjectList.class), l);
+		assertEquals("[[1,2,3],[1,3000000000],[1.5,2.5],[0.1,1.0E300],['a',1],[]]", l.toString());
+		assertTrue(((CompactObjectList)l.getObjectList(0)).isPacked());
+		assertFalse(((CompactObjectList)l.getObjectList(1)).isPacked());
+		assertTrue(((CompactObjectList)l.getObjectList(2)).isPacked());
+		assertFalse(((CompactObjectList)l.getObjectList(3)).isPacked());
+		assertFalse(((CompactObjectList)l.getObjectList(4)).isPacked());
+		assertEquals(Integer.class, l.getObjectList(0).get(1).getClass());
+		assertEquals(2, (int)l.getObjectList(0).getInt(1));
+		assertEquals(Float.class, l.getObjectList(2).get(0).getClass());
+	}
+
+	@Test
+	public void a02_msgPack() throws Exception {
+		ObjectList l = new ObjectList(1, 2, 3, 4);
+		byte[] b = MsgPackSerializer.DEFAULT.serialize(l);
+		ObjectList l2 = MsgPackParser.create().compactObjects().build().parse(b, ObjectList.class);
+		assertTrue(((CompactObjectList)l2).isPacked());
+		assertEquals(l, l2);
+	}
+
+	@Test
+	public void a03_mutations() throws Exception {
+		CompactObjectList l = new CompactObjectList();
+		List<Object> l2 = new LinkedList<>();
+		for (int i = 0; i < 100; i++) {
+			l.add(i);
+			l2.add(i);
+		}
+		l.add(0, -1);
+		l2.add(0, -1);
+		assertEquals(5, l.remove(6));
+		l2.remove(6);
+		assertEquals(10, l.set(10, 42));
+		l2.set(10, 42);
+		assertTrue(l.remove((Object)42));
+		l2.remove((Object)42);
+		for (Iterator<Object> i = l.iterator(); i.hasNext();)
+			if ((Integer)i.next() % 2 == 0)
+				i.remove();
+		for (Iterator<Object> i = l2.iterator(); i.hasNext();)
+			if ((Integer)i.next() % 2 == 0)
+				i.remove();
+		assertTrue(l.isPacked());
+		assertEquals(l2, l);
+		assertEquals(l2.hashCode(), l.hashCode());
+		assertEquals(l2.indexOf(51), l.indexOf(51));
+		assertEquals(-1, l.indexOf(51L));
+		assertArrayEquals(l2.toArray(), l.toArray());
+		assertArrayEquals(l2.toArray(new Integer[0]), l.toArray(new Integer[0]));
+		assertEquals(l2.subList(3, 7), l.subList(3, 7));
+
+		l.add("foo");
+		l2.add("foo");
+		assertFalse(l.isPacked());
+		assertEquals(l2, l);
+
+		l.clear();
+		assertTrue(l.isEmpty());
+		l.add(1.5d);
+		assertTrue(l.isPacked());
+		assertEquals("[1.5]", l.toString());
+	}
+
+	@Test
+	public void a04_unpackDuringIteration() throws Exception {
+		CompactObjectList l = new CompactObjectList();
+		l.append(1, 2, 3);
+		ListIterator<Object> i = l.listIterator();
+		i.next();
+		i.set("a");
+		i.next();
+		i.add("b");
+		assertEquals(3, i.next());
+		assertFalse(i.hasNext());
+		assertFalse(l.isPacked());
+		assertEquals("['a',2,'b',3]", l.toString());
+	}
+
+	@Test
+	public void a05_deque() throws Exception {
+		CompactObjectList l = new CompactObjectList();
+		l.append(1, 2, 3);
+		l.push(0);
+		assertEquals(3, l.peekLast());
+		assertEquals(0, l.pop());
+		assertEquals("[1,2,3]", l.toString());
+	}
+
+	@Test
+	public void a06_cloneAndSerialize() throws Exception {
+		CompactObjectList l = new CompactObjectList();
+		l.append(1L, 2L, 3L);
+
+		CompactObjectList l2 = (CompactObjectList)l.clone();
+		l2.add(4L);
+		assertEquals("[1,2,3]", l.toString());
+		assertEquals("[1,2,3,4]", l2.toString());
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+			oos.writeObject(l);
+		}
+		try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+			assertEquals(l, ois.readObject());
+		}
+	}
+}
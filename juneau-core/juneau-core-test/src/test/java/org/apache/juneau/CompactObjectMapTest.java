@@ -0,0 +1,128 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.json.*;
+import org.junit.*;
+
+public class CompactObjectMapTest {
+
+	private static final JsonParser p = JsonParser.create().compactObjects().build();
+
+	@Test
+	public void a01_parse() throws Exception {
+		String json = "{a:'foo',b:123,c:[1,2,3],d:{e:true},f:null}";
+		ObjectMap m = p.parse(json, ObjectMap.class);
+		assertTrue(m instanceof CompactObjectMap);
+		assertTrue(m.getObjectMap("d") instanceof CompactObjectMap);
+		assertEquals(JsonParser.DEFAULT.parse(json, ObjectMap.class), m);
+		assertEquals("{a:'foo',b:123,c:[1,2,3],d:{e:true},f:null}", m.toString());
+		assertEquals("foo", m.getString("a"));
+		assertEquals(123, (int)m.getInt("b"));
+		assertEquals(2, (int)m.getAt("c/1", Integer.class));
+		assertTrue(m.getBoolean("d/e", false) || m.getObjectMap("d").getBoolean("e"));
+		assertTrue(m.containsKey("f"));
+		assertFalse(m.containsKey("g"));
+		assertEquals(5, m.size());
+	}
+
+	@Test
+	public void a02_putRemove() throws Exception {
+		CompactObjectMap m = new CompactObjectMap();
+		m.put("a", 1);
+		m.put("b", 2);
+		m.put("c", 3);
+		assertEquals(1, m.put("a", 4));
+		assertEquals(2, m.remove("b"));
+		assertNull(m.remove("b"));
+		assertEquals("{a:4,c:3}", m.toString());
+		assertEquals(Arrays.asList("a","c"), new ArrayList<>(m.keySet()));
+		assertEquals(Arrays.asList(4,3), new ArrayList<>(m.values()));
+
+		Iterator<Map.Entry<String,Object>> i = m.entrySet().iterator();
+		i.next().setValue(5);
+		i.remove();
+		assertEquals("{c:3}", m.toString());
+
+		m.clear();
+		assertTrue(m.isEmpty());
+		assertEquals("{}", m.toString());
+	}
+
+	@Test
+	public void a03_largeMap() throws Exception {
+		CompactObjectMap m = new CompactObjectMap();
+		LinkedHashMap<String,Object> m2 = new LinkedHashMap<>();
+		for (int i = 0; i < 1000; i++) {
+			m.put("k" + i, i);
+			m2.put("k" + i, i);
+		}
+		for (int i = 0; i < 1000; i += 3) {
+			m.remove("k" + i);
+			m2.remove("k" + i);
+		}
+		for (int i = 0; i < 1000; i += 2) {
+			m.put("k" + i, -i);
+			m2.put("k" + i, -i);
+		}
+		assertEquals(m2, m);
+		assertEquals(m2.hashCode(), m.hashCode());
+		assertEquals(new ArrayList<>(m2.keySet()), new ArrayList<>(m.keySet()));
+		for (int i = 0; i < 1000; i++)
+			assertEquals(m2.get("k" + i), m.get("k" + i));
+	}
+
+	@Test
+	public void a04_inner() throws Exception {
+		CompactObjectMap m = new CompactObjectMap();
+		m.put("a", 1);
+		m.setInner(new ObjectMap("{a:2,b:3}"));
+		assertEquals(1, (int)m.getInt("a"));
+		assertEquals(3, (int)m.getInt("b"));
+		assertTrue(m.containsKey("b"));
+		assertFalse(m.containsOuterKey("b"));
+		assertEquals(2, m.keySet().size());
+	}
+
+	@Test
+	public void a05_cloneAndSerialize() throws Exception {
+		CompactObjectMap m = new CompactObjectMap();
+		m.put("a", 1);
+		m.put("b", "foo");
+
+		CompactObjectMap m2 = (CompactObjectMap)m.clone();
+		m2.put("c", 2);
+		assertEquals("{a:1,b:'foo'}", m.toString());
+		assertEquals("{a:1,b:'foo',c:2}", m2.toString());
+		assertEquals(3, m2.size());
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+			oos.writeObject(m);
+		}
+		try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+			assertEquals(m, ois.readObject());
+		}
+	}
+
+	@Test
+	public void a06_internedKeys() throws Exception {
+		ObjectList l = p.parse("[{foo:1},{foo:2}]", ObjectList.class);
+		assertSame(l.getObjectMap(0).keySet().iterator().next(), l.getObjectMap(1).keySet().iterator().next());
+	}
+}
@@ -1735,6 +1735,42 @@ public class ConfigTest {
 		}
 	}
 
+	//====================================================================================================
+	// Memoized values
+	//====================================================================================================
+	@Test
+	public void testMemoizedValues() throws Exception {
+		Config cf = init("a=1", "b=$S{X,2}", "[S]", "c=foo");
+
+		assertSame(cf.getString("a"), cf.getString("a"));
+		assertSame(cf.getObject("a", Integer.class), cf.getObject("a", Integer.class));
+		assertEquals(1, cf.getInt("a"));
+
+		cf.set("a", "3");
+		assertEquals("3", cf.getString("a"));
+		assertEquals(3, cf.getObject("a", Integer.class).intValue());
+		assertEquals(3l, cf.getObject("a", Long.class).longValue());
+
+		// Values containing variables are resolved on every call.
+		assertEquals(2, cf.getObject("b", Integer.class).intValue());
+		System.setProperty("X", "4");
+		assertEquals(4, cf.getObject("b", Integer.class).intValue());
+		System.clearProperty("X");
+
+		cf.remove("S/c");
+		assertNull(cf.getString("S/c"));
+		cf.set("S/c", "bar");
+		assertEquals("bar", cf.getString("S/c"));
+
+		cf.rollback();
+		assertEquals("1", cf.getString("a"));
+		assertEquals("foo", cf.getString("S/c"));
+
+		// Mutable values are never shared.
+		cf = init("a=[1,2]");
+		assertNotSame(cf.getObject("a", ObjectList.class), cf.getObject("a", ObjectList.class));
+	}
+
 	@Test
 	public void testGetCandidateSystemDefaultConfigNames() {
 
@@ -0,0 +1,100 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.encoders;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.zip.*;
+
+import org.apache.juneau.internal.*;
+import org.junit.*;
+
+@SuppressWarnings({})
+public class EncoderTest {
+
+	private static final String TEXT = "Lorem ipsum dolor sit amet, consectetur adipiscing elit.  Lorem ipsum dolor sit amet.";
+
+	//====================================================================================================
+	// Gzip round trips using the standard JDK decoder.
+	//====================================================================================================
+	@Test
+	public void testGzip() throws Exception {
+		GzipEncoder e = new GzipEncoder(Deflater.BEST_COMPRESSION, 16, 0);
+		for (int i = 0; i < 3; i++) {
+			byte[] b = encode(e, TEXT);
+			assertEquals(TEXT, IOUtils.read(new GZIPInputStream(new ByteArrayInputStream(b))));
+			assertEquals(TEXT, IOUtils.read(e.getInputStream(new ByteArrayInputStream(b))));
+		}
+	}
+
+	//====================================================================================================
+	// Deflate round trips using pooled inflaters and the standard JDK decoder.
+	//====================================================================================================
+	@Test
+	public void testDeflate() throws Exception {
+		DeflateEncoder e = new DeflateEncoder();
+		for (int i = 0; i < 3; i++) {
+			byte[] b = encode(e, TEXT);
+			assertEquals(TEXT, IOUtils.read(new InflaterInputStream(new ByteArrayInputStream(b))));
+			try (InputStream is = e.getInputStream(new ByteArrayInputStream(b))) {
+				assertEquals(TEXT, IOUtils.read(is));
+			}
+		}
+	}
+
+	//====================================================================================================
+	// Writing after finish() should fail since the deflater has been returned to the pool.
+	//====================================================================================================
+	@Test
+	public void testWriteAfterFinish() throws Exception {
+		OutputStream os = new DeflateEncoder().getOutputStream(new ByteArrayOutputStream());
+		((Finishable)os).finish();
+		try {
+			os.write(1);
+			fail();
+		} catch (IOException e) {
+			assertEquals("Write beyond end of stream.", e.getMessage());
+		}
+		os.close();
+	}
+
+	//====================================================================================================
+	// Pre-encoded bodies are cached by entity tag.
+	//====================================================================================================
+	@Test
+	public void testEncodeCache() throws Exception {
+		GzipEncoder e = new GzipEncoder();
+		byte[] b = TEXT.getBytes("UTF-8");
+		byte[] e1 = e.encode("\"foo\"", b);
+		assertSame(e1, e.encode("\"foo\"", b));
+		assertNotSame(e1, e.encode("\"bar\"", b));
+		assertEquals(TEXT, IOUtils.read(new GZIPInputStream(new ByteArrayInputStream(e1))));
+	}
+
+	//====================================================================================================
+	// Invalid settings.
+	//====================================================================================================
+	@Test(expected=IllegalArgumentException.class)
+	public void testInvalidLevel() throws Exception {
+		new DeflateEncoder(10, 1024, 0);
+	}
+
+	private static byte[] encode(Encoder e, String s) throws Exception {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (OutputStream os = e.getOutputStream(baos)) {
+			os.write(s.getBytes("UTF-8"));
+		}
+		return baos.toByteArray();
+	}
+}
@@ -18,6 +18,7 @@ import static org.junit.Assert.*;
 import java.util.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.annotation.*;
 import org.apache.juneau.html.annotation.*;
 import org.apache.juneau.testutils.pojos.*;
 import org.junit.*;
@@ -284,4 +285,21 @@ public class HtmlTest {
 	@Html(noTables=true, noTableHeaders=true)
 	public static class MyMap extends LinkedHashMap<String,String> {}
 
+
+	//====================================================================================================
+	// Property names are encoded the same way regardless of whether they were already cached.
+	//====================================================================================================
+	@Test
+	public void testEncodedPropertyNames() throws Exception {
+		G1 t = new G1();
+		for (int i = 0; i < 2; i++)
+			assertEquals("<table><tr><td>a&lt;b</td><td>1</td></tr><tr><td>x&amp;y</td><td>2</td></tr><tr><td>foo</td><td>3</td></tr></table>", HtmlSerializer.DEFAULT_SQ.serialize(t));
+	}
+
+	@Bean(properties="a<b,x&y,foo")
+	public static class G1 {
+		@BeanProperty(name="a<b") public int f1 = 1;
+		@BeanProperty(name="x&y") public int f2 = 2;
+		public int foo = 3;
+	}
 }
\ No newline at end of file
@@ -1304,4 +1304,84 @@ public class HttpPartSchemaTest_Body {
 			assertEquals("Maximum number of items exceeded.", e.getLocalizedMessage());
 		}
 	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Compiled validators
+	//-----------------------------------------------------------------------------------------------------------------
+
+	public static class E01 {
+		public int f1;
+		public Integer[] f2;
+		public AMap<String,Integer> f3 = new AMap<>();
+		public E01 f4;
+	}
+
+	@Test
+	public void e01_compiledValidators() throws Exception {
+		HttpPartSchema s = HttpPartSchema.create("object")
+			.maxProperties(4L)
+			.property("f1", HttpPartSchema.create("integer").minimum(0))
+			.property("f2", HttpPartSchema.create("array").maxItems(2L).items(HttpPartSchema.create("integer").maximum(10)))
+			.property("f3", HttpPartSchema.create("object").additionalProperties(HttpPartSchema.create("integer").minimum(0)))
+			.property("f4", HttpPartSchema.create("object").property("f1", HttpPartSchema.create("integer").minimum(5)))
+			.build();
+		BeanSession bs = BeanContext.DEFAULT.createSession();
+
+		E01 t = new E01();
+		t.f2 = new Integer[]{1,2};
+		t.f3.append("a", 1);
+		s.validateOutput(t, bs);
+		s.validateOutput(t, bs);
+
+		t.f1 = -1;
+		try {
+			s.validateOutput(t, bs);
+			fail();
+		} catch (SchemaValidationException e) {
+			assertEquals("Minimum value not met.", e.getLocalizedMessage());
+		}
+		t.f1 = 0;
+
+		t.f2 = new Integer[]{1,11};
+		try {
+			s.validateOutput(t, bs);
+			fail();
+		} catch (SchemaValidationException e) {
+			assertEquals("Maximum value exceeded.", e.getLocalizedMessage());
+		}
+		t.f2 = new Integer[]{1,2,3};
+		try {
+			s.validateOutput(t, bs);
+			fail();
+		} catch (SchemaValidationException e) {
+			assertEquals("Maximum number of items exceeded.", e.getLocalizedMessage());
+		}
+		t.f2 = null;
+
+		t.f3.append("b", -1);
+		try {
+			s.validateOutput(t, bs);
+			fail();
+		} catch (SchemaValidationException e) {
+			assertEquals("Minimum value not met.", e.getLocalizedMessage());
+		}
+		t.f3.remove("b");
+
+		t.f4 = new E01();
+		try {
+			s.validateOutput(t, bs);
+			fail();
+		} catch (SchemaValidationException e) {
+			assertEquals("Minimum value not met.", e.getLocalizedMessage());
+		}
+		t.f4.f1 = 5;
+		s.validateOutput(t, bs);
+
+		try {
+			HttpPartSchema.create("object").minProperties(5L).build().validateOutput(t, bs);
+			fail();
+		} catch (SchemaValidationException e) {
+			assertEquals("Minimum number of properties not met.", e.getLocalizedMessage());
+		}
+	}
 }
\ No newline at end of file
@@ -1192,6 +1192,33 @@ public class OpenApiPartParserTest {
 		assertObjectEquals("{f1:['foo','bar'],f2:[[102,111,111],[98,97,114]],f4:['2012-12-21T12:34:56Z','2012-12-21T12:34:56Z'],f5:[[102,111,111],[98,97,114]],f6:[[102,111,111],[98,97,114]],f7:['foo','bar'],f8:[1,2],f9:[1,2],f10:[1.0,2.0],f11:[1.0,2.0],f12:[true,true],f99:[1,2]}", om);
 	}
 
+	//-----------------------------------------------------------------------------------------------------------------
+	// Precompiled schemas
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void i01_precompiled() throws Exception {
+		OpenApiParser pp = OpenApiParser.create().build();
+		HttpPartSchema s = schema("array").collectionFormat("pipes").items(schema("integer")).build();
+		pp.precompile(s, pp.getClassMeta(List.class, Integer.class));
+		OpenApiParserSession ps = pp.createSession();
+
+		assertObjectEquals("[1,2]", ps.parse(s, "1|2", List.class, Integer.class));
+		assertObjectEquals("['1','2']", ps.parse(s, "1|2", List.class, String.class));
+		assertObjectEquals("[1,2]", ps.parse(s, "1|2", Integer[].class));
+		assertObjectEquals("[1,2]", ps.parse(s, "1|2", Object.class));
+		assertClass(ObjectList.class, ps.parse(s, "1|2", Object.class));
+
+		// Same results with a different bean context.
+		assertObjectEquals("['1','2']", ps.parse(s, "1|2", BeanContext.create().sortProperties().build().getClassMeta(List.class, String.class)));
+
+		s = schema("integer", "int64").build();
+		pp.precompile(s, pp.getClassMeta(Object.class));
+		assertClass(Long.class, ps.parse(s, "1", Object.class));
+		assertObjectEquals("1", ps.parse(s, "1", int.class));
+		assertObjectEquals("'1'", ps.parse(s, "1", String.class));
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Utility methods
 	//-----------------------------------------------------------------------------------------------------------------
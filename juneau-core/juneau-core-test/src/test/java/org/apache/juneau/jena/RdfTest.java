@@ -14,6 +14,7 @@ package org.apache.juneau.jena;
 
 import static org.apache.juneau.jena.RdfCommon.*;
 import static org.apache.juneau.testutils.TestUtils.*;
+import static org.junit.Assert.*;
 
 import java.net.*;
 import java.util.*;
@@ -590,4 +591,51 @@ public class RdfTest {
 			return this;
 		}
 	}
+
+	@Test
+	public void testStreamingNTriples() throws Exception {
+		List<E> l = new ArrayList<>();
+		for (int i = 0; i < 500; i++)
+			l.add(new E().init(i));
+
+		// Loose collections are written and read one top-level resource at a time.
+		WriterSerializer s = RdfSerializer.create().ntriple().looseCollections().streaming().build();
+		ReaderParser p = RdfParser.create().ntriple().looseCollections().streaming().build();
+		String r = s.serialize(l);
+		List<E> l2 = p.parse(r, LinkedList.class, E.class);
+		assertEquals(500, l2.size());
+		for (int i = 0; i < 500; i++)
+			assertEqualObjects(l.get(i), l2.get(i));
+
+		// Non-streaming parser produces the same resources.
+		ReaderParser p2 = RdfParser.create().ntriple().looseCollections().build();
+		List<E> l3 = p2.parse(r, LinkedList.class, E.class);
+		assertEquals(500, l3.size());
+
+		// Sequences keep their numbering when the model is written out in batches.
+		s = RdfSerializer.create().ntriple().streaming().build();
+		p2 = RdfParser.create().ntriple().build();
+		E[] a = p2.parse(s.serialize(l), E[].class);
+		assertEquals(500, a.length);
+		for (int i = 0; i < 500; i++)
+			assertEqualObjects(l.get(i), a[i]);
+	}
+
+	public static class E {
+		public String f1;
+		public List<String> f2;
+		public E2 f3;
+
+		public E init(int num) {
+			f1 = "f1-" + num;
+			f2 = Arrays.asList("a" + num, "b" + num, "c" + num);
+			f3 = new E2();
+			f3.f4 = num;
+			return this;
+		}
+	}
+
+	public static class E2 {
+		public int f4;
+	}
 }
@@ -299,6 +299,46 @@ public class CommonTest {
 		s.build().getSchemaSerializer().serialize(r1);
 	}
 
+	//====================================================================================================
+	// Recursion deeper in the model
+	//====================================================================================================
+	@Test
+	public void testDeepRecursion() throws Exception {
+		JsonSerializerBuilder s = JsonSerializer.create().ssq().detectRecursions();
+
+		// Loops back to an object near the top of the stack, and to one deeper in the stack.
+		for (int loopTo : new int[]{2, 18}) {
+			R4[] r = new R4[20];
+			for (int i = 0; i < r.length; i++) {
+				r[i] = new R4(i);
+				if (i > 0)
+					r[i-1].next = r[i];
+			}
+			r[19].next = r[loopTo];
+
+			try {
+				s.build().serialize(r[0]);
+				fail("Exception expected!");
+			} catch (Exception e) {
+				String msg = e.getLocalizedMessage();
+				assertContains(msg,
+					"[0] root:org.apache.juneau.json.CommonTest$R4",
+					"->[19] next:org.apache.juneau.json.CommonTest$R4",
+					"->[20] next:org.apache.juneau.json.CommonTest$R4"
+				);
+			}
+
+			String json = s.ignoreRecursions().build().serialize(r[0]);
+			assertTrue(json.startsWith("{i:0,next:{i:1,"));
+			assertTrue(json.contains("{i:19}"));
+			s.ignoreRecursions(false);
+
+			// Objects can appear more than once as long as they're not in the same branch.
+			R4 x = new R4(loopTo);
+			assertEquals("[{i:" + loopTo + "},{i:" + loopTo + "}]", s.build().serialize(new R4[]{x, x}));
+		}
+	}
+
 	public static class R1 {
 		public String name = "foo";
 		public R2 r2;
@@ -311,6 +351,14 @@ public class CommonTest {
 		public String name = "baz";
 		public R1 r1;
 	}
+	public static class R4 {
+		public int i;
+		public R4 next;
+		public R4() {}
+		public R4(int i) {
+			this.i = i;
+		}
+	}
 
 	//====================================================================================================
 	// Basic bean
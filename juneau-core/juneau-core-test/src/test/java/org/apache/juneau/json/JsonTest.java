@@ -18,6 +18,7 @@ import static org.junit.Assert.*;
 import java.util.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.annotation.*;
 import org.apache.juneau.json.annotation.*;
 import org.apache.juneau.serializer.*;
 import org.junit.*;
@@ -307,4 +308,28 @@ public class JsonTest {
 		r = JsonParser.DEFAULT.parse(r, String.class);
 		assertEquals("foo/bar", r);
 	}
+
+	//====================================================================================================
+	// testEncodedPropertyNames
+	//====================================================================================================
+	@Test
+	public void testEncodedPropertyNames() throws Exception {
+		D d = new D();
+
+		// Serialize twice to make sure the cached property names are used the second time.
+		for (int i = 0; i < 2; i++) {
+			assertEquals("{\"a/b\":1,\"class\":2,\"x'y\":3,\"foo\":4}", JsonSerializer.DEFAULT.serialize(d));
+			assertEquals("{'a/b':1,'class':2,'x\\'y':3,foo:4}", SimpleJsonSerializer.DEFAULT.serialize(d));
+			assertEquals("{'a\\/b':1,'class':2,'x\\'y':3,foo:4}", JsonSerializer.create().ssq().escapeSolidus().build().serialize(d));
+			assertEquals("{'a/b':1,'class':2,'x\\'y':3,'foo':4}", JsonSerializer.create().ssq().trimStrings().build().serialize(d));
+		}
+	}
+
+	@Bean(properties="a/b,class,x'y,foo")
+	public static class D {
+		@BeanProperty(name="a/b") public int f1 = 1;
+		@BeanProperty(name="class") public int f2 = 2;
+		@BeanProperty(name="x'y") public int f3 = 3;
+		public int foo = 4;
+	}
 }
\ No newline at end of file
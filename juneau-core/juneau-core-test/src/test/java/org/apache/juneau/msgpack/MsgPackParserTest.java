@@ -131,6 +131,43 @@ public class MsgPackParserTest {
 		assertObjectEquals("{'1':2}", r);
 	}
 
+	//====================================================================================================
+	// testStrings
+	//====================================================================================================
+	@Test
+	public void testStrings() throws Exception {
+		InputStreamParser p = MsgPackParser.DEFAULT;
+
+		assertEquals("", p.parse(is("A0"), String.class));
+		assertEquals("abc", p.parse(is("A3 61 62 63"), String.class));
+		assertEquals("a\u00e9\u20ac\ud83d\ude00", p.parse(is("AA 61 C3 A9 E2 82 AC F0 9F 98 80"), String.class));
+		assertEquals("\u00e9abc", p.parse(is("A5 C3 A9 61 62 63"), String.class));
+
+		try {
+			p.parse(is("A3 61 62"), String.class);
+			fail("Exception expected");
+		} catch (ParseException e) {
+			assertTrue(e.getMessage().contains("Unexpected end of file"));
+		}
+	}
+
+	//====================================================================================================
+	// testDedupStrings
+	// Validates MSGPACK_dedupStrings.
+	//====================================================================================================
+	@Test
+	public void testDedupStrings() throws Exception {
+		byte[] b = MsgPackSerializer.DEFAULT.serialize(new ObjectList("[{foo:1,bar:'\u00e9'},{foo:2,bar:'\u00e9'}]"));
+
+		ObjectList l = MsgPackParser.create().dedupStrings().build().parse(b, ObjectList.class);
+		assertObjectEquals("[{foo:1,bar:'\u00e9'},{foo:2,bar:'\u00e9'}]", l);
+		assertSame(l.getMap(0).keySet().iterator().next(), l.getMap(1).keySet().iterator().next());
+
+		l = MsgPackParser.DEFAULT.parse(b, ObjectList.class);
+		assertObjectEquals("[{foo:1,bar:'\u00e9'},{foo:2,bar:'\u00e9'}]", l);
+		assertNotSame(l.getMap(0).keySet().iterator().next(), l.getMap(1).keySet().iterator().next());
+	}
+
 	private InputStream is(String spacedHex) throws Exception {
 		return new CloseableByteArrayInputStream(StringUtils.fromSpacedHex(spacedHex));
 	}
@@ -14,6 +14,8 @@ package org.apache.juneau.msgpack;
 
 import static org.junit.Assert.*;
 
+import java.io.*;
+
 import org.apache.juneau.*;
 import org.apache.juneau.internal.*;
 import org.junit.*;
@@ -204,6 +206,52 @@ public class MsgPackSerializerTest {
 		test(new ObjectMap("{1:1,2:1,3:1,4:1,5:1,6:1,7:1,8:1,9:1,a:1,b:1,c:1,d:1,e:1,f:1,g:1}"), "DE 00 10 A1 31 01 A1 32 01 A1 33 01 A1 34 01 A1 35 01 A1 36 01 A1 37 01 A1 38 01 A1 39 01 A1 61 01 A1 62 01 A1 63 01 A1 64 01 A1 65 01 A1 66 01 A1 67 01");
 	}
 
+	//====================================================================================================
+	// testStrings
+	// Strings are encoded the same as String.getBytes("UTF-8") for all header sizes.
+	//====================================================================================================
+	@Test
+	public void testStrings() throws Exception {
+		String[] parts = {"a", "\u00e9", "\u20ac", "\ud83d\ude00", "\ud83d", "\ude00x"};
+		int[] lengths = {0, 1, 10, 31, 32, 100, 255, 256, 3000, 9000, 65535, 65536, 70000};
+		for (String part : parts) {
+			for (int len : lengths) {
+				StringBuilder sb = new StringBuilder();
+				while (sb.length() < len)
+					sb.append(part);
+				String s = sb.toString();
+				byte[] expected = s.getBytes("UTF-8");
+				byte[] actual = MsgPackSerializer.DEFAULT.serialize(s);
+				int h = expected.length < 32 ? 1 : expected.length < (1<<8) ? 2 : expected.length < (1<<16) ? 3 : 5;
+				assertEquals(s, h + expected.length, actual.length);
+				for (int i = 0; i < expected.length; i++)
+					assertEquals(s, expected[i], actual[h+i]);
+				assertEquals(new String(expected, "UTF-8"), MsgPackParser.DEFAULT.parse(actual, String.class));
+			}
+		}
+
+		// Multiple strings that don't fit in the output buffer together.
+		String[] a = new String[20];
+		for (int i = 0; i < a.length; i++)
+			a[i] = i + new String(new char[1000]).replace('\0', '\u00e9');
+		assertArrayEquals(a, MsgPackParser.DEFAULT.parse(MsgPackSerializer.DEFAULT.serialize(a), String[].class));
+	}
+
+	//====================================================================================================
+	// Serializing into a caller-supplied MsgPackOutputStream.
+	//====================================================================================================
+	@Test
+	public void testCallerSuppliedStream() throws Exception {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		MsgPackOutputStream os = new MsgPackOutputStream(baos);
+		MsgPackSerializer.DEFAULT.serialize(new Person(), os);
+		assertEquals("82 A4 6E 61 6D 65 AA 4A 6F 68 6E 20 53 6D 69 74 68 A3 61 67 65 15", StringUtils.toSpacedHex(baos.toByteArray()));
+
+		// Subsequent writes are appended after the flushed output.
+		MsgPackSerializer.DEFAULT.serialize(1, os);
+		assertEquals("82 A4 6E 61 6D 65 AA 4A 6F 68 6E 20 53 6D 69 74 68 A3 61 67 65 15 01", StringUtils.toSpacedHex(baos.toByteArray()));
+	}
+
 	public static class Person {
 		public String name = "John Smith";
 		public int age = 21;
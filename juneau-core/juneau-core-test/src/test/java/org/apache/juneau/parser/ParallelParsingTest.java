@@ -0,0 +1,112 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.parser;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.json.*;
+import org.junit.*;
+
+/**
+ * Verifies that parallel parsing of large JSON arrays produces the same results as sequential parsing.
+ */
+public class ParallelParsingTest {
+
+	public static class A {
+		public int f1;
+		public String f2;
+		public List<Integer> f3;
+
+		static A create(int i) {
+			A a = new A();
+			a.f1 = i;
+			a.f2 = "foo,[{" + i + "\"'";
+			a.f3 = Arrays.asList(i, i+1);
+			return a;
+		}
+	}
+
+	private static List<A> list(int size) {
+		List<A> l = new ArrayList<>();
+		for (int i = 0; i < size; i++)
+			l.add(A.create(i));
+		return l;
+	}
+
+	private static final JsonParser PARALLEL = JsonParser.create().parallelThreshold(10).build();
+
+	@Test
+	public void a01_beanList() throws Exception {
+		String json = JsonSerializer.DEFAULT.serialize(list(1000));
+		List<A> l = PARALLEL.parse(json, List.class, A.class);
+		assertEquals(1000, l.size());
+		assertEquals(json, JsonSerializer.DEFAULT.serialize(l));
+	}
+
+	@Test
+	public void a02_beanArray() throws Exception {
+		String json = JsonSerializer.DEFAULT_READABLE.serialize(list(1000));
+		A[] a = PARALLEL.parse(json, A[].class);
+		assertEquals(1000, a.length);
+		assertEquals(json, JsonSerializer.DEFAULT_READABLE.serialize(a));
+	}
+
+	@Test
+	public void a03_bytes() throws Exception {
+		String json = JsonSerializer.DEFAULT.serialize(list(100));
+		List<A> l = PARALLEL.parse(json.getBytes("UTF-8"), LinkedList.class, A.class);
+		assertEquals(json, JsonSerializer.DEFAULT.serialize(l));
+	}
+
+	@Test
+	public void a04_objectList() throws Exception {
+		String json = "[1,'foo',{a:[1,2]},[3,{b:'}'}],null,true,2.5,/*x*/'bar' // y\n,{},[]]";
+		ObjectList l = JsonParser.create().parallelThreshold(2).build().parse(json, ObjectList.class);
+		assertEquals(JsonParser.DEFAULT.parse(json, ObjectList.class), l);
+		assertEquals(10, l.size());
+	}
+
+	@Test
+	public void a05_fallbackToSequential() throws Exception {
+		JsonParser p = JsonParser.create().parallelThreshold(2).strict().build();
+		try {
+			p.parse("[1,/*x*/2,3]", int[].class);
+			fail();
+		} catch (ParseException e) {}
+		try {
+			p.parse("[1,2,3,]", int[].class);
+			fail();
+		} catch (ParseException e) {}
+		try {
+			JsonParser.create().parallelThreshold(2).validateEnd().build().parse("[1,2,3] x", int[].class);
+			fail();
+		} catch (ParseException e) {}
+		assertEquals(3, PARALLEL.parse("[1,2,3]", int[].class).length);
+	}
+
+	@Test
+	public void a06_exceptionsPropagated() throws Exception {
+		StringBuilder sb = new StringBuilder("[");
+		for (int i = 0; i < 100; i++)
+			sb.append(i == 0 ? "" : ",").append(i == 50 ? "{f1:'x'}" : "{f1:" + i + "}");
+		try {
+			PARALLEL.parse(sb.append(']').toString(), List.class, A.class);
+			fail();
+		} catch (ParseException e) {
+			assertTrue(e.getMessage(), e.getMessage().contains("f1"));
+		}
+	}
+}
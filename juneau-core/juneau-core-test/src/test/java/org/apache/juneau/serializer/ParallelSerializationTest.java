@@ -0,0 +1,114 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.serializer;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.junit.*;
+
+/**
+ * Verifies that parallel serialization of large collections produces the same output as sequential serialization.
+ */
+public class ParallelSerializationTest {
+
+	public static class A {
+		public int f1;
+		public String f2;
+		public List<Integer> f3;
+
+		static A create(int i) {
+			A a = new A();
+			a.f1 = i;
+			a.f2 = "foo" + i;
+			a.f3 = Arrays.asList(i, i+1);
+			return a;
+		}
+	}
+
+	private static List<A> list(int size) {
+		List<A> l = new ArrayList<>();
+		for (int i = 0; i < size; i++)
+			l.add(A.create(i));
+		return l;
+	}
+
+	@Test
+	public void a01_json() throws Exception {
+		List<A> l = list(1000);
+		assertEquals(JsonSerializer.DEFAULT.serialize(l), JsonSerializer.create().parallelThreshold(10).build().serialize(l));
+	}
+
+	@Test
+	public void a02_jsonReadable() throws Exception {
+		List<A> l = list(1000);
+		assertEquals(SimpleJsonSerializer.DEFAULT_READABLE.serialize(l), SimpleJsonSerializer.DEFAULT_READABLE.builder().parallelThreshold(10).build().serialize(l));
+	}
+
+	@Test
+	public void a03_jsonNested() throws Exception {
+		Map<String,Object> m = new LinkedHashMap<>();
+		m.put("a", list(500));
+		m.put("b", list(2).toArray());
+		List<Object> l = new ArrayList<>();
+		l.add(m);
+		l.add(m);
+		assertEquals(JsonSerializer.DEFAULT_READABLE.serialize(l), JsonSerializer.DEFAULT_READABLE.builder().parallelThreshold(2).recycleBuffers().build().serialize(l));
+	}
+
+	@Test
+	public void a04_msgPack() throws Exception {
+		List<A> l = list(1000);
+		assertArrayEquals(MsgPackSerializer.DEFAULT.serialize(l), MsgPackSerializer.create().parallelThreshold(10).build().serialize(l));
+		assertArrayEquals(MsgPackSerializer.DEFAULT.serialize(l.toArray()), MsgPackSerializer.create().parallelThreshold(10).recycleBuffers().build().serialize(l.toArray()));
+	}
+
+	@Test
+	public void a05_belowThreshold() throws Exception {
+		List<A> l = list(5);
+		assertEquals(JsonSerializer.DEFAULT.serialize(l), JsonSerializer.create().parallelThreshold(10).build().serialize(l));
+	}
+
+	public static class B {
+		@Override
+		public String toString() {
+			throw new RuntimeException("bad");
+		}
+	}
+
+	@Test
+	public void a06_exceptionsPropagated() throws Exception {
+		List<Object> l = new ArrayList<>();
+		for (int i = 0; i < 100; i++)
+			l.add(i == 50 ? new B() : A.create(i));
+		try {
+			JsonSerializer.create().parallelThreshold(10).build().serialize(l);
+			fail();
+		} catch (SerializeException e) {
+			assertTrue(e.getMessage(), e.getMessage().contains("bad"));
+		}
+	}
+
+	@Test
+	public void a07_initialDepth() throws Exception {
+		Map<String,Object> m = new LinkedHashMap<>();
+		m.put("a", list(200));
+		JsonSerializer s1 = JsonSerializer.DEFAULT_READABLE.builder().initialDepth(2).build();
+		JsonSerializer s2 = s1.builder().parallelThreshold(10).build();
+		assertEquals(s1.serialize(m), s2.serialize(m));
+	}
+}
@@ -0,0 +1,59 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.svl.vars;
+
+import org.apache.juneau.svl.*;
+import org.junit.*;
+
+/**
+ * Measures the resolution throughput of the pattern-matching vars.
+ *
+ * <p>
+ * The string arguments come from a system property so that the results aren't cached by the compiled template.
+ */
+@Ignore
+public class PatternVarsSpeedTest {
+
+	private static final int NUM_WARMUP = 100000;
+	private static final int NUM_RUNS = 1000000;
+
+	private static final String[] TEMPLATES = {
+		"$PM{$S{PatternVarsSpeedTest},*win*}",
+		"$PE{$S{PatternVarsSpeedTest},win(.+) (.+),2}",
+		"$SW{$S{PatternVarsSpeedTest},*linux*:LINUX,*mac*:MAC,*win*:WINDOWS,*:OTHER}",
+	};
+
+	@Test
+	public void testThroughput() throws Exception {
+		VarResolver vr = new VarResolverBuilder().defaultVars().build();
+		System.setProperty("PatternVarsSpeedTest", "windows 10");
+		try {
+			for (String t : TEMPLATES) {
+				System.err.println("\n---Speed test on " + t + "---"); // NOT DEBUG
+				String r = null;
+				VarResolverSession session = vr.createSession();
+				for (int i = 0; i < NUM_WARMUP; i++)
+					r = session.resolve(t);
+				long startTime = System.nanoTime();
+				for (int i = 0; i < NUM_RUNS; i++)
+					r = session.resolve(t);
+				long time = System.nanoTime() - startTime;
+				System.err.println("Result: " + r); // NOT DEBUG
+				System.err.println("Average resolve time: " + (time/NUM_RUNS) + "ns"); // NOT DEBUG
+				System.err.println("Throughput: " + (NUM_RUNS * 1000000000l / time) + " ops/s"); // NOT DEBUG
+			}
+		} finally {
+			System.clearProperty("PatternVarsSpeedTest");
+		}
+	}
+}
@@ -0,0 +1,45 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.transforms;
+
+import java.util.*;
+
+import org.apache.juneau.transform.*;
+import org.junit.runner.*;
+import org.junit.runners.*;
+
+/**
+ * Runs the {@link LocalizedDatesTest} tests against {@link TemporalCalendarSwap} and {@link TemporalDateSwap}.
+ */
+@RunWith(Parameterized.class)
+public class TemporalLocalizedDatesTest extends LocalizedDatesTest {
+
+	@Parameterized.Parameters
+	public static Collection<Object[]> getParameters() {
+		List<Object[]> l = new ArrayList<>();
+		for (Object[] p : LocalizedDatesTest.getParameters()) {
+			p = p.clone();
+			try {
+				p[2] = Class.forName(((Class<?>)p[2]).getName().replace(".CalendarSwap$", ".TemporalCalendarSwap$").replace(".DateSwap$", ".TemporalDateSwap$"));
+			} catch (ClassNotFoundException e) {
+				throw new RuntimeException(e);
+			}
+			l.add(p);
+		}
+		return l;
+	}
+
+	public TemporalLocalizedDatesTest(String label, Object calendar, Class<? extends PojoSwap<?,?>> swap, Object contextLocale, Locale sessionLocale, Object contextTimeZone, TimeZone sessionTimeZone, String expected) throws Exception {
+		super(label, calendar, swap, contextLocale, sessionLocale, contextTimeZone, sessionTimeZone, expected);
+	}
+}
@@ -19,6 +19,7 @@ import java.util.*;
 import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
 import org.apache.juneau.serializer.*;
+import org.apache.juneau.uon.*;
 import org.apache.juneau.utils.*;
 import org.junit.*;
 
@@ -487,4 +488,19 @@ public class UrlEncodingSerializerTest {
 		@BeanProperty(name="@(foo)")
 		public String f4 = "@(foo)";
 	}
+
+	//====================================================================================================
+	// Property names are encoded the same way regardless of whether they were already cached.
+	//====================================================================================================
+	@Test
+	public void testEncodedPropertyNames() throws Exception {
+		A a = new A();
+		WriterSerializer plain = UrlEncodingSerializer.DEFAULT.builder().paramFormatPlain().build();
+		for (int i = 0; i < 2; i++) {
+			assertEquals("~'foo~'=~'foo~'&'(foo)'='(foo)'&'@(foo)'='@(foo)'&foo=foo", UrlEncodingSerializer.DEFAULT.serialize(a));
+			assertEquals("'foo'='foo'&(foo)=(foo)&@(foo)=@(foo)&foo=foo", plain.serialize(a));
+			assertEquals("(~'foo~'=~'foo~','(foo)'='(foo)','@(foo)'='@(foo)',foo=foo)", UonSerializer.DEFAULT.serialize(a));
+			assertEquals("(~'foo~'=~'foo~','(foo)'='(foo)','@(foo)'='@(foo)',foo=foo)", UonSerializer.DEFAULT_ENCODING.serialize(a));
+		}
+	}
 }
\ No newline at end of file
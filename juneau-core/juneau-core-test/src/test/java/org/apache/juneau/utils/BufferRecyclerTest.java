@@ -0,0 +1,367 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.utils;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.serializer.*;
+import org.apache.juneau.transform.*;
+import org.apache.juneau.uon.*;
+import org.junit.*;
+
+public class BufferRecyclerTest {
+
+	//====================================================================================================
+	// Same thread returns same recycler.
+	//====================================================================================================
+	@Test
+	public void testSameThread() throws Exception {
+		assertSame(BufferRecycler.get(), BufferRecycler.get());
+	}
+
+	//====================================================================================================
+	// Char buffers.
+	//====================================================================================================
+	@Test
+	public void testCharBuffer() throws Exception {
+		BufferRecycler br = BufferRecycler.get();
+
+		char[] c1 = br.getCharBuffer(100);
+		assertTrue(c1.length >= 100);
+
+		// Buffer is borrowed, so a second call gets a new one.
+		char[] c2 = br.getCharBuffer(100);
+		assertNotSame(c1, c2);
+
+		br.releaseCharBuffer(c1);
+		assertSame(c1, br.getCharBuffer(10));
+		br.releaseCharBuffer(c1);
+
+		// Too small for the request.
+		char[] c3 = br.getCharBuffer(c1.length + 1);
+		assertNotSame(c1, c3);
+
+		// Oversized buffers are not retained.
+		char[] c4 = br.getCharBuffer(BufferRecycler.MAX_RETAINED_SIZE + 1);
+		br.releaseCharBuffer(c4);
+		assertNotSame(c4, br.getCharBuffer(10));
+	}
+
+	//====================================================================================================
+	// String builders are reset.
+	//====================================================================================================
+	@Test
+	public void testStringBuilder() throws Exception {
+		BufferRecycler br = BufferRecycler.get();
+
+		StringBuilder sb1 = br.getStringBuilder();
+		sb1.append("foo");
+		assertNotSame(sb1, br.getStringBuilder());
+		br.releaseStringBuilder(sb1);
+
+		StringBuilder sb2 = br.getStringBuilder();
+		assertSame(sb1, sb2);
+		assertEquals(0, sb2.length());
+		br.releaseStringBuilder(sb2);
+
+		// Oversized builders are not retained.
+		StringBuilder sb3 = br.getStringBuilder();
+		sb3.append(new char[BufferRecycler.MAX_RETAINED_SIZE + 1]);
+		br.releaseStringBuilder(sb3);
+		assertNotSame(sb3, br.getStringBuilder());
+	}
+
+	//====================================================================================================
+	// Byte streams are reset.
+	//====================================================================================================
+	@Test
+	public void testByteStream() throws Exception {
+		BufferRecycler br = BufferRecycler.get();
+
+		ByteArrayOutputStream baos1 = br.getByteStream();
+		baos1.write(new byte[]{1,2,3});
+		br.releaseByteStream(baos1);
+
+		ByteArrayOutputStream baos2 = br.getByteStream();
+		assertSame(baos1, baos2);
+		assertEquals(0, baos2.size());
+		br.releaseByteStream(baos2);
+
+		// Streams not created by the recycler are ignored.
+		ByteArrayOutputStream baos3 = new ByteArrayOutputStream();
+		br.getByteStream();
+		br.releaseByteStream(baos3);
+		assertNotSame(baos3, br.getByteStream());
+
+		// Oversized streams are not retained.
+		ByteArrayOutputStream baos4 = br.getByteStream();
+		baos4.write(new byte[BufferRecycler.MAX_RETAINED_SIZE + 1]);
+		br.releaseByteStream(baos4);
+		assertNotSame(baos4, br.getByteStream());
+	}
+
+	//====================================================================================================
+	// Each thread has its own recycler.
+	//====================================================================================================
+	@Test
+	public void testPerThread() throws Exception {
+		ExecutorService es = Executors.newSingleThreadExecutor();
+		try {
+			Future<BufferRecycler> f = es.submit(new Callable<BufferRecycler>() {
+				@Override
+				public BufferRecycler call() {
+					return BufferRecycler.get();
+				}
+			});
+			assertNotSame(BufferRecycler.get(), f.get());
+		} finally {
+			es.shutdown();
+		}
+	}
+
+	//====================================================================================================
+	// Parser sessions on the same thread reuse the same char buffer.
+	//====================================================================================================
+	@Test
+	public void testParserSessionReuse() throws Exception {
+		ReaderParser jp = JsonParser.create().recycleBuffers().build();
+		BufferRecycler br = BufferRecycler.get();
+		br.getCharBuffer(0);
+		char[] c = new char[2048];
+		br.releaseCharBuffer(c);
+
+		// The reader borrows the buffer and ParserReader.releaseBuffer() returns it when the pipe is closed.
+		assertEquals("{a:1}", jp.parse("{a:1}", ObjectMap.class).toString());
+		assertEquals("{a:1}", new String(c, 0, 5));
+		assertEquals("{b:2}", jp.parse(new StringReader("{b:2}"), ObjectMap.class).toString());
+		assertEquals("{b:2}", new String(c, 0, 5));
+		assertSame(c, br.getCharBuffer(1));
+		br.releaseCharBuffer(c);
+
+		// Not borrowed when the setting is off.
+		assertEquals("{c:3}", JsonParser.DEFAULT.parse("{c:3}", ObjectMap.class).toString());
+		assertEquals("{b:2}", new String(c, 0, 5));
+		assertSame(c, br.getCharBuffer(1));
+	}
+
+	//====================================================================================================
+	// Serializer sessions on the same thread reuse the same string builder and byte stream.
+	//====================================================================================================
+	@Test
+	public void testSerializerSessionReuse() throws Exception {
+		WriterSerializer js = JsonSerializer.create().ssq().recycleBuffers().build();
+		OutputStreamSerializer ms = MsgPackSerializer.create().recycleBuffers().build();
+		BufferRecycler br = BufferRecycler.get();
+
+		StringBuilder sb = br.getStringBuilder();
+		br.releaseStringBuilder(sb);
+		assertEquals("{a:1}", js.serialize(new ObjectMap("{a:1}")));
+		assertEquals("{a:1}", sb.toString());
+		assertEquals("{b:2}", js.serialize(new ObjectMap("{b:2}")));
+		assertEquals("{b:2}", sb.toString());
+		assertSame(sb, br.getStringBuilder());
+		br.releaseStringBuilder(sb);
+
+		ByteArrayOutputStream baos = br.getByteStream();
+		br.releaseByteStream(baos);
+		assertEquals("81 A1 61 01", StringUtils.toSpacedHex(ms.serialize(new ObjectMap("{a:1}"))));
+		assertEquals("81 A1 61 01", StringUtils.toSpacedHex(baos.toByteArray()));
+		assertSame(baos, br.getByteStream());
+		br.releaseByteStream(baos);
+
+		// Buffers that grow too large during a session are dropped.
+		String big = bigString();
+		assertEquals("'" + big + "'", js.serialize(big));
+		assertTrue(sb.capacity() > BufferRecycler.MAX_RETAINED_SIZE);
+		assertNotSame(sb, br.getStringBuilder());
+	}
+
+	//====================================================================================================
+	// Serializers and parsers produce the same results with recycled buffers.
+	//====================================================================================================
+	@Test
+	public void testSerializersAndParsers() throws Exception {
+		WriterSerializer js = JsonSerializer.create().ssq().recycleBuffers().build();
+		ReaderParser jp = JsonParser.create().recycleBuffers().build();
+		OutputStreamSerializer ms = MsgPackSerializer.create().recycleBuffers().build();
+		InputStreamParser mp = MsgPackParser.create().recycleBuffers().build();
+		WriterSerializer us = UonSerializer.create().recycleBuffers().build();
+		ReaderParser up = UonParser.create().recycleBuffers().build();
+
+		for (int i = 0; i < 3; i++) {
+			A a = new A().init(i);
+			String json = js.serialize(a);
+			assertEquals("{f1:'foo"+i+"',f2:["+i+"],f3:{bar:"+i+"}}", json);
+			assertEquals(json, js.serialize(jp.parse(json, A.class)));
+			assertEquals(json, js.serialize(jp.parse(new StringReader(json), A.class)));
+			assertEquals(json, js.serialize(mp.parse(ms.serialize(a), A.class)));
+			assertEquals(json, js.serialize(up.parse(us.serialize(a), A.class)));
+		}
+
+		// Large output that shouldn't be retained.
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < BufferRecycler.MAX_RETAINED_SIZE; i++)
+			sb.append('x');
+		String big = sb.toString();
+		assertEquals(big, jp.parse(js.serialize(big), String.class));
+		assertEquals("'foo'", js.serialize("foo"));
+	}
+
+	//====================================================================================================
+	// Serializers and parsers produce the same results with the setting on and off.
+	//====================================================================================================
+	@Test
+	public void testSameResultsOnAndOff() throws Exception {
+		WriterSerializer js1 = JsonSerializer.create().pojoSwaps(BSwap.class).build(), js2 = JsonSerializer.create().pojoSwaps(BSwap.class).recycleBuffers().build();
+		ReaderParser jp1 = JsonParser.create().pojoSwaps(BSwap.class).build(), jp2 = JsonParser.create().pojoSwaps(BSwap.class).recycleBuffers().build();
+		OutputStreamSerializer ms1 = MsgPackSerializer.DEFAULT, ms2 = MsgPackSerializer.create().recycleBuffers().build();
+		InputStreamParser mp2 = MsgPackParser.create().recycleBuffers().build();
+
+		for (String f1 : new String[]{"foo", bigString()}) {
+			B b = new B().init(f1);
+			String json = js1.serialize(b);
+			assertEquals(json, js2.serialize(b));
+			assertEquals(json, js1.serialize(jp2.parse(json, B.class)));
+			assertEquals(json, js1.serialize(jp2.parse(new StringReader(json), B.class)));
+			byte[] mpk = ms1.serialize(b);
+			assertArrayEquals(mpk, ms2.serialize(b));
+			assertArrayEquals(mpk, ms1.serialize(mp2.parse(mpk, B.class)));
+			assertEquals(js1.serialize(jp1.parse(json, B.class)), js1.serialize(jp2.parse(json, B.class)));
+		}
+	}
+
+	//====================================================================================================
+	// Nested parses on the same thread.
+	// The outer session still holds its buffer while the swap parses the inner value.
+	//====================================================================================================
+	@Test
+	public void testNestedParse() throws Exception {
+		ReaderParser jp = JsonParser.create().recycleBuffers().pojoSwaps(BSwap.class).build();
+		B b = jp.parse("{f1:'foo',c:'{f2:\\'bar\\'}',f3:'baz'}", B.class);
+		assertEquals("foo", b.f1);
+		assertEquals("bar", b.c.f2);
+		assertEquals("baz", b.f3);
+	}
+
+	//====================================================================================================
+	// Parallel sessions on different threads.
+	//====================================================================================================
+	@Test
+	public void testParallel() throws Exception {
+		final WriterSerializer js = JsonSerializer.create().ssq().recycleBuffers().pojoSwaps(BSwap.class).build();
+		final ReaderParser jp = JsonParser.create().recycleBuffers().pojoSwaps(BSwap.class).build();
+		ExecutorService es = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<String>> l = new ArrayList<>();
+			for (int i = 0; i < 100; i++) {
+				final int i2 = i;
+				l.add(es.submit(new Callable<String>() {
+					@Override
+					public String call() throws Exception {
+						return js.serialize(jp.parse(js.serialize(new B().init("foo" + i2)), B.class));
+					}
+				}));
+			}
+			for (int i = 0; i < l.size(); i++)
+				assertEquals("{f1:'foo"+i+"',c:'{f2:\\'bar\\'}',f3:'baz'}", l.get(i).get());
+		} finally {
+			es.shutdown();
+		}
+	}
+
+	//====================================================================================================
+	// Nested serializations on the same thread.
+	//====================================================================================================
+	@Test
+	public void testNested() throws Exception {
+		final WriterSerializer js = JsonSerializer.create().ssq().recycleBuffers().build();
+		Map<String,Object> m = new LinkedHashMap<>();
+		m.put("a", new Object() {
+			@Override
+			public String toString() {
+				try {
+					return js.serialize(Arrays.asList("x","y"));
+				} catch (SerializeException e) {
+					throw new RuntimeException(e);
+				}
+			}
+		});
+		assertEquals("{a:'[\\'x\\',\\'y\\']'}", js.serialize(m));
+	}
+
+	public static class B {
+		public String f1;
+		public C c;
+		public String f3;
+
+		B init(String f1) {
+			this.f1 = f1;
+			c = new C();
+			c.f2 = "bar";
+			f3 = "baz";
+			return this;
+		}
+	}
+
+	public static class C {
+		public String f2;
+	}
+
+	/**
+	 * Serializes and parses the nested bean in separate recycling sessions while the outer session is active.
+	 */
+	public static class BSwap extends StringSwap<C> {
+		private static final WriterSerializer S = JsonSerializer.create().ssq().recycleBuffers().build();
+		private static final ReaderParser P = JsonParser.create().recycleBuffers().build();
+
+		@Override
+		public String swap(BeanSession session, C o) throws Exception {
+			return S.serialize(o);
+		}
+
+		@Override
+		public C unswap(BeanSession session, String s, ClassMeta<?> hint) throws Exception {
+			return P.parse(s, C.class);
+		}
+	}
+
+	private static String bigString() {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; sb.length() <= BufferRecycler.MAX_RETAINED_SIZE; i++)
+			sb.append((char)('a' + i%26));
+		return sb.toString();
+	}
+
+	public static class A {
+		public String f1;
+		public List<Integer> f2;
+		public Map<String,Integer> f3;
+
+		A init(int i) {
+			f1 = "foo" + i;
+			f2 = new ArrayList<>(Arrays.asList(i));
+			f3 = new LinkedHashMap<>();
+			f3.put("bar", i);
+			return this;
+		}
+	}
+}
@@ -0,0 +1,152 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.utils;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.internal.*;
+import org.junit.*;
+
+public class ClasspathResourceManagerTest {
+
+	// Resource finder that serves in-memory resources and counts lookups.
+	static class TestFinder implements ClasspathResourceFinder {
+		final Map<String,Object> resources = new HashMap<>();
+		int lookups;
+
+		@Override
+		public InputStream findResource(Class<?> baseClass, String name, Locale locale) throws IOException {
+			lookups++;
+			Object o = resources.get(name);
+			if (o instanceof File)
+				return new FileInputStream((File)o);
+			if (o instanceof String)
+				return new ByteArrayInputStream(((String)o).getBytes(IOUtils.UTF8));
+			return null;
+		}
+	}
+
+	private static String read(InputStream is) throws IOException {
+		return IOUtils.read(is, IOUtils.UTF8);
+	}
+
+	//====================================================================================================
+	// Cached resources are only looked up once.
+	//====================================================================================================
+	@Test
+	public void a01_cached() throws Exception {
+		TestFinder f = new TestFinder();
+		f.resources.put("a", "foo");
+		ClasspathResourceManager m = new ClasspathResourceManager(getClass(), f, true);
+
+		assertEquals("foo", read(m.getStream("a")));
+		assertEquals("foo", read(m.getStream("a")));
+		assertEquals("foo", m.getString("a"));
+		assertEquals(1, f.lookups);
+
+		// Different base classes are cached separately.
+		assertEquals("foo", read(m.getStream(String.class, "a", null)));
+		assertEquals(2, f.lookups);
+
+		assertNull(m.getStream("b"));
+		assertNull(m.getString("b"));
+	}
+
+	//====================================================================================================
+	// Resources with the same contents share the same bytes.
+	//====================================================================================================
+	@Test
+	public void a02_dedup() throws Exception {
+		TestFinder f = new TestFinder();
+		f.resources.put("a", "0123456789");
+		f.resources.put("b", "0123456789");
+		ClasspathResourceManager m = new ClasspathResourceManager(getClass(), f, 1000, -1);
+
+		m.getStream("a");
+		m.getStream("b");
+		assertEquals(2, m.getCacheEntryCount());
+		assertEquals(10, m.getCacheSize());
+
+		// Memoized strings count against the budget.
+		m.getString("a");
+		assertEquals(30, m.getCacheSize());
+	}
+
+	//====================================================================================================
+	// Least-recently-used resources are evicted once the budget is exceeded.
+	//====================================================================================================
+	@Test
+	public void a03_eviction() throws Exception {
+		TestFinder f = new TestFinder();
+		f.resources.put("a", "aaaaaaaaaa");
+		f.resources.put("b", "bbbbbbbbbb");
+		f.resources.put("c", "cccccccccc");
+		f.resources.put("big", "0123456789012345678901234567890");
+		ClasspathResourceManager m = new ClasspathResourceManager(getClass(), f, 25, -1);
+
+		m.getStream("a");
+		m.getStream("b");
+		m.getStream("a");
+		m.getStream("c");
+		assertEquals(2, m.getCacheEntryCount());
+		assertEquals(20, m.getCacheSize());
+		assertEquals(3, f.lookups);
+
+		// "b" was least-recently used.
+		m.getStream("a");
+		assertEquals(3, f.lookups);
+		m.getStream("b");
+		assertEquals(4, f.lookups);
+
+		// Resources larger than the budget are never cached.
+		assertEquals("0123456789012345678901234567890", read(m.getStream("big")));
+		assertEquals("0123456789012345678901234567890", read(m.getStream("big")));
+		assertEquals(6, f.lookups);
+		assertEquals(20, m.getCacheSize());
+	}
+
+	//====================================================================================================
+	// Large file resources are memory-mapped.
+	//====================================================================================================
+	@Test
+	public void a04_mmap() throws Exception {
+		File tf = File.createTempFile("ClasspathResourceManagerTest", ".txt");
+		tf.deleteOnExit();
+		try (Writer w = new OutputStreamWriter(new FileOutputStream(tf), IOUtils.UTF8)) {
+			w.write("0123456789");
+		}
+		TestFinder f = new TestFinder();
+		f.resources.put("a", tf);
+
+		ClasspathResourceManager m = new ClasspathResourceManager(getClass(), f, 1000, 5);
+		assertEquals("0123456789", read(m.getStream("a")));
+		assertEquals("0123456789", read(m.getStream("a")));
+		assertEquals("0123456789", m.getString("a"));
+		assertEquals(1, f.lookups);
+		assertEquals(1, m.getCacheEntryCount());
+		assertEquals(0, m.getCacheSize());
+
+		// Uncached managers map on every call.
+		m = new ClasspathResourceManager(getClass(), f, 0, 5);
+		assertEquals("0123456789", read(m.getStream("a")));
+		assertEquals(0, m.getCacheEntryCount());
+
+		// Below the threshold, files are read into the heap.
+		m = new ClasspathResourceManager(getClass(), f, 1000, 100);
+		assertEquals("0123456789", read(m.getStream("a")));
+		assertEquals(10, m.getCacheSize());
+	}
+}
@@ -15,7 +15,10 @@ package org.apache.juneau.utils;
 import static org.apache.juneau.internal.StringUtils.*;
 import static org.junit.Assert.*;
 
+import java.io.*;
+
 import org.apache.juneau.svl.*;
+import org.apache.juneau.svl.vars.*;
 import org.junit.*;
 
 public class StringVarResolverTest {
@@ -298,6 +301,93 @@ public class StringVarResolverTest {
 		}
 	}
 
+	//====================================================================================================
+	// Compiled templates and cached var values
+	//====================================================================================================
+	@Test
+	public void testCachedValues() throws Exception {
+		VarResolver vr = new VarResolverBuilder().vars(CountingVar.class, CachingVar.class, SystemPropertiesVar.class).build();
+		CountingVar.COUNT = 0;
+		CachingVar.COUNT = 0;
+
+		assertEquals("axyxb", vr.resolve("a$N{y}b"));
+		assertEquals("axyxb", vr.resolve("a$N{y}b"));
+		assertEquals(2, CountingVar.COUNT);
+
+		assertEquals("axyxb", vr.resolve("a$K{y}b"));
+		assertEquals("axyxb", vr.resolve("a$K{y}b"));
+		assertEquals("xyx", vr.resolve("$K{y}"));
+		assertEquals("xyx", vr.resolve("$K{y}"));
+		assertEquals("xxyxx", vr.resolve("$K{$K{y}}"));
+		assertEquals("xxyxx", vr.resolve("$K{$K{y}}"));
+		assertEquals(4, CachingVar.COUNT);
+
+		// Arguments containing vars that can't be cached are resolved every time.
+		System.setProperty("StringVarResolverTest", "1");
+		assertEquals("x1x", vr.resolve("$K{$S{StringVarResolverTest}}"));
+		System.setProperty("StringVarResolverTest", "2");
+		assertEquals("x2x", vr.resolve("$K{$S{StringVarResolverTest}}"));
+		System.clearProperty("StringVarResolverTest");
+		assertEquals(6, CachingVar.COUNT);
+
+		// Templates are cached per resolver.
+		assertEquals("axyxb", vr.builder().build().resolve("a$K{y}b"));
+		assertEquals(7, CachingVar.COUNT);
+
+		StringWriter sw = new StringWriter();
+		vr.resolveTo("a$K{y}b$N{z}", sw);
+		assertEquals("axyxbxzx", sw.toString());
+	}
+
+	//====================================================================================================
+	// Test that sessions overriding getVar(String) are honored.
+	//====================================================================================================
+	@Test
+	public void testSessionGetVarOverride() throws Exception {
+		VarResolver vr = new VarResolverBuilder().vars(CachingVar.class).build();
+		final Var k = new CountingVar();
+		VarResolverSession vs = new VarResolverSession(vr.getContext(), null) {
+			@Override
+			protected Var getVar(String name) {
+				return "K".equals(name) ? k : super.getVar(name);
+			}
+		};
+		CountingVar.COUNT = 0;
+		assertEquals("xfoox", vs.resolve("$K{foo}"));
+		assertEquals("axfooxb", vs.resolve("a$K{foo}b"));
+		assertEquals(2, CountingVar.COUNT);
+		assertEquals("xfoox", vr.resolve("$K{foo}"));
+		assertEquals(2, CountingVar.COUNT);
+	}
+
+	public static class CountingVar extends SimpleVar {
+		static int COUNT;
+		public CountingVar() {
+			super("N");
+		}
+		@Override
+		public String resolve(VarResolverSession session, String arg) {
+			COUNT++;
+			return "x" + arg + "x";
+		}
+	}
+
+	public static class CachingVar extends SimpleVar {
+		static int COUNT;
+		public CachingVar() {
+			super("K");
+		}
+		@Override
+		protected boolean allowCache() {
+			return true;
+		}
+		@Override
+		public String resolve(VarResolverSession session, String arg) {
+			COUNT++;
+			return "x" + arg + "x";
+		}
+	}
+
 	public static class InvalidVar extends SimpleVar {
 		public InvalidVar(String c) {
 			super(c);
@@ -0,0 +1,85 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.utils;
+
+import static org.apache.juneau.utils.CalendarUtils.Format.*;
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.apache.juneau.parser.*;
+import org.junit.*;
+
+public class TemporalCalendarUtilsTest {
+
+	private static final TimeZone GMT = TimeZone.getTimeZone("GMT"), EST = TimeZone.getTimeZone("EST");
+
+	//====================================================================================================
+	// ISO8601 parsing.
+	//====================================================================================================
+	@Test
+	public void testParseISO8601() throws Exception {
+		assertEquals("2001-07-04T15:30:45Z", iso("2001-07-04T15:30:45Z"));
+		assertEquals("2001-07-04T15:30:45.100Z", iso("2001-07-04T15:30:45.1Z"));
+		assertEquals("2001-07-04T15:30:00Z", iso("2001-07-04T15:30Z"));
+		assertEquals("2001-07-04T20:30:45Z", iso("2001-07-04T15:30:45-05:00"));
+		assertEquals("2001-07-04T20:30:45Z", iso("2001-07-04T15:30:45-0500"));
+		assertEquals("2001-07-04T15:30:45Z", iso("2001-07-04 15:30:45Z"));
+
+		// Strings without time zones use the specified time zone.
+		assertEquals("2001-07-04T20:30:45Z", iso("2001-07-04T15:30:45"));
+		assertEquals("2001-07-04T05:00:00Z", iso("2001-07-04"));
+		assertEquals("2001-07-01T05:00:00Z", iso("2001-07"));
+		assertEquals("2001-01-01T05:00:00Z", iso("2001"));
+
+		// Parsed time zones are preserved on calendars.
+		assertEquals("2001-07-04T15:30:45-05:00", TemporalCalendarUtils.serialize(TemporalCalendarUtils.parseCalendar("2001-07-04T15:30:45-05:00", ISO8601_DT, null, GMT), ISO8601_DT, null, null));
+
+		assertNull(TemporalCalendarUtils.parseCalendar(null, ISO8601_DT, null, null));
+		assertNull(TemporalCalendarUtils.parseCalendar("", ISO8601_DT, null, null));
+
+		for (String s : new String[]{"01-07-04", "2001-7-04", "2001-07-04T15:3", "2001-07-04T15:30:45X", "2001-07-04T15:30:45.Z", "2001-13-04"}) {
+			try {
+				TemporalCalendarUtils.parseDate(s, ISO8601_DT, null, GMT);
+				fail("Exception expected for " + s);
+			} catch (ParseException e) {
+				assertTrue(e.getLocalizedMessage().contains(s));
+			}
+		}
+	}
+
+	//====================================================================================================
+	// ISO8601 formatting.
+	//====================================================================================================
+	@Test
+	public void testSerializeISO8601() throws Exception {
+		Date d = new Date(994260645123l);  // 2001-07-04T15:30:45.123Z
+		assertEquals("2001-07-04T10:30:45.123-05:00", TemporalCalendarUtils.serialize(d, ISO8601_DT, null, EST));
+		assertEquals("2001-07-04T10:30:45.123-05:00", TemporalCalendarUtils.serialize(d, ISO8601_DTP, null, EST));
+		assertEquals("2001-07-04T15:30:45Z", TemporalCalendarUtils.serialize(new Date(994260645000l), ISO8601_DT, null, GMT));
+		assertEquals("2001-07-04T15:30:45Z", TemporalCalendarUtils.serialize(new Date(994260645000l), ISO8601_DTZ, null, EST));
+		assertEquals("2001-07-04T15:30:45.123Z", TemporalCalendarUtils.serialize(d, ISO8601_DTPZ, null, EST));
+		assertEquals("2001-07-04T10:30:45", TemporalCalendarUtils.serialize(d, ISO8601_DTL, null, EST));
+		assertEquals("2001-07-04", TemporalCalendarUtils.serialize(d, ISO8601_D, null, EST));
+		assertEquals("0099-01-02", TemporalCalendarUtils.serialize(TemporalCalendarUtils.parseDate("0099-01-02", ISO8601_D, null, GMT), ISO8601_D, null, GMT));
+
+		// Daylight savings time is taken into account.
+		TimeZone ny = TimeZone.getTimeZone("America/New_York");
+		assertEquals("2001-07-04T11:30:45.123-04:00", TemporalCalendarUtils.serialize(d, ISO8601_DT, null, ny));
+		assertEquals(d.getTime() - 123, TemporalCalendarUtils.parseDate("2001/07/04 11:30:45", SIMPLE_DT, null, ny).getTime());
+	}
+
+	private static String iso(String in) throws Exception {
+		return TemporalCalendarUtils.serialize(TemporalCalendarUtils.parseDate(in, ISO8601_DT, null, EST), ISO8601_DT, null, GMT);
+	}
+}
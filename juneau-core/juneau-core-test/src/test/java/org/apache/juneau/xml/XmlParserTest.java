@@ -14,7 +14,14 @@ package org.apache.juneau.xml;
 
 import static org.junit.Assert.*;
 
+import java.io.*;
+
+import javax.xml.stream.*;
+import javax.xml.stream.util.*;
+import javax.xml.transform.*;
+
 import org.apache.juneau.*;
+import org.apache.juneau.html.*;
 import org.apache.juneau.parser.*;
 import org.junit.*;
 
@@ -91,4 +98,138 @@ public class XmlParserTest {
 		m = p.parse(xml, ObjectMap.class);
 		assertEquals("{A:{}}", m.toString());
 	}
+
+	@Test
+	public void testSharedInputFactory() throws Exception {
+		CountingInputFactory.instances = 0;
+		CountingInputFactory.readers = 0;
+		ReaderParser p = XmlParser.create().inputFactory(CountingInputFactory.class).build();
+		for (int i = 0; i < 3; i++)
+			assertEquals("{b:'" + i + "'}", p.parse("<A><b>" + i + "</b></A>", ObjectMap.class).toString());
+		assertEquals(1, CountingInputFactory.instances);
+		assertEquals(3, CountingInputFactory.readers);
+
+		p = HtmlParser.create().inputFactory(CountingInputFactory.class).build();
+		assertEquals("foo", p.parse("<string>foo</string>", String.class));
+		assertEquals(2, CountingInputFactory.instances);
+		assertEquals(4, CountingInputFactory.readers);
+	}
+
+	@Test
+	public void testUseDeclaredEncoding() throws Exception {
+		byte[] b = "<?xml version='1.0' encoding='ISO-8859-1'?><A><b>\u00e9</b></A>".getBytes("ISO-8859-1");
+		assertEquals("\ufffd", XmlParser.DEFAULT.parse(b, ObjectMap.class).getString("b"));
+		ReaderParser p = XmlParser.create().useDeclaredEncoding().build();
+		assertEquals("\u00e9", p.parse(b, ObjectMap.class).getString("b"));
+		assertEquals("\u00e9", p.parse(new ByteArrayInputStream(b), ObjectMap.class).getString("b"));
+		assertEquals("x", p.parse("<A><b>x</b></A>", ObjectMap.class).getString("b"));
+	}
+
+	public static class CountingInputFactory extends XMLInputFactory {
+		static int instances, readers;
+		private final XMLInputFactory f = XMLInputFactory.newFactory();
+
+		public CountingInputFactory() {
+			instances++;
+		}
+
+		@Override
+		public XMLStreamReader createXMLStreamReader(Reader reader) throws XMLStreamException {
+			readers++;
+			return f.createXMLStreamReader(reader);
+		}
+		@Override
+		public XMLStreamReader createXMLStreamReader(Source source) throws XMLStreamException {
+			return f.createXMLStreamReader(source);
+		}
+		@Override
+		public XMLStreamReader createXMLStreamReader(InputStream stream) throws XMLStreamException {
+			readers++;
+			return f.createXMLStreamReader(stream);
+		}
+		@Override
+		public XMLStreamReader createXMLStreamReader(InputStream stream, String encoding) throws XMLStreamException {
+			return f.createXMLStreamReader(stream, encoding);
+		}
+		@Override
+		public XMLStreamReader createXMLStreamReader(String systemId, InputStream stream) throws XMLStreamException {
+			return f.createXMLStreamReader(systemId, stream);
+		}
+		@Override
+		public XMLStreamReader createXMLStreamReader(String systemId, Reader reader) throws XMLStreamException {
+			return f.createXMLStreamReader(systemId, reader);
+		}
+		@Override
+		public XMLEventReader createXMLEventReader(Reader reader) throws XMLStreamException {
+			return f.createXMLEventReader(reader);
+		}
+		@Override
+		public XMLEventReader createXMLEventReader(String systemId, Reader reader) throws XMLStreamException {
+			return f.createXMLEventReader(systemId, reader);
+		}
+		@Override
+		public XMLEventReader createXMLEventReader(XMLStreamReader reader) throws XMLStreamException {
+			return f.createXMLEventReader(reader);
+		}
+		@Override
+		public XMLEventReader createXMLEventReader(Source source) throws XMLStreamException {
+			return f.createXMLEventReader(source);
+		}
+		@Override
+		public XMLEventReader createXMLEventReader(InputStream stream) throws XMLStreamException {
+			return f.createXMLEventReader(stream);
+		}
+		@Override
+		public XMLEventReader createXMLEventReader(InputStream stream, String encoding) throws XMLStreamException {
+			return f.createXMLEventReader(stream, encoding);
+		}
+		@Override
+		public XMLEventReader createXMLEventReader(String systemId, InputStream stream) throws XMLStreamException {
+			return f.createXMLEventReader(systemId, stream);
+		}
+		@Override
+		public XMLStreamReader createFilteredReader(XMLStreamReader reader, StreamFilter filter) throws XMLStreamException {
+			return f.createFilteredReader(reader, filter);
+		}
+		@Override
+		public XMLEventReader createFilteredReader(XMLEventReader reader, EventFilter filter) throws XMLStreamException {
+			return f.createFilteredReader(reader, filter);
+		}
+		@Override
+		public XMLResolver getXMLResolver() {
+			return f.getXMLResolver();
+		}
+		@Override
+		public void setXMLResolver(XMLResolver resolver) {
+			f.setXMLResolver(resolver);
+		}
+		@Override
+		public XMLReporter getXMLReporter() {
+			return f.getXMLReporter();
+		}
+		@Override
+		public void setXMLReporter(XMLReporter reporter) {
+			f.setXMLReporter(reporter);
+		}
+		@Override
+		public void setProperty(String name, Object value) throws IllegalArgumentException {
+			f.setProperty(name, value);
+		}
+		@Override
+		public Object getProperty(String name) throws IllegalArgumentException {
+			return f.getProperty(name);
+		}
+		@Override
+		public boolean isPropertySupported(String name) {
+			return f.isPropertySupported(name);
+		}
+		@Override
+		public void setEventAllocator(XMLEventAllocator allocator) {
+			f.setEventAllocator(allocator);
+		}
+		@Override
+		public XMLEventAllocator getEventAllocator() {
+			return f.getEventAllocator();
+		}
+	}
 }
\ No newline at end of file
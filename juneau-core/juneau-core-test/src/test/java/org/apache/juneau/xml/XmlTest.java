@@ -1029,4 +1029,108 @@ public class XmlTest {
 			f3 = "f3";
 		}
 	}
+
+	//====================================================================================================
+	// Property names are encoded the same way regardless of whether they were already cached.
+	//====================================================================================================
+	@Test
+	public void testEncodedPropertyNames() throws Exception {
+		R1 t = new R1();
+		for (int i = 0; i < 2; i++) {
+			assertEquals("<object><a_x002F_b>1</a_x002F_b><x_x0020_y>2</x_x0020_y><_foo>3</_foo><foo>4</foo></object>", XmlSerializer.DEFAULT_SQ.serialize(t));
+			assertEquals("<object><a_x002F_b>1</a_x002F_b><x_x0020_y>2</x_x0020_y><_foo>3</_foo><foo>4</foo></object>", XmlSerializer.DEFAULT_NS_SQ.serialize(t));
+		}
+		assertObjectEquals("{'a/b':1,'x y':2,_foo:3,foo:4}", XmlParser.DEFAULT.parse(XmlSerializer.DEFAULT_SQ.serialize(t), R1.class));
+	}
+
+	@Bean(properties="a/b,x y,_foo,foo")
+	public static class R1 {
+		@BeanProperty(name="a/b") public int f1 = 1;
+		@BeanProperty(name="x y") public int f2 = 2;
+		@BeanProperty(name="_foo") public int f3 = 3;
+		public int foo = 4;
+	}
+
+	//====================================================================================================
+	// Namespaces reachable from the declared types are known ahead of time, and open-typed values are searched.
+	//====================================================================================================
+	@Test
+	public void testNamespacePlan() throws Exception {
+		XmlSerializer s = XmlSerializer.create().sq().ns().addNamespaceUrisToRoot().autoDetectNamespaces(true).build();
+
+		Object[] plan = BeanContext.DEFAULT.getClassMeta(S1.class).getExtendedMeta(XmlClassMeta.class).getNamespacePlan();
+		assertEquals(4, plan.length);
+		assertEquals("s1", ((Namespace)plan[0]).getName());
+		XmlClassMeta.NamespaceSlot slot = (XmlClassMeta.NamespaceSlot)plan[1];
+		assertEquals("list", slot.property.getName());
+		assertEquals(1, slot.reachable.length);
+		assertEquals("s2", slot.reachable[0].getName());
+		slot = (XmlClassMeta.NamespaceSlot)plan[2];
+		assertEquals("o", slot.property.getName());
+		assertNull(slot.reachable);
+		slot = (XmlClassMeta.NamespaceSlot)plan[3];
+		assertEquals("child", slot.property.getName());
+		assertNull(slot.reachable);
+
+		// Concrete bean types are closed even when they aren't final.
+		plan = BeanContext.DEFAULT.getClassMeta(S4.class).getExtendedMeta(XmlClassMeta.class).getNamespacePlan();
+		assertEquals(3, plan.length);
+		slot = (XmlClassMeta.NamespaceSlot)plan[1];
+		assertEquals("p1", slot.property.getName());
+		assertEquals("s5", slot.namespace.getName());
+		assertEquals("s3", slot.reachable[0].getName());
+		slot = (XmlClassMeta.NamespaceSlot)plan[2];
+		assertEquals("p2", slot.property.getName());
+		assertEquals("s4", slot.namespace.getName());
+		assertEquals("s3", slot.reachable[0].getName());
+
+		S1 t = new S1();
+		String r = s.serialize(t);
+		assertEquals("<object xmlns='http://www.apache.org/2013/Juneau' xmlns:s1='http://s1' xmlns:s2='http://s2'><s1:list><object><s2:f>1</s2:f></object></s1:list></object>", r);
+
+		t.o = new S3();
+		t.child = new S1();
+		r = s.serialize(t);
+		assertTrue(r, r.startsWith("<object xmlns='http://www.apache.org/2013/Juneau' xmlns:s1='http://s1' xmlns:s2='http://s2' xmlns:s3='http://s3'>"));
+	}
+
+	@Xml(prefix="s1", namespace="http://s1")
+	public static class S1 {
+		public List<S2> list = new AList<S2>().append(new S2());
+		public Object o;
+		public S1 child;
+	}
+
+	@Xml(prefix="s2", namespace="http://s2")
+	public static final class S2 {
+		public int f = 1;
+	}
+
+	@Xml(prefix="s3", namespace="http://s3")
+	public static class S3 {
+		public int f = 3;
+	}
+
+	//====================================================================================================
+	// Namespaces of null properties are only declared when the property itself is serialized.
+	//====================================================================================================
+	@Test
+	public void testNamespacesOfNullProperties() throws Exception {
+		XmlSerializer s = XmlSerializer.create().sq().ns().addNamespaceUrisToRoot().autoDetectNamespaces(true).build();
+		XmlSerializer s2 = s.builder().trimNullProperties(false).build();
+
+		S4 t = new S4();
+		assertEquals("<object xmlns='http://www.apache.org/2013/Juneau' xmlns:s4='http://s4'/>", s.serialize(t));
+		assertEquals("<object xmlns='http://www.apache.org/2013/Juneau' xmlns:s4='http://s4' xmlns:s5='http://s5'><s5:p1 _type='null'/><s4:p2 _type='null'/></object>", s2.serialize(t));
+
+		t.p2 = new S3();
+		assertEquals("<object xmlns='http://www.apache.org/2013/Juneau' xmlns:s4='http://s4' xmlns:s3='http://s3'><s4:p2><s3:f>3</s3:f></s4:p2></object>", s.serialize(t));
+	}
+
+	@Xml(prefix="s4", namespace="http://s4")
+	public static class S4 {
+		@Xml(prefix="s5", namespace="http://s5")
+		public S3 p1;
+		public S3 p2;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,83 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.jena;
+
+import java.io.*;
+import java.util.*;
+
+import com.hp.hpl.jena.rdf.model.*;
+import com.hp.hpl.jena.rdf.model.impl.*;
+
+/**
+ * Writes the statements of a Jena model as N-Triples and removes them from the model.
+ *
+ * <p>
+ * Used by {@link RdfSerializerSession} when streaming is enabled so that the model only ever holds the triples that
+ * haven't been written yet.
+ * <br>Blank node labels are derived from the Jena anonymous IDs, so they stay consistent across multiple writes of
+ * the same model.
+ */
+final class NTripleStreamWriter extends NTripleWriter {
+
+	/**
+	 * Writes all the statements in the specified model and then empties it.
+	 *
+	 * @param m The model to drain.
+	 * @param w The writer to write to.
+	 */
+	static void drain(Model m, PrintWriter w) {
+		for (StmtIterator i = m.listStatements(); i.hasNext();)
+			write(i.nextStatement(), w);
+		m.removeAll();
+		w.flush();
+	}
+
+	/**
+	 * Writes all the statements in the specified model starting with the statements of the specified resource,
+	 * followed by the statements of the resources it refers to in breadth-first order, and then empties the model.
+	 *
+	 * <p>
+	 * This guarantees that the subject of every statement after the first has already been referenced by a previous
+	 * statement, which is what {@link RdfParserSession} relies on to find the boundaries between resources.
+	 *
+	 * @param m The model to drain.
+	 * @param root The resource to start from.
+	 * @param w The writer to write to.
+	 */
+	static void drain(Model m, Resource root, PrintWriter w) {
+		Set<Resource> visited = new HashSet<>();
+		LinkedList<Resource> queue = new LinkedList<>();
+		queue.add(root);
+		visited.add(root);
+		while (! queue.isEmpty()) {
+			Resource r = queue.removeFirst();
+			for (StmtIterator i = m.listStatements(r, null, (RDFNode)null); i.hasNext();) {
+				Statement st = i.nextStatement();
+				write(st, w);
+				RDFNode o = st.getObject();
+				if (o.isResource() && visited.add(o.asResource()))
+					queue.add(o.asResource());
+			}
+		}
+		drain(m, w);
+	}
+
+	private static void write(Statement st, PrintWriter w) {
+		writeResource(st.getSubject(), w);
+		w.print(" ");
+		writeResource(st.getPredicate(), w);
+		w.print(" ");
+		writeNode(st.getObject(), w);
+		w.println(" .");
+	}
+}
@@ -752,4 +752,54 @@ public interface RdfCommon {
 	 * </p>
 	 */
 	public static final String RDF_looseCollections = PREFIX + "looseCollections.b";
+
+	/**
+	 * Configuration property:  Stream line-oriented RDF.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"RdfCommon.streaming.b"</js>
+	 * 	<li><b>Data type:</b>  <code>Boolean</code>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link RdfSerializerBuilder#streaming(boolean)}
+	 * 			<li class='jm'>{@link RdfSerializerBuilder#streaming()}
+	 * 			<li class='jm'>{@link RdfParserBuilder#streaming(boolean)}
+	 * 			<li class='jm'>{@link RdfParserBuilder#streaming()}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * When enabled and the RDF language is <js>"N-TRIPLE"</js>, triples are written and read incrementally instead of
+	 * holding the entire graph in a Jena model.
+	 * <br>This setting is ignored for all other languages.
+	 *
+	 * <p>
+	 * The serializer writes out the triples collected so far whenever the model grows past an internal limit.
+	 * <br>When serializing loose collections (see {@link #RDF_looseCollections}), the triples of each top-level
+	 * resource are written together as soon as the resource has been serialized, starting with the triples of the
+	 * resource itself.
+	 *
+	 * <p>
+	 * The parser only streams loose collections.
+	 * <br>It collects the triples of one top-level resource at a time and binds it before reading the next.
+	 * <br>A new top-level resource starts at the first triple whose subject is not referenced by the triples of
+	 * the current one.
+	 * <br>This is the layout produced by the streaming serializer, but not necessarily by other N-Triples writers.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	WriterSerializer s = RdfSerializer.<jsm>create</jsm>().ntriple().looseCollections().streaming().build();
+	 * 	ReaderParser p = RdfParser.<jsm>create</jsm>().ntriple().looseCollections().streaming().build();
+	 *
+	 * 	<jc>// Serialize to N-Triples without building a model of the whole list</jc>
+	 * 	s.serialize(listOfMyBeans, writer);
+	 *
+	 * 	<jc>// Parse back one bean at a time</jc>
+	 * 	List&lt;MyBean&gt; l = p.parse(reader, LinkedList.<jk>class</jk>, MyBean.<jk>class</jk>);
+	 * </p>
+	 */
+	public static final String RDF_streaming = PREFIX + "streaming.b";
 }
@@ -95,7 +95,7 @@ public class RdfParser extends ReaderParser implements RdfCommon {
 	// Instance
 	//-------------------------------------------------------------------------------------------------------------------
 
-	private final boolean trimWhitespace, looseCollections;
+	private final boolean trimWhitespace, looseCollections, streaming;
 	private final String rdfLanguage;
 	private final Namespace juneauNs, juneauBpNs;
 	private final RdfCollectionFormat collectionFormat;
@@ -112,6 +112,7 @@ public class RdfParser extends ReaderParser implements RdfCommon {
 		super(ps, consumes);
 		trimWhitespace = getBooleanProperty(RDF_trimWhitespace, false);
 		looseCollections = getBooleanProperty(RDF_looseCollections, false);
+		streaming = getBooleanProperty(RDF_streaming, false);
 		rdfLanguage = getStringProperty(RDF_language, "RDF/XML-ABBREV");
 		juneauNs = getInstanceProperty(RDF_juneauNs, Namespace.class, DEFAULT_JUNEAU_NS);
 		juneauBpNs = getInstanceProperty(RDF_juneauBpNs, Namespace.class, DEFAULT_JUNEAUBP_NS);
@@ -180,6 +181,17 @@ public class RdfParser extends ReaderParser implements RdfCommon {
 		return looseCollections;
 	}
 
+	/**
+	 * Configuration property:  Stream line-oriented RDF.
+	 *
+	 * @see #RDF_streaming
+	 * @return
+	 * 	<jk>true</jk> if loose collections in N-Triples are parsed one top-level resource at a time.
+	 */
+	protected final boolean isStreaming() {
+		return streaming;
+	}
+
 	/**
 	 * Configuration property:  RDF language.
 	 *
@@ -230,6 +242,7 @@ public class RdfParser extends ReaderParser implements RdfCommon {
 			.append("RdfParser", new ObjectMap()
 				.append("trimWhitespace", trimWhitespace)
 				.append("looseCollections", looseCollections)
+				.append("streaming", streaming)
 				.append("rdfLanguage", rdfLanguage)
 				.append("juneauNs", juneauNs)
 				.append("juneauBpNs", juneauBpNs)
@@ -202,6 +202,44 @@ public class RdfParserBuilder extends ReaderParserBuilder {
 		return set(RDF_looseCollections, true);
 	}
 
+	/**
+	 * Configuration property:  Stream line-oriented RDF.
+	 *
+	 * <p>
+	 * When specified, loose collections in N-Triples are parsed one top-level resource at a time instead of being
+	 * read into a single model.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RdfParser#RDF_streaming}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public RdfParserBuilder streaming(boolean value) {
+		return set(RDF_streaming, value);
+	}
+
+	/**
+	 * Configuration property:  Stream line-oriented RDF.
+	 *
+	 * <p>
+	 * Shortcut for calling <code>streaming(<jk>true</jk>)</code>.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RdfParser#RDF_streaming}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public RdfParserBuilder streaming() {
+		return set(RDF_streaming, true);
+	}
+
 	/**
 	 * Configuration property:  RDF language.
 	 *
@@ -361,6 +399,18 @@ public class RdfParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public RdfParserBuilder compactObjects(boolean value) {
+		super.compactObjects(value);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public RdfParserBuilder compactObjects() {
+		super.compactObjects();
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public RdfParserBuilder debugOutputLines(int value) {
 		super.debugOutputLines(value);
@@ -373,6 +423,24 @@ public class RdfParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public RdfParserBuilder parallelThreshold(int value) {
+		super.parallelThreshold(value);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public RdfParserBuilder recycleBuffers(boolean value) {
+		super.recycleBuffers(value);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public RdfParserBuilder recycleBuffers() {
+		super.recycleBuffers();
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public RdfParserBuilder strict(boolean value) {
 		super.strict(value);
@@ -15,6 +15,7 @@ package org.apache.juneau.jena;
 import static org.apache.juneau.internal.StringUtils.*;
 import static org.apache.juneau.jena.Constants.*;
 
+import java.io.*;
 import java.util.*;
 
 import org.apache.juneau.*;
@@ -79,11 +80,6 @@ public class RdfParserSession extends ReaderParserSession {
 	@Override /* ReaderParserSession */
 	protected <T> T doParse(ParserPipe pipe, ClassMeta<T> type) throws Exception {
 
-		RDFReader r = rdfReader;
-		r.read(model, pipe.getBufferedReader(), null);
-
-		List<Resource> roots = getRoots(model);
-
 		// Special case where we're parsing a loose collection of resources.
 		if (isLooseCollections() && type.isCollectionOrArray()) {
 			Collection c = null;
@@ -91,21 +87,27 @@ public class RdfParserSession extends ReaderParserSession {
 				c = new ArrayList();
 			else
 				c = (
-					type.canCreateNewInstance(getOuter())
+					canCreateNewInstance(type, getOuter())
 					? (Collection<?>)type.newInstance(getOuter())
-					: new ObjectList(this)
+					: newGenericList()
 				);
 
-			int argIndex = 0;
-			for (Resource resource : roots)
-				c.add(parseAnything(type.isArgs() ? type.getArg(argIndex++) : type.getElementType(), resource,
-					getOuter(), null));
+			if (isStreaming() && LANG_NTRIPLE.equals(getRdfLanguage())) {
+				parseLooseNTriples(pipe.getBufferedReader(), type, c);
+			} else {
+				rdfReader.read(model, pipe.getBufferedReader(), null);
+				parseLooseResources(model, type, c);
+			}
 
 			if (type.isArray() || type.isArgs())
 				return (T)toArray(type, c);
 			return (T)c;
 		}
 
+		rdfReader.read(model, pipe.getBufferedReader(), null);
+
+		List<Resource> roots = getRoots(model);
+
 		if (roots.isEmpty())
 			return null;
 		if (roots.size() > 1)
@@ -115,6 +117,75 @@ public class RdfParserSession extends ReaderParserSession {
 		return parseAnything(type, resource, getOuter(), null);
 	}
 
+	/*
+	 * Adds the root resources in the specified model to a loose collection.
+	 */
+	private void parseLooseResources(Model m, ClassMeta<?> type, Collection c) throws Exception {
+		for (Resource resource : getRoots(m))
+			c.add(parseAnything(type.isArgs() ? type.getArg(c.size()) : type.getElementType(), resource,
+				getOuter(), null));
+	}
+
+	/*
+	 * Parses a loose collection of resources in N-Triples one top-level resource at a time.
+	 *
+	 * The triples of a top-level resource are collected until we reach a triple whose subject isn't referenced by
+	 * any of them, at which point they're parsed into their own model and bound before moving on.
+	 */
+	private void parseLooseNTriples(Reader r, ClassMeta<?> type, Collection c) throws Exception {
+		BufferedReader br = r instanceof BufferedReader ? (BufferedReader)r : new BufferedReader(r);
+		StringBuilder sb = new StringBuilder();
+		Set<String> nodes = new HashSet<>();
+		String line;
+		while ((line = br.readLine()) != null) {
+			String l = line.trim();
+			if (l.isEmpty() || l.charAt(0) == '#')
+				continue;
+
+			int i = endOfTerm(l, 0);
+			String subject = l.substring(0, i);
+			if (! nodes.contains(subject) && ! nodes.isEmpty()) {
+				parseLooseNTriples(sb.toString(), type, c);
+				sb.setLength(0);
+				nodes.clear();
+			}
+			nodes.add(subject);
+
+			// Remember the object if it's a resource that later subjects may refer to.
+			i = endOfTerm(l, skipSpace(l, i));
+			i = skipSpace(l, i);
+			if (i < l.length() && (l.charAt(i) == '<' || l.charAt(i) == '_'))
+				nodes.add(l.substring(i, endOfTerm(l, i)));
+
+			sb.append(line).append('\n');
+		}
+		if (! nodes.isEmpty())
+			parseLooseNTriples(sb.toString(), type, c);
+	}
+
+	private void parseLooseNTriples(String triples, ClassMeta<?> type, Collection c) throws Exception {
+		Model m = ModelFactory.createDefaultModel();
+		rdfReader.read(m, new StringReader(triples), null);
+		urisVisited.clear();
+		parseLooseResources(m, type, c);
+	}
+
+	private static int endOfTerm(String s, int i) {
+		if (i < s.length() && s.charAt(i) == '<') {
+			int j = s.indexOf('>', i);
+			return j == -1 ? s.length() : j + 1;
+		}
+		while (i < s.length() && ! Character.isWhitespace(s.charAt(i)))
+			i++;
+		return i;
+	}
+
+	private static int skipSpace(String s, int i) {
+		while (i < s.length() && Character.isWhitespace(s.charAt(i)))
+			i++;
+		return i;
+	}
+
 	private final void addModelPrefix(Namespace ns) {
 		model.setNsPrefix(ns.getName(), ns.getUri());
 	}
@@ -257,13 +328,13 @@ public class RdfParserSession extends ReaderParserSession {
 				else if (r.getProperty(pValue) != null) {
 					o = parseAnything(object(), n.asResource().getProperty(pValue).getObject(), outer, null);
 				} else if (isSeq(r)) {
-					o = new ObjectList(this);
+					o = newGenericList();
 					parseIntoCollection(r.as(Seq.class), (Collection)o, sType, pMeta);
 				} else if (isBag(r)) {
-					o = new ObjectList(this);
+					o = newGenericList();
 					parseIntoCollection(r.as(Bag.class), (Collection)o, sType, pMeta);
 				} else if (r.canAs(RDFList.class)) {
-					o = new ObjectList(this);
+					o = newGenericList();
 					parseIntoCollection(r.as(RDFList.class), (Collection)o, sType, pMeta);
 				} else {
 					// If it has a URI and no child properties, we interpret this as an
@@ -272,7 +343,7 @@ public class RdfParserSession extends ReaderParserSession {
 					if (uri != null && ! r.listProperties().hasNext()) {
 						o = r.getURI();
 					} else {
-						ObjectMap m2 = new ObjectMap(this);
+						ObjectMap m2 = newGenericMap();
 						parseIntoMap(r, m2, null, null, pMeta);
 						o = cast(m2, pMeta, eType);
 					}
@@ -292,13 +363,13 @@ public class RdfParserSession extends ReaderParserSession {
 			Resource r = n.asResource();
 			if (! urisVisited.add(r))
 				return null;
-			Map m = (sType.canCreateNewInstance(outer) ? (Map)sType.newInstance(outer) : new ObjectMap(this));
+			Map m = (canCreateNewInstance(sType, outer) ? (Map)sType.newInstance(outer) : newGenericMap());
 			o = parseIntoMap(r, m, eType.getKeyType(), eType.getValueType(), pMeta);
 		} else if (sType.isCollectionOrArray() || sType.isArgs()) {
 			if (sType.isArray() || sType.isArgs())
 				o = new ArrayList();
 			else
-				o = (sType.canCreateNewInstance(outer) ? (Collection<?>)sType.newInstance(outer) : new ObjectList(this));
+				o = (canCreateNewInstance(sType, outer) ? (Collection<?>)sType.newInstance(outer) : newGenericList());
 			Resource r = n.asResource();
 			if (! urisVisited.add(r))
 				return null;
@@ -333,7 +404,7 @@ public class RdfParserSession extends ReaderParserSession {
 			o = sType.newInstanceFromNumber(this, outer, parseNumber(getValue(n, outer).toString(), sType.getNewInstanceFromNumberClass()));
 		} else if (n.isResource()) {
 			Resource r = n.asResource();
-			Map m = new ObjectMap(this);
+			Map m = newGenericMap();
 			parseIntoMap(r, m, sType.getKeyType(), sType.getValueType(), pMeta);
 			if (m.containsKey(getBeanTypePropertyName(eType)))
 				o = cast((ObjectMap)m, pMeta, eType);
@@ -457,6 +528,17 @@ public class RdfParserSession extends ReaderParserSession {
 		return ctx.isLooseCollections();
 	}
 
+	/**
+	 * Configuration property:  Stream line-oriented RDF.
+	 *
+	 * @see RdfParser#RDF_streaming
+	 * @return
+	 * 	<jk>true</jk> if loose collections in N-Triples are parsed one top-level resource at a time.
+	 */
+	protected final boolean isStreaming() {
+		return ctx.isStreaming();
+	}
+
 	/**
 	 * Configuration property:  RDF language.
 	 *
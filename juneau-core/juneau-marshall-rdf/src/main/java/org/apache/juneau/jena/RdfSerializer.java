@@ -184,6 +184,7 @@ public class RdfSerializer extends WriterSerializer implements RdfCommon {
 		addRootProperty,
 		useXmlNamespaces,
 		looseCollections,
+		streaming,
 		autoDetectNamespaces,
 		addBeanTypes;
 	private final String rdfLanguage;
@@ -225,6 +226,7 @@ public class RdfSerializer extends WriterSerializer implements RdfCommon {
 		addRootProperty = getBooleanProperty(RDF_addRootProperty, false);
 		useXmlNamespaces = getBooleanProperty(RDF_useXmlNamespaces, true);
 		looseCollections = getBooleanProperty(RDF_looseCollections, false);
+		streaming = getBooleanProperty(RDF_streaming, false);
 		autoDetectNamespaces = getBooleanProperty(RDF_autoDetectNamespaces, true);
 		rdfLanguage = getStringProperty(RDF_language, "RDF/XML-ABBREV");
 		juneauNs = getProperty(RDF_juneauNs, Namespace.class, DEFAULT_JUNEAU_NS);
@@ -328,6 +330,17 @@ public class RdfSerializer extends WriterSerializer implements RdfCommon {
 		return looseCollections;
 	}
 
+	/**
+	 * Configuration property:  Stream line-oriented RDF.
+	 *
+	 * @see #RDF_streaming
+	 * @return
+	 * 	<jk>true</jk> if N-Triples are written incrementally instead of from a model of the whole graph.
+	 */
+	protected final boolean isStreaming() {
+		return streaming;
+	}
+
 	/**
 	 * Configuration property:  Auto-detect namespace usage.
 	 *
@@ -404,6 +417,7 @@ public class RdfSerializer extends WriterSerializer implements RdfCommon {
 				.append("addRootProperty", addRootProperty)
 				.append("useXmlNamespaces", useXmlNamespaces)
 				.append("looseCollections", looseCollections)
+				.append("streaming", streaming)
 				.append("autoDetectNamespaces", autoDetectNamespaces)
 				.append("rdfLanguage", rdfLanguage)
 				.append("juneauNs", juneauNs)
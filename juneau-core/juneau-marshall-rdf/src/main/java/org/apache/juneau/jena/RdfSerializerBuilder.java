@@ -298,6 +298,43 @@ public class RdfSerializerBuilder extends WriterSerializerBuilder {
 		return set(RDF_looseCollections, true);
 	}
 
+	/**
+	 * Configuration property:  Stream line-oriented RDF.
+	 *
+	 * <p>
+	 * When specified, N-Triples are written out incrementally instead of from a model of the whole graph.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RdfSerializer#RDF_streaming}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public RdfSerializerBuilder streaming(boolean value) {
+		return set(RDF_streaming, value);
+	}
+
+	/**
+	 * Configuration property:  Stream line-oriented RDF.
+	 *
+	 * <p>
+	 * Shortcut for <code>streaming(<jk>true</jk>)</code>.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RdfSerializer#RDF_streaming}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public RdfSerializerBuilder streaming() {
+		return set(RDF_streaming, true);
+	}
+
 	/**
 	 * Configuration property:  RDF language.
 	 *
@@ -524,6 +561,24 @@ public class RdfSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public RdfSerializerBuilder parallelThreshold(int value) {
+		super.parallelThreshold(value);
+		return this;
+	}
+
+	@Override /* SerializerBuilder */
+	public RdfSerializerBuilder recycleBuffers(boolean value) {
+		super.recycleBuffers(value);
+		return this;
+	}
+
+	@Override /* SerializerBuilder */
+	public RdfSerializerBuilder recycleBuffers() {
+		super.recycleBuffers();
+		return this;
+	}
+
 	@Override /* SerializerBuilder */
 	public RdfSerializerBuilder sortCollections(boolean value) {
 		super.sortCollections(value);
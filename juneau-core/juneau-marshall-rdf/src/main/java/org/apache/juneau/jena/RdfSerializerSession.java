@@ -15,6 +15,7 @@ package org.apache.juneau.jena;
 import static org.apache.juneau.jena.Constants.*;
 import static org.apache.juneau.jena.RdfSerializer.*;
 
+import java.io.*;
 import java.util.*;
 
 import org.apache.juneau.*;
@@ -26,6 +27,7 @@ import org.apache.juneau.xml.*;
 import org.apache.juneau.xml.annotation.*;
 
 import com.hp.hpl.jena.rdf.model.*;
+import com.hp.hpl.jena.vocabulary.*;
 
 /**
  * Session object that lives for the duration of a single use of {@link RdfSerializer}.
@@ -42,6 +44,12 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 	private final Model model;
 	private final RDFWriter writer;
 	private final Namespace[] namespaces;
+	private final boolean streaming;
+	private PrintWriter streamOut;
+	private boolean streamingLooseCollection;
+
+	// Number of triples held in the model before they're written out when streaming.
+	private static final int STREAM_BATCH_SIZE = 1000;
 
 	/**
 	 * Create a new session using properties specified in the context.
@@ -68,6 +76,7 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 		pRoot = model.createProperty(ctx.getJuneauNs().getUri(), RDF_juneauNs_ROOT);
 		pValue = model.createProperty(ctx.getJuneauNs().getUri(), RDF_juneauNs_VALUE);
 		writer = model.getWriter(ctx.getRdfLanguage());
+		streaming = ctx.isStreaming() && LANG_NTRIPLE.equals(ctx.getRdfLanguage());
 
 		// Only apply properties with this prefix!
 		String propPrefix = RdfCommon.LANG_PROP_MAP.get(ctx.getRdfLanguage());
@@ -125,11 +134,18 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 
 		Resource r = null;
 
+		if (streaming)
+			streamOut = new PrintWriter(out.getWriter());
+
 		ClassMeta<?> cm = getClassMetaForObject(o);
 		if (isLooseCollections() && cm != null && cm.isCollectionOrArray()) {
 			Collection c = sort(cm.isCollection() ? (Collection)o : toList(cm.getInnerClass(), o));
-			for (Object o2 : c)
-				serializeAnything(o2, false, object(), "root", null, null);
+			streamingLooseCollection = streaming;
+			for (Object o2 : c) {
+				RDFNode n = serializeAnything(o2, false, object(), "root", null, null);
+				if (streaming && n != null && n.isResource())
+					NTripleStreamWriter.drain(model, n.asResource(), streamOut);
+			}
 		} else {
 			RDFNode n = serializeAnything(o, false, getExpectedRootType(o), "root", null, null);
 			if (n.isLiteral()) {
@@ -143,7 +159,10 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 				r.addProperty(pRoot, "true");
 		}
 
-		writer.write(model, out.getWriter(), "http://unknown/");
+		if (streaming)
+			NTripleStreamWriter.drain(model, streamOut);
+		else
+			writer.write(model, out.getWriter(), "http://unknown/");
 	}
 
 	private RDFNode serializeAnything(Object o, boolean isURI, ClassMeta<?> eType,
@@ -273,6 +292,11 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 
 		pop();
 
+		// When streaming, write out what we have so far once the model gets large.
+		// Loose collections are instead written out one top-level resource at a time in doSerialize().
+		if (streaming && ! streamingLooseCollection && model.size() >= STREAM_BATCH_SIZE)
+			NTripleStreamWriter.drain(model, streamOut);
+
 		return n;
 	}
 
@@ -349,9 +373,12 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 	private Container serializeToContainer(Collection c, ClassMeta<?> type, Container list) throws Exception {
 
 		ClassMeta<?> elementType = type.getElementType();
+		int i = 0;
 		for (Object e : c) {
 			RDFNode n = serializeAnything(e, false, elementType, null, null, null);
-			list = list.add(n);
+			// Same as Container.add(RDFNode) but without counting the existing entries in the model each time.
+			// Also keeps the numbering intact when the model is drained while streaming.
+			model.add(list, RDF.li(++i), n);
 		}
 		return list;
 	}
@@ -453,6 +480,17 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 		return ctx.isLooseCollections();
 	}
 
+	/**
+	 * Configuration property:  Stream line-oriented RDF.
+	 *
+	 * @see RdfSerializer#RDF_streaming
+	 * @return
+	 * 	<jk>true</jk> if N-Triples are written incrementally instead of from a model of the whole graph.
+	 */
+	protected final boolean isStreaming() {
+		return ctx.isStreaming();
+	}
+
 	/**
 	 * Configuration property:  Auto-detect namespace usage.
 	 *
@@ -37,9 +37,18 @@ import java.util.*;
  */
 public class BeanTraverseSession extends BeanSession {
 
+	// Recursion checks on the first N stack entries use a linear identity scan.  Deeper entries use an identity map.
+	private static final int LINEAR_SCAN_DEPTH = 16;
+
 	private final BeanTraverseContext ctx;
-	private final Map<Object,Object> set;                                           // Contains the current objects in the current branch of the model.
-	private final LinkedList<StackElement> stack = new LinkedList<>();              // Contains the current objects in the current branch of the model.
+	private final boolean trackStack;                                               // 'true' if detectRecursions or debug is enabled.
+
+	// The current branch of the model, kept as parallel arrays so that no per-node objects are created.
+	private Object[] stackObjects;
+	private String[] stackNames;
+	private ClassMeta<?>[] stackTypes;
+	private int stackSize;
+	private Map<Object,Object> deepSet;                                             // Objects on the stack above LINEAR_SCAN_DEPTH.
 
 	// Writable properties
 	private boolean isBottom;                                                       // If 'true', then we're at a leaf in the model (i.e. a String, Number, Boolean, or null).
@@ -68,11 +77,7 @@ public class BeanTraverseSession extends BeanSession {
 		args = args == null ? BeanSessionArgs.DEFAULT : args;
 		this.ctx = ctx;
 		this.indent = getInitialDepth();
-		if (isDetectRecursions() || isDebug()) {
-			set = new IdentityHashMap<>();
-		} else {
-			set = Collections.emptyMap();
-		}
+		this.trackStack = isDetectRecursions() || isDebug();
 	}
 
 	/**
@@ -113,20 +118,48 @@ public class BeanTraverseSession extends BeanSession {
 		ClassMeta<?> cm = (eType != null && c == eType.getInnerClass()) ? eType : ((o instanceof ClassMeta) ? (ClassMeta<?>)o : getClassMeta(c));
 		if (cm.isCharSequence() || cm.isNumber() || cm.isBoolean())
 			return cm;
-		if (isDetectRecursions() || isDebug()) {
-			if (stack.size() > getMaxDepth())
+		if (trackStack) {
+			if (stackSize > getMaxDepth())
 				return null;
 			if (willRecurse(attrName, o, cm))
 				return null;
 			isBottom = false;
-			stack.add(new StackElement(stack.size(), attrName, o, cm));
+			addToStack(attrName, o, cm);
 			if (isDebug())
 				getLogger().info(getStack(false));
-			set.put(o, o);
 		}
 		return cm;
 	}
 
+	private void addToStack(String attrName, Object o, ClassMeta<?> cm) {
+		int i = stackSize;
+		if (stackObjects == null) {
+			stackObjects = new Object[LINEAR_SCAN_DEPTH];
+			stackNames = new String[LINEAR_SCAN_DEPTH];
+			stackTypes = new ClassMeta<?>[LINEAR_SCAN_DEPTH];
+		} else if (i == stackObjects.length) {
+			stackObjects = Arrays.copyOf(stackObjects, i<<1);
+			stackNames = Arrays.copyOf(stackNames, i<<1);
+			stackTypes = Arrays.copyOf(stackTypes, i<<1);
+		}
+		stackObjects[i] = o;
+		stackNames[i] = attrName;
+		stackTypes[i] = cm;
+		stackSize++;
+		if (i >= LINEAR_SCAN_DEPTH) {
+			if (deepSet == null)
+				deepSet = new IdentityHashMap<>();
+			deepSet.put(o, o);
+		}
+	}
+
+	private boolean isOnStack(Object o) {
+		for (int i = 0, j = Math.min(stackSize, LINEAR_SCAN_DEPTH); i < j; i++)
+			if (stackObjects[i] == o)
+				return true;
+		return stackSize > LINEAR_SCAN_DEPTH && deepSet.containsKey(o);
+	}
+
 	/**
 	 * Returns <jk>true</jk> if {@link BeanTraverseContext#BEANTRAVERSE_detectRecursions} is enabled, and the specified
 	 * object is already higher up in the traversal chain.
@@ -138,14 +171,14 @@ public class BeanTraverseSession extends BeanSession {
 	 * @throws BeanRecursionException If recursion occurred.
 	 */
 	protected final boolean willRecurse(String attrName, Object o, ClassMeta<?> cm) throws BeanRecursionException {
-		if (! (isDetectRecursions() || isDebug()))
+		if (! trackStack)
 			return false;
-		if (! set.containsKey(o))
+		if (! isOnStack(o))
 			return false;
 		if (isIgnoreRecursions() && ! isDebug())
 			return true;
 
-		stack.add(new StackElement(stack.size(), attrName, o, cm));
+		addToStack(attrName, o, cm);
 		throw new BeanRecursionException("Recursion occurred, stack={0}", getStack(true));
 	}
 
@@ -154,12 +187,17 @@ public class BeanTraverseSession extends BeanSession {
 	 */
 	protected final void pop() {
 		indent--;
-		if ((isDetectRecursions() || isDebug()) && ! isBottom)  {
-			Object o = stack.removeLast().o;
-			Object o2 = set.remove(o);
-			if (o2 == null)
-				onError(null, "Couldn't remove object of type ''{0}'' on attribute ''{1}'' from object stack.",
-					o.getClass().getName(), stack);
+		if (trackStack && ! isBottom)  {
+			if (stackSize == 0) {
+				onError(null, "Couldn't remove object from empty object stack.");
+			} else {
+				int i = --stackSize;
+				if (i >= LINEAR_SCAN_DEPTH)
+					deepSet.remove(stackObjects[i]);
+				stackObjects[i] = null;
+				stackNames[i] = null;
+				stackTypes[i] = null;
+			}
 		}
 		isBottom = false;
 	}
@@ -207,7 +245,7 @@ public class BeanTraverseSession extends BeanSession {
 	 */
 	protected String getStack(boolean full) {
 		StringBuilder sb = new StringBuilder();
-		for (StackElement e : stack) {
+		for (StackElement e : getStackElements()) {
 			if (full) {
 				sb.append("\n\t");
 				for (int i = 1; i < e.depth; i++)
@@ -233,11 +271,21 @@ public class BeanTraverseSession extends BeanSession {
 			m.put("currentClass", currentClass);
 		if (currentProperty != null)
 			m.put("currentProperty", currentProperty);
-		if (stack != null && ! stack.isEmpty())
-			m.put("stack", stack);
+		if (stackSize > 0)
+			m.put("stack", getStackElements());
 		return m;
 	}
 
+	/*
+	 * Stack elements are only materialized when needed for messages.
+	 */
+	private List<StackElement> getStackElements() {
+		List<StackElement> l = new ArrayList<>(stackSize);
+		for (int i = 0; i < stackSize; i++)
+			l.add(new StackElement(i, stackNames[i], stackObjects[i], stackTypes[i]));
+		return l;
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Properties
 	//-----------------------------------------------------------------------------------------------------------------
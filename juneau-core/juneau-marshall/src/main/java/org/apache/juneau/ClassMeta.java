@@ -898,7 +898,7 @@ public final class ClassMeta<T> implements Type {
 	 *
 	 * @return <jk>true</jk> if this class or any child classes has a {@link PojoSwap} associated with it.
 	 */
-	protected boolean hasChildPojoSwaps() {
+	public boolean hasChildPojoSwaps() {
 		return childPojoSwaps != null;
 	}
 
@@ -0,0 +1,547 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import java.lang.reflect.*;
+import java.util.*;
+
+/**
+ * A memory-efficient {@link ObjectList} that stores runs of numbers in primitive arrays.
+ *
+ * <p>
+ * As long as every element added to this list is a non-null number of the same type ({@link Integer}, {@link Long},
+ * {@link Float} or {@link Double}), the elements are stored in an <code>int[]</code>, <code>long[]</code>,
+ * <code>float[]</code> or <code>double[]</code> instead of as boxed values in the nodes of the underlying
+ * {@link LinkedList}.
+ * Values are boxed again on access, so they're indistinguishable from the values in a regular {@link ObjectList}.
+ *
+ * <p>
+ * Adding an element of any other type, or calling any of the {@link Deque} methods, moves the contents into the
+ * underlying {@link LinkedList} after which the list behaves exactly like a regular {@link ObjectList}.
+ *
+ * <p>
+ * Parsers create instances of this class in place of {@link ObjectList} when {@link org.apache.juneau.parser.Parser#PARSER_compactObjects}
+ * is enabled.
+ *
+ * <p>
+ * This class is not thread safe.
+ */
+public class CompactObjectList extends ObjectList {
+	private static final long serialVersionUID = 1L;
+
+	private static final int UNPACKED = -1, NONE = 0, INT = 1, LONG = 2, FLOAT = 3, DOUBLE = 4;
+
+	private int kind = NONE;
+	private Object array;
+	private int size;
+
+	/**
+	 * Construct an empty list.
+	 */
+	public CompactObjectList() {
+		this(null);
+	}
+
+	/**
+	 * Construct an empty list with the specified bean session.
+	 *
+	 * @param session The bean session to use for creating beans.
+	 */
+	public CompactObjectList(BeanSession session) {
+		super(session);
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the elements of this list are currently stored in a primitive array.
+	 *
+	 * @return <jk>true</jk> if the elements of this list are currently stored in a primitive array.
+	 */
+	public boolean isPacked() {
+		return kind != UNPACKED;
+	}
+
+	private static int kindOf(Object o) {
+		if (o == null)
+			return UNPACKED;
+		Class<?> c = o.getClass();
+		if (c == Integer.class)
+			return INT;
+		if (c == Long.class)
+			return LONG;
+		if (c == Float.class)
+			return FLOAT;
+		if (c == Double.class)
+			return DOUBLE;
+		return UNPACKED;
+	}
+
+	/*
+	 * Returns true if the specified value can be stored in the primitive array, unpacking this list if it can't.
+	 */
+	private boolean pack(Object o) {
+		if (kind == UNPACKED)
+			return false;
+		int k = kindOf(o);
+		if (kind == NONE && k != UNPACKED) {
+			kind = k;
+			array = newArray(k, 8);
+		}
+		if (k != kind) {
+			unpack();
+			return false;
+		}
+		return true;
+	}
+
+	/*
+	 * Moves the contents of the primitive array into the underlying linked list.
+	 */
+	private void unpack() {
+		if (kind == UNPACKED)
+			return;
+		Object[] a = toArray();
+		kind = UNPACKED;
+		array = null;
+		size = 0;
+		for (Object o : a)
+			super.add(o);
+	}
+
+	private static Object newArray(int kind, int length) {
+		switch (kind) {
+			case INT: return new int[length];
+			case LONG: return new long[length];
+			case FLOAT: return new float[length];
+			default: return new double[length];
+		}
+	}
+
+	private Object box(int i) {
+		switch (kind) {
+			case INT: return ((int[])array)[i];
+			case LONG: return ((long[])array)[i];
+			case FLOAT: return ((float[])array)[i];
+			default: return ((double[])array)[i];
+		}
+	}
+
+	private void store(int i, Object o) {
+		switch (kind) {
+			case INT: ((int[])array)[i] = (Integer)o; break;
+			case LONG: ((long[])array)[i] = (Long)o; break;
+			case FLOAT: ((float[])array)[i] = (Float)o; break;
+			default: ((double[])array)[i] = (Double)o;
+		}
+	}
+
+	private void ensureCapacity() {
+		int length = Array.getLength(array);
+		if (size == length) {
+			Object a = newArray(kind, length * 2);
+			System.arraycopy(array, 0, a, 0, size);
+			array = a;
+		}
+	}
+
+	private void checkIndex(int i, int max) {
+		if (i < 0 || i > max)
+			throw new IndexOutOfBoundsException("Index: " + i + ", Size: " + size);
+	}
+
+	@Override /* List */
+	public int size() {
+		return kind == UNPACKED ? super.size() : size;
+	}
+
+	@Override /* List */
+	public Object get(int index) {
+		if (kind == UNPACKED)
+			return super.get(index);
+		checkIndex(index, size - 1);
+		return box(index);
+	}
+
+	@Override /* List */
+	public Object set(int index, Object element) {
+		if (kind != UNPACKED) {
+			checkIndex(index, size - 1);
+			if (pack(element)) {
+				Object o = box(index);
+				store(index, element);
+				return o;
+			}
+		}
+		return super.set(index, element);
+	}
+
+	@Override /* List */
+	public boolean add(Object e) {
+		if (pack(e)) {
+			ensureCapacity();
+			store(size++, e);
+			modCount++;
+			return true;
+		}
+		return super.add(e);
+	}
+
+	@Override /* List */
+	public void add(int index, Object element) {
+		if (kind != UNPACKED) {
+			checkIndex(index, size);
+			if (pack(element)) {
+				ensureCapacity();
+				System.arraycopy(array, index, array, index + 1, size - index);
+				store(index, element);
+				size++;
+				modCount++;
+				return;
+			}
+		}
+		super.add(index, element);
+	}
+
+	@Override /* List */
+	public Object remove(int index) {
+		if (kind == UNPACKED)
+			return super.remove(index);
+		checkIndex(index, size - 1);
+		Object o = box(index);
+		System.arraycopy(array, index + 1, array, index, size - index - 1);
+		size--;
+		modCount++;
+		return o;
+	}
+
+	@Override /* List */
+	public boolean remove(Object o) {
+		if (kind == UNPACKED)
+			return super.remove(o);
+		int i = indexOf(o);
+		if (i == -1)
+			return false;
+		remove(i);
+		return true;
+	}
+
+	@Override /* List */
+	public boolean addAll(Collection<? extends Object> c) {
+		for (Object o : c)
+			add(o);
+		return ! c.isEmpty();
+	}
+
+	@Override /* List */
+	public boolean addAll(int index, Collection<? extends Object> c) {
+		unpack();
+		return super.addAll(index, c);
+	}
+
+	@Override /* List */
+	public void clear() {
+		if (kind == UNPACKED)
+			super.clear();
+		else
+			modCount++;
+		kind = NONE;
+		array = null;
+		size = 0;
+	}
+
+	@Override /* List */
+	public boolean contains(Object o) {
+		return indexOf(o) != -1;
+	}
+
+	@Override /* List */
+	public int indexOf(Object o) {
+		if (kind == UNPACKED)
+			return super.indexOf(o);
+		if (kindOf(o) == kind)
+			for (int i = 0; i < size; i++)
+				if (o.equals(box(i)))
+					return i;
+		return -1;
+	}
+
+	@Override /* List */
+	public int lastIndexOf(Object o) {
+		if (kind == UNPACKED)
+			return super.lastIndexOf(o);
+		if (kindOf(o) == kind)
+			for (int i = size - 1; i >= 0; i--)
+				if (o.equals(box(i)))
+					return i;
+		return -1;
+	}
+
+	@Override /* List */
+	public Object[] toArray() {
+		if (kind == UNPACKED)
+			return super.toArray();
+		Object[] a = new Object[size];
+		for (int i = 0; i < size; i++)
+			a[i] = box(i);
+		return a;
+	}
+
+	@Override /* List */
+	@SuppressWarnings("unchecked")
+	public <T> T[] toArray(T[] a) {
+		if (kind == UNPACKED)
+			return super.toArray(a);
+		if (a.length < size)
+			a = (T[])Array.newInstance(a.getClass().getComponentType(), size);
+		for (int i = 0; i < size; i++)
+			a[i] = (T)box(i);
+		if (a.length > size)
+			a[size] = null;
+		return a;
+	}
+
+	@Override /* List */
+	public ListIterator<Object> listIterator(int index) {
+		if (kind == UNPACKED)
+			return super.listIterator(index);
+		checkIndex(index, size);
+		return new Itr(index);
+	}
+
+	@Override /* List */
+	public Spliterator<Object> spliterator() {
+		if (kind == UNPACKED)
+			return super.spliterator();
+		return Spliterators.spliterator(this, Spliterator.ORDERED);
+	}
+
+	@Override /* Deque */
+	public Iterator<Object> descendingIterator() {
+		unpack();
+		return super.descendingIterator();
+	}
+
+	@Override /* Deque */
+	public Object getFirst() {
+		unpack();
+		return super.getFirst();
+	}
+
+	@Override /* Deque */
+	public Object getLast() {
+		unpack();
+		return super.getLast();
+	}
+
+	@Override /* Deque */
+	public Object removeFirst() {
+		unpack();
+		return super.removeFirst();
+	}
+
+	@Override /* Deque */
+	public Object removeLast() {
+		unpack();
+		return super.removeLast();
+	}
+
+	@Override /* Deque */
+	public void addFirst(Object e) {
+		unpack();
+		super.addFirst(e);
+	}
+
+	@Override /* Deque */
+	public void addLast(Object e) {
+		add(e);
+	}
+
+	@Override /* Deque */
+	public Object peek() {
+		unpack();
+		return super.peek();
+	}
+
+	@Override /* Deque */
+	public Object element() {
+		unpack();
+		return super.element();
+	}
+
+	@Override /* Deque */
+	public Object poll() {
+		unpack();
+		return super.poll();
+	}
+
+	@Override /* Deque */
+	public Object remove() {
+		unpack();
+		return super.remove();
+	}
+
+	@Override /* Deque */
+	public boolean offer(Object e) {
+		return add(e);
+	}
+
+	@Override /* Deque */
+	public boolean offerFirst(Object e) {
+		addFirst(e);
+		return true;
+	}
+
+	@Override /* Deque */
+	public boolean offerLast(Object e) {
+		return add(e);
+	}
+
+	@Override /* Deque */
+	public Object peekFirst() {
+		unpack();
+		return super.peekFirst();
+	}
+
+	@Override /* Deque */
+	public Object peekLast() {
+		unpack();
+		return super.peekLast();
+	}
+
+	@Override /* Deque */
+	public Object pollFirst() {
+		unpack();
+		return super.pollFirst();
+	}
+
+	@Override /* Deque */
+	public Object pollLast() {
+		unpack();
+		return super.pollLast();
+	}
+
+	@Override /* Deque */
+	public void push(Object e) {
+		addFirst(e);
+	}
+
+	@Override /* Deque */
+	public Object pop() {
+		unpack();
+		return super.pop();
+	}
+
+	@Override /* Deque */
+	public boolean removeFirstOccurrence(Object o) {
+		unpack();
+		return super.removeFirstOccurrence(o);
+	}
+
+	@Override /* Deque */
+	public boolean removeLastOccurrence(Object o) {
+		unpack();
+		return super.removeLastOccurrence(o);
+	}
+
+	@Override /* Object */
+	public Object clone() {
+		CompactObjectList l = (CompactObjectList)super.clone();
+		if (array != null) {
+			l.array = newArray(kind, Array.getLength(array));
+			System.arraycopy(array, 0, l.array, 0, size);
+		}
+		return l;
+	}
+
+	/*
+	 * Index-based iterator used while the list is packed.
+	 * Continues to work if the list is unpacked during iteration.
+	 */
+	private class Itr implements ListIterator<Object> {
+		private int cursor, last = -1, expectedModCount = modCount;
+
+		Itr(int index) {
+			cursor = index;
+		}
+
+		private void checkForComodification() {
+			if (modCount != expectedModCount)
+				throw new ConcurrentModificationException();
+		}
+
+		@Override /* ListIterator */
+		public boolean hasNext() {
+			return cursor < size();
+		}
+
+		@Override /* ListIterator */
+		public Object next() {
+			checkForComodification();
+			if (cursor >= size())
+				throw new NoSuchElementException();
+			last = cursor++;
+			return get(last);
+		}
+
+		@Override /* ListIterator */
+		public boolean hasPrevious() {
+			return cursor > 0;
+		}
+
+		@Override /* ListIterator */
+		public Object previous() {
+			checkForComodification();
+			if (cursor <= 0)
+				throw new NoSuchElementException();
+			last = --cursor;
+			return get(last);
+		}
+
+		@Override /* ListIterator */
+		public int nextIndex() {
+			return cursor;
+		}
+
+		@Override /* ListIterator */
+		public int previousIndex() {
+			return cursor - 1;
+		}
+
+		@Override /* ListIterator */
+		public void remove() {
+			if (last == -1)
+				throw new IllegalStateException();
+			checkForComodification();
+			CompactObjectList.this.remove(last);
+			cursor = last;
+			last = -1;
+			expectedModCount = modCount;
+		}
+
+		@Override /* ListIterator */
+		public void set(Object e) {
+			if (last == -1)
+				throw new IllegalStateException();
+			checkForComodification();
+			CompactObjectList.this.set(last, e);
+			expectedModCount = modCount;
+		}
+
+		@Override /* ListIterator */
+		public void add(Object e) {
+			checkForComodification();
+			CompactObjectList.this.add(cursor++, e);
+			last = -1;
+			expectedModCount = modCount;
+		}
+	}
+}
@@ -0,0 +1,466 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+/**
+ * A memory-efficient {@link ObjectMap} backed by flat key and value arrays.
+ *
+ * <p>
+ * Entries are stored in two parallel arrays in insertion order instead of in the hash table of the underlying
+ * {@link LinkedHashMap}, avoiding the per-entry node objects.
+ * Keys are interned in a shared pool so that the same key repeated across many maps is stored only once.
+ * Lookups are linear scans for small maps, with an open-addressing index built on demand for larger ones.
+ *
+ * <p>
+ * Parsers create instances of this class in place of {@link ObjectMap} when {@link org.apache.juneau.parser.Parser#PARSER_compactObjects}
+ * is enabled.
+ * All {@link ObjectMap} methods are supported.
+ *
+ * <p>
+ * This class is not thread safe.
+ */
+public class CompactObjectMap extends ObjectMap {
+	private static final long serialVersionUID = 1L;
+
+	private static final int MAX_KEYS = 10000;
+	private static final ConcurrentHashMap<String,String> KEYS = new ConcurrentHashMap<>();
+
+	// Maps with more entries than this are indexed.
+	private static final int INDEX_THRESHOLD = 16;
+
+	private String[] keys;
+	private Object[] values;
+	private int size;
+	private transient int[] index;
+
+	/**
+	 * Construct an empty map.
+	 */
+	public CompactObjectMap() {
+		this(null);
+	}
+
+	/**
+	 * Construct an empty map with the specified bean session.
+	 *
+	 * @param session The bean session to use for creating beans.
+	 */
+	public CompactObjectMap(BeanSession session) {
+		super(session);
+		keys = new String[4];
+		values = new Object[4];
+	}
+
+	private static String intern(String key) {
+		if (key == null)
+			return null;
+		String k = KEYS.get(key);
+		if (k == null) {
+			if (KEYS.size() > MAX_KEYS)
+				KEYS.clear();
+			k = KEYS.putIfAbsent(key, key);
+			if (k == null)
+				k = key;
+		}
+		return k;
+	}
+
+	private static int hash(Object key) {
+		int h = key == null ? 0 : key.hashCode();
+		return h ^ (h >>> 16);
+	}
+
+	private int indexOf(Object key) {
+		if (size > INDEX_THRESHOLD) {
+			if (index == null)
+				buildIndex();
+			int mask = index.length - 1;
+			for (int h = hash(key) & mask; index[h] != 0; h = (h + 1) & mask)
+				if (Objects.equals(keys[index[h] - 1], key))
+					return index[h] - 1;
+			return -1;
+		}
+		for (int i = 0; i < size; i++)
+			if (keys[i] == key)
+				return i;
+		for (int i = 0; i < size; i++)
+			if (Objects.equals(keys[i], key))
+				return i;
+		return -1;
+	}
+
+	private void buildIndex() {
+		int n = Integer.highestOneBit(size * 4 - 1) << 1;
+		index = new int[n];
+		for (int i = 0; i < size; i++)
+			addToIndex(i);
+	}
+
+	private void addToIndex(int i) {
+		int mask = index.length - 1;
+		int h = hash(keys[i]) & mask;
+		while (index[h] != 0)
+			h = (h + 1) & mask;
+		index[h] = i + 1;
+	}
+
+	private void removeAt(int i) {
+		int n = size - i - 1;
+		if (n > 0) {
+			System.arraycopy(keys, i + 1, keys, i, n);
+			System.arraycopy(values, i + 1, values, i, n);
+		}
+		size--;
+		keys[size] = null;
+		values[size] = null;
+		index = null;
+	}
+
+	@Override /* ObjectMap */
+	protected Object getOuter(Object key) {
+		int i = indexOf(key);
+		return i == -1 ? null : values[i];
+	}
+
+	@Override /* ObjectMap */
+	public boolean containsOuterKey(Object key) {
+		return indexOf(key) != -1;
+	}
+
+	@Override /* ObjectMap */
+	protected Set<String> outerKeySet() {
+		return new AbstractSet<String>() {
+			@Override /* Set */
+			public Iterator<String> iterator() {
+				final Iterator<Map.Entry<String,Object>> i = outerEntrySet().iterator();
+				return new Iterator<String>() {
+					@Override /* Iterator */
+					public boolean hasNext() {
+						return i.hasNext();
+					}
+					@Override /* Iterator */
+					public String next() {
+						return i.next().getKey();
+					}
+					@Override /* Iterator */
+					public void remove() {
+						i.remove();
+					}
+				};
+			}
+			@Override /* Set */
+			public int size() {
+				return size;
+			}
+			@Override /* Set */
+			public boolean contains(Object o) {
+				return containsOuterKey(o);
+			}
+			@Override /* Set */
+			public boolean remove(Object o) {
+				int i = indexOf(o);
+				if (i == -1)
+					return false;
+				removeAt(i);
+				return true;
+			}
+			@Override /* Set */
+			public void clear() {
+				CompactObjectMap.this.clear();
+			}
+		};
+	}
+
+	@Override /* ObjectMap */
+	protected Set<Map.Entry<String,Object>> outerEntrySet() {
+		return new AbstractSet<Map.Entry<String,Object>>() {
+			@Override /* Set */
+			public Iterator<Map.Entry<String,Object>> iterator() {
+				return new Iterator<Map.Entry<String,Object>>() {
+					int next, last = -1;
+
+					@Override /* Iterator */
+					public boolean hasNext() {
+						return next < size;
+					}
+
+					@Override /* Iterator */
+					public Map.Entry<String,Object> next() {
+						if (next >= size)
+							throw new NoSuchElementException();
+						last = next++;
+						final String key = keys[last];
+						return new Map.Entry<String,Object>() {
+							@Override /* Map.Entry */
+							public String getKey() {
+								return key;
+							}
+							@Override /* Map.Entry */
+							public Object getValue() {
+								return getOuter(key);
+							}
+							@Override /* Map.Entry */
+							public Object setValue(Object value) {
+								return put(key, value);
+							}
+							@Override /* Object */
+							public boolean equals(Object o) {
+								if (! (o instanceof Map.Entry))
+									return false;
+								Map.Entry<?,?> e = (Map.Entry<?,?>)o;
+								return Objects.equals(key, e.getKey()) && Objects.equals(getValue(), e.getValue());
+							}
+							@Override /* Object */
+							public int hashCode() {
+								return Objects.hashCode(key) ^ Objects.hashCode(getValue());
+							}
+							@Override /* Object */
+							public String toString() {
+								return key + "=" + getValue();
+							}
+						};
+					}
+
+					@Override /* Iterator */
+					public void remove() {
+						if (last == -1)
+							throw new IllegalStateException();
+						removeAt(last);
+						next = last;
+						last = -1;
+					}
+				};
+			}
+			@Override /* Set */
+			public int size() {
+				return size;
+			}
+			@Override /* Set */
+			public void clear() {
+				CompactObjectMap.this.clear();
+			}
+		};
+	}
+
+	@Override /* Map */
+	public int size() {
+		return size;
+	}
+
+	@Override /* Map */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override /* Map */
+	public Object put(String key, Object value) {
+		int i = indexOf(key);
+		if (i != -1) {
+			Object o = values[i];
+			values[i] = value;
+			return o;
+		}
+		if (size == keys.length) {
+			keys = Arrays.copyOf(keys, size * 2);
+			values = Arrays.copyOf(values, size * 2);
+		}
+		keys[size] = intern(key);
+		values[size] = value;
+		size++;
+		if (index != null) {
+			if (size * 2 > index.length)
+				index = null;
+			else
+				addToIndex(size - 1);
+		}
+		return null;
+	}
+
+	@Override /* Map */
+	public void putAll(Map<? extends String,? extends Object> m) {
+		for (Map.Entry<? extends String,? extends Object> e : m.entrySet())
+			put(e.getKey(), e.getValue());
+	}
+
+	@Override /* Map */
+	public Object remove(Object key) {
+		int i = indexOf(key);
+		if (i == -1)
+			return null;
+		Object o = values[i];
+		removeAt(i);
+		return o;
+	}
+
+	@Override /* Map */
+	public void clear() {
+		Arrays.fill(keys, 0, size, null);
+		Arrays.fill(values, 0, size, null);
+		size = 0;
+		index = null;
+	}
+
+	@Override /* Map */
+	public boolean containsValue(Object value) {
+		for (int i = 0; i < size; i++)
+			if (Objects.equals(values[i], value))
+				return true;
+		return false;
+	}
+
+	@Override /* Map */
+	public Collection<Object> values() {
+		return new AbstractCollection<Object>() {
+			@Override /* Collection */
+			public Iterator<Object> iterator() {
+				final Iterator<Map.Entry<String,Object>> i = entrySet().iterator();
+				return new Iterator<Object>() {
+					@Override /* Iterator */
+					public boolean hasNext() {
+						return i.hasNext();
+					}
+					@Override /* Iterator */
+					public Object next() {
+						return i.next().getValue();
+					}
+					@Override /* Iterator */
+					public void remove() {
+						i.remove();
+					}
+				};
+			}
+			@Override /* Collection */
+			public int size() {
+				return entrySet().size();
+			}
+		};
+	}
+
+	@Override /* Map */
+	public Object getOrDefault(Object key, Object defaultValue) {
+		Object o = get(key);
+		return o != null || containsKey(key) ? o : defaultValue;
+	}
+
+	@Override /* Map */
+	public Object putIfAbsent(String key, Object value) {
+		Object o = get(key);
+		if (o == null)
+			o = put(key, value);
+		return o;
+	}
+
+	@Override /* Map */
+	public boolean remove(Object key, Object value) {
+		int i = indexOf(key);
+		if (i == -1 || ! Objects.equals(values[i], value))
+			return false;
+		removeAt(i);
+		return true;
+	}
+
+	@Override /* Map */
+	public boolean replace(String key, Object oldValue, Object newValue) {
+		int i = indexOf(key);
+		if (i == -1 || ! Objects.equals(values[i], oldValue))
+			return false;
+		values[i] = newValue;
+		return true;
+	}
+
+	@Override /* Map */
+	public Object replace(String key, Object value) {
+		int i = indexOf(key);
+		if (i == -1)
+			return null;
+		Object o = values[i];
+		values[i] = value;
+		return o;
+	}
+
+	@Override /* Map */
+	public Object computeIfAbsent(String key, Function<? super String,? extends Object> mappingFunction) {
+		Object o = get(key);
+		if (o == null) {
+			o = mappingFunction.apply(key);
+			if (o != null)
+				put(key, o);
+		}
+		return o;
+	}
+
+	@Override /* Map */
+	public Object computeIfPresent(String key, BiFunction<? super String,? super Object,? extends Object> remappingFunction) {
+		Object o = get(key);
+		if (o != null) {
+			o = remappingFunction.apply(key, o);
+			if (o == null)
+				remove(key);
+			else
+				put(key, o);
+		}
+		return o;
+	}
+
+	@Override /* Map */
+	public Object compute(String key, BiFunction<? super String,? super Object,? extends Object> remappingFunction) {
+		Object o = remappingFunction.apply(key, get(key));
+		if (o == null)
+			remove(key);
+		else
+			put(key, o);
+		return o;
+	}
+
+	@Override /* Map */
+	public Object merge(String key, Object value, BiFunction<? super Object,? super Object,? extends Object> remappingFunction) {
+		Object o = get(key);
+		o = o == null ? value : remappingFunction.apply(o, value);
+		if (o == null)
+			remove(key);
+		else
+			put(key, o);
+		return o;
+	}
+
+	@Override /* Map */
+	public void forEach(BiConsumer<? super String,? super Object> action) {
+		for (Map.Entry<String,Object> e : entrySet())
+			action.accept(e.getKey(), e.getValue());
+	}
+
+	@Override /* Map */
+	public void replaceAll(BiFunction<? super String,? super Object,? extends Object> function) {
+		for (int i = 0; i < size; i++)
+			values[i] = function.apply(keys[i], values[i]);
+	}
+
+	// LinkedHashMap.clone() copies our entries into the underlying hash table of the clone.
+	private void clearTable() {
+		super.clear();
+	}
+
+	@Override /* Object */
+	public Object clone() {
+		CompactObjectMap m = (CompactObjectMap)super.clone();
+		m.clearTable();
+		m.keys = keys.clone();
+		m.values = values.clone();
+		m.index = null;
+		return m;
+	}
+}
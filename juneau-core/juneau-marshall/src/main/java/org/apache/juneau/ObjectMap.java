@@ -423,7 +423,7 @@ public class ObjectMap extends LinkedHashMap<String,Object> {
 
 	@Override /* Map */
 	public Object get(Object key) {
-		Object o = super.get(key);
+		Object o = getOuter(key);
 		if (o == null && inner != null)
 			o = inner.get(key);
 		return o;
@@ -578,7 +578,7 @@ public class ObjectMap extends LinkedHashMap<String,Object> {
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	public <T> T getSwapped(String key, PojoSwap<T,?> pojoSwap) throws ParseException {
 		try {
-			Object o = super.get(key);
+			Object o = getOuter(key);
 			if (o == null)
 				return null;
 			PojoSwap swap = pojoSwap;
@@ -1386,7 +1386,7 @@ public class ObjectMap extends LinkedHashMap<String,Object> {
 
 	@Override /* Map */
 	public boolean containsKey(Object key) {
-		if (super.containsKey(key))
+		if (containsOuterKey(key))
 			return true;
 		if (inner != null)
 			return inner.containsKey(key);
@@ -1713,17 +1713,17 @@ public class ObjectMap extends LinkedHashMap<String,Object> {
 	@Override /* Map */
 	public Set<String> keySet() {
 		if (inner == null)
-			return super.keySet();
+			return outerKeySet();
 		LinkedHashSet<String> s = new LinkedHashSet<>();
 		s.addAll(inner.keySet());
-		s.addAll(super.keySet());
+		s.addAll(outerKeySet());
 		return s;
 	}
 
 	@Override /* Map */
 	public Set<Map.Entry<String,Object>> entrySet() {
 		if (inner == null)
-			return super.entrySet();
+			return outerEntrySet();
 
 		final Set<String> keySet = keySet();
 		final Iterator<String> keys = keySet.iterator();
@@ -1776,6 +1776,38 @@ public class ObjectMap extends LinkedHashMap<String,Object> {
 		};
 	}
 
+	/**
+	 * Returns the value of the specified key in this map, ignoring the inner map if it exists.
+	 *
+	 * <p>
+	 * Subclasses that store their entries outside of the underlying {@link LinkedHashMap} must override this method
+	 * along with {@link #containsOuterKey(Object)}, {@link #outerKeySet()} and {@link #outerEntrySet()}.
+	 *
+	 * @param key The key to look up.
+	 * @return The value, or <jk>null</jk> if this map doesn't contain the key.
+	 */
+	protected Object getOuter(Object key) {
+		return super.get(key);
+	}
+
+	/**
+	 * Returns the keys in this map, ignoring the inner map if it exists.
+	 *
+	 * @return The keys in this map.
+	 */
+	protected Set<String> outerKeySet() {
+		return super.keySet();
+	}
+
+	/**
+	 * Returns the entries in this map, ignoring the inner map if it exists.
+	 *
+	 * @return The entries in this map.
+	 */
+	protected Set<Map.Entry<String,Object>> outerEntrySet() {
+		return super.entrySet();
+	}
+
 	private static final class UnmodifiableObjectMap extends ObjectMap {
 		private static final long serialVersionUID = 1L;
 
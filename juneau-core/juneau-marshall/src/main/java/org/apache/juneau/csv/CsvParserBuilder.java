@@ -72,6 +72,18 @@ public class CsvParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public CsvParserBuilder compactObjects(boolean value) {
+		super.compactObjects(value);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public CsvParserBuilder compactObjects() {
+		super.compactObjects();
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public CsvParserBuilder debugOutputLines(int value) {
 		super.debugOutputLines(value);
@@ -84,6 +96,24 @@ public class CsvParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public CsvParserBuilder parallelThreshold(int value) {
+		super.parallelThreshold(value);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public CsvParserBuilder recycleBuffers(boolean value) {
+		super.recycleBuffers(value);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public CsvParserBuilder recycleBuffers() {
+		super.recycleBuffers();
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public CsvParserBuilder strict(boolean value) {
 		super.strict(value);
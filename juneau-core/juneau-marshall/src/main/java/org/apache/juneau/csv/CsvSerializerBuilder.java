@@ -150,6 +150,24 @@ public class CsvSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public CsvSerializerBuilder parallelThreshold(int value) {
+		super.parallelThreshold(value);
+		return this;
+	}
+
+	@Override /* SerializerBuilder */
+	public CsvSerializerBuilder recycleBuffers(boolean value) {
+		super.recycleBuffers(value);
+		return this;
+	}
+
+	@Override /* SerializerBuilder */
+	public CsvSerializerBuilder recycleBuffers() {
+		super.recycleBuffers();
+		return this;
+	}
+
 	@Override /* SerializerBuilder */
 	public CsvSerializerBuilder sortCollections(boolean value) {
 		super.sortCollections(value);
@@ -0,0 +1,98 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.encoders;
+
+import java.io.*;
+import java.util.zip.*;
+
+/**
+ * Encoder for handling <js>"deflate"</js> encoding and decoding.
+ *
+ * <p>
+ * Uses the zlib format as defined by RFC 1950.
+ * <br>Compression and decompression use {@link Deflater} and {@link Inflater} instances pooled per encoder so that
+ * they're reused across requests.
+ */
+public class DeflateEncoder extends Encoder {
+
+	private final int bufferSize, minSize;
+	private final DeflaterPool pool;
+
+	/**
+	 * Constructor.
+	 *
+	 * <p>
+	 * Uses the default compression level, an 8k buffer, and no minimum body size.
+	 */
+	public DeflateEncoder() {
+		this(Deflater.DEFAULT_COMPRESSION, 8192, 0);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param level The compression level (0-9 or {@link Deflater#DEFAULT_COMPRESSION}).
+	 * @param bufferSize The input and output buffer size.
+	 * @param minSize The minimum body size before compression is applied.  See {@link #getMinSize()}.
+	 */
+	public DeflateEncoder(int level, int bufferSize, int minSize) {
+		if (bufferSize <= 0)
+			throw new IllegalArgumentException("Invalid buffer size: " + bufferSize);
+		this.pool = new DeflaterPool(level, false);
+		this.bufferSize = bufferSize;
+		this.minSize = minSize;
+	}
+
+	@Override /* Encoder */
+	public OutputStream getOutputStream(OutputStream os) throws IOException {
+		return new DeflaterStream(os, pool, bufferSize, false);
+	}
+
+	@Override /* Encoder */
+	public InputStream getInputStream(InputStream is) throws IOException {
+		return new PooledInflaterInputStream(is);
+	}
+
+	/**
+	 * Returns <code>[<js>"deflate"</js>]</code>.
+	 */
+	@Override /* Encoder */
+	public String[] getCodings() {
+		return new String[]{"deflate"};
+	}
+
+	@Override /* Encoder */
+	public int getMinSize() {
+		return minSize;
+	}
+
+	private class PooledInflaterInputStream extends InflaterInputStream {
+		private boolean released;
+
+		PooledInflaterInputStream(InputStream is) {
+			super(is, pool.getInflater(), bufferSize);
+		}
+
+		@Override /* InputStream */
+		public void close() throws IOException {
+			try {
+				super.close();
+			} finally {
+				if (! released) {
+					released = true;
+					pool.release(inf);
+				}
+			}
+		}
+	}
+}
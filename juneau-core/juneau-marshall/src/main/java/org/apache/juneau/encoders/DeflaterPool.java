@@ -0,0 +1,73 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.encoders;
+
+import java.util.concurrent.*;
+import java.util.zip.*;
+
+/**
+ * A pool of {@link Deflater} and {@link Inflater} instances reused across requests.
+ *
+ * <p>
+ * Deflaters and inflaters hold native memory and are expensive to create, so they're reset and returned to the pool
+ * once a stream is finished instead of being discarded.
+ * <br>Instances released when the pool is full are ended.
+ */
+final class DeflaterPool {
+
+	private static final int MAX_POOLED = 64;
+
+	private final int level;
+	private final boolean nowrap;
+	private final ConcurrentLinkedQueue<Deflater> deflaters = new ConcurrentLinkedQueue<>();
+	private final ConcurrentLinkedQueue<Inflater> inflaters = new ConcurrentLinkedQueue<>();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param level The compression level (0-9 or {@link Deflater#DEFAULT_COMPRESSION}).
+	 * @param nowrap If <jk>true</jk>, the raw deflate format without the zlib header and checksum is used.
+	 */
+	DeflaterPool(int level, boolean nowrap) {
+		if ((level < 0 || level > 9) && level != Deflater.DEFAULT_COMPRESSION)
+			throw new IllegalArgumentException("Invalid compression level: " + level);
+		this.level = level;
+		this.nowrap = nowrap;
+	}
+
+	Deflater getDeflater() {
+		Deflater d = deflaters.poll();
+		return d == null ? new Deflater(level, nowrap) : d;
+	}
+
+	void release(Deflater d) {
+		d.reset();
+		if (deflaters.size() < MAX_POOLED)
+			deflaters.offer(d);
+		else
+			d.end();
+	}
+
+	Inflater getInflater() {
+		Inflater i = inflaters.poll();
+		return i == null ? new Inflater(nowrap) : i;
+	}
+
+	void release(Inflater i) {
+		i.reset();
+		if (inflaters.size() < MAX_POOLED)
+			inflaters.offer(i);
+		else
+			i.end();
+	}
+}
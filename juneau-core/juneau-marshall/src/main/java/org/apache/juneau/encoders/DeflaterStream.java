@@ -0,0 +1,84 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.encoders;
+
+import java.io.*;
+import java.util.zip.*;
+
+/**
+ * Compressing output stream that borrows its {@link Deflater} from a {@link DeflaterPool}.
+ *
+ * <p>
+ * Writes either the zlib format (<js>"deflate"</js>) or, when the deflater is in raw mode, the GZIP format
+ * (<js>"gzip"</js>).
+ * <br>The deflater is returned to the pool when the stream is finished.
+ */
+final class DeflaterStream extends DeflaterOutputStream implements Finishable {
+
+	private static final byte[] GZIP_HEADER = {0x1f, (byte)0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0};
+
+	private final DeflaterPool pool;
+	private final CRC32 crc;
+	private boolean finished;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param out The underlying output stream.
+	 * @param pool The pool to borrow the deflater from.
+	 * @param bufferSize The output buffer size.
+	 * @param gzip If <jk>true</jk>, the GZIP header and trailer are written around the compressed data.
+	 * @throws IOException
+	 */
+	DeflaterStream(OutputStream out, DeflaterPool pool, int bufferSize, boolean gzip) throws IOException {
+		super(out, pool.getDeflater(), bufferSize);
+		this.pool = pool;
+		this.crc = gzip ? new CRC32() : null;
+		if (gzip)
+			out.write(GZIP_HEADER);
+	}
+
+	@Override /* OutputStream */
+	public void write(byte[] b, int off, int len) throws IOException {
+		if (finished)
+			throw new IOException("Write beyond end of stream.");
+		super.write(b, off, len);
+		if (crc != null)
+			crc.update(b, off, len);
+	}
+
+	@Override /* Finishable */
+	public void finish() throws IOException {
+		if (finished)
+			return;
+		try {
+			super.finish();
+			if (crc != null) {
+				byte[] trailer = new byte[8];
+				writeInt((int)crc.getValue(), trailer, 0);
+				writeInt((int)def.getBytesRead(), trailer, 4);
+				out.write(trailer);
+			}
+		} finally {
+			finished = true;
+			pool.release(def);
+		}
+	}
+
+	private static void writeInt(int i, byte[] b, int offset) {
+		b[offset] = (byte)i;
+		b[offset+1] = (byte)(i >> 8);
+		b[offset+2] = (byte)(i >> 16);
+		b[offset+3] = (byte)(i >> 24);
+	}
+}
@@ -13,6 +13,7 @@
 package org.apache.juneau.encoders;
 
 import java.io.*;
+import java.util.concurrent.*;
 
 /**
  * Used for enabling decompression on requests and compression on responses, such as support for GZIP compression.
@@ -26,6 +27,11 @@ import java.io.*;
  */
 public abstract class Encoder {
 
+	private static final int MAX_CACHED_ENCODINGS = 100;
+
+	// Pre-encoded bodies keyed by entity tag.
+	private final ConcurrentHashMap<String,byte[]> encoded = new ConcurrentHashMap<>();
+
 	/**
 	 * Converts the specified compressed input stream into an uncompressed stream.
 	 *
@@ -51,4 +57,57 @@ public abstract class Encoder {
 	 * @return The codings that this encoder handles.
 	 */
 	public abstract String[] getCodings();
+
+	/**
+	 * Returns the minimum number of bytes a response body must contain before this encoder is applied.
+	 *
+	 * <p>
+	 * Compressing tiny bodies costs more CPU than it saves in bandwidth and often makes the body larger.
+	 * <br>Responses smaller than this size are sent without any content encoding.
+	 *
+	 * @return The minimum body size in bytes, or <code>0</code> if bodies are always encoded.
+	 */
+	public int getMinSize() {
+		return 0;
+	}
+
+	/**
+	 * Encodes the specified body in its entirety.
+	 *
+	 * @param b The uncompressed body.
+	 * @return The compressed body.
+	 * @throws IOException If any errors occur.
+	 */
+	public byte[] encode(byte[] b) throws IOException {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream(b.length / 2 + 64);
+		OutputStream os = getOutputStream(baos);
+		os.write(b);
+		if (os instanceof Finishable)
+			((Finishable)os).finish();
+		os.close();
+		return baos.toByteArray();
+	}
+
+	/**
+	 * Same as {@link #encode(byte[])} but caches the results by entity tag.
+	 *
+	 * <p>
+	 * Used for serving the same body repeatedly (e.g. cached documents) without compressing it on every request.
+	 * <br>The entity tag must uniquely identify the contents of the uncompressed body.
+	 *
+	 * @param etag The entity tag of the uncompressed body.
+	 * @param b The uncompressed body.
+	 * @return The compressed body.
+	 * @throws IOException If any errors occur.
+	 */
+	public byte[] encode(String etag, byte[] b) throws IOException {
+		byte[] e = encoded.get(etag);
+		if (e == null) {
+			e = encode(b);
+			if (encoded.size() >= MAX_CACHED_ENCODINGS)
+				encoded.clear();
+			encoded.put(etag, e);
+		}
+		return e;
+	}
 }
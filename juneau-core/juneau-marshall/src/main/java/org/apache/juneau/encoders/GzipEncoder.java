@@ -17,17 +17,55 @@ import java.util.zip.*;
 
 /**
  * Encoder for handling <js>"gzip"</js> encoding and decoding.
+ *
+ * <p>
+ * Compression uses {@link Deflater} instances pooled per encoder so that they're reused across requests.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	<jc>// Fastest compression, 16k buffers, and bodies under 1k sent uncompressed.</jc>
+ * 	RestContextBuilder b = ...;
+ * 	b.encoders(<jk>new</jk> GzipEncoder(Deflater.<jsf>BEST_SPEED</jsf>, 16384, 1024));
+ * </p>
  */
 public class GzipEncoder extends Encoder {
 
+	private final int bufferSize, minSize;
+	private final DeflaterPool pool;
+
+	/**
+	 * Constructor.
+	 *
+	 * <p>
+	 * Uses the default compression level, an 8k buffer, and no minimum body size.
+	 */
+	public GzipEncoder() {
+		this(Deflater.DEFAULT_COMPRESSION, 8192, 0);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param level The compression level (0-9 or {@link Deflater#DEFAULT_COMPRESSION}).
+	 * @param bufferSize The input and output buffer size.
+	 * @param minSize The minimum body size before compression is applied.  See {@link #getMinSize()}.
+	 */
+	public GzipEncoder(int level, int bufferSize, int minSize) {
+		if (bufferSize <= 0)
+			throw new IllegalArgumentException("Invalid buffer size: " + bufferSize);
+		this.pool = new DeflaterPool(level, true);
+		this.bufferSize = bufferSize;
+		this.minSize = minSize;
+	}
+
 	@Override /* Encoder */
 	public OutputStream getOutputStream(OutputStream os) throws IOException {
-		return new FinishableGZIPOutputStream(os);
+		return new DeflaterStream(os, pool, bufferSize, true);
 	}
 
 	@Override /* Encoder */
 	public InputStream getInputStream(InputStream is) throws IOException {
-		return new GZIPInputStream(is);
+		return new GZIPInputStream(is, bufferSize);
 	}
 
 	/**
@@ -38,9 +76,8 @@ public class GzipEncoder extends Encoder {
 		return new String[]{"gzip"};
 	}
 
-	private static class FinishableGZIPOutputStream extends GZIPOutputStream implements Finishable {
-		FinishableGZIPOutputStream(OutputStream out) throws IOException {
-			super(out);
-		}
+	@Override /* Encoder */
+	public int getMinSize() {
+		return minSize;
 	}
 }
@@ -14,6 +14,7 @@ package org.apache.juneau.html;
 
 import org.apache.juneau.*;
 import org.apache.juneau.html.annotation.*;
+import org.apache.juneau.internal.*;
 
 /**
  * Metadata on bean properties specific to the HTML serializers and parsers pulled from the {@link Html @Html}
@@ -31,6 +32,7 @@ public final class HtmlBeanPropertyMeta extends BeanPropertyMetaExtended {
 	private final HtmlFormat format;
 	private final HtmlRender render;
 	private final String link, anchorText;
+	private final char[] encodedName;
 
 	/**
 	 * Constructor.
@@ -54,6 +56,10 @@ public final class HtmlBeanPropertyMeta extends BeanPropertyMetaExtended {
 		this.render = bpm.getBeanMeta().getClassMeta().getBeanContext().newInstance(HtmlRender.class, b.render);
 		this.link = b.link;
 		this.anchorText = b.anchorText;
+
+		StringBuilderWriter w = new StringBuilderWriter();
+		new HtmlWriter(w, false, 0, false, '\'', null).text(bpm.getName());
+		this.encodedName = w.toString().toCharArray();
 	}
 
 	private HtmlBeanPropertyMeta() {
@@ -64,6 +70,7 @@ public final class HtmlBeanPropertyMeta extends BeanPropertyMetaExtended {
 		this.render = null;
 		this.link = null;
 		this.anchorText = null;
+		this.encodedName = null;
 	}
 
 	static final class Builder {
@@ -89,6 +96,18 @@ public final class HtmlBeanPropertyMeta extends BeanPropertyMetaExtended {
 		}
 	}
 
+	/**
+	 * Returns the name of this bean property encoded as HTML text.
+	 *
+	 * <p>
+	 * Computed once so that the name doesn't need to be re-escaped every time it's written as a table key.
+	 *
+	 * @return The encoded name, or <jk>null</jk> if this is the default instance.
+	 */
+	protected char[] getEncodedName() {
+		return encodedName;
+	}
+
 	/**
 	 * Returns the format of this bean property
 	 *
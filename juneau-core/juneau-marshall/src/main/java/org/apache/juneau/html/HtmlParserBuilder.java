@@ -83,6 +83,24 @@ public class HtmlParserBuilder extends XmlParserBuilder {
 		return this;
 	}
 
+	@Override /* XmlParserBuilder */
+	public HtmlParserBuilder inputFactory(Class<? extends XMLInputFactory> value) {
+		super.inputFactory(value);
+		return this;
+	}
+
+	@Override /* XmlParserBuilder */
+	public HtmlParserBuilder useDeclaredEncoding(boolean value) {
+		super.useDeclaredEncoding(value);
+		return this;
+	}
+
+	@Override /* XmlParserBuilder */
+	public HtmlParserBuilder useDeclaredEncoding() {
+		super.useDeclaredEncoding();
+		return this;
+	}
+
 	@Override /* ReaderParserBuilder */
 	public HtmlParserBuilder fileCharset(String value) {
 		super.fileCharset(value);
@@ -107,6 +125,18 @@ public class HtmlParserBuilder extends XmlParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public HtmlParserBuilder compactObjects(boolean value) {
+		super.compactObjects(value);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public HtmlParserBuilder compactObjects() {
+		super.compactObjects();
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public HtmlParserBuilder debugOutputLines(int value) {
 		super.debugOutputLines(value);
@@ -119,6 +149,24 @@ public class HtmlParserBuilder extends XmlParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public HtmlParserBuilder parallelThreshold(int value) {
+		super.parallelThreshold(value);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public HtmlParserBuilder recycleBuffers(boolean value) {
+		super.recycleBuffers(value);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public HtmlParserBuilder recycleBuffers() {
+		super.recycleBuffers();
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public HtmlParserBuilder strict(boolean value) {
 		super.strict(value);
@@ -302,6 +302,24 @@ public class HtmlSchemaSerializerBuilder extends HtmlSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public HtmlSchemaSerializerBuilder parallelThreshold(int value) {
+		super.parallelThreshold(value);
+		return this;
+	}
+
+	@Override /* SerializerBuilder */
+	public HtmlSchemaSerializerBuilder recycleBuffers(boolean value) {
+		super.recycleBuffers(value);
+		return this;
+	}
+
+	@Override /* SerializerBuilder */
+	public HtmlSchemaSerializerBuilder recycleBuffers() {
+		super.recycleBuffers();
+		return this;
+	}
+
 	@Override /* SerializerBuilder */
 	public HtmlSchemaSerializerBuilder sortCollections(boolean value) {
 		super.sortCollections(value);
@@ -483,7 +483,12 @@ public class HtmlSerializerSession extends XmlSerializerSession {
 				value = anchorText;
 
 			out.sTag(i+1, "tr").nl(i+1);
-			out.sTag(i+2, "td").text(key).eTag("td").nl(i+2);
+			out.sTag(i+2, "td");
+			if (pMeta.isDyna())
+				out.text(key);
+			else
+				out.append(bpHtml(pMeta).getEncodedName());
+			out.eTag("td").nl(i+2);
 			out.oTag(i+2, "td");
 			String style = getStyle(this, pMeta, value);
 			if (style != null)
@@ -21,6 +21,7 @@ import java.lang.annotation.*;
 import java.lang.reflect.*;
 import java.math.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.concurrent.atomic.*;
 import java.util.regex.*;
 
@@ -74,6 +75,8 @@ public class HttpPartSchema {
 	final Class<? extends HttpPartSerializer> serializer;
 	final ClassMeta<?> parsedType;
 
+	private final ConcurrentHashMap<ClassMeta<?>,Validator> validators = new ConcurrentHashMap<>();
+
 	/**
 	 * Instantiates a new builder for this object.
 	 *
@@ -1106,6 +1109,193 @@ public class HttpPartSchema {
 		return o;
 	}
 
+	/**
+	 * Same as {@link #validateOutput(Object, BeanContext)} but uses a validator compiled for the class of the object.
+	 *
+	 * <p>
+	 * Validators are compiled once per object class and cached on this schema.
+	 * <br>Bean property sub-schemas are resolved at compile time, and bean maps are created through the specified
+	 * session instead of a new session per validated object.
+	 *
+	 * @param o The parsed output.
+	 * @param session The session used to detect POJO types and create bean maps.
+	 * @return The same object passed in.
+	 * @throws SchemaValidationException if the specified parsed output does not validate against this schema.
+	 */
+	public <T> T validateOutput(T o, BeanSession session) throws SchemaValidationException {
+		if (o == null) {
+			if (! isValidRequired(o))
+				throw new SchemaValidationException("Required value not provided.");
+			return o;
+		}
+		getValidator(session.getClassMetaForObject(o)).validate(o, session);
+		return o;
+	}
+
+	private Validator getValidator(ClassMeta<?> cm) {
+		Validator v = validators.get(cm);
+		if (v == null) {
+			v = compile(cm);
+			if (validators.size() > 100)
+				validators.clear();
+			validators.putIfAbsent(cm, v);
+		}
+		return v;
+	}
+
+	/*
+	 * Creates a validator that performs only the checks of validateOutput(Object,BeanContext) that apply to instances
+	 * of the specified class.
+	 */
+	private Validator compile(ClassMeta<?> cm) {
+		switch (getType(cm)) {
+			case ARRAY: {
+				if (cm.isArray()) {
+					if (minItems == null && maxItems == null && ! uniqueItems && items == null)
+						return Validator.NOOP;
+					return new Validator() {
+						@Override
+						void validate(Object o, BeanSession session) throws SchemaValidationException {
+							if (! isValidMinItems(o))
+								throw new SchemaValidationException("Minimum number of items not met.");
+							if (! isValidMaxItems(o))
+								throw new SchemaValidationException("Maximum number of items exceeded.");
+							if (! isValidUniqueItems(o))
+								throw new SchemaValidationException("Duplicate items not allowed.");
+							if (items != null)
+								for (int i = 0; i < Array.getLength(o); i++)
+									items.validateOutput(Array.get(o, i), session);
+						}
+					};
+				}
+				if (cm.isCollection()) {
+					if (minItems == null && maxItems == null && ! uniqueItems && items == null)
+						return Validator.NOOP;
+					return new Validator() {
+						@Override
+						void validate(Object o, BeanSession session) throws SchemaValidationException {
+							Collection<?> c = (Collection<?>)o;
+							if (! isValidMinItems(c))
+								throw new SchemaValidationException("Minimum number of items not met.");
+							if (! isValidMaxItems(c))
+								throw new SchemaValidationException("Maximum number of items exceeded.");
+							if (! isValidUniqueItems(c))
+								throw new SchemaValidationException("Duplicate items not allowed.");
+							if (items != null)
+								for (Object o2 : c)
+									items.validateOutput(o2, session);
+						}
+					};
+				}
+				return Validator.NOOP;
+			}
+			case INTEGER:
+			case NUMBER: {
+				if (! cm.isNumber() || (minimum == null && maximum == null && multipleOf == null))
+					return Validator.NOOP;
+				return new Validator() {
+					@Override
+					void validate(Object o, BeanSession session) throws SchemaValidationException {
+						Number n = (Number)o;
+						if (! isValidMinimum(n))
+							throw new SchemaValidationException("Minimum value not met.");
+						if (! isValidMaximum(n))
+							throw new SchemaValidationException("Maximum value exceeded.");
+						if (! isValidMultipleOf(n))
+							throw new SchemaValidationException("Multiple-of not met.");
+					}
+				};
+			}
+			case OBJECT: {
+				if (cm.isBean() && ! hasDynaProperty(cm)) {
+					Collection<BeanPropertyMeta> pMetas = cm.getBeanMeta().getPropertyMetas();
+					final int propertyCount = pMetas.size();
+					List<BeanPropertyMeta> l1 = new ArrayList<>();
+					List<HttpPartSchema> l2 = new ArrayList<>();
+					for (BeanPropertyMeta pMeta : pMetas) {
+						HttpPartSchema s2 = getProperty(pMeta.getName());
+						if (s2 != null) {
+							l1.add(pMeta);
+							l2.add(s2);
+						}
+					}
+					final BeanPropertyMeta[] props = l1.toArray(new BeanPropertyMeta[l1.size()]);
+					final HttpPartSchema[] schemas = l2.toArray(new HttpPartSchema[l2.size()]);
+					if (! isValidMinProperties(propertyCount))
+						return Validator.fail("Minimum number of properties not met.");
+					if (! isValidMaxProperties(propertyCount))
+						return Validator.fail("Maximum number of properties exceeded.");
+					if (props.length == 0)
+						return Validator.NOOP;
+					return new Validator() {
+						@Override
+						void validate(Object o, BeanSession session) throws SchemaValidationException {
+							BeanMap<?> m = session.toBeanMap(o);
+							for (int i = 0; i < props.length; i++)
+								schemas[i].validateOutput(props[i].get(m, null), session);
+						}
+					};
+				}
+				if (cm.isMapOrBean()) {
+					if (minProperties == null && maxProperties == null && ! hasProperties())
+						return Validator.NOOP;
+					final boolean isMap = cm.isMap();
+					return new Validator() {
+						@Override
+						void validate(Object o, BeanSession session) throws SchemaValidationException {
+							Map<?,?> m = isMap ? (Map<?,?>)o : session.toBeanMap(o);
+							if (! isValidMinProperties(m))
+								throw new SchemaValidationException("Minimum number of properties not met.");
+							if (! isValidMaxProperties(m))
+								throw new SchemaValidationException("Maximum number of properties exceeded.");
+							for (Map.Entry<?,?> e : m.entrySet()) {
+								HttpPartSchema s2 = getProperty(e.getKey().toString());
+								if (s2 != null)
+									s2.validateOutput(e.getValue(), session);
+							}
+						}
+					};
+				}
+				return Validator.NOOP;
+			}
+			case BOOLEAN:
+			case FILE:
+			case STRING:
+			case NO_TYPE:
+			default:
+				return Validator.NOOP;
+		}
+	}
+
+	private static boolean hasDynaProperty(ClassMeta<?> cm) {
+		for (BeanPropertyMeta pMeta : cm.getBeanMeta().getPropertyMetas())
+			if (pMeta.isDyna())
+				return true;
+		return false;
+	}
+
+	/*
+	 * A validator for the instances of a single class compiled from this schema.
+	 */
+	private abstract static class Validator {
+
+		static final Validator NOOP = new Validator() {
+			@Override
+			void validate(Object o, BeanSession session) {}
+		};
+
+		static Validator fail(final String message) {
+			return new Validator() {
+				@Override
+				void validate(Object o, BeanSession session) throws SchemaValidationException {
+					throw new SchemaValidationException(message);
+				}
+			};
+		}
+
+		abstract void validate(Object o, BeanSession session) throws SchemaValidationException;
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Helper methods.
 	//-----------------------------------------------------------------------------------------------------------------
@@ -1122,6 +1312,14 @@ public class HttpPartSchema {
 		return maxProperties == null || x.size() <= maxProperties;
 	}
 
+	private boolean isValidMinProperties(int size) {
+		return minProperties == null || size >= minProperties;
+	}
+
+	private boolean isValidMaxProperties(int size) {
+		return maxProperties == null || size <= maxProperties;
+	}
+
 	private boolean isValidMinimum(Number x) {
 		if (x instanceof Integer || x instanceof AtomicInteger)
 			return minimum == null || x.intValue() > minimum.intValue() || (x.intValue() == minimum.intValue() && (! exclusiveMinimum));
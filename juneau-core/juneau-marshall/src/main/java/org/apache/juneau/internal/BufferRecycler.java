@@ -0,0 +1,159 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.io.*;
+import java.lang.ref.*;
+
+/**
+ * Per-thread cache of the scratch buffers used by serializer and parser sessions.
+ *
+ * <p>
+ * Used when {@link org.apache.juneau.serializer.Serializer#SERIALIZER_recycleBuffers} or
+ * {@link org.apache.juneau.parser.Parser#PARSER_recycleBuffers} is enabled so that repeated calls on the same thread
+ * don't have to reallocate (and regrow) their character and byte buffers on every call.
+ *
+ * <p>
+ * Buffers follow a simple borrow/return contract:
+ * <ul class='spaced-list'>
+ * 	<li>
+ * 		A buffer returned by one of the <code>get</code> methods is owned exclusively by the caller until it's passed
+ * 		back to the matching <code>release</code> method.
+ * 		<br>Callers must not touch a buffer after releasing it.
+ * 	<li>
+ * 		String builders and output streams are reset to zero length when borrowed.
+ * 		<br>Character arrays are not cleared, so callers must track their own fill position.
+ * 	<li>
+ * 		At most one buffer of each type is retained per thread.
+ * 		<br>If the retained buffer is already borrowed (e.g. a swap that serializes a nested POJO), a new buffer is
+ * 		allocated and the caller never blocks.
+ * 	<li>
+ * 		Buffers that have grown larger than {@link #MAX_RETAINED_SIZE} are dropped on release so that a single large
+ * 		payload doesn't stay pinned to the thread.
+ * 	<li>
+ * 		The per-thread instance is held through a {@link SoftReference} so it can be reclaimed under memory pressure.
+ * </ul>
+ *
+ * <p>
+ * Note that instances of this class are NOT thread safe and must only be used from the thread that retrieved them
+ * through {@link #get()}.
+ */
+public final class BufferRecycler {
+
+	/**
+	 * Largest buffer (in chars or bytes) that will be retained on release.
+	 */
+	public static final int MAX_RETAINED_SIZE = 64 * 1024;
+
+	private static final ThreadLocal<SoftReference<BufferRecycler>> CACHE = new ThreadLocal<>();
+
+	private char[] charBuffer;
+	private StringBuilder stringBuilder;
+	private ByteArrayOutputStream byteStream;
+
+	/**
+	 * Returns the buffer recycler for the current thread.
+	 *
+	 * @return The buffer recycler for the current thread.  Never <jk>null</jk>.
+	 */
+	public static BufferRecycler get() {
+		SoftReference<BufferRecycler> ref = CACHE.get();
+		BufferRecycler br = ref == null ? null : ref.get();
+		if (br == null) {
+			br = new BufferRecycler();
+			CACHE.set(new SoftReference<>(br));
+		}
+		return br;
+	}
+
+	/**
+	 * Borrows a character buffer of at least the specified size.
+	 *
+	 * @param minSize The minimum size of the buffer.
+	 * @return A character buffer.  The contents are undefined.
+	 */
+	public char[] getCharBuffer(int minSize) {
+		char[] b = charBuffer;
+		if (b != null && b.length >= minSize) {
+			charBuffer = null;
+			return b;
+		}
+		return new char[minSize];
+	}
+
+	/**
+	 * Returns a character buffer previously borrowed through {@link #getCharBuffer(int)}.
+	 *
+	 * @param b The buffer being returned.  Can be <jk>null</jk>.
+	 */
+	public void releaseCharBuffer(char[] b) {
+		if (b != null && b.length <= MAX_RETAINED_SIZE && (charBuffer == null || charBuffer.length < b.length))
+			charBuffer = b;
+	}
+
+	/**
+	 * Borrows an empty string builder.
+	 *
+	 * @return An empty string builder.
+	 */
+	public StringBuilder getStringBuilder() {
+		StringBuilder sb = stringBuilder;
+		if (sb != null) {
+			stringBuilder = null;
+			sb.setLength(0);
+			return sb;
+		}
+		return new StringBuilder();
+	}
+
+	/**
+	 * Returns a string builder previously borrowed through {@link #getStringBuilder()}.
+	 *
+	 * @param sb The string builder being returned.  Can be <jk>null</jk>.
+	 */
+	public void releaseStringBuilder(StringBuilder sb) {
+		if (sb != null && sb.capacity() <= MAX_RETAINED_SIZE)
+			stringBuilder = sb;
+	}
+
+	/**
+	 * Borrows an empty byte array output stream.
+	 *
+	 * @return An empty byte array output stream.
+	 */
+	public ByteArrayOutputStream getByteStream() {
+		ByteArrayOutputStream baos = byteStream;
+		if (baos != null) {
+			byteStream = null;
+			baos.reset();
+			return baos;
+		}
+		return new SizedByteArrayOutputStream();
+	}
+
+	/**
+	 * Returns a byte array output stream previously borrowed through {@link #getByteStream()}.
+	 *
+	 * @param baos The output stream being returned.  Can be <jk>null</jk>.
+	 */
+	public void releaseByteStream(ByteArrayOutputStream baos) {
+		if (baos instanceof SizedByteArrayOutputStream && ((SizedByteArrayOutputStream)baos).capacity() <= MAX_RETAINED_SIZE)
+			byteStream = baos;
+	}
+
+	private static final class SizedByteArrayOutputStream extends ByteArrayOutputStream {
+		int capacity() {
+			return buf.length;
+		}
+	}
+}
@@ -0,0 +1,86 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Utility methods for splitting work on lists across the common {@link ForkJoinPool}.
+ */
+public final class ParallelUtils {
+
+	private static final int PARALLEL_CHUNKS = ForkJoinPool.getCommonPoolParallelism() * 4;
+
+	/**
+	 * Splits the specified list into contiguous chunks and processes each chunk concurrently on the common
+	 * {@link ForkJoinPool}.
+	 *
+	 * <p>
+	 * The list is split into roughly four chunks per thread in the pool so that uneven chunks are balanced out.
+	 * <br>If any chunk fails, the remaining chunks are cancelled and the first exception is rethrown as-is.
+	 *
+	 * @param l The elements to process.
+	 * @param task Processes a single chunk of elements.
+	 * @return The results of processing each chunk, in the same order as the chunks appear in the list.
+	 * @throws Exception The first exception thrown while processing a chunk.
+	 */
+	public static <T> List<T> invokeChunks(List<?> l, final ChunkTask<T> task) throws Exception {
+		int size = l.size();
+		int chunkSize = Math.max(1, (size + PARALLEL_CHUNKS - 1) / PARALLEL_CHUNKS);
+
+		List<ForkJoinTask<T>> tasks = new ArrayList<>();
+		for (int i = 0; i < size; i += chunkSize) {
+			final List<?> chunk = l.subList(i, Math.min(size, i + chunkSize));
+			tasks.add(ForkJoinPool.commonPool().submit(new Callable<T>() {
+				@Override
+				public T call() throws Exception {
+					return task.call(chunk);
+				}
+			}));
+		}
+
+		List<T> l2 = new ArrayList<>(tasks.size());
+		try {
+			for (ForkJoinTask<T> t : tasks)
+				l2.add(t.get());
+		} catch (ExecutionException e) {
+			for (ForkJoinTask<T> t : tasks)
+				t.cancel(true);
+			Throwable c = e.getCause();
+			if (c instanceof Exception)
+				throw (Exception)c;
+			if (c instanceof Error)
+				throw (Error)c;
+			throw e;
+		}
+		return l2;
+	}
+
+	/**
+	 * Processes a single chunk of elements as part of {@link ParallelUtils#invokeChunks(List,ChunkTask)}.
+	 *
+	 * @param <T> The result type.
+	 */
+	public interface ChunkTask<T> {
+
+		/**
+		 * Processes the specified elements.
+		 *
+		 * @param chunk The elements to process.
+		 * @return The result.
+		 * @throws Exception
+		 */
+		T call(List<?> chunk) throws Exception;
+	}
+}
@@ -67,6 +67,18 @@ public class JsoParserBuilder extends InputStreamParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public JsoParserBuilder compactObjects(boolean value) {
+		super.compactObjects(value);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public JsoParserBuilder compactObjects() {
+		super.compactObjects();
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public JsoParserBuilder debugOutputLines(int value) {
 		super.debugOutputLines(value);
@@ -79,6 +91,24 @@ public class JsoParserBuilder extends InputStreamParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public JsoParserBuilder parallelThreshold(int value) {
+		super.parallelThreshold(value);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public JsoParserBuilder recycleBuffers(boolean value) {
+		super.recycleBuffers(value);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public JsoParserBuilder recycleBuffers() {
+		super.recycleBuffers();
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public JsoParserBuilder strict(boolean value) {
 		super.strict(value);
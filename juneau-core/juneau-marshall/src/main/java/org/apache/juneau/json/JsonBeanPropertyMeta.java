@@ -0,0 +1,68 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import java.util.concurrent.atomic.*;
+
+import org.apache.juneau.*;
+
+/**
+ * Metadata on bean properties specific to the JSON serializers and parsers.
+ *
+ * <p>
+ * Holds the encoded forms of the property name so that they only need to be escaped and quoted once per bean property
+ * instead of on every serialization.
+ */
+public class JsonBeanPropertyMeta extends BeanPropertyMetaExtended {
+
+	// Encoded attribute names, indexed by JsonWriter settings.
+	private final AtomicReferenceArray<char[]> attrTokens = new AtomicReferenceArray<>(8);
+
+	/**
+	 * Constructor.
+	 *
+	 * @param bpm The metadata of the bean property of this additional metadata.
+	 */
+	public JsonBeanPropertyMeta(BeanPropertyMeta bpm) {
+		super(bpm);
+	}
+
+	/**
+	 * Returns the name of this bean property.
+	 *
+	 * @return The name of this bean property.
+	 */
+	public String getName() {
+		return getBeanPropertyMeta().getName();
+	}
+
+	/**
+	 * Returns the cached encoded attribute name for the specified writer settings.
+	 *
+	 * @param index The index of the writer settings.
+	 * @return The encoded attribute name, or <jk>null</jk> if it hasn't been computed yet.
+	 */
+	char[] getAttrToken(int index) {
+		return attrTokens.get(index);
+	}
+
+	/**
+	 * Caches the encoded attribute name for the specified writer settings.
+	 *
+	 * @param index The index of the writer settings.
+	 * @param token The encoded attribute name.
+	 */
+	void setAttrToken(int index, char[] token) {
+		attrTokens.set(index, token);
+	}
+}
@@ -113,6 +113,18 @@ public class JsonParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public JsonParserBuilder compactObjects(boolean value) {
+		super.compactObjects(value);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public JsonParserBuilder compactObjects() {
+		super.compactObjects();
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public JsonParserBuilder debugOutputLines(int value) {
 		super.debugOutputLines(value);
@@ -125,6 +137,24 @@ public class JsonParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public JsonParserBuilder parallelThreshold(int value) {
+		super.parallelThreshold(value);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public JsonParserBuilder recycleBuffers(boolean value) {
+		super.recycleBuffers(value);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public JsonParserBuilder recycleBuffers() {
+		super.recycleBuffers();
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public JsonParserBuilder strict(boolean value) {
 		super.strict(value);
@@ -84,6 +84,22 @@ public final class JsonParserSession extends ReaderParserSession {
 
 	@Override /* ParserSession */
 	protected <T> T doParse(ParserPipe pipe, ClassMeta<T> type) throws Exception {
+		if (getParallelThreshold() > 0 && isParallelizable(type)) {
+			List<String> elements = splitArray(pipe);
+			if (elements != null && isParallel(elements.size())) {
+				Object outer = getOuter();
+				Object o;
+				if (type.isArray()) {
+					o = toArray(type, parseParallel(elements, new ArrayList(elements.size()), type.getElementType()));
+				} else {
+					Collection l = (canCreateNewInstance(type, outer) ? (Collection)type.newInstance() : newGenericList());
+					o = parseParallel(elements, l, type.getElementType());
+				}
+				if (outer != null)
+					setParent(type, o, outer);
+				return (T)o;
+			}
+		}
 		try (ParserReader r = pipe.getParserReader()) {
 			if (r == null)
 				return null;
@@ -111,6 +127,156 @@ public final class JsonParserSession extends ReaderParserSession {
 		}
 	}
 
+	/*
+	 * Returns true if the specified type is a plain array or collection that can be populated from a parallel parse.
+	 */
+	private boolean isParallelizable(ClassMeta<?> type) {
+		return (type.isCollection() || type.isArray())
+			&& ! type.isArgs()
+			&& type.getPojoSwap(this) == null
+			&& type.getBuilderSwap(this) == null
+			&& type.getExtendedMeta(JsonClassMeta.class).getWrapperAttr() == null;
+	}
+
+	/*
+	 * Parses the specified array elements in parallel chunks and adds them to the collection in order.
+	 */
+	private Collection parseParallel(List<String> elements, final Collection l, final ClassMeta<?> elementType) throws Exception {
+		List<List<Object>> chunks = parseChunks(elements, new ChunkParser<List<Object>>() {
+			@Override
+			public List<Object> parse(ParserSession session, List<?> chunk) throws Exception {
+				return ((JsonParserSession)session).parseElements((List<String>)chunk, elementType, l);
+			}
+		});
+		for (List<Object> chunk : chunks)
+			l.addAll(chunk);
+		return l;
+	}
+
+	/*
+	 * Parses each of the specified array elements.
+	 */
+	private List<Object> parseElements(List<String> elements, ClassMeta<?> elementType, Object outer) throws Exception {
+		List<Object> l = new ArrayList<>(elements.size());
+		for (String e : elements) {
+			try (ParserPipe pipe = createPipe(e)) {
+				ParserReader r = pipe.getParserReader();
+				l.add(parseAnything(elementType, r, outer, null));
+				skipCommentsAndSpace(r);
+				if (r.read() != -1)
+					throw new ParseException(this, "Expected ',' or ']'.");
+			}
+		}
+		return l;
+	}
+
+	/*
+	 * Scans the input for a top-level JSON array and returns the text of each of its elements.
+	 *
+	 * Returns null if the input isn't available as a string, isn't an array, or contains anything that the sequential
+	 * parser would treat specially or report as an error (e.g. empty elements, comments in strict mode, or trailing
+	 * content) so that the sequential parser can handle it instead.
+	 */
+	private List<String> splitArray(ParserPipe pipe) throws Exception {
+		String s = pipe.peekString();
+		if (s == null)
+			return null;
+
+		int len = s.length();
+		int i = skipSpace(s, 0);
+		if (i == -1 || i == len || s.charAt(i) != '[')
+			return null;
+
+		List<String> l = new ArrayList<>();
+		int depth = 0, start = ++i;
+		while (i < len) {
+			char c = s.charAt(i);
+			if (c == '"' || c == '\'') {
+				for (i++; i < len && s.charAt(i) != c; i++)
+					if (s.charAt(i) == '\\')
+						i++;
+				if (i >= len)
+					return null;
+			} else if (c == '/') {
+				i = isStrict() ? -1 : skipComment(s, i);
+				if (i == -1)
+					return null;
+				continue;
+			} else if (c == '[' || c == '{') {
+				depth++;
+			} else if (c == ']' || c == '}') {
+				if (depth == 0) {
+					if (c != ']')
+						return null;
+					if (l.isEmpty() && skipSpace(s, start) == i)
+						return l;
+					l.add(s.substring(start, i));
+					break;
+				}
+				depth--;
+			} else if (c == ',' && depth == 0) {
+				l.add(s.substring(start, i));
+				start = i + 1;
+			}
+			i++;
+		}
+		if (i >= len)
+			return null;
+
+		for (String e : l)
+			if (skipSpace(e, 0) == e.length())
+				return null;
+
+		if (isValidateEnd()) {
+			i = skipSpace(s, i + 1);
+			if (i == -1 || (i < len && s.charAt(i) != ';'))
+				return null;
+		}
+		return l;
+	}
+
+	/*
+	 * Returns the index of the first character at or after the specified index that isn't whitespace or part of a
+	 * comment, or -1 if an invalid or (in strict mode) any comment was found.
+	 */
+	private int skipSpace(String s, int i) {
+		int len = s.length();
+		while (i < len) {
+			char c = s.charAt(i);
+			if (isWhitespace(c)) {
+				i++;
+			} else if (c == '/') {
+				if (isStrict())
+					return -1;
+				i = skipComment(s, i);
+				if (i == -1)
+					return -1;
+			} else {
+				break;
+			}
+		}
+		return i;
+	}
+
+	/*
+	 * Returns the index immediately after the comment starting at the specified index, or -1 if it's not a valid
+	 * comment.
+	 */
+	private static int skipComment(String s, int i) {
+		if (i + 1 < s.length()) {
+			char c = s.charAt(i + 1);
+			if (c == '*') {
+				int j = s.indexOf("*/", i + 2);
+				return j == -1 ? -1 : j + 2;
+			}
+			if (c == '/') {
+				int j = s.indexOf('\n', i + 2);
+				return j == -1 ? s.length() : j + 1;
+			}
+		}
+		return -1;
+	}
+
 	private <T> T parseAnything(ClassMeta<?> eType, ParserReader r, Object outer, BeanPropertyMeta pMeta) throws Exception {
 
 		if (eType == null)
@@ -146,11 +312,11 @@ public final class JsonParserSession extends ReaderParserSession {
 			parseKeyword("null", r);
 		} else if (sType.isObject()) {
 			if (c == '{') {
-				ObjectMap m2 = new ObjectMap(this);
+				ObjectMap m2 = newGenericMap();
 				parseIntoMap2(r, m2, string(), object(), pMeta);
 				o = cast(m2, pMeta, eType);
 			} else if (c == '[') {
-				o = parseIntoCollection2(r, new ObjectList(this), object(), pMeta);
+				o = parseIntoCollection2(r, newGenericList(), object(), pMeta);
 			} else if (c == '\'' || c == '"') {
 				o = parseString(r);
 				if (sType.isChar())
@@ -173,15 +339,15 @@ public final class JsonParserSession extends ReaderParserSession {
 		} else if (sType.isNumber()) {
 			o = parseNumber(r, (Class<? extends Number>)sType.getInnerClass());
 		} else if (sType.isMap()) {
-			Map m = (sType.canCreateNewInstance(outer) ? (Map)sType.newInstance(outer) : new ObjectMap(this));
+			Map m = (canCreateNewInstance(sType, outer) ? (Map)sType.newInstance(outer) : newGenericMap());
 			o = parseIntoMap2(r, m, sType.getKeyType(), sType.getValueType(), pMeta);
 		} else if (sType.isCollection()) {
 			if (c == '{') {
-				ObjectMap m = new ObjectMap(this);
+				ObjectMap m = newGenericMap();
 				parseIntoMap2(r, m, string(), object(), pMeta);
 				o = cast(m, pMeta, eType);
 			} else {
-				Collection l = (sType.canCreateNewInstance(outer) ? (Collection)sType.newInstance() : new ObjectList(this));
+				Collection l = (canCreateNewInstance(sType, outer) ? (Collection)sType.newInstance() : newGenericList());
 				o = parseIntoCollection2(r, l, sType, pMeta);
 			}
 		} else if (builder != null) {
@@ -196,7 +362,7 @@ public final class JsonParserSession extends ReaderParserSession {
 			o = sType.newInstanceFromNumber(this, outer, parseNumber(r, sType.getNewInstanceFromNumberClass()));
 		} else if (sType.isArray() || sType.isArgs()) {
 			if (c == '{') {
-				ObjectMap m = new ObjectMap(this);
+				ObjectMap m = newGenericMap();
 				parseIntoMap2(r, m, string(), object(), pMeta);
 				o = cast(m, pMeta, eType);
 			} else {
@@ -204,7 +370,7 @@ public final class JsonParserSession extends ReaderParserSession {
 				o = toArray(sType, l);
 			}
 		} else if (c == '{') {
-			Map m = new ObjectMap(this);
+			Map m = newGenericMap();
 			parseIntoMap2(r, m, sType.getKeyType(), sType.getValueType(), pMeta);
 			if (m.containsKey(getBeanTypePropertyName(eType)))
 				o = cast((ObjectMap)m, pMeta, eType);
@@ -218,7 +218,12 @@ public class JsonSerializerSession extends WriterSerializerSession {
 				if (addComma)
 					out.append(',').smi(i);
 
-				out.cr(i).attr(key).append(':').s(i);
+				out.cr(i);
+				if (pMeta.isDyna())
+					out.attr(key);
+				else
+					out.attr(pMeta.getExtendedMeta(JsonBeanPropertyMeta.class));
+				out.append(':').s(i);
 
 				serializeAnything(out, value, cMeta, key, pMeta);
 
@@ -232,12 +237,28 @@ public class JsonSerializerSession extends WriterSerializerSession {
 	@SuppressWarnings({"rawtypes", "unchecked"})
 	private SerializerWriter serializeCollection(JsonWriter out, Collection c, ClassMeta<?> type) throws Exception {
 
-		ClassMeta<?> elementType = type.getElementType();
+		final ClassMeta<?> elementType = type.getElementType();
 
 		c = sort(c);
 
 		out.append('[');
 
+		if (isParallel(c.size())) {
+			List<String> chunks = serializeChunks(c instanceof List ? (List)c : new ArrayList(c), new ChunkSerializer<String>() {
+				@Override
+				public String serialize(SerializerSession session, List<?> chunk) throws Exception {
+					return ((JsonSerializerSession)session).serializeChunk(chunk, elementType);
+				}
+			});
+			for (int i = 0; i < chunks.size(); i++) {
+				if (i > 0)
+					out.append(',').smi(indent);
+				out.append(chunks.get(i));
+			}
+			out.cre(indent-1).append(']');
+			return out;
+		}
+
 		for (Iterator i = c.iterator(); i.hasNext();) {
 			Object value = i.next();
 			out.cr(indent);
@@ -249,6 +270,29 @@ public class JsonSerializerSession extends WriterSerializerSession {
 		return out;
 	}
 
+	/*
+	 * Serializes a contiguous range of collection elements for parallel serialization.
+	 * Elements are separated the same way as in serializeCollection() so that the chunks can simply be joined.
+	 */
+	private String serializeChunk(List<?> chunk, ClassMeta<?> elementType) throws Exception {
+		BufferRecycler br = isRecycleBuffers() ? BufferRecycler.get() : null;
+		StringBuilder sb = br == null ? new StringBuilder() : br.getStringBuilder();
+		try {
+			JsonWriter w = getJsonWriter(createPipe(sb));
+			for (Iterator<?> i = chunk.iterator(); i.hasNext();) {
+				w.cr(indent);
+				serializeAnything(w, i.next(), elementType, "<iterator>", null);
+				if (i.hasNext())
+					w.append(',').smi(indent);
+			}
+			w.flush();
+			return sb.toString();
+		} finally {
+			if (br != null)
+				br.releaseStringBuilder(sb);
+		}
+	}
+
 	/**
 	 * Converts the specified output target object to an {@link JsonWriter}.
 	 *
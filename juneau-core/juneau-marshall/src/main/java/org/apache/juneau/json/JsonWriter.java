@@ -54,6 +54,10 @@ public final class JsonWriter extends SerializerWriter {
 
 	private final AsciiSet ec;
 
+	// Index into the JsonBeanPropertyMeta attribute name cache for the settings on this writer.
+	// -1 if attribute names can't be cached (i.e. non-standard quote character).
+	private final int attrTokenIndex;
+
 	/**
 	 * Constructor.
 	 *
@@ -72,6 +76,10 @@ public final class JsonWriter extends SerializerWriter {
 		this.simpleMode = simpleMode;
 		this.escapeSolidus = escapeSolidus;
 		this.ec = escapeSolidus ? encodedChars2 : encodedChars;
+		if (quoteChar == '"' || quoteChar == '\'')
+			this.attrTokenIndex = (quoteChar == '"' ? 0 : 1) | (trimStrings || ! simpleMode ? 2 : 0) | (escapeSolidus ? 4 : 0);
+		else
+			this.attrTokenIndex = -1;
 	}
 
 	/**
@@ -169,6 +177,31 @@ public final class JsonWriter extends SerializerWriter {
 		return this;
 	}
 
+	/**
+	 * Serializes the name of the specified bean property as a JSON attribute name.
+	 *
+	 * <p>
+	 * Produces the same output as {@link #attr(String)}, but the encoded name is computed only once per combination of
+	 * writer settings and then cached on the property metadata.
+	 *
+	 * @param pMeta The JSON metadata of the bean property being serialized.
+	 * @return This object (for method chaining).
+	 * @throws IOException Should never happen.
+	 */
+	public JsonWriter attr(JsonBeanPropertyMeta pMeta) throws IOException {
+		if (attrTokenIndex == -1)
+			return attr(pMeta.getName());
+		char[] t = pMeta.getAttrToken(attrTokenIndex);
+		if (t == null) {
+			StringBuilderWriter w = new StringBuilderWriter();
+			new JsonWriter(w, false, 0, escapeSolidus, quoteChar, simpleMode, trimStrings, null).attr(pMeta.getName());
+			t = w.toString().toCharArray();
+			pMeta.setAttrToken(attrTokenIndex, t);
+		}
+		append(t);
+		return this;
+	}
+
 	/**
 	 * Appends a URI to the output.
 	 *
@@ -294,6 +327,12 @@ public final class JsonWriter extends SerializerWriter {
 		return this;
 	}
 
+	@Override /* SerializerWriter */
+	public JsonWriter append(char[] characters) throws IOException {
+		super.append(characters);
+		return this;
+	}
+
 	@Override /* SerializerWriter */
 	public JsonWriter append(char c) throws IOException {
 		super.append(c);
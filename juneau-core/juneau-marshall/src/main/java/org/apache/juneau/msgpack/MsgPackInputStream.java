@@ -36,6 +36,13 @@ public final class MsgPackInputStream extends ParserInputStream {
 	private int extType;
 	int pos = 0;
 
+	// Scratch buffers for decoding strings.
+	private char[] charBuff = new char[64];
+	private byte[] byteBuff;
+
+	// Table of recently-read short ASCII strings, indexed by hash.  Null if deduplication is disabled.
+	private final String[] dedupTable;
+
 	// Data type quick-lookup table.
 	private static final DataType[] TYPES = new DataType[] {
 		/*0x0?*/ INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,
@@ -63,9 +70,27 @@ public final class MsgPackInputStream extends ParserInputStream {
 	 * @throws Exception
 	 */
 	protected MsgPackInputStream(ParserPipe pipe) throws Exception {
+		this(pipe, false);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param pipe The parser input.
+	 * @param dedupStrings
+	 * 	If <jk>true</jk>, repeated short ASCII strings (e.g. map keys) return the same {@link String} instance.
+	 * @throws Exception
+	 */
+	protected MsgPackInputStream(ParserPipe pipe, boolean dedupStrings) throws Exception {
 		super(pipe);
+		this.dedupTable = dedupStrings ? new String[DEDUP_TABLE_SIZE] : null;
 	}
 
+	private static final int
+		MAX_SCRATCH_LENGTH = 8192,  // Longer strings are decoded through a temporary byte array.
+		MAX_DEDUP_LENGTH = 32,      // Longer strings are never deduplicated.
+		DEDUP_TABLE_SIZE = 256;     // Must be a power of 2.
+
 	/**
 	 * Reads the data type flag from the stream.
 	 *
@@ -394,7 +419,65 @@ public final class MsgPackInputStream extends ParserInputStream {
 	 * Read a string from the stream.
 	 */
 	String readString() throws IOException {
-		return new String(readBinary(), UTF8);
+		int n = (int)length;
+		if (n > MAX_SCRATCH_LENGTH)
+			return new String(readBinary(), UTF8);
+
+		// Read directly into the char buffer as long as the input is ASCII.
+		if (charBuff.length < n)
+			charBuff = new char[Math.max(n, charBuff.length<<1)];
+		char[] c = charBuff;
+		int hash = 0;
+		for (int i = 0; i < n; i++) {
+			int b = readByte();
+			if (b >= 0x80)
+				return readUtf8String(i, b, n);
+			c[i] = (char)b;
+			hash = 31*hash + b;
+		}
+
+		if (dedupTable == null || n > MAX_DEDUP_LENGTH)
+			return new String(c, 0, n);
+
+		int slot = hash & (DEDUP_TABLE_SIZE-1);
+		String s = dedupTable[slot];
+		if (s == null || ! matches(s, c, n)) {
+			s = new String(c, 0, n);
+			dedupTable[slot] = s;
+		}
+		return s;
+	}
+
+	/*
+	 * Finishes reading a string once a non-ASCII byte is found.
+	 * The first i bytes are already in charBuff, and b is the byte that was just read.
+	 */
+	private String readUtf8String(int i, int b, int n) throws IOException {
+		if (byteBuff == null || byteBuff.length < n)
+			byteBuff = new byte[Math.max(n, 64)];
+		byte[] bb = byteBuff;
+		for (int j = 0; j < i; j++)
+			bb[j] = (byte)charBuff[j];
+		bb[i] = (byte)b;
+		for (int j = i+1; j < n; j++)
+			bb[j] = (byte)readByte();
+		return new String(bb, 0, n, UTF8);
+	}
+
+	private static boolean matches(String s, char[] c, int n) {
+		if (s.length() != n)
+			return false;
+		for (int i = 0; i < n; i++)
+			if (s.charAt(i) != c[i])
+				return false;
+		return true;
+	}
+
+	private int readByte() throws IOException {
+		int i = read();
+		if (i == -1)
+			throw new IOException("Unexpected end of file found at position " + pos);
+		return i;
 	}
 
 	/**
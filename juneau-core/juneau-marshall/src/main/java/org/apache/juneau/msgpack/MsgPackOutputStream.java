@@ -30,6 +30,8 @@ import java.util.concurrent.atomic.*;
 public final class MsgPackOutputStream extends OutputStream {
 
 	private final OutputStream os;
+	private final byte[] buff = new byte[8192];  // Output is collected here and written to the wrapped stream when full.
+	private int pos;
 
 	/**
 	 * Constructor.
@@ -42,22 +44,55 @@ public final class MsgPackOutputStream extends OutputStream {
 
 	@Override /* OutputStream */
 	public void write(int b) throws IOException {
-		os.write(b);
+		append1(b);
+	}
+
+	@Override /* OutputStream */
+	public void write(byte[] b, int off, int len) throws IOException {
+		if (len > buff.length - pos) {
+			flushBuffer();
+			if (len > buff.length) {
+				os.write(b, off, len);
+				return;
+			}
+		}
+		System.arraycopy(b, off, buff, pos, len);
+		pos += len;
+	}
+
+	@Override /* OutputStream */
+	public void flush() throws IOException {
+		flushBuffer();
+		os.flush();
+	}
+
+	/**
+	 * Flushes the internal buffer but does not close the wrapped stream.
+	 */
+	@Override /* OutputStream */
+	public void close() throws IOException {
+		flush();
+	}
+
+	private void flushBuffer() throws IOException {
+		if (pos > 0) {
+			os.write(buff, 0, pos);
+			pos = 0;
+		}
 	}
 
 	/**
 	 * Same as {@link #write(int)}.
 	 */
 	final MsgPackOutputStream append(byte b) throws IOException {
-		os.write(b);
-		return this;
+		return append1(b);
 	}
 
 	/**
 	 * Same as {@link #write(byte[])}.
 	 */
 	final MsgPackOutputStream append(byte[] b) throws IOException {
-		os.write(b);
+		write(b, 0, b.length);
 		return this;
 	}
 
@@ -65,7 +100,9 @@ public final class MsgPackOutputStream extends OutputStream {
 	 * Appends one byte to the stream.
 	 */
 	final MsgPackOutputStream append1(int i) throws IOException {
-		os.write(i);
+		if (pos == buff.length)
+			flushBuffer();
+		buff[pos++] = (byte)i;
 		return this;
 	}
 
@@ -215,14 +252,102 @@ public final class MsgPackOutputStream extends OutputStream {
 		// * AAAAAAAA_AAAAAAAA_AAAAAAAA_AAAAAAAA is a 32-bit big-endian unsigned integer which represents N
 		// * N is the length of data
 
-		byte[] b = cs.toString().getBytes("UTF-8");
-		if (b.length < 32)
-			return append1(0xA0 + b.length).append(b);
-		if (b.length < (1<<8))
-			return append1(STR8).append1(b.length).append(b);
-		if (b.length < (1<<16))
-			return append1(STR16).append2(b.length).append(b);
-		return append1(STR32).append4(b.length).append(b);
+		int n = cs.length(), max = n * 3;
+
+		// Short strings are encoded directly into the buffer after a header sized for the worst case.
+		// The header is then patched (and the data shifted down if a smaller header suffices).
+		if (max + 5 <= buff.length) {
+			if (pos + max + 5 > buff.length)
+				flushBuffer();
+			int start = pos, h = headerLength(max);
+			pos += h;
+			for (int i = 0; i < n; i++)
+				i = encodeChar(cs, i, n);
+			int len = pos - start - h, h2 = headerLength(len);
+			if (h2 < h)
+				System.arraycopy(buff, start + h, buff, start + h2, len);
+			pos = start;
+			appendStringHeader(len);
+			pos += len;
+			return this;
+		}
+
+		// Long strings are measured first, then streamed through the buffer.
+		appendStringHeader(utf8Length(cs));
+		for (int i = 0; i < n; i++) {
+			if (pos + 4 > buff.length)
+				flushBuffer();
+			i = encodeChar(cs, i, n);
+		}
+		return this;
+	}
+
+	private MsgPackOutputStream appendStringHeader(int len) throws IOException {
+		if (len < 32)
+			return append1(0xA0 + len);
+		if (len < (1<<8))
+			return append1(STR8).append1(len);
+		if (len < (1<<16))
+			return append1(STR16).append2(len);
+		return append1(STR32).append4(len);
+	}
+
+	private static int headerLength(int len) {
+		return len < 32 ? 1 : len < (1<<8) ? 2 : len < (1<<16) ? 3 : 5;
+	}
+
+	/*
+	 * Writes the UTF-8 bytes of the character at the specified index into the buffer.
+	 * Unpaired surrogates are written as '?' (same as String.getBytes()).
+	 * Returns the index of the last character consumed.
+	 */
+	private int encodeChar(CharSequence cs, int i, int n) {
+		char c = cs.charAt(i);
+		if (c < 0x80) {
+			buff[pos++] = (byte)c;
+		} else if (c < 0x800) {
+			buff[pos++] = (byte)(0xC0 | (c >> 6));
+			buff[pos++] = (byte)(0x80 | (c & 0x3F));
+		} else if (Character.isSurrogate(c)) {
+			if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(cs.charAt(i + 1))) {
+				int cp = Character.toCodePoint(c, cs.charAt(++i));
+				buff[pos++] = (byte)(0xF0 | (cp >> 18));
+				buff[pos++] = (byte)(0x80 | ((cp >> 12) & 0x3F));
+				buff[pos++] = (byte)(0x80 | ((cp >> 6) & 0x3F));
+				buff[pos++] = (byte)(0x80 | (cp & 0x3F));
+			} else {
+				buff[pos++] = '?';
+			}
+		} else {
+			buff[pos++] = (byte)(0xE0 | (c >> 12));
+			buff[pos++] = (byte)(0x80 | ((c >> 6) & 0x3F));
+			buff[pos++] = (byte)(0x80 | (c & 0x3F));
+		}
+		return i;
+	}
+
+	/*
+	 * Returns the number of bytes the specified string takes up when encoded as UTF-8.
+	 */
+	private static int utf8Length(CharSequence cs) {
+		int len = 0;
+		for (int i = 0, n = cs.length(); i < n; i++) {
+			char c = cs.charAt(i);
+			if (c < 0x80)
+				len++;
+			else if (c < 0x800)
+				len += 2;
+			else if (Character.isSurrogate(c)) {
+				if (Character.isHighSurrogate(c) && i + 1 < n && Character.isLowSurrogate(cs.charAt(i + 1))) {
+					len += 4;
+					i++;
+				} else {
+					len++;
+				}
+			} else
+				len += 3;
+		}
+		return len;
 	}
 
 	/**
@@ -24,6 +24,54 @@ import org.apache.juneau.parser.*;
  */
 public class MsgPackParser extends InputStreamParser {
 
+	//-------------------------------------------------------------------------------------------------------------------
+	// Configurable properties
+	//-------------------------------------------------------------------------------------------------------------------
+
+	private static final String PREFIX = "MsgPackParser.";
+
+	/**
+	 * Configuration property:  Deduplicate strings.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"MsgPackParser.dedupStrings.b"</js>
+	 * 	<li><b>Data type:</b>  <code>Boolean</code>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link MsgPackParserBuilder#dedupStrings(boolean)}
+	 * 			<li class='jm'>{@link MsgPackParserBuilder#dedupStrings()}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * If <jk>true</jk>, short ASCII strings that occur repeatedly in the input (typically map keys and bean property
+	 * names) are looked up in a small per-parse table so that the same {@link String} instance is returned instead of
+	 * a new one each time.
+	 *
+	 * <p>
+	 * This reduces allocation when parsing large arrays of maps or beans.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a parser that deduplicates strings.</jc>
+	 * 	InputStreamParser p = MsgPackParser
+	 * 		.<jsm>create</jsm>()
+	 * 		.dedupStrings()
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	InputStreamParser p = MsgPackParser
+	 * 		.<jsm>create</jsm>()
+	 * 		.set(<jsf>MSGPACK_dedupStrings</jsf>, <jk>true</jk>)
+	 * 		.build();
+	 * </p>
+	 */
+	public static final String MSGPACK_dedupStrings = PREFIX + "dedupStrings.b";
+
 	//-------------------------------------------------------------------------------------------------------------------
 	// Predefined instances
 	//-------------------------------------------------------------------------------------------------------------------
@@ -75,6 +123,8 @@ public class MsgPackParser extends InputStreamParser {
 	// Instance
 	//-------------------------------------------------------------------------------------------------------------------
 
+	private final boolean dedupStrings;
+
 	/**
 	 * Constructor.
 	 *
@@ -82,6 +132,7 @@ public class MsgPackParser extends InputStreamParser {
 	 */
 	public MsgPackParser(PropertyStore ps) {
 		super(ps, "octal/msgpack");
+		this.dedupStrings = getBooleanProperty(MSGPACK_dedupStrings, false);
 	}
 
 	@Override /* Context */
@@ -110,9 +161,26 @@ public class MsgPackParser extends InputStreamParser {
 		return new MsgPackParserSession(this, args);
 	}
 
+	//-----------------------------------------------------------------------------------------------------------------
+	// Properties
+	//-----------------------------------------------------------------------------------------------------------------
+
+	/**
+	 * Configuration property:  Deduplicate strings.
+	 *
+	 * @see #MSGPACK_dedupStrings
+	 * @return
+	 * 	<jk>true</jk> if repeated short strings in the input return the same {@link String} instance.
+	 */
+	protected final boolean isDedupStrings() {
+		return dedupStrings;
+	}
+
 	@Override /* Context */
 	public ObjectMap asMap() {
 		return super.asMap()
-			.append("MsgPackParser", new ObjectMap());
+			.append("MsgPackParser", new ObjectMap()
+				.append("dedupStrings", dedupStrings)
+			);
 	}
 }
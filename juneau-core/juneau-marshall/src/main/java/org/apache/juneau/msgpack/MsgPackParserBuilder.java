@@ -12,6 +12,8 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.msgpack;
 
+import static org.apache.juneau.msgpack.MsgPackParser.*;
+
 import java.util.*;
 
 import org.apache.juneau.*;
@@ -49,6 +51,43 @@ public class MsgPackParserBuilder extends InputStreamParserBuilder {
 	// Properties
 	//-----------------------------------------------------------------------------------------------------------------
 
+	/**
+	 * Configuration property:  Deduplicate strings.
+	 *
+	 * <p>
+	 * If <jk>true</jk>, repeated short strings in the input (e.g. map keys) return the same {@link String} instance.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link MsgPackParser#MSGPACK_dedupStrings}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default value is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public MsgPackParserBuilder dedupStrings(boolean value) {
+		return set(MSGPACK_dedupStrings, value);
+	}
+
+	/**
+	 * Configuration property:  Deduplicate strings.
+	 *
+	 * <p>
+	 * Shortcut for calling <code>dedupStrings(<jk>true</jk>)</code>.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link MsgPackParser#MSGPACK_dedupStrings}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public MsgPackParserBuilder dedupStrings() {
+		return set(MSGPACK_dedupStrings, true);
+	}
+
 	@Override /* InputStreamParserBuilder */
 	public MsgPackParserBuilder binaryFormat(BinaryFormat value) {
 		super.binaryFormat(value);
@@ -67,6 +106,18 @@ public class MsgPackParserBuilder extends InputStreamParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public MsgPackParserBuilder compactObjects(boolean value) {
+		super.compactObjects(value);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public MsgPackParserBuilder compactObjects() {
+		super.compactObjects();
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public MsgPackParserBuilder debugOutputLines(int value) {
 		super.debugOutputLines(value);
@@ -79,6 +130,24 @@ public class MsgPackParserBuilder extends InputStreamParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public MsgPackParserBuilder parallelThreshold(int value) {
+		super.parallelThreshold(value);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public MsgPackParserBuilder recycleBuffers(boolean value) {
+		super.recycleBuffers(value);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public MsgPackParserBuilder recycleBuffers() {
+		super.recycleBuffers();
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public MsgPackParserBuilder strict(boolean value) {
 		super.strict(value);
@@ -30,6 +30,8 @@ import org.apache.juneau.transform.*;
 @SuppressWarnings({ "rawtypes", "unchecked" })
 public final class MsgPackParserSession extends InputStreamParserSession {
 
+	private final MsgPackParser ctx;
+
 	/**
 	 * Create a new session using properties specified in the context.
 	 *
@@ -41,11 +43,12 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 	 */
 	protected MsgPackParserSession(MsgPackParser ctx, ParserSessionArgs args) {
 		super(ctx, args);
+		this.ctx = ctx;
 	}
 
 	@Override /* ParserSession */
 	protected <T> T doParse(ParserPipe pipe, ClassMeta<T> type) throws Exception {
-		try (MsgPackInputStream is = new MsgPackInputStream(pipe)) {
+		try (MsgPackInputStream is = new MsgPackInputStream(pipe, ctx.isDedupStrings())) {
 			return parseAnything(type, is, getOuter(), null);
 		}
 	}
@@ -88,12 +91,12 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 			else if (dt == BIN)
 				o = is.readBinary();
 			else if (dt == ARRAY && sType.isObject()) {
-				ObjectList ol = new ObjectList(this);
+				ObjectList ol = newGenericList();
 				for (int i = 0; i < length; i++)
 					ol.add(parseAnything(object(), is, outer, pMeta));
 				o = ol;
 			} else if (dt == MAP && sType.isObject()) {
-				ObjectMap om = new ObjectMap(this);
+				ObjectMap om = newGenericMap();
 				for (int i = 0; i < length; i++)
 					om.put((String)parseAnything(string(), is, outer, pMeta), parseAnything(object(), is, om, pMeta));
 				o = cast(om, pMeta, eType);
@@ -105,7 +108,7 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 				o = convertToType(o, sType);
 			} else if (sType.isMap()) {
 				if (dt == MAP) {
-					Map m = (sType.canCreateNewInstance(outer) ? (Map)sType.newInstance(outer) : new ObjectMap(this));
+					Map m = (canCreateNewInstance(sType, outer) ? (Map)sType.newInstance(outer) : newGenericMap());
 					for (int i = 0; i < length; i++) {
 						Object key = parseAnything(sType.getKeyType(), is, outer, pMeta);
 						ClassMeta<?> vt = sType.getValueType();
@@ -145,15 +148,15 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 				o = sType.newInstanceFromNumber(this, outer, (Number)o);
 			} else if (sType.isCollection()) {
 				if (dt == MAP) {
-					ObjectMap m = new ObjectMap(this);
+					ObjectMap m = newGenericMap();
 					for (int i = 0; i < length; i++)
 						m.put((String)parseAnything(string(), is, outer, pMeta), parseAnything(object(), is, m, pMeta));
 					o = cast(m, pMeta, eType);
 				} else if (dt == ARRAY) {
 					Collection l = (
-						sType.canCreateNewInstance(outer)
+						canCreateNewInstance(sType, outer)
 						? (Collection)sType.newInstance()
-						: new ObjectList(this)
+						: newGenericList()
 					);
 					for (int i = 0; i < length; i++)
 						l.add(parseAnything(sType.getElementType(), is, l, pMeta));
@@ -163,15 +166,15 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 				}
 			} else if (sType.isArray() || sType.isArgs()) {
 				if (dt == MAP) {
-					ObjectMap m = new ObjectMap(this);
+					ObjectMap m = newGenericMap();
 					for (int i = 0; i < length; i++)
 						m.put((String)parseAnything(string(), is, outer, pMeta), parseAnything(object(), is, m, pMeta));
 					o = cast(m, pMeta, eType);
 				} else if (dt == ARRAY) {
 					Collection l = (
-						sType.isCollection() && sType.canCreateNewInstance(outer)
+						sType.isCollection() && canCreateNewInstance(sType, outer)
 						? (Collection)sType.newInstance()
-						: new ObjectList(this)
+						: newGenericList()
 					);
 					for (int i = 0; i < length; i++)
 						l.add(parseAnything(sType.isArgs() ? sType.getArg(i) : sType.getElementType(), is, l, pMeta));
@@ -180,7 +183,7 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 					throw new ParseException(this, "Invalid data type {0} encountered for parse type {1}", dt, sType);
 				}
 			} else if (dt == MAP) {
-				ObjectMap m = new ObjectMap(this);
+				ObjectMap m = newGenericMap();
 				for (int i = 0; i < length; i++)
 					m.put((String)parseAnything(string(), is, outer, pMeta), parseAnything(object(), is, m, pMeta));
 				if (m.containsKey(getBeanTypePropertyName(eType)))
@@ -12,6 +12,7 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.msgpack;
 
+import java.io.*;
 import java.util.*;
 
 import org.apache.juneau.*;
@@ -56,7 +57,11 @@ public final class MsgPackSerializerSession extends OutputStreamSerializerSessio
 
 	@Override /* SerializerSession */
 	protected void doSerialize(SerializerPipe out, Object o) throws Exception {
-		serializeAnything(getMsgPackOutputStream(out), o, getExpectedRootType(o), "root", null);
+		MsgPackOutputStream os = getMsgPackOutputStream(out);
+		serializeAnything(os, o, getExpectedRootType(o), "root", null);
+
+		// A caller-supplied stream isn't closed by the pipe, so the buffered output must be written out here.
+		os.flush();
 	}
 
 	/*
@@ -209,7 +214,7 @@ public final class MsgPackSerializerSession extends OutputStreamSerializerSessio
 	@SuppressWarnings({"rawtypes", "unchecked"})
 	private void serializeCollection(MsgPackOutputStream out, Collection c, ClassMeta<?> type) throws Exception {
 
-		ClassMeta<?> elementType = type.getElementType();
+		final ClassMeta<?> elementType = type.getElementType();
 		List<Object> l = new ArrayList<>(c.size());
 
 		c = sort(c);
@@ -217,10 +222,40 @@ public final class MsgPackSerializerSession extends OutputStreamSerializerSessio
 
 		out.startArray(l.size());
 
+		if (isParallel(l.size())) {
+			List<byte[]> chunks = serializeChunks(l, new ChunkSerializer<byte[]>() {
+				@Override
+				public byte[] serialize(SerializerSession session, List<?> chunk) throws Exception {
+					return ((MsgPackSerializerSession)session).serializeChunk(chunk, elementType);
+				}
+			});
+			for (byte[] b : chunks)
+				out.write(b);
+			return;
+		}
+
 		for (Object o : l)
 			serializeAnything(out, o, elementType, "<iterator>", null);
 	}
 
+	/*
+	 * Serializes a contiguous range of array elements for parallel serialization.
+	 */
+	private byte[] serializeChunk(List<?> chunk, ClassMeta<?> elementType) throws Exception {
+		BufferRecycler br = isRecycleBuffers() ? BufferRecycler.get() : null;
+		ByteArrayOutputStream baos = br == null ? new ByteArrayOutputStream() : br.getByteStream();
+		try {
+			MsgPackOutputStream os = new MsgPackOutputStream(baos);
+			for (Object o : chunk)
+				serializeAnything(os, o, elementType, "<iterator>", null);
+			os.flush();
+			return baos.toByteArray();
+		} finally {
+			if (br != null)
+				br.releaseByteStream(baos);
+		}
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Properties
 	//-----------------------------------------------------------------------------------------------------------------
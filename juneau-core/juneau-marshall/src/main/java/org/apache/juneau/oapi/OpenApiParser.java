@@ -12,7 +12,11 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.oapi;
 
+import java.util.concurrent.*;
+
 import org.apache.juneau.*;
+import org.apache.juneau.httppart.*;
+import org.apache.juneau.oapi.OpenApiParserSession.*;
 import org.apache.juneau.parser.*;
 import org.apache.juneau.uon.*;
 
@@ -38,6 +42,8 @@ public class OpenApiParser extends UonParser {
 	// Instance
 	//-------------------------------------------------------------------------------------------------------------------
 
+	private final ConcurrentHashMap<HttpPartSchema,ConcurrentHashMap<Class<?>,PartDecoder>> partDecoders = new ConcurrentHashMap<>();
+
 	/**
 	 * Constructor.
 	 *
@@ -93,4 +99,41 @@ public class OpenApiParser extends UonParser {
 	public OpenApiParserSession createPartSession(ParserSessionArgs args) {
 		return new OpenApiParserSession(this, args);
 	}
+
+	/**
+	 * Compiles the parse plan for the specified schema and target type.
+	 *
+	 * <p>
+	 * The type, format, and collection format of the schema and the conversions needed for the target type are
+	 * resolved once and reused by all parts subsequently parsed with the same schema and type.
+	 * <br>Typically called once per parameter when the schema and type are known up front.
+	 *
+	 * @param schema The part schema.  If <jk>null</jk>, uses the default schema.
+	 * @param type The class type of the object to create.
+	 */
+	public void precompile(HttpPartSchema schema, ClassMeta<?> type) {
+		getPartDecoder(schema == null ? HttpPartSchema.DEFAULT : schema, type);
+	}
+
+	/**
+	 * Returns the cached parse plan for the specified schema and target type.
+	 */
+	PartDecoder getPartDecoder(HttpPartSchema schema, ClassMeta<?> type) {
+		ConcurrentHashMap<Class<?>,PartDecoder> m = partDecoders.get(schema);
+		if (m == null) {
+			if (partDecoders.size() > 1000)
+				partDecoders.clear();
+			m = new ConcurrentHashMap<>();
+			ConcurrentHashMap<Class<?>,PartDecoder> m2 = partDecoders.putIfAbsent(schema, m);
+			if (m2 != null)
+				m = m2;
+		}
+		Class<?> c = type.getInnerClass();
+		PartDecoder d = m.get(c);
+		if (d == null || d.beanContext != type.getBeanContext()) {
+			d = new PartDecoder(schema, type);
+			m.put(c, d);
+		}
+		return d;
+	}
 }
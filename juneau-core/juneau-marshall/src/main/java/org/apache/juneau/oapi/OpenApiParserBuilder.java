@@ -55,6 +55,18 @@ public class OpenApiParserBuilder extends UonParserBuilder {
 		return set(UonParser.UON_decoding, value);
 	}
 
+	@Override /* ParserBuilder */
+	public OpenApiParserBuilder compactObjects(boolean value) {
+		super.compactObjects(value);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public OpenApiParserBuilder compactObjects() {
+		super.compactObjects();
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public OpenApiParserBuilder fileCharset(String value) {
 		super.fileCharset(value);
@@ -73,6 +85,24 @@ public class OpenApiParserBuilder extends UonParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public OpenApiParserBuilder parallelThreshold(int value) {
+		super.parallelThreshold(value);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public OpenApiParserBuilder recycleBuffers(boolean value) {
+		super.recycleBuffers(value);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public OpenApiParserBuilder recycleBuffers() {
+		super.recycleBuffers();
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public OpenApiParserBuilder strict(boolean value) {
 		super.strict(value);
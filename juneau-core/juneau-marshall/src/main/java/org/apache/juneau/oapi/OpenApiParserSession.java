@@ -70,23 +70,31 @@ public class OpenApiParserSession extends UonParserSession {
 	@Override /* HttpPartParser */
 	public <T> T parse(HttpPartType partType, HttpPartSchema schema, String in, ClassMeta<T> type) throws ParseException, SchemaValidationException {
 		schema = ObjectUtils.firstNonNull(schema, getSchema(), DEFAULT_SCHEMA);
-		T t = parseInner(partType, schema, in, type);
+		return parse(partType, ctx.getPartDecoder(schema, type), in, type);
+	}
+
+	private <T> T parse(HttpPartType partType, PartDecoder d, String in, ClassMeta<T> type) throws ParseException, SchemaValidationException {
+		T t = parseInner(partType, d, in, type);
 		if (t == null && type.isPrimitive())
 			t = type.getPrimitiveDefault();
-		schema.validateOutput(t, ctx);
+		d.schema.validateOutput(t, this);
 		return t;
 	}
 
 	@SuppressWarnings({ "unchecked" })
-	private<T> T parseInner(HttpPartType partType, HttpPartSchema schema, String in, ClassMeta<T> type) throws SchemaValidationException, ParseException {
+	private<T> T parseInner(HttpPartType partType, PartDecoder d, String in, ClassMeta<T> type) throws SchemaValidationException, ParseException {
+		HttpPartSchema schema = d.schema;
 		schema.validateInput(in);
 		if (in == null) {
 			if (schema.getDefault() == null)
 				return null;
 			in = schema.getDefault();
 		} else {
-			HttpPartSchema.Type t = schema.getType(type);
-			HttpPartSchema.Format f = schema.getFormat(type);
+			HttpPartSchema.Type t = d.type;
+			HttpPartSchema.Format f = d.format;
+
+			if (d.objectType != null)
+				type = (ClassMeta<T>)d.objectType;
 
 			if (t == STRING) {
 				if (type.isObject()) {
@@ -115,14 +123,11 @@ public class OpenApiParserSession extends UonParserSession {
 				return toType(in, type);
 
 			} else if (t == ARRAY) {
-				if (type.isObject())
-					type = (ClassMeta<T>)CM_ObjectList;
-
-				ClassMeta<?> eType = type.isObject() ? string() : type.getElementType();
+				ClassMeta<?> eType = type.getElementType();
 				if (eType == null)
 					eType = schema.getParsedType().getElementType();
 
-				HttpPartSchema.CollectionFormat cf = schema.getCollectionFormat();
+				HttpPartSchema.CollectionFormat cf = d.collectionFormat;
 				String[] ss = new String[0];
 
 				if (cf == MULTI)
@@ -143,49 +148,31 @@ public class OpenApiParserSession extends UonParserSession {
 					ss = split(in, ',');
 				}
 
-				HttpPartSchema items = schema.getItems();
-				if (items == null)
-					items = HttpPartSchema.DEFAULT;
+				PartDecoder ed = ctx.getPartDecoder(d.items, eType);
 				Object[] o = new Object[ss.length];
 				for (int i = 0; i < ss.length; i++)
-					o[i] = parse(partType, items, ss[i], eType);
-				if (type.hasTransformFrom(schema.getParsedType()) || schema.getParsedType().hasTransformTo(type))
+					o[i] = parse(partType, ed, ss[i], eType);
+				if (d.viaParsedType)
 					return toType(toType(o, schema.getParsedType()), type);
 				return toType(o, type);
 
 			} else if (t == BOOLEAN) {
-				if (type.isObject())
-					type = (ClassMeta<T>)CM_Boolean;
-				if (type.isBoolean())
+				if (d.direct)
 					return super.parse(partType, schema, in, type);
 				return toType(super.parse(partType, schema, in, CM_Boolean), type);
 
 			} else if (t == INTEGER) {
-				if (type.isObject()) {
-					if (f == INT64)
-						type = (ClassMeta<T>)CM_Long;
-					else
-						type = (ClassMeta<T>)CM_Integer;
-				}
-				if (type.isNumber())
+				if (d.direct)
 					return super.parse(partType, schema, in, type);
 				return toType(super.parse(partType, schema, in, CM_Integer), type);
 
 			} else if (t == NUMBER) {
-				if (type.isObject()) {
-					if (f == DOUBLE)
-						type = (ClassMeta<T>)CM_Double;
-					else
-						type = (ClassMeta<T>)CM_Float;
-				}
-				if (type.isNumber())
+				if (d.direct)
 					return super.parse(partType, schema, in, type);
 				return toType(super.parse(partType, schema, in, CM_Integer), type);
 
 			} else if (t == OBJECT) {
-				if (type.isObject())
-					type = (ClassMeta<T>)CM_ObjectMap;
-				if (schema.hasProperties() && type.isMapOrBean()) {
+				if (d.properties) {
 					try {
 						if (type.isBean()) {
 							BeanMap<T> m = BC.createBeanSession().newBeanMap(type.getInnerClass());
@@ -227,4 +214,57 @@ public class OpenApiParserSession extends UonParserSession {
 			throw new ParseException(e.getMessage());
 		}
 	}
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Compiled part decoders
+	//-------------------------------------------------------------------------------------------------------------------
+
+	/**
+	 * Parse plan for a single schema and target class.
+	 *
+	 * <p>
+	 * Resolves the type, format, and collection format of the schema and the conversions needed for the target class
+	 * once so that they aren't recomputed for every part parsed.
+	 */
+	static final class PartDecoder {
+		final BeanContext beanContext;
+		final HttpPartSchema schema, items;
+		final HttpPartSchema.Type type;
+		final HttpPartSchema.Format format;
+		final HttpPartSchema.CollectionFormat collectionFormat;
+		final ClassMeta<?> objectType;  // The class to parse into when the target is Object.
+		final boolean direct;           // Booleans and numbers can be parsed directly into the target class.
+		final boolean viaParsedType;    // Arrays must be converted to the schema parsed type first.
+		final boolean properties;       // Maps and beans are parsed using the schema properties.
+
+		PartDecoder(HttpPartSchema schema, ClassMeta<?> cm) {
+			this.beanContext = cm.getBeanContext();
+			this.schema = schema;
+			this.items = ObjectUtils.firstNonNull(schema.getItems(), DEFAULT_SCHEMA);
+			this.type = schema.getType(cm);
+			this.format = schema.getFormat(cm);
+			this.collectionFormat = schema.getCollectionFormat();
+
+			ClassMeta<?> ot = null;
+			if (cm.isObject()) {
+				if (type == ARRAY)
+					ot = CM_ObjectList;
+				else if (type == BOOLEAN)
+					ot = CM_Boolean;
+				else if (type == INTEGER)
+					ot = format == INT64 ? CM_Long : CM_Integer;
+				else if (type == NUMBER)
+					ot = format == DOUBLE ? CM_Double : CM_Float;
+				else if (type == OBJECT)
+					ot = CM_ObjectMap;
+			}
+			this.objectType = ot;
+
+			ClassMeta<?> t = ot == null ? cm : ot;
+			ClassMeta<?> pt = schema.getParsedType();
+			this.direct = type == BOOLEAN ? t.isBoolean() : t.isNumber();
+			this.viaParsedType = type == ARRAY && (t.hasTransformFrom(pt) || pt.hasTransformTo(t));
+			this.properties = type == OBJECT && schema.hasProperties() && t.isMapOrBean();
+		}
+	}
 }
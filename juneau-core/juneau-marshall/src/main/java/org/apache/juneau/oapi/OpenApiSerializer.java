@@ -12,8 +12,11 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.oapi;
 
+import java.util.concurrent.*;
+
 import org.apache.juneau.*;
 import org.apache.juneau.httppart.*;
+import org.apache.juneau.oapi.OpenApiSerializerSession.*;
 import org.apache.juneau.serializer.*;
 import org.apache.juneau.uon.*;
 
@@ -39,6 +42,8 @@ public class OpenApiSerializer extends UonSerializer {
 	// Instance
 	//-------------------------------------------------------------------------------------------------------------------
 
+	private final ConcurrentHashMap<HttpPartSchema,ConcurrentHashMap<Class<?>,PartEncoder>> partEncoders = new ConcurrentHashMap<>();
+
 	/**
 	 * Constructor.
 	 *
@@ -136,4 +141,41 @@ public class OpenApiSerializer extends UonSerializer {
 	public String serialize(HttpPartSchema schema, Object value) throws SchemaValidationException, SerializeException {
 		return createPartSession().serialize(null, schema, value);
 	}
+
+	/**
+	 * Compiles the serialize plan for the specified schema and value class.
+	 *
+	 * <p>
+	 * The type, format, and collection format of the schema and the conversions needed for the value class are
+	 * resolved once and reused by all values of that class subsequently serialized with the same schema.
+	 * <br>Typically called once per parameter when the schema and type are known up front.
+	 *
+	 * @param schema The part schema.  If <jk>null</jk>, uses the default schema.
+	 * @param type The class of the values being serialized.
+	 */
+	public void precompile(HttpPartSchema schema, Class<?> type) {
+		getPartEncoder(schema == null ? HttpPartSchema.DEFAULT : schema, getClassMeta(type));
+	}
+
+	/**
+	 * Returns the cached serialize plan for the specified schema and value type.
+	 */
+	PartEncoder getPartEncoder(HttpPartSchema schema, ClassMeta<?> type) {
+		ConcurrentHashMap<Class<?>,PartEncoder> m = partEncoders.get(schema);
+		if (m == null) {
+			if (partEncoders.size() > 1000)
+				partEncoders.clear();
+			m = new ConcurrentHashMap<>();
+			ConcurrentHashMap<Class<?>,PartEncoder> m2 = partEncoders.putIfAbsent(schema, m);
+			if (m2 != null)
+				m = m2;
+		}
+		Class<?> c = type.getInnerClass();
+		PartEncoder e = m.get(c);
+		if (e == null || e.beanContext != type.getBeanContext()) {
+			e = new PartEncoder(schema, type);
+			m.put(c, e);
+		}
+		return e;
+	}
 }
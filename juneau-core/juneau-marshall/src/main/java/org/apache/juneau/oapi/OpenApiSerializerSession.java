@@ -93,20 +93,21 @@ public class OpenApiSerializerSession extends UonSerializerSession {
 		ClassMeta<?> type = getClassMetaForObject(value);
 		if (type == null)
 			type = object();
-		HttpPartSchema.Type t = schema.getType(type);
-		HttpPartSchema.Format f = schema.getFormat(type);
-		HttpPartSchema.CollectionFormat cf = schema.getCollectionFormat();
+		PartEncoder e = ctx.getPartEncoder(schema, type);
+		HttpPartSchema.Type t = e.type;
+		HttpPartSchema.Format f = e.format;
+		HttpPartSchema.CollectionFormat cf = e.collectionFormat;
 
 		String out = null;
 
-		schema.validateOutput(value, ctx);
+		schema.validateOutput(value, this);
 
-		if (type.hasTransformTo(schema.getParsedType()) || schema.getParsedType().hasTransformFrom(type)) {
+		if (e.viaParsedType) {
 			value = toType(value, schema.getParsedType());
 			type = schema.getParsedType();
 		}
 
-		if (type.isUri()) {
+		if (e.uri) {
 			value = getUriResolver().resolve(value);
 			type = string();
 		}
@@ -191,7 +192,7 @@ public class OpenApiSerializerSession extends UonSerializerSession {
 
 				if (f == HttpPartSchema.Format.UON) {
 					out = super.serialize(partType, null, value);
-				} else if (schema.hasProperties() && type.isMapOrBean()) {
+				} else if (e.properties) {
 					out = super.serialize(partType, null, toMap(partType, type, value, schema));
 				} else {
 					out = super.serialize(partType, null, value);
@@ -262,10 +263,10 @@ public class OpenApiSerializerSession extends UonSerializerSession {
 			return null;
 		if (s == null)
 			s = DEFAULT_SCHEMA;
-		ClassMeta cm = getClassMetaForObject(o);
-		HttpPartSchema.Type t = s.getType(cm);
-		HttpPartSchema.Format f = s.getFormat(cm);
-		HttpPartSchema.CollectionFormat cf = s.getCollectionFormat();
+		PartEncoder e = ctx.getPartEncoder(s, getClassMetaForObject(o));
+		HttpPartSchema.Type t = e.type;
+		HttpPartSchema.Format f = e.format;
+		HttpPartSchema.CollectionFormat cf = e.collectionFormat;
 
 		if (t == STRING) {
 			if (f == BYTE)
@@ -304,4 +305,38 @@ public class OpenApiSerializerSession extends UonSerializerSession {
 			throw new SerializeException(e.getMessage());
 		}
 	}
+
+	//-------------------------------------------------------------------------------------------------------------------
+	// Compiled part encoders
+	//-------------------------------------------------------------------------------------------------------------------
+
+	/**
+	 * Serialize plan for a single schema and value class.
+	 *
+	 * <p>
+	 * Resolves the type, format, and collection format of the schema and the conversions needed for the value class
+	 * once so that they aren't recomputed for every part serialized.
+	 */
+	static final class PartEncoder {
+		final BeanContext beanContext;
+		final HttpPartSchema.Type type;
+		final HttpPartSchema.Format format;
+		final HttpPartSchema.CollectionFormat collectionFormat;
+		final boolean viaParsedType;    // Values must be converted to the schema parsed type first.
+		final boolean uri;              // Values are URIs that must be resolved.
+		final boolean properties;       // Maps and beans are serialized using the schema properties.
+
+		PartEncoder(HttpPartSchema schema, ClassMeta<?> cm) {
+			this.beanContext = cm.getBeanContext();
+			this.type = schema.getType(cm);
+			this.format = schema.getFormat(cm);
+			this.collectionFormat = schema.getCollectionFormat();
+
+			ClassMeta<?> pt = schema.getParsedType();
+			this.viaParsedType = cm.hasTransformTo(pt) || pt.hasTransformFrom(cm);
+			ClassMeta<?> t = viaParsedType ? pt : cm;
+			this.uri = t.isUri();
+			this.properties = schema.hasProperties() && ! uri && t.isMapOrBean();
+		}
+	}
 }
@@ -166,6 +166,53 @@ public abstract class Parser extends BeanContext {
 	 */
 	public static final String PARSER_autoCloseStreams = PREFIX + "autoCloseStreams.b";
 
+	/**
+	 * Configuration property:  Compact objects.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"Parser.compactObjects.b"</js>
+	 * 	<li><b>Data type:</b>  <code>Boolean</code>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link ParserBuilder#compactObjects(boolean)}
+	 * 			<li class='jm'>{@link ParserBuilder#compactObjects()}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * If <jk>true</jk>, untyped objects and arrays are parsed into memory-efficient {@link CompactObjectMap} and
+	 * {@link CompactObjectList} instances instead of {@link ObjectMap} and {@link ObjectList} instances.
+	 *
+	 * <p>
+	 * {@link CompactObjectMap} stores its entries in flat arrays with interned keys, and {@link CompactObjectList} stores
+	 * runs of numbers of the same type in primitive arrays.
+	 * Both are subclasses of the regular classes, so the same getter methods can be used on them.
+	 * This can significantly reduce the heap used by very large untyped payloads.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a parser that produces compact maps and lists.</jc>
+	 * 	ReaderParser p = JsonParser.
+	 * 		.<jsm>create</jsm>()
+	 * 		.compactObjects()
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	ReaderParser p = JsonParser.
+	 * 		.<jsm>create</jsm>()
+	 * 		.set(<jsf>PARSER_compactObjects</jsf>, <jk>true</jk>)
+	 * 		.build();
+	 *
+	 * 	ObjectMap m = p.parse(<js>"{a:[1,2,3]}"</js>, ObjectMap.<jk>class</jk>);
+	 * 	<jk>int</jk> i = m.getObjectList(<js>"a"</js>).getInt(0);
+	 * </p>
+	 */
+	public static final String PARSER_compactObjects = PREFIX + "compactObjects.b";
+
 	/**
 	 * Configuration property:  Debug output lines.
 	 *
@@ -275,6 +322,118 @@ public abstract class Parser extends BeanContext {
 	 */
 	public static final String PARSER_listener = PREFIX + "listener.c";
 
+	/**
+	 * Configuration property:  Parallel parsing threshold.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"Parser.parallelThreshold.i"</js>
+	 * 	<li><b>Data type:</b>  <code>Integer</code>
+	 * 	<li><b>Default:</b>  <code>-1</code>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link ParserBuilder#parallelThreshold(int)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * When parsing a top-level array into an array or collection type, arrays with at least this many elements are
+	 * split into chunks that are parsed concurrently on the common {@link java.util.concurrent.ForkJoinPool}.
+	 * <br>The results are added to the collection in their original order.
+	 *
+	 * <p>
+	 * The input is first scanned to find the boundaries of the array elements, and each chunk is then parsed by its
+	 * own session.
+	 * <br>This is only worthwhile for very large arrays of non-trivial elements such as beans.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a parser that parses arrays of 10000 or more elements in parallel.</jc>
+	 * 	ReaderParser p = JsonParser
+	 * 		.<jsm>create</jsm>()
+	 * 		.parallelThreshold(10000)
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	ReaderParser p = JsonParser
+	 * 		.<jsm>create</jsm>()
+	 * 		.set(<jsf>PARSER_parallelThreshold</jsf>, 10000)
+	 * 		.build();
+	 *
+	 * 	MyBean[] beans = p.parse(json, MyBean[].<jk>class</jk>);
+	 * </p>
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li>
+	 * 		A value of <code>-1</code> disables parallel parsing.
+	 * 	<li>
+	 * 		Currently only supported by the JSON parser, and only for <code>String</code>, <code>CharSequence</code>,
+	 * 		and <code><jk>byte</jk>[]</code> inputs.
+	 * 		<br>Other parsers and input types ignore this setting.
+	 * 	<li>
+	 * 		Ignored when {@link BeanContext#BEAN_debug} is enabled.
+	 * 	<li>
+	 * 		Line and column numbers reported in parse errors within an element are relative to that element.
+	 * </ul>
+	 */
+	public static final String PARSER_parallelThreshold = PREFIX + "parallelThreshold.i";
+
+	/**
+	 * Configuration property:  Recycle buffers.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"Parser.recycleBuffers.b"</js>
+	 * 	<li><b>Data type:</b>  <code>Boolean</code>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link ParserBuilder#recycleBuffers(boolean)}
+	 * 			<li class='jm'>{@link ParserBuilder#recycleBuffers()}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * If <jk>true</jk>, the internal character buffers used by reader-based parsers are borrowed from a per-thread
+	 * cache and returned to it when the parse completes, instead of being allocated for each call.
+	 *
+	 * <p>
+	 * This reduces garbage in applications that parse many small documents on a fixed set of threads (e.g. servlet
+	 * request threads).
+	 * <br>Buffers are reset before they're reused, and buffers that have grown beyond 64k characters are discarded
+	 * instead of retained.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a parser that recycles its buffers.</jc>
+	 * 	ReaderParser p = JsonParser
+	 * 		.<jsm>create</jsm>()
+	 * 		.recycleBuffers()
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	ReaderParser p = JsonParser
+	 * 		.<jsm>create</jsm>()
+	 * 		.set(<jsf>PARSER_recycleBuffers</jsf>, <jk>true</jk>)
+	 * 		.build();
+	 * </p>
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li>
+	 * 		Buffers are only cached per thread, so there's no contention between threads.
+	 * 		<br>Nested parses on the same thread (e.g. from within a swap) simply allocate their own buffers.
+	 * 	<li>
+	 * 		It has no effect on the stream-based parsers or on parsers that use StAX (XML, HTML) or an RDF model.
+	 * </ul>
+	 */
+	public static final String PARSER_recycleBuffers = PREFIX + "recycleBuffers.b";
+
 	/**
 	 * Configuration property:  Strict mode.
 	 *
@@ -471,8 +630,8 @@ public abstract class Parser extends BeanContext {
 	// Instance
 	//-------------------------------------------------------------------------------------------------------------------
 
-	private final boolean trimStrings, strict, autoCloseStreams, unbuffered;
-	private final int debugOutputLines;
+	private final boolean trimStrings, strict, autoCloseStreams, unbuffered, recycleBuffers, compactObjects;
+	private final int debugOutputLines, parallelThreshold;
 	private final Class<? extends ParserListener> listener;
 
 	/** General parser properties currently set on this parser. */
@@ -492,6 +651,9 @@ public abstract class Parser extends BeanContext {
 		autoCloseStreams = getBooleanProperty(PARSER_autoCloseStreams, false);
 		debugOutputLines = getIntegerProperty(PARSER_debugOutputLines, 5);
 		unbuffered = getBooleanProperty(PARSER_unbuffered, false);
+		recycleBuffers = getBooleanProperty(PARSER_recycleBuffers, false);
+		parallelThreshold = getIntegerProperty(PARSER_parallelThreshold, -1);
+		compactObjects = getBooleanProperty(PARSER_compactObjects, false);
 		listener = getClassProperty(PARSER_listener, ParserListener.class, null);
 		this.consumes = new MediaType[consumes.length];
 		for (int i = 0; i < consumes.length; i++) {
@@ -881,6 +1043,41 @@ public abstract class Parser extends BeanContext {
 		return unbuffered;
 	}
 
+	/**
+	 * Configuration property:  Recycle buffers.
+	 *
+	 * @see #PARSER_recycleBuffers
+	 * @return
+	 * 	<jk>true</jk> if internal buffers are reused across parses on the same thread.
+	 */
+	protected final boolean isRecycleBuffers() {
+		return recycleBuffers;
+	}
+
+	/**
+	 * Configuration property:  Compact objects.
+	 *
+	 * @see #PARSER_compactObjects
+	 * @return
+	 * 	<jk>true</jk> if untyped objects and arrays are parsed into {@link CompactObjectMap} and
+	 * 	{@link CompactObjectList} instances.
+	 */
+	protected final boolean isCompactObjects() {
+		return compactObjects;
+	}
+
+	/**
+	 * Configuration property:  Parallel parsing threshold.
+	 *
+	 * @see #PARSER_parallelThreshold
+	 * @return
+	 * 	The minimum number of elements in a top-level array before it's parsed in parallel, or <code>-1</code> if
+	 * 	parallel parsing is disabled.
+	 */
+	protected final int getParallelThreshold() {
+		return parallelThreshold;
+	}
+
 	/**
 	 * Configuration property:  Debug output lines.
 	 *
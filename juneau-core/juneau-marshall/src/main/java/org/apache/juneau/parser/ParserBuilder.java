@@ -82,6 +82,44 @@ public class ParserBuilder extends BeanContextBuilder {
 		return set(PARSER_autoCloseStreams, true);
 	}
 
+	/**
+	 * Configuration property:  Compact objects.
+	 *
+	 * <p>
+	 * If <jk>true</jk>, untyped objects and arrays are parsed into memory-efficient {@link CompactObjectMap} and
+	 * {@link CompactObjectList} instances.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link Parser#PARSER_compactObjects}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default value is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public ParserBuilder compactObjects(boolean value) {
+		return set(PARSER_compactObjects, value);
+	}
+
+	/**
+	 * Configuration property:  Compact objects.
+	 *
+	 * <p>
+	 * Shortcut for calling <code>compactObjects(<jk>true</jk>)</code>.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link Parser#PARSER_compactObjects}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public ParserBuilder compactObjects() {
+		return set(PARSER_compactObjects, true);
+	}
+
 	/**
 	 * Configuration property:  Debug output lines.
 	 *
@@ -121,6 +159,63 @@ public class ParserBuilder extends BeanContextBuilder {
 		return set(PARSER_listener, value);
 	}
 
+	/**
+	 * Configuration property:  Parallel parsing threshold.
+	 *
+	 * <p>
+	 * Top-level arrays with at least this many elements are parsed in concurrent chunks.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link Parser#PARSER_parallelThreshold}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default value is <code>-1</code> (disabled).
+	 * @return This object (for method chaining).
+	 */
+	public ParserBuilder parallelThreshold(int value) {
+		return set(PARSER_parallelThreshold, value);
+	}
+
+	/**
+	 * Configuration property:  Recycle buffers.
+	 *
+	 * <p>
+	 * If <jk>true</jk>, internal character buffers are reused across parses on the same thread.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link Parser#PARSER_recycleBuffers}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default value is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public ParserBuilder recycleBuffers(boolean value) {
+		return set(PARSER_recycleBuffers, value);
+	}
+
+	/**
+	 * Configuration property:  Recycle buffers.
+	 *
+	 * <p>
+	 * Shortcut for calling <code>recycleBuffers(<jk>true</jk>)</code>.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link Parser#PARSER_recycleBuffers}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public ParserBuilder recycleBuffers() {
+		return set(PARSER_recycleBuffers, true);
+	}
+
 	/**
 	 * Configuration property:  Strict mode.
 	 *
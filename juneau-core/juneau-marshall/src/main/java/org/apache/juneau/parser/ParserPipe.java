@@ -16,6 +16,7 @@ import static org.apache.juneau.internal.IOUtils.*;
 import static org.apache.juneau.internal.StringUtils.*;
 
 import java.io.*;
+import java.nio.*;
 import java.nio.charset.*;
 
 import org.apache.juneau.*;
@@ -52,7 +53,7 @@ import org.apache.juneau.internal.*;
 public final class ParserPipe implements Closeable {
 
 	private final Object input;
-	final boolean debug, strict, autoCloseStreams, unbuffered;
+	final boolean debug, strict, autoCloseStreams, unbuffered, recycleBuffers;
 	private final String fileCharset, inputStreamCharset;
 
 	private String inputString;
@@ -89,11 +90,44 @@ public final class ParserPipe implements Closeable {
 	 * 	Use <js>"default"</js> to specify {@link Charset#defaultCharset()}.
 	 */
 	public ParserPipe(Object input, boolean debug, boolean strict, boolean autoCloseStreams, boolean unbuffered, String fileCharset, String inputStreamCharset) {
+		this(input, debug, strict, autoCloseStreams, unbuffered, false, fileCharset, inputStreamCharset);
+	}
+
+	/**
+	 * Constructor for reader-based parsers.
+	 *
+	 * @param input The parser input object.
+	 * @param debug
+	 * 	If <jk>true</jk>, the input contents will be copied locally and accessible via the {@link #getInputAsString()}
+	 * 	method.
+	 * 	This allows the contents of the pipe to be accessed when a problem occurs.
+	 * @param strict
+	 * 	If <jk>true</jk>, sets {@link CodingErrorAction#REPORT} on {@link CharsetDecoder#onMalformedInput(CodingErrorAction)}
+	 * 	and {@link CharsetDecoder#onUnmappableCharacter(CodingErrorAction)}.
+	 * 	Otherwise, sets them to {@link CodingErrorAction#REPLACE}.
+	 * @param autoCloseStreams
+	 * 	Automatically close {@link InputStream InputStreams} and {@link Reader Readers} when passed in as input.
+	 * @param unbuffered
+	 * 	If <jk>true</jk>, we read one character at a time from underlying readers when the readers are expected to be parsed
+	 * 	multiple times.
+	 * 	<br>Otherwise, we read character data into a reusable buffer.
+	 * @param recycleBuffers
+	 * 	If <jk>true</jk>, the character buffer of the {@link ParserReader} created by this pipe is borrowed from
+	 * 	the {@link BufferRecycler} of the current thread and returned to it when this pipe is closed.
+	 * @param fileCharset
+	 * 	The charset to expect when reading from {@link File Files}.
+	 * 	Use <js>"default"</js> to specify {@link Charset#defaultCharset()}.
+	 * @param inputStreamCharset
+	 * 	The charset to expect when reading from {@link InputStream InputStreams}.
+	 * 	Use <js>"default"</js> to specify {@link Charset#defaultCharset()}.
+	 */
+	public ParserPipe(Object input, boolean debug, boolean strict, boolean autoCloseStreams, boolean unbuffered, boolean recycleBuffers, String fileCharset, String inputStreamCharset) {
 		this.input = input;
 		this.debug = debug;
 		this.strict = strict;
 		this.autoCloseStreams = autoCloseStreams;
 		this.unbuffered = unbuffered;
+		this.recycleBuffers = recycleBuffers;
 		this.fileCharset = fileCharset;
 		this.inputStreamCharset = inputStreamCharset;
 		if (input instanceof CharSequence)
@@ -123,6 +157,7 @@ public final class ParserPipe implements Closeable {
 		this.strict = false;
 		this.autoCloseStreams = autoCloseStreams;
 		this.unbuffered = unbuffered;
+		this.recycleBuffers = false;
 		this.fileCharset = null;
 		this.inputStreamCharset = null;
 		if (input instanceof CharSequence)
@@ -298,6 +333,37 @@ public final class ParserPipe implements Closeable {
 		return inputString;
 	}
 
+	/**
+	 * Returns the input of this pipe as a string without consuming it.
+	 *
+	 * <p>
+	 * Byte arrays are decoded using the same charset and error handling as {@link #getReader()}.
+	 *
+	 * @return
+	 * 	The input as a string, or <jk>null</jk> if the input is not a {@link CharSequence} or <code><jk>byte</jk>[]</code>.
+	 * @throws IOException If a byte array could not be decoded.
+	 */
+	public String peekString() throws IOException {
+		if (input instanceof CharSequence)
+			return input.toString();
+		if (input instanceof byte[] && inputStreamCharset != null) {
+			CharsetDecoder cd = (
+				"default".equalsIgnoreCase(inputStreamCharset)
+				? Charset.defaultCharset()
+				: Charset.forName(inputStreamCharset)
+			).newDecoder();
+			if (strict) {
+				cd.onMalformedInput(CodingErrorAction.REPORT);
+				cd.onUnmappableCharacter(CodingErrorAction.REPORT);
+			} else {
+				cd.onMalformedInput(CodingErrorAction.REPLACE);
+				cd.onUnmappableCharacter(CodingErrorAction.REPLACE);
+			}
+			return cd.decode(ByteBuffer.wrap((byte[])input)).toString();
+		}
+		return null;
+	}
+
 	/**
 	 * Converts this pipe into a {@link ParserReader}.
 	 *
@@ -314,6 +380,16 @@ public final class ParserPipe implements Closeable {
 		return parserReader;
 	}
 
+	/**
+	 * Returns <jk>true</jk> if the input to this pipe is an {@link InputStream}, <code><jk>byte</jk>[]</code>, or
+	 * {@link File} that can be read as bytes through {@link #getInputStream()}.
+	 *
+	 * @return <jk>true</jk> if the input to this pipe is a source of bytes.
+	 */
+	public boolean isByteInput() {
+		return input instanceof InputStream || input instanceof byte[] || input instanceof File;
+	}
+
 	/**
 	 * Returns <jk>true</jk> if the contents passed into this pipe was a {@link CharSequence}.
 	 *
@@ -347,6 +423,8 @@ public final class ParserPipe implements Closeable {
 	@Override /* Closeable */
 	public void close() {
 		try {
+			if (recycleBuffers && positionable instanceof ParserReader)
+				((ParserReader)positionable).releaseBuffer();
 			if (doClose)
 				IOUtils.close(reader, inputStream);
 		} catch (IOException e) {
@@ -42,6 +42,7 @@ public class ParserReader extends Reader implements Positionable {
 	private int iEnd = 0;      // The last good character position in the buffer
 	private boolean endReached, holesExist;
 	private final boolean unbuffered;
+	private final BufferRecycler recycler;
 
 	/**
 	 * Constructor.
@@ -51,21 +52,40 @@ public class ParserReader extends Reader implements Positionable {
 	 */
 	public ParserReader(ParserPipe pipe) throws IOException {
 		this.unbuffered = pipe.unbuffered;
+		this.recycler = pipe.recycleBuffers ? BufferRecycler.get() : null;
 		if (pipe.isString()) {
 			String in = pipe.getInputAsString();
 			this.r = new CharSequenceReader(in);
-			this.buff = new char[in.length() < 1024 ? in.length() : 1024];
+			this.buff = allocBuffer(in.length() < 1024 ? in.length() : 1024);
 		} else {
 			Reader _r = pipe.getReader();
 			if (_r instanceof ParserReader)
 				this.r = ((ParserReader)_r).r;
 			else
 				this.r = _r;
-			this.buff = new char[1024];
+			this.buff = allocBuffer(1024);
 		}
 		pipe.setPositionable(this);
 	}
 
+	private char[] allocBuffer(int size) {
+		return recycler == null ? new char[size] : recycler.getCharBuffer(size);
+	}
+
+	/**
+	 * Returns the internal character buffer to the {@link BufferRecycler} it was borrowed from.
+	 *
+	 * <p>
+	 * Called by {@link ParserPipe#close()} when {@link Parser#PARSER_recycleBuffers} is enabled.
+	 * <br>This reader cannot be read from after this method is called.
+	 */
+	void releaseBuffer() {
+		if (recycler != null && buff != null) {
+			recycler.releaseCharBuffer(buff);
+			buff = null;
+		}
+	}
+
 	/**
 	 * Reads a single character.
 	 *
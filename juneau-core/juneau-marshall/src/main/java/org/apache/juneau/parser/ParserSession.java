@@ -21,6 +21,7 @@ import java.util.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
+import org.apache.juneau.internal.*;
 import org.apache.juneau.transform.*;
 import org.apache.juneau.utils.*;
 
@@ -34,6 +35,7 @@ import org.apache.juneau.utils.*;
 public abstract class ParserSession extends BeanSession {
 
 	private final Parser ctx;
+	private final ParserSessionArgs args;
 	private final Method javaMethod;
 	private final Object outer;
 
@@ -59,6 +61,7 @@ public abstract class ParserSession extends BeanSession {
 		super(ctx, args == null ? ParserSessionArgs.DEFAULT : args);
 		args = args == null ? ParserSessionArgs.DEFAULT : args;
 		this.ctx = ctx;
+		this.args = args;
 		javaMethod = args.javaMethod;
 		outer = args.outer;
 		listener = getInstanceProperty(PARSER_listener, ParserListener.class, ctx.getListenerClass());
@@ -165,6 +168,104 @@ public abstract class ParserSession extends BeanSession {
 		return m;
 	}
 
+	/**
+	 * Returns <jk>true</jk> if the specified map or collection type should be instantiated directly instead of through
+	 * {@link #newGenericMap()} or {@link #newGenericList()}.
+	 *
+	 * <p>
+	 * When {@link Parser#PARSER_compactObjects} is enabled, {@link ObjectMap} and {@link ObjectList} are replaced by their
+	 * compact subclasses.
+	 *
+	 * @param type The map or collection type.
+	 * @param outer The outer object for non-static member classes.  Can be <jk>null</jk>.
+	 * @return <jk>true</jk> if a new instance of the specified type should be created.
+	 */
+	protected final boolean canCreateNewInstance(ClassMeta<?> type, Object outer) {
+		if (isCompactObjects()) {
+			Class<?> c = type.getInnerClass();
+			if (c == ObjectMap.class || c == ObjectList.class)
+				return false;
+		}
+		return type.canCreateNewInstance(outer);
+	}
+
+	/**
+	 * Creates a new map for holding an untyped parsed object.
+	 *
+	 * @return
+	 * 	A new {@link CompactObjectMap} if {@link Parser#PARSER_compactObjects} is enabled, or a new {@link ObjectMap}
+	 * 	otherwise.
+	 */
+	protected final ObjectMap newGenericMap() {
+		return isCompactObjects() ? new CompactObjectMap(this) : new ObjectMap(this);
+	}
+
+	/**
+	 * Creates a new list for holding an untyped parsed array.
+	 *
+	 * @return
+	 * 	A new {@link CompactObjectList} if {@link Parser#PARSER_compactObjects} is enabled, or a new
+	 * 	{@link ObjectList} otherwise.
+	 */
+	protected final ObjectList newGenericList() {
+		return isCompactObjects() ? new CompactObjectList(this) : new ObjectList(this);
+	}
+
+	/**
+	 * Returns <jk>true</jk> if an array with the specified number of elements should be parsed in parallel.
+	 *
+	 * @param size The number of elements in the array.
+	 * @return
+	 * 	<jk>true</jk> if {@link Parser#PARSER_parallelThreshold} is enabled and reached, and debug mode is not enabled.
+	 */
+	protected final boolean isParallel(int size) {
+		int threshold = getParallelThreshold();
+		return threshold > 0 && size >= threshold && ! isDebug();
+	}
+
+	/**
+	 * Parses the specified elements concurrently.
+	 *
+	 * <p>
+	 * The list is split into contiguous chunks, and each chunk is passed to the specified parser on the common
+	 * {@link java.util.concurrent.ForkJoinPool} along with a new session created from the same context and session arguments as this
+	 * session.
+	 *
+	 * @param l The unparsed elements.
+	 * @param cp Parses a single chunk of elements.
+	 * @return The results of parsing each chunk, in the same order as the chunks appear in the list.
+	 * @throws Exception The first exception thrown while parsing a chunk.
+	 */
+	protected final <T> List<T> parseChunks(List<?> l, final ChunkParser<T> cp) throws Exception {
+		return ParallelUtils.invokeChunks(l, new ParallelUtils.ChunkTask<T>() {
+			@Override
+			public T call(List<?> chunk) throws Exception {
+				ParserSession s = ctx.createSession(args);
+				T t = cp.parse(s, chunk);
+				s.checkForWarnings();
+				return t;
+			}
+		});
+	}
+
+	/**
+	 * Parses a single chunk of elements as part of {@link ParserSession#parseChunks(List,ChunkParser)}.
+	 *
+	 * @param <T> The parsed chunk type.
+	 */
+	protected interface ChunkParser<T> {
+
+		/**
+		 * Parses the specified elements.
+		 *
+		 * @param session A new session dedicated to this chunk.
+		 * @param chunk The unparsed elements.
+		 * @return The parsed chunk.
+		 * @throws Exception
+		 */
+		T parse(ParserSession session, List<?> chunk) throws Exception;
+	}
+
 	/**
 	 * Returns the Java method that invoked this parser.
 	 *
@@ -857,6 +958,41 @@ public abstract class ParserSession extends BeanSession {
 		return ctx.isUnbuffered();
 	}
 
+	/**
+	 * Configuration property:  Recycle buffers.
+	 *
+	 * @see Parser#PARSER_recycleBuffers
+	 * @return
+	 * 	<jk>true</jk> if internal buffers are reused across parses on the same thread.
+	 */
+	protected final boolean isRecycleBuffers() {
+		return ctx.isRecycleBuffers();
+	}
+
+	/**
+	 * Configuration property:  Compact objects.
+	 *
+	 * @see Parser#PARSER_compactObjects
+	 * @return
+	 * 	<jk>true</jk> if untyped objects and arrays are parsed into {@link CompactObjectMap} and
+	 * 	{@link CompactObjectList} instances.
+	 */
+	protected final boolean isCompactObjects() {
+		return ctx.isCompactObjects();
+	}
+
+	/**
+	 * Configuration property:  Parallel parsing threshold.
+	 *
+	 * @see Parser#PARSER_parallelThreshold
+	 * @return
+	 * 	The minimum number of elements in a top-level array before it's parsed in parallel, or <code>-1</code> if
+	 * 	parallel parsing is disabled.
+	 */
+	protected final int getParallelThreshold() {
+		return ctx.getParallelThreshold();
+	}
+
 	/**
 	 * Configuration property:  Debug output lines.
 	 *
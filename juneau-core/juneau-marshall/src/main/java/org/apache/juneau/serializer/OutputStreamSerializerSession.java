@@ -73,6 +73,16 @@ public abstract class OutputStreamSerializerSession extends SerializerSession {
 	 */
 	@Override /* SerializerSession */
 	public final byte[] serialize(Object o) throws SerializeException {
+		if (isRecycleBuffers()) {
+			BufferRecycler br = BufferRecycler.get();
+			ByteArrayOutputStream baos = br.getByteStream();
+			try {
+				serialize(o, baos);
+				return baos.toByteArray();
+			} finally {
+				br.releaseByteStream(baos);
+			}
+		}
 		ByteArrayOutputStream baos = new ByteArrayOutputStream();
 		serialize(o, baos);
 		return baos.toByteArray();
@@ -225,6 +225,117 @@ public abstract class Serializer extends BeanTraverseContext {
 	 */
 	public static final String SERIALIZER_listener = PREFIX + "listener.c";
 
+	/**
+	 * Configuration property:  Parallel serialization threshold.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"Serializer.parallelThreshold.i"</js>
+	 * 	<li><b>Data type:</b>  <code>Integer</code>
+	 * 	<li><b>Default:</b>  <code>-1</code>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link SerializerBuilder#parallelThreshold(int)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * Arrays and collections with at least this many elements are split into chunks that are serialized concurrently
+	 * on the common {@link java.util.concurrent.ForkJoinPool} and then written out in order.
+	 *
+	 * <p>
+	 * Each chunk is serialized by its own session into a separate buffer, so the output is identical to sequential
+	 * serialization.
+	 * <br>This is only worthwhile for very large collections of non-trivial elements.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a serializer that serializes collections of 10000 or more elements in parallel.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.parallelThreshold(10000)
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.set(<jsf>SERIALIZER_parallelThreshold</jsf>, 10000)
+	 * 		.build();
+	 * </p>
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li>
+	 * 		A value of <code>-1</code> disables parallel serialization.
+	 * 	<li>
+	 * 		Currently supported by the JSON (and simple JSON) and MessagePack serializers.
+	 * 		<br>Other serializers ignore this setting.
+	 * 	<li>
+	 * 		Ignored when {@link BeanTraverseContext#BEANTRAVERSE_detectRecursions} or
+	 * 		{@link BeanContext#BEAN_debug} is enabled, since those rely on the full object stack.
+	 * 	<li>
+	 * 		Elements must be safe to read from multiple threads, and swaps and bean getters must not depend on the
+	 * 		serializing thread.
+	 * </ul>
+	 */
+	public static final String SERIALIZER_parallelThreshold = PREFIX + "parallelThreshold.i";
+
+	/**
+	 * Configuration property:  Recycle buffers.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"Serializer.recycleBuffers.b"</js>
+	 * 	<li><b>Data type:</b>  <code>Boolean</code>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link SerializerBuilder#recycleBuffers(boolean)}
+	 * 			<li class='jm'>{@link SerializerBuilder#recycleBuffers()}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * If <jk>true</jk>, the buffers used by {@link WriterSerializer#serialize(Object)} and
+	 * {@link OutputStreamSerializer#serialize(Object)} to collect the output are borrowed from a per-thread cache and
+	 * returned to it when serialization completes, instead of being allocated (and regrown) for each call.
+	 *
+	 * <p>
+	 * This reduces garbage in applications that serialize many small POJOs to strings or byte arrays on a fixed set of
+	 * threads.
+	 * <br>Buffers are reset before they're reused, and buffers that have grown beyond 64k are discarded instead of
+	 * retained.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a serializer that recycles its buffers.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.recycleBuffers()
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.set(<jsf>SERIALIZER_recycleBuffers</jsf>, <jk>true</jk>)
+	 * 		.build();
+	 * </p>
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li>
+	 * 		Buffers are only cached per thread, so there's no contention between threads.
+	 * 		<br>Nested serializations on the same thread (e.g. from within a swap) simply allocate their own buffers.
+	 * 	<li>
+	 * 		It has no effect when serializing directly to a {@link Writer} or {@link OutputStream}.
+	 * </ul>
+	 */
+	public static final String SERIALIZER_recycleBuffers = PREFIX + "recycleBuffers.b";
+
 	/**
 	 * Configuration property:  Sort arrays and collections alphabetically.
 	 *
@@ -711,7 +822,9 @@ public abstract class Serializer extends BeanTraverseContext {
 		sortCollections,
 		sortMaps,
 		addRootType,
-		useWhitespace;
+		useWhitespace,
+		recycleBuffers;
+	private final int parallelThreshold;
 	private final UriContext uriContext;
 	private final UriResolution uriResolution;
 	private final UriRelativity uriRelativity;
@@ -763,6 +876,8 @@ public abstract class Serializer extends BeanTraverseContext {
 		uriRelativity = getProperty(SERIALIZER_uriRelativity, UriRelativity.class, UriRelativity.RESOURCE);
 		useWhitespace = getBooleanProperty(SERIALIZER_useWhitespace, false);
 		listener = getClassProperty(SERIALIZER_listener, SerializerListener.class, null);
+		recycleBuffers = getBooleanProperty(SERIALIZER_recycleBuffers, false);
+		parallelThreshold = getIntegerProperty(SERIALIZER_parallelThreshold, -1);
 
 		this.produces = MediaType.forString(produces);
 		this.accept = accept == null ? MediaTypeRange.parse(produces) : MediaTypeRange.parse(accept);
@@ -1004,6 +1119,29 @@ public abstract class Serializer extends BeanTraverseContext {
 		return sortCollections;
 	}
 
+	/**
+	 * Configuration property:  Recycle buffers.
+	 *
+	 * @see #SERIALIZER_recycleBuffers
+	 * @return
+	 * 	<jk>true</jk> if output buffers are reused across serializations on the same thread.
+	 */
+	protected final boolean isRecycleBuffers() {
+		return recycleBuffers;
+	}
+
+	/**
+	 * Configuration property:  Parallel serialization threshold.
+	 *
+	 * @see #SERIALIZER_parallelThreshold
+	 * @return
+	 * 	The minimum number of elements in an array or collection before it's serialized in parallel, or <code>-1</code>
+	 * 	if parallel serialization is disabled.
+	 */
+	protected final int getParallelThreshold() {
+		return parallelThreshold;
+	}
+
 	/**
 	 * Configuration property:  Sort maps alphabetically.
 	 *
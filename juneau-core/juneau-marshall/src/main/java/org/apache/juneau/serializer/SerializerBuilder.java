@@ -140,6 +140,63 @@ public class SerializerBuilder extends BeanTraverseBuilder {
 		return set(SERIALIZER_listener, value);
 	}
 
+	/**
+	 * Configuration property:  Parallel serialization threshold.
+	 *
+	 * <p>
+	 * Arrays and collections with at least this many elements are serialized in concurrent chunks.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_parallelThreshold}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default value is <code>-1</code> (disabled).
+	 * @return This object (for method chaining).
+	 */
+	public SerializerBuilder parallelThreshold(int value) {
+		return set(SERIALIZER_parallelThreshold, value);
+	}
+
+	/**
+	 * Configuration property:  Recycle buffers.
+	 *
+	 * <p>
+	 * If <jk>true</jk>, internal output buffers are reused across serializations on the same thread.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_recycleBuffers}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default value is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public SerializerBuilder recycleBuffers(boolean value) {
+		return set(SERIALIZER_recycleBuffers, value);
+	}
+
+	/**
+	 * Configuration property:  Recycle buffers.
+	 *
+	 * <p>
+	 * Shortcut for calling <code>recycleBuffers(<jk>true</jk>)</code>.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_recycleBuffers}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public SerializerBuilder recycleBuffers() {
+		return set(SERIALIZER_recycleBuffers, true);
+	}
+
 	/**
 	 * Configuration property:  Sort arrays and collections alphabetically.
 	 *
@@ -49,6 +49,7 @@ import org.apache.juneau.transform.*;
 public abstract class SerializerSession extends BeanTraverseSession {
 
 	private final Serializer ctx;
+	private final SerializerSessionArgs args;
 	private final UriResolver uriResolver;
 
 	private final Method javaMethod;                                                // Java method that invoked this serializer.
@@ -74,6 +75,7 @@ public abstract class SerializerSession extends BeanTraverseSession {
 		super(ctx, args == null ? SerializerSessionArgs.DEFAULT : args);
 		this.ctx = ctx;
 		args = args == null ? SerializerSessionArgs.DEFAULT : args;
+		this.args = args;
 		this.javaMethod = args.javaMethod;
 		this.uriResolver = new UriResolver(ctx.getUriResolution(), ctx.getUriRelativity(), args.uriContext == null ? ctx.getUriContext() : args.uriContext);
 		this.listener = newInstance(SerializerListener.class, ctx.getListener());
@@ -202,6 +204,64 @@ public abstract class SerializerSession extends BeanTraverseSession {
 		}
 	}
 
+	/**
+	 * Returns <jk>true</jk> if an array or collection of the specified size should be serialized in parallel.
+	 *
+	 * @param size The number of elements in the array or collection.
+	 * @return
+	 * 	<jk>true</jk> if {@link Serializer#SERIALIZER_parallelThreshold} is enabled and reached, and the object stack
+	 * 	doesn't need to be tracked.
+	 */
+	protected final boolean isParallel(int size) {
+		int threshold = getParallelThreshold();
+		return threshold > 0 && size >= threshold && ! isDetectRecursions() && ! isDebug();
+	}
+
+	/**
+	 * Serializes the elements of the specified list concurrently.
+	 *
+	 * <p>
+	 * The list is split into contiguous chunks, and each chunk is passed to the specified serializer on the common
+	 * {@link java.util.concurrent.ForkJoinPool} along with a new session created from the same context and session arguments as this
+	 * session and positioned at the same indentation.
+	 *
+	 * @param l The elements to serialize.
+	 * @param cs Serializes a single chunk of elements.
+	 * @return The results of serializing each chunk, in the same order as the chunks appear in the list.
+	 * @throws Exception The first exception thrown while serializing a chunk.
+	 */
+	protected final <T> List<T> serializeChunks(List<?> l, final ChunkSerializer<T> cs) throws Exception {
+		final int indent = this.indent;
+		return ParallelUtils.invokeChunks(l, new ParallelUtils.ChunkTask<T>() {
+			@Override
+			public T call(List<?> chunk) throws Exception {
+				SerializerSession s = ctx.createSession(args);
+				s.indent = indent;
+				T t = cs.serialize(s, chunk);
+				s.checkForWarnings();
+				return t;
+			}
+		});
+	}
+
+	/**
+	 * Serializes a single chunk of elements as part of {@link SerializerSession#serializeChunks(List,ChunkSerializer)}.
+	 *
+	 * @param <T> The serialized chunk type.
+	 */
+	protected interface ChunkSerializer<T> {
+
+		/**
+		 * Serializes the specified elements.
+		 *
+		 * @param session A new session dedicated to this chunk.
+		 * @param chunk The elements to serialize.
+		 * @return The serialized chunk.
+		 * @throws Exception
+		 */
+		T serialize(SerializerSession session, List<?> chunk) throws Exception;
+	}
+
 	/**
 	 * Returns the Java method that invoked this serializer.
 	 *
@@ -684,6 +744,29 @@ public abstract class SerializerSession extends BeanTraverseSession {
 		return ctx.isSortCollections();
 	}
 
+	/**
+	 * Configuration property:  Recycle buffers.
+	 *
+	 * @see Serializer#SERIALIZER_recycleBuffers
+	 * @return
+	 * 	<jk>true</jk> if output buffers are reused across serializations on the same thread.
+	 */
+	protected final boolean isRecycleBuffers() {
+		return ctx.isRecycleBuffers();
+	}
+
+	/**
+	 * Configuration property:  Parallel serialization threshold.
+	 *
+	 * @see Serializer#SERIALIZER_parallelThreshold
+	 * @return
+	 * 	The minimum number of elements in an array or collection before it's serialized in parallel, or <code>-1</code>
+	 * 	if parallel serialization is disabled.
+	 */
+	protected final int getParallelThreshold() {
+		return ctx.getParallelThreshold();
+	}
+
 	/**
 	 * Configuration property:  Sort maps alphabetically.
 	 *
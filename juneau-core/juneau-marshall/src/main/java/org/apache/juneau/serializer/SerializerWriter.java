@@ -207,8 +207,7 @@ public class SerializerWriter extends Writer {
 	 * @throws IOException
 	 */
 	public SerializerWriter append(char[] characters) throws IOException {
-		for (char c : characters)
-			append(c);
+		out.write(characters);
 		return this;
 	}
 
@@ -15,6 +15,7 @@ package org.apache.juneau.serializer;
 import java.io.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
 
 /**
  * Subclass of {@link SerializerSession} for character-based serializers.
@@ -77,6 +78,16 @@ public abstract class WriterSerializerSession extends SerializerSession {
 	 */
 	@Override /* SerializerSession */
 	public final String serialize(Object o) throws SerializeException {
+		if (isRecycleBuffers()) {
+			BufferRecycler br = BufferRecycler.get();
+			StringBuilder sb = br.getStringBuilder();
+			try {
+				serialize(o, sb);
+				return sb.toString();
+			} finally {
+				br.releaseStringBuilder(sb);
+			}
+		}
 		StringWriter w = new StringWriter();
 		serialize(o, w);
 		return w.toString();
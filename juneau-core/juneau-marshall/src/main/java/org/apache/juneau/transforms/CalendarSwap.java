@@ -53,6 +53,10 @@ import org.apache.juneau.utils.*;
  * 	<li>{@link DateTimeMedium} - To {@link DateFormat#MEDIUM} date-time strings.
  * 	<li>{@link DateTimeShort} - To {@link DateFormat#SHORT} date-time strings.
  * </ul>
+ *
+ * <p>
+ * {@link TemporalCalendarSwap} provides the same formats using shared immutable {@link java.time.format.DateTimeFormatter
+ * DateTimeFormatters}.
  */
 public class CalendarSwap extends StringSwap<Calendar> {
 
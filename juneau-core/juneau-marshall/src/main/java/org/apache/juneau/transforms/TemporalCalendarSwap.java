@@ -0,0 +1,391 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.transforms;
+
+import static org.apache.juneau.utils.CalendarUtils.Format.*;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.transform.*;
+import org.apache.juneau.utils.*;
+
+/**
+ * Transforms {@link Calendar Calendars} to {@link String Strings} using {@link TemporalCalendarUtils}.
+ *
+ * <p>
+ * Drop-in replacement for {@link CalendarSwap} that uses shared immutable {@link java.time.format.DateTimeFormatter
+ * DateTimeFormatters} instead of thread-local {@link java.text.SimpleDateFormat SimpleDateFormats}.
+ * <br>Except as noted below, each subclass produces the same output as the subclass of the same name in
+ * {@link CalendarSwap}.
+ *
+ * <h5 class='section'>Notes:</h5>
+ * <ul class='spaced-list'>
+ * 	<li>
+ * 		Strings without time zone information are read in the session time zone with daylight savings time applied.
+ * 		<br>{@link CalendarSwap} only applies the raw offset of the time zone, so it reads the same string as an hour
+ * 		earlier or later while daylight savings time is in effect.
+ * 	<li>
+ * 		{@link ISO8601DTP} writes non-zero milliseconds once (e.g. <js>"2001-07-04T15:30:45.123-04:00"</js>), whereas
+ * 		{@link CalendarSwap.ISO8601DTP} repeats them (e.g. <js>"2001-07-04T15:30:45.123.123-04:00"</js>).
+ * </ul>
+ */
+public class TemporalCalendarSwap extends StringSwap<Calendar> {
+
+	private final CalendarUtils.Format format;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param format The format to use.
+	 */
+	public TemporalCalendarSwap(CalendarUtils.Format format) {
+		this.format = format;
+	}
+
+	@Override /* PojoSwap */
+	public String swap(BeanSession session, Calendar o) throws Exception {
+		return TemporalCalendarUtils.serialize(o, format, session.getLocale(), session.getTimeZone());
+	}
+
+	@Override /* PojoSwap */
+	public Calendar unswap(BeanSession session, String o, ClassMeta<?> hint) throws Exception {
+		Calendar c = TemporalCalendarUtils.parseCalendar(o, format, session.getLocale(), session.getTimeZone());
+		return c == null || hint == null ? c : CalendarSwap.convert(c, hint);
+	}
+
+	/**
+	 * Same as {@link CalendarSwap.ToString}.
+	 */
+	public static class ToString extends TemporalCalendarSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public ToString() {
+			super(TO_STRING);
+		}
+	}
+
+	/**
+	 * Same as {@link CalendarSwap.ISO8601DT}.
+	 */
+	public static class ISO8601DT extends TemporalCalendarSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public ISO8601DT() {
+			super(ISO8601_DT);
+		}
+	}
+
+	/**
+	 * Same as {@link CalendarSwap.ISO8601DTL}.
+	 */
+	public static class ISO8601DTL extends TemporalCalendarSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public ISO8601DTL() {
+			super(ISO8601_DTL);
+		}
+	}
+
+	/**
+	 * Same as {@link CalendarSwap.ISO8601DTZ}.
+	 */
+	public static class ISO8601DTZ extends TemporalCalendarSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public ISO8601DTZ() {
+			super(ISO8601_DTZ);
+		}
+	}
+
+	/**
+	 * Same as {@link CalendarSwap.ISO8601DTP}, except that non-zero milliseconds are only written once.
+	 */
+	public static class ISO8601DTP extends TemporalCalendarSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public ISO8601DTP() {
+			super(ISO8601_DTP);
+		}
+	}
+
+	/**
+	 * Same as {@link CalendarSwap.ISO8601DTPZ}.
+	 */
+	public static class ISO8601DTPZ extends TemporalCalendarSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public ISO8601DTPZ() {
+			super(ISO8601_DTPZ);
+		}
+	}
+
+	/**
+	 * Same as {@link CalendarSwap.ISO8601D}.
+	 */
+	public static class ISO8601D extends TemporalCalendarSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public ISO8601D() {
+			super(ISO8601_D);
+		}
+	}
+
+	/**
+	 * Same as {@link CalendarSwap.RFC2822DT}.
+	 */
+	public static class RFC2822DT extends TemporalCalendarSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public RFC2822DT() {
+			super(RFC2822_DT);
+		}
+	}
+
+	/**
+	 * Same as {@link CalendarSwap.RFC2822DTZ}.
+	 */
+	public static class RFC2822DTZ extends TemporalCalendarSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public RFC2822DTZ() {
+			super(RFC2822_DTZ);
+		}
+	}
+
+	/**
+	 * Same as {@link CalendarSwap.RFC2822D}.
+	 */
+	public static class RFC2822D extends TemporalCalendarSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public RFC2822D() {
+			super(RFC2822_D);
+		}
+	}
+
+	/**
+	 * Same as {@link CalendarSwap.DateTimeSimple}.
+	 */
+	public static class DateTimeSimple extends TemporalCalendarSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public DateTimeSimple() {
+			super(SIMPLE_DT);
+		}
+	}
+
+	/**
+	 * Same as {@link CalendarSwap.DateSimple}.
+	 */
+	public static class DateSimple extends TemporalCalendarSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public DateSimple() {
+			super(SIMPLE_D);
+		}
+	}
+
+	/**
+	 * Same as {@link CalendarSwap.TimeSimple}.
+	 */
+	public static class TimeSimple extends TemporalCalendarSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public TimeSimple() {
+			super(SIMPLE_T);
+		}
+	}
+
+	/**
+	 * Same as {@link CalendarSwap.DateFull}.
+	 */
+	public static class DateFull extends TemporalCalendarSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public DateFull() {
+			super(FULL_D);
+		}
+	}
+
+	/**
+	 * Same as {@link CalendarSwap.DateLong}.
+	 */
+	public static class DateLong extends TemporalCalendarSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public DateLong() {
+			super(LONG_D);
+		}
+	}
+
+	/**
+	 * Same as {@link CalendarSwap.DateMedium}.
+	 */
+	public static class DateMedium extends TemporalCalendarSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public DateMedium() {
+			super(MEDIUM_D);
+		}
+	}
+
+	/**
+	 * Same as {@link CalendarSwap.DateShort}.
+	 */
+	public static class DateShort extends TemporalCalendarSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public DateShort() {
+			super(SHORT_D);
+		}
+	}
+
+	/**
+	 * Same as {@link CalendarSwap.TimeFull}.
+	 */
+	public static class TimeFull extends TemporalCalendarSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public TimeFull() {
+			super(FULL_T);
+		}
+	}
+
+	/**
+	 * Same as {@link CalendarSwap.TimeLong}.
+	 */
+	public static class TimeLong extends TemporalCalendarSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public TimeLong() {
+			super(LONG_T);
+		}
+	}
+
+	/**
+	 * Same as {@link CalendarSwap.TimeMedium}.
+	 */
+	public static class TimeMedium extends TemporalCalendarSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public TimeMedium() {
+			super(MEDIUM_T);
+		}
+	}
+
+	/**
+	 * Same as {@link CalendarSwap.TimeShort}.
+	 */
+	public static class TimeShort extends TemporalCalendarSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public TimeShort() {
+			super(SHORT_T);
+		}
+	}
+
+	/**
+	 * Same as {@link CalendarSwap.DateTimeFull}.
+	 */
+	public static class DateTimeFull extends TemporalCalendarSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public DateTimeFull() {
+			super(FULL_DT);
+		}
+	}
+
+	/**
+	 * Same as {@link CalendarSwap.DateTimeLong}.
+	 */
+	public static class DateTimeLong extends TemporalCalendarSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public DateTimeLong() {
+			super(LONG_DT);
+		}
+	}
+
+	/**
+	 * Same as {@link CalendarSwap.DateTimeMedium}.
+	 */
+	public static class DateTimeMedium extends TemporalCalendarSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public DateTimeMedium() {
+			super(MEDIUM_DT);
+		}
+	}
+
+	/**
+	 * Same as {@link CalendarSwap.DateTimeShort}.
+	 */
+	public static class DateTimeShort extends TemporalCalendarSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public DateTimeShort() {
+			super(SHORT_DT);
+		}
+	}
+}
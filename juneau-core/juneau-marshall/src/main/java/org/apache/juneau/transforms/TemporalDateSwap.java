@@ -0,0 +1,390 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.transforms;
+
+import static org.apache.juneau.utils.CalendarUtils.Format.*;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.transform.*;
+import org.apache.juneau.utils.*;
+
+/**
+ * Transforms {@link Date Dates} to {@link String Strings} using {@link TemporalCalendarUtils}.
+ *
+ * <p>
+ * Drop-in replacement for {@link DateSwap} that uses shared immutable {@link java.time.format.DateTimeFormatter
+ * DateTimeFormatters} instead of thread-local {@link java.text.SimpleDateFormat SimpleDateFormats}.
+ * <br>Except as noted below, each subclass produces the same output as the subclass of the same name in
+ * {@link DateSwap}.
+ *
+ * <h5 class='section'>Notes:</h5>
+ * <ul class='spaced-list'>
+ * 	<li>
+ * 		Strings without time zone information are read in the session time zone with daylight savings time applied.
+ * 		<br>{@link DateSwap} only applies the raw offset of the time zone, so it reads the same string as an hour
+ * 		earlier or later while daylight savings time is in effect.
+ * 	<li>
+ * 		{@link ISO8601DTP} writes non-zero milliseconds once (e.g. <js>"2001-07-04T15:30:45.123-04:00"</js>), whereas
+ * 		{@link DateSwap.ISO8601DTP} repeats them (e.g. <js>"2001-07-04T15:30:45.123.123-04:00"</js>).
+ * </ul>
+ */
+public class TemporalDateSwap extends StringSwap<Date> {
+
+	private final CalendarUtils.Format format;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param format The format to use.
+	 */
+	public TemporalDateSwap(CalendarUtils.Format format) {
+		this.format = format;
+	}
+
+	@Override /* PojoSwap */
+	public String swap(BeanSession session, Date o) throws Exception {
+		return TemporalCalendarUtils.serialize(o, format, session.getLocale(), session.getTimeZone());
+	}
+
+	@Override /* PojoSwap */
+	public Date unswap(BeanSession session, String o, ClassMeta<?> hint) throws Exception {
+		return DateSwap.convert(TemporalCalendarUtils.parseDate(o, format, session.getLocale(), session.getTimeZone()), hint);
+	}
+
+	/**
+	 * Same as {@link DateSwap.ToString}.
+	 */
+	public static class ToString extends TemporalDateSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public ToString() {
+			super(TO_STRING);
+		}
+	}
+
+	/**
+	 * Same as {@link DateSwap.ISO8601DT}.
+	 */
+	public static class ISO8601DT extends TemporalDateSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public ISO8601DT() {
+			super(ISO8601_DT);
+		}
+	}
+
+	/**
+	 * Same as {@link DateSwap.ISO8601DTL}.
+	 */
+	public static class ISO8601DTL extends TemporalDateSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public ISO8601DTL() {
+			super(ISO8601_DTL);
+		}
+	}
+
+	/**
+	 * Same as {@link DateSwap.ISO8601DTZ}.
+	 */
+	public static class ISO8601DTZ extends TemporalDateSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public ISO8601DTZ() {
+			super(ISO8601_DTZ);
+		}
+	}
+
+	/**
+	 * Same as {@link DateSwap.ISO8601DTP}, except that non-zero milliseconds are only written once.
+	 */
+	public static class ISO8601DTP extends TemporalDateSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public ISO8601DTP() {
+			super(ISO8601_DTP);
+		}
+	}
+
+	/**
+	 * Same as {@link DateSwap.ISO8601DTPZ}.
+	 */
+	public static class ISO8601DTPZ extends TemporalDateSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public ISO8601DTPZ() {
+			super(ISO8601_DTPZ);
+		}
+	}
+
+	/**
+	 * Same as {@link DateSwap.ISO8601D}.
+	 */
+	public static class ISO8601D extends TemporalDateSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public ISO8601D() {
+			super(ISO8601_D);
+		}
+	}
+
+	/**
+	 * Same as {@link DateSwap.RFC2822DT}.
+	 */
+	public static class RFC2822DT extends TemporalDateSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public RFC2822DT() {
+			super(RFC2822_DT);
+		}
+	}
+
+	/**
+	 * Same as {@link DateSwap.RFC2822DTZ}.
+	 */
+	public static class RFC2822DTZ extends TemporalDateSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public RFC2822DTZ() {
+			super(RFC2822_DTZ);
+		}
+	}
+
+	/**
+	 * Same as {@link DateSwap.RFC2822D}.
+	 */
+	public static class RFC2822D extends TemporalDateSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public RFC2822D() {
+			super(RFC2822_D);
+		}
+	}
+
+	/**
+	 * Same as {@link DateSwap.DateTimeSimple}.
+	 */
+	public static class DateTimeSimple extends TemporalDateSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public DateTimeSimple() {
+			super(SIMPLE_DT);
+		}
+	}
+
+	/**
+	 * Same as {@link DateSwap.DateSimple}.
+	 */
+	public static class DateSimple extends TemporalDateSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public DateSimple() {
+			super(SIMPLE_D);
+		}
+	}
+
+	/**
+	 * Same as {@link DateSwap.TimeSimple}.
+	 */
+	public static class TimeSimple extends TemporalDateSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public TimeSimple() {
+			super(SIMPLE_T);
+		}
+	}
+
+	/**
+	 * Same as {@link DateSwap.DateFull}.
+	 */
+	public static class DateFull extends TemporalDateSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public DateFull() {
+			super(FULL_D);
+		}
+	}
+
+	/**
+	 * Same as {@link DateSwap.DateLong}.
+	 */
+	public static class DateLong extends TemporalDateSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public DateLong() {
+			super(LONG_D);
+		}
+	}
+
+	/**
+	 * Same as {@link DateSwap.DateMedium}.
+	 */
+	public static class DateMedium extends TemporalDateSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public DateMedium() {
+			super(MEDIUM_D);
+		}
+	}
+
+	/**
+	 * Same as {@link DateSwap.DateShort}.
+	 */
+	public static class DateShort extends TemporalDateSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public DateShort() {
+			super(SHORT_D);
+		}
+	}
+
+	/**
+	 * Same as {@link DateSwap.TimeFull}.
+	 */
+	public static class TimeFull extends TemporalDateSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public TimeFull() {
+			super(FULL_T);
+		}
+	}
+
+	/**
+	 * Same as {@link DateSwap.TimeLong}.
+	 */
+	public static class TimeLong extends TemporalDateSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public TimeLong() {
+			super(LONG_T);
+		}
+	}
+
+	/**
+	 * Same as {@link DateSwap.TimeMedium}.
+	 */
+	public static class TimeMedium extends TemporalDateSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public TimeMedium() {
+			super(MEDIUM_T);
+		}
+	}
+
+	/**
+	 * Same as {@link DateSwap.TimeShort}.
+	 */
+	public static class TimeShort extends TemporalDateSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public TimeShort() {
+			super(SHORT_T);
+		}
+	}
+
+	/**
+	 * Same as {@link DateSwap.DateTimeFull}.
+	 */
+	public static class DateTimeFull extends TemporalDateSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public DateTimeFull() {
+			super(FULL_DT);
+		}
+	}
+
+	/**
+	 * Same as {@link DateSwap.DateTimeLong}.
+	 */
+	public static class DateTimeLong extends TemporalDateSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public DateTimeLong() {
+			super(LONG_DT);
+		}
+	}
+
+	/**
+	 * Same as {@link DateSwap.DateTimeMedium}.
+	 */
+	public static class DateTimeMedium extends TemporalDateSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public DateTimeMedium() {
+			super(MEDIUM_DT);
+		}
+	}
+
+	/**
+	 * Same as {@link DateSwap.DateTimeShort}.
+	 */
+	public static class DateTimeShort extends TemporalDateSwap {
+
+		/**
+		 * Constructor.
+		 */
+		public DateTimeShort() {
+			super(SHORT_DT);
+		}
+	}
+}
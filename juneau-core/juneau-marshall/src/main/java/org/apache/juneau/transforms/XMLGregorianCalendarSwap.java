@@ -27,21 +27,24 @@ import org.apache.juneau.transform.*;
  *
  * <p>
  * Strings are converted to objects using {@link DatatypeFactory#newXMLGregorianCalendar(String)}.
+ *
+ * <p>
+ * For {@link java.util.Calendar} and {@link java.util.Date} properties, {@link TemporalCalendarSwap.ISO8601DT} and
+ * {@link TemporalDateSwap.ISO8601DT} produce the same ISO8601 format without the use of a {@link DatatypeFactory}.
  */
 public class XMLGregorianCalendarSwap extends StringSwap<XMLGregorianCalendar> {
 
-	private DatatypeFactory dtf;
-
-	/**
-	 * Constructor.
-	 */
-	public XMLGregorianCalendarSwap() {
-		try {
-			this.dtf = DatatypeFactory.newInstance();
-		} catch (DatatypeConfigurationException e) {
-			throw new RuntimeException(e);
+	// Factory lookup is expensive, but factories aren't documented as thread-safe, so one is kept per thread.
+	private static final ThreadLocal<DatatypeFactory> DTF = new ThreadLocal<DatatypeFactory>() {
+		@Override /* ThreadLocal */
+		protected DatatypeFactory initialValue() {
+			try {
+				return DatatypeFactory.newInstance();
+			} catch (DatatypeConfigurationException e) {
+				throw new RuntimeException(e);
+			}
 		}
-	}
+	};
 
 	/**
 	 * Converts the specified <code>XMLGregorianCalendar</code> to a {@link String}.
@@ -58,6 +61,6 @@ public class XMLGregorianCalendarSwap extends StringSwap<XMLGregorianCalendar> {
 	public XMLGregorianCalendar unswap(BeanSession session, String s, ClassMeta<?> hint) throws Exception {
 		if (isEmpty(s))
 			return null;
-		return dtf.newXMLGregorianCalendar(s);
+		return DTF.get().newXMLGregorianCalendar(s);
 	}
 }
\ No newline at end of file
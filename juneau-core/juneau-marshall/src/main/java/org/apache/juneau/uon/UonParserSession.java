@@ -211,11 +211,11 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 				throw new ParseException(this, "Expected ''null'' for void value, but was ''{0}''.", s);
 		} else if (sType.isObject()) {
 			if (c == '(') {
-				ObjectMap m = new ObjectMap(this);
+				ObjectMap m = newGenericMap();
 				parseIntoMap(r, m, string(), object(), pMeta);
 				o = cast(m, pMeta, eType);
 			} else if (c == '@') {
-				Collection l = new ObjectList(this);
+				Collection l = newGenericList();
 				o = parseIntoCollection(r, l, sType, isUrlParamValue, pMeta);
 			} else {
 				String s = parseString(r, isUrlParamValue);
@@ -241,11 +241,11 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 		} else if (sType.isNumber()) {
 			o = parseNumber(r, (Class<? extends Number>)sType.getInnerClass());
 		} else if (sType.isMap()) {
-			Map m = (sType.canCreateNewInstance(outer) ? (Map)sType.newInstance(outer) : new ObjectMap(this));
+			Map m = (canCreateNewInstance(sType, outer) ? (Map)sType.newInstance(outer) : newGenericMap());
 			o = parseIntoMap(r, m, sType.getKeyType(), sType.getValueType(), pMeta);
 		} else if (sType.isCollection()) {
 			if (c == '(') {
-				ObjectMap m = new ObjectMap(this);
+				ObjectMap m = newGenericMap();
 				parseIntoMap(r, m, string(), object(), pMeta);
 				// Handle case where it's a collection, but serialized as a map with a _type or _value key.
 				if (m.containsKey(getBeanTypePropertyName(sType)))
@@ -253,18 +253,18 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 				// Handle case where it's a collection, but only a single value was specified.
 				else {
 					Collection l = (
-						sType.canCreateNewInstance(outer)
+						canCreateNewInstance(sType, outer)
 						? (Collection)sType.newInstance(outer)
-						: new ObjectList(this)
+						: newGenericList()
 					);
 					l.add(m.cast(sType.getElementType()));
 					o = l;
 				}
 			} else {
 				Collection l = (
-					sType.canCreateNewInstance(outer)
+					canCreateNewInstance(sType, outer)
 					? (Collection)sType.newInstance(outer)
-					: new ObjectList(this)
+					: newGenericList()
 				);
 				o = parseIntoCollection(r, l, sType, isUrlParamValue, pMeta);
 			}
@@ -284,7 +284,7 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 			o = sType.newInstanceFromNumber(this, outer, parseNumber(r, sType.getNewInstanceFromNumberClass()));
 		} else if (sType.isArray() || sType.isArgs()) {
 			if (c == '(') {
-				ObjectMap m = new ObjectMap(this);
+				ObjectMap m = newGenericMap();
 				parseIntoMap(r, m, string(), object(), pMeta);
 				// Handle case where it's an array, but serialized as a map with a _type or _value key.
 				if (m.containsKey(getBeanTypePropertyName(sType)))
@@ -301,7 +301,7 @@ public class UonParserSession extends ReaderParserSession implements HttpPartPar
 			}
 		} else if (c == '(') {
 			// It could be a non-bean with _type attribute.
-			ObjectMap m = new ObjectMap(this);
+			ObjectMap m = newGenericMap();
 			parseIntoMap(r, m, string(), object(), pMeta);
 			if (m.containsKey(getBeanTypePropertyName(sType)))
 				o = cast(m, pMeta, eType);
@@ -226,6 +226,24 @@ public class UonSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public UonSerializerBuilder parallelThreshold(int value) {
+		super.parallelThreshold(value);
+		return this;
+	}
+
+	@Override /* SerializerBuilder */
+	public UonSerializerBuilder recycleBuffers(boolean value) {
+		super.recycleBuffers(value);
+		return this;
+	}
+
+	@Override /* SerializerBuilder */
+	public UonSerializerBuilder recycleBuffers() {
+		super.recycleBuffers();
+		return this;
+	}
+
 	@Override /* SerializerBuilder */
 	public UonSerializerBuilder sortCollections(boolean value) {
 		super.sortCollections(value);
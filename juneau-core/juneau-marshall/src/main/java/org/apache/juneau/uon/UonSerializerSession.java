@@ -226,7 +226,12 @@ public class UonSerializerSession extends WriterSerializerSession implements Htt
 				if (addComma)
 					out.append(',');
 
-				out.cr(indent).appendObject(key, false).append('=');
+				out.cr(indent);
+				if (pMeta.isDyna())
+					out.appendObject(key, false);
+				else
+					out.appendName(pMeta.getExtendedMeta(UonBeanPropertyMeta.class), false);
+				out.append('=');
 
 				serializeAnything(out, value, cMeta, key, pMeta);
 
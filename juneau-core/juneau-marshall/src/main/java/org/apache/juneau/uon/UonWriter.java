@@ -32,6 +32,9 @@ public final class UonWriter extends SerializerWriter {
 	private final UonSerializerSession session;
 	private final boolean encodeChars, plainTextParams;
 
+	// Index into the UonBeanPropertyMeta name cache for the settings on this writer (excluding the top-attr-name bit).
+	private final int nameTokenIndex;
+
 	// Characters that do not need to be URL-encoded in strings.
 	private static final AsciiSet unencodedChars = AsciiSet.create().ranges("a-z","A-Z","0-9").chars(";/?:@-_.!*'$(),~=").build();
 
@@ -64,6 +67,7 @@ public final class UonWriter extends SerializerWriter {
 		this.session = session;
 		this.encodeChars = encodeChars;
 		this.plainTextParams = plainTextParams;
+		this.nameTokenIndex = (encodeChars ? 1 : 0) | (plainTextParams ? 2 : 0) | (trimStrings ? 4 : 0);
 	}
 
 	/**
@@ -125,6 +129,31 @@ public final class UonWriter extends SerializerWriter {
 		return this;
 	}
 
+	/**
+	 * Serializes the name of the specified bean property.
+	 *
+	 * <p>
+	 * Produces the same output as {@link #appendObject(Object, boolean)}, but the encoded name is computed only once per
+	 * combination of writer settings and then cached on the property metadata.
+	 *
+	 * @param pMeta The UON metadata of the bean property being serialized.
+	 * @param isTopAttrName If this is a top-level attribute name we're serializing.
+	 * @return This object (for method chaining).
+	 * @throws IOException Should never happen.
+	 */
+	public final UonWriter appendName(UonBeanPropertyMeta pMeta, boolean isTopAttrName) throws IOException {
+		int index = nameTokenIndex | (isTopAttrName ? 8 : 0);
+		char[] t = pMeta.getNameToken(index);
+		if (t == null) {
+			StringBuilderWriter w = new StringBuilderWriter();
+			new UonWriter(session, w, false, 0, encodeChars, trimStrings, plainTextParams, null).appendObject(pMeta.getName(), isTopAttrName);
+			t = w.toString().toCharArray();
+			pMeta.setNameToken(index, t);
+		}
+		append(t);
+		return this;
+	}
+
 	/**
 	 * Appends a boolean value to the output.
 	 *
@@ -254,6 +283,12 @@ public final class UonWriter extends SerializerWriter {
 		return this;
 	}
 
+	@Override /* SerializerWriter */
+	public UonWriter append(char[] characters) throws IOException {
+		super.append(characters);
+		return this;
+	}
+
 	@Override /* SerializerWriter */
 	public UonWriter append(char c) throws IOException {
 		super.append(c);
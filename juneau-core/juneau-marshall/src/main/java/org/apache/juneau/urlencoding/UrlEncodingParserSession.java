@@ -109,14 +109,14 @@ public class UrlEncodingParserSession extends UonParserSession {
 		Object o;
 
 		if (sType.isObject()) {
-			ObjectMap m = new ObjectMap(this);
+			ObjectMap m = newGenericMap();
 			parseIntoMap2(r, m, getClassMeta(Map.class, String.class, Object.class), outer);
 			if (m.containsKey("_value"))
 				o = m.get("_value");
 			else
 				o = cast(m, null, eType);
 		} else if (sType.isMap()) {
-			Map m = (sType.canCreateNewInstance() ? (Map)sType.newInstance() : new ObjectMap(this));
+			Map m = (canCreateNewInstance(sType, null) ? (Map)sType.newInstance() : newGenericMap());
 			o = parseIntoMap2(r, m, sType, m);
 		} else if (builder != null) {
 			BeanMap m = toBeanMap(builder.create(this, eType));
@@ -128,7 +128,7 @@ public class UrlEncodingParserSession extends UonParserSession {
 			o = m == null ? null : m.getBean();
 		} else if (sType.isCollection() || sType.isArray() || sType.isArgs()) {
 			// ?1=foo&2=bar...
-			Collection c2 = ((sType.isArray() || sType.isArgs()) || ! sType.canCreateNewInstance(outer)) ? new ObjectList(this) : (Collection)sType.newInstance();
+			Collection c2 = ((sType.isArray() || sType.isArgs()) || ! canCreateNewInstance(sType, outer)) ? newGenericList() : (Collection)sType.newInstance();
 			Map<Integer,Object> m = new TreeMap<>();
 			parseIntoMap2(r, m, sType, c2);
 			c2.addAll(m.values());
@@ -140,7 +140,7 @@ public class UrlEncodingParserSession extends UonParserSession {
 				o = c2;
 		} else {
 			// It could be a non-bean with _type attribute.
-			ObjectMap m = new ObjectMap(this);
+			ObjectMap m = newGenericMap();
 			parseIntoMap2(r, m, getClassMeta(Map.class, String.class, Object.class), outer);
 			if (m.containsKey(getBeanTypePropertyName(eType)))
 				o = cast(m, null, eType);
@@ -242,7 +242,7 @@ public class UrlEncodingSerializerSession extends UonSerializerSession {
 						if (addAmp)
 							out.cr(indent).append('&');
 
-						out.appendObject(key, true).append('=');
+						appendName(out, pMeta, key).append('=');
 
 						super.serializeAnything(out, i.next(), cMeta.getElementType(), key, pMeta);
 
@@ -252,7 +252,7 @@ public class UrlEncodingSerializerSession extends UonSerializerSession {
 					if (addAmp)
 						out.cr(indent).append('&');
 
-					out.appendObject(key, true).append('=');
+					appendName(out, pMeta, key).append('=');
 
 					super.serializeAnything(out, value, cMeta, key, pMeta);
 
@@ -264,6 +264,12 @@ public class UrlEncodingSerializerSession extends UonSerializerSession {
 		return out;
 	}
 
+	private static UonWriter appendName(UonWriter out, BeanPropertyMeta pMeta, String key) throws Exception {
+		if (pMeta.isDyna())
+			return out.appendObject(key, true);
+		return out.appendName(pMeta.getExtendedMeta(UonBeanPropertyMeta.class), true);
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Properties
 	//-----------------------------------------------------------------------------------------------------------------
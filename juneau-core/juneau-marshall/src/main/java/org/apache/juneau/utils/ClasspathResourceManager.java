@@ -13,23 +13,46 @@
 package org.apache.juneau.utils;
 
 import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
 import java.util.*;
-import java.util.concurrent.*;
 
 import org.apache.juneau.internal.*;
 
 /**
  * Class for retrieving and caching resource files from the classpath.
+ *
+ * <p>
+ * When caching is enabled, resources are held in a least-recently-used cache bounded by a total byte budget.
+ * Resources with identical contents (e.g. the same file found through different names or locales) share a single
+ * copy of their bytes.
+ *
+ * <p>
+ * Optionally, file system resources larger than a specified threshold can be memory-mapped instead of being read onto
+ * the heap.
  */
 public final class ClasspathResourceManager {
 
-	// Maps resource names+locales to found resources.
-	private final ConcurrentHashMap<ResourceKey,byte[]> byteCache;
-	private final ConcurrentHashMap<ResourceKey,String> stringCache;
+	/**
+	 * The default maximum number of bytes held in the cache (10MB).
+	 */
+	public static final long DEFAULT_MAX_CACHE_SIZE = 10*1024*1024l;
+
+	// Upper bound on the number of cached entries regardless of their size.
+	private static final int MAX_ENTRIES = 1000;
 
 	private final Class<?> baseClass;
 	private final ClasspathResourceFinder resourceFinder;
 	private final boolean useCache;
+	private final long maxCacheSize, mmapThreshold;
+
+	// Maps resource class+names+locales to found resources in access order.
+	private final LinkedHashMap<ResourceKey,Content> cache;
+
+	// Unique resource contents so that duplicate resources share the same bytes.
+	private final HashMap<Content,Content> contents;
+
+	private long cacheSize;
 
 	/**
 	 * Constructor.
@@ -39,15 +62,36 @@ public final class ClasspathResourceManager {
 	 * @param useCache If <jk>true</jk>, retrieved resources are stored in an in-memory cache for fast lookup.
 	 */
 	public ClasspathResourceManager(Class<?> baseClass, ClasspathResourceFinder resourceFinder, boolean useCache) {
+		this(baseClass, resourceFinder, useCache ? DEFAULT_MAX_CACHE_SIZE : 0, -1);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param baseClass The default class to use for retrieving resources from the classpath.
+	 * @param resourceFinder The resource finder implementation.
+	 * @param maxCacheSize
+	 * 	The maximum number of bytes of resource contents to keep in the in-memory cache.
+	 * 	<br>Least-recently-used resources are evicted when this budget is exceeded.
+	 * 	<br>Resources larger than this value are never cached.
+	 * 	<br>A value of <code>0</code> disables caching.
+	 * @param mmapThreshold
+	 * 	The minimum size in bytes of file system resources that should be memory-mapped instead of read onto the heap.
+	 * 	<br>Memory-mapped resources do not count against the cache budget.
+	 * 	<br>A value of <code>-1</code> disables memory-mapping.
+	 */
+	public ClasspathResourceManager(Class<?> baseClass, ClasspathResourceFinder resourceFinder, long maxCacheSize, long mmapThreshold) {
 		this.baseClass = baseClass;
 		this.resourceFinder = resourceFinder;
-		this.useCache = useCache;
+		this.maxCacheSize = maxCacheSize;
+		this.mmapThreshold = mmapThreshold;
+		this.useCache = maxCacheSize > 0;
 		if (useCache) {
-			this.byteCache = new ConcurrentHashMap<>();
-			this.stringCache = new ConcurrentHashMap<>();
+			this.cache = new LinkedHashMap<>(16, 0.75f, true);
+			this.contents = new HashMap<>();
 		} else {
-			this.byteCache = null;
-			this.stringCache = null;
+			this.cache = null;
+			this.contents = null;
 		}
 	}
 
@@ -63,6 +107,45 @@ public final class ClasspathResourceManager {
 		this(baseClass, new ClasspathResourceFinderBasic(), false);
 	}
 
+	/**
+	 * Returns the maximum number of bytes held in the in-memory cache.
+	 *
+	 * @return The maximum number of bytes held in the in-memory cache, or <code>0</code> if caching is disabled.
+	 */
+	public long getMaxCacheSize() {
+		return maxCacheSize;
+	}
+
+	/**
+	 * Returns the minimum size of file resources that are memory-mapped instead of being read into the heap.
+	 *
+	 * @return The memory-map threshold in bytes, or <code>-1</code> if memory-mapping is disabled.
+	 */
+	public long getMmapThreshold() {
+		return mmapThreshold;
+	}
+
+	/**
+	 * Returns the number of bytes currently held in the in-memory cache.
+	 *
+	 * <p>
+	 * Memory-mapped resources are not included in this value.
+	 *
+	 * @return The number of bytes currently held in the in-memory cache.
+	 */
+	public synchronized long getCacheSize() {
+		return cacheSize;
+	}
+
+	/**
+	 * Returns the number of resource names currently held in the in-memory cache.
+	 *
+	 * @return The number of resource names currently held in the in-memory cache.
+	 */
+	public synchronized int getCacheEntryCount() {
+		return cache == null ? 0 : cache.size();
+	}
+
 	/**
 	 * Finds the resource with the given name.
 	 *
@@ -102,21 +185,13 @@ public final class ClasspathResourceManager {
 		if (baseClass == null)
 			baseClass = this.baseClass;
 
-		if (! useCache)
-			return resourceFinder.findResource(baseClass, name, locale);
-
-		ResourceKey key = new ResourceKey(name, locale);
-
-		byte[] r = byteCache.get(key);
-		if (r == null) {
-			try (InputStream is = resourceFinder.findResource(baseClass, name, locale)) {
-				if (is != null)
-					byteCache.putIfAbsent(key, IOUtils.readBytes(is, 1024));
-			}
+		if (! useCache) {
+			Content c = load(baseClass, name, locale);
+			return c == null ? null : c.getStream();
 		}
 
-		r = byteCache.get(key);
-		return r == null ? null : new ByteArrayInputStream(r);
+		Content c = getContent(baseClass, name, locale);
+		return c == null ? null : c.getStream();
 	}
 
 	/**
@@ -178,39 +253,192 @@ public final class ClasspathResourceManager {
 			}
 		}
 
-		ResourceKey key = new ResourceKey(name, locale);
+		Content c = getContent(baseClass, name, locale);
+		if (c == null)
+			return null;
+		if (c.buffer != null)
+			return IOUtils.read(c.getStream(), IOUtils.UTF8);
 
-		String r = stringCache.get(key);
-		if (r == null) {
-			try (InputStream is = resourceFinder.findResource(baseClass, name, locale)) {
-				if (is != null)
-					stringCache.putIfAbsent(key, IOUtils.read(is, IOUtils.UTF8));
+		synchronized (this) {
+			if (c.string == null) {
+				c.string = IOUtils.read(c.getStream(), IOUtils.UTF8);
+				if (c.refs > 0) {
+					cacheSize += c.string.length() * 2;
+					evict();
+				}
 			}
+			return c.string;
 		}
+	}
+
+	private Content getContent(Class<?> baseClass, String name, Locale locale) throws IOException {
+		ResourceKey key = new ResourceKey(baseClass, name, locale);
 
-		return stringCache.get(key);
+		synchronized (this) {
+			Content c = cache.get(key);
+			if (c != null)
+				return c;
+		}
+
+		Content c = load(baseClass, name, locale);
+		if (c == null)
+			return null;
+
+		synchronized (this) {
+			Content c2 = cache.get(key);
+			if (c2 != null)
+				return c2;
+			if (c.buffer == null) {
+				if (c.bytes.length > maxCacheSize)
+					return c;
+				c2 = contents.get(c);
+				if (c2 == null) {
+					contents.put(c, c);
+					cacheSize += c.weight();
+				} else {
+					c = c2;
+				}
+			}
+			c.refs++;
+			cache.put(key, c);
+			evict();
+			return c;
+		}
+	}
+
+	private Content load(Class<?> baseClass, String name, Locale locale) throws IOException {
+		try (InputStream is = resourceFinder.findResource(baseClass, name, locale)) {
+			if (is == null)
+				return null;
+			if (mmapThreshold >= 0 && is instanceof FileInputStream) {
+				FileChannel fc = ((FileInputStream)is).getChannel();
+				long size = fc.size();
+				if (size >= mmapThreshold && size <= Integer.MAX_VALUE)
+					return new Content(fc.map(FileChannel.MapMode.READ_ONLY, 0, size));
+			}
+			return new Content(IOUtils.readBytes(is, 1024));
+		}
+	}
+
+	// Must be called while synchronized.
+	private void evict() {
+		Iterator<Content> i = cache.values().iterator();
+		while ((cacheSize > maxCacheSize || cache.size() > MAX_ENTRIES) && i.hasNext()) {
+			Content c = i.next();
+			i.remove();
+			if (--c.refs == 0 && c.buffer == null) {
+				contents.remove(c);
+				cacheSize -= c.weight();
+			}
+		}
+	}
+
+	/*
+	 * Resource contents held either as a byte array on the heap or as a memory-mapped buffer.
+	 * Heap contents are compared by value so that duplicates can be shared.
+	 */
+	private static final class Content {
+		final byte[] bytes;
+		final ByteBuffer buffer;
+		final int hashCode;
+		String string;
+		int refs;
+
+		Content(byte[] bytes) {
+			this.bytes = bytes;
+			this.buffer = null;
+			this.hashCode = Arrays.hashCode(bytes);
+		}
+
+		Content(ByteBuffer buffer) {
+			this.bytes = null;
+			this.buffer = buffer;
+			this.hashCode = System.identityHashCode(buffer);
+		}
+
+		InputStream getStream() {
+			return buffer == null ? new ByteArrayInputStream(bytes) : new ByteBufferInputStream(buffer.duplicate());
+		}
+
+		long weight() {
+			return bytes.length + (string == null ? 0 : string.length() * 2);
+		}
+
+		@Override /* Object */
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override /* Object */
+		public boolean equals(Object o) {
+			if (o instanceof Content) {
+				Content c = (Content)o;
+				if (c.hashCode == hashCode && bytes != null && c.bytes != null)
+					return Arrays.equals(c.bytes, bytes);
+				return c == this;
+			}
+			return false;
+		}
+	}
+
+	private static final class ByteBufferInputStream extends InputStream {
+		private final ByteBuffer buffer;
+
+		ByteBufferInputStream(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override /* InputStream */
+		public int read() {
+			return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+		}
+
+		@Override /* InputStream */
+		public int read(byte[] b, int off, int len) {
+			if (len == 0)
+				return 0;
+			if (! buffer.hasRemaining())
+				return -1;
+			len = Math.min(len, buffer.remaining());
+			buffer.get(b, off, len);
+			return len;
+		}
+
+		@Override /* InputStream */
+		public long skip(long n) {
+			int i = (int)Math.max(0, Math.min(n, buffer.remaining()));
+			buffer.position(buffer.position() + i);
+			return i;
+		}
+
+		@Override /* InputStream */
+		public int available() {
+			return buffer.remaining();
+		}
 	}
 
-	private class ResourceKey {
+	private static final class ResourceKey {
+		final Class<?> baseClass;
 		final String name;
 		final Locale locale;
 
-		ResourceKey(String name, Locale locale) {
+		ResourceKey(Class<?> baseClass, String name, Locale locale) {
+			this.baseClass = baseClass;
 			this.name = name;
 			this.locale = locale;
 		}
 
 		@Override
 		public int hashCode() {
-			return name.hashCode() + (locale == null ? 0 : locale.hashCode());
+			return (baseClass == null ? 0 : baseClass.hashCode()) * 31 + name.hashCode() + (locale == null ? 0 : locale.hashCode());
 		}
 
 		@Override
 		public boolean equals(Object o) {
-			if (o == null)
+			if (! (o instanceof ResourceKey))
 				return false;
 			ResourceKey ok = (ResourceKey)o;
-			return ObjectUtils.equals(name, ok.name) && ObjectUtils.equals(locale, ok.locale);
+			return baseClass == ok.baseClass && ObjectUtils.equals(name, ok.name) && ObjectUtils.equals(locale, ok.locale);
 		}
 	}
 }
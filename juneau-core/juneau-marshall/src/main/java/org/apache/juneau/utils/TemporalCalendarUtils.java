@@ -0,0 +1,376 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.utils;
+
+import static org.apache.juneau.internal.StringUtils.*;
+
+import java.time.*;
+import java.time.format.*;
+import java.time.temporal.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.juneau.parser.ParseException;
+import org.apache.juneau.utils.CalendarUtils.*;
+
+/**
+ * Utility class for converting {@link Calendar} and {@link Date} objects to common serialized forms using
+ * {@link DateTimeFormatter DateTimeFormatters}.
+ *
+ * <p>
+ * Supports the same formats as {@link CalendarUtils}, but uses shared immutable formatters instead of thread-local
+ * {@link java.text.SimpleDateFormat SimpleDateFormats}.
+ * <br>ISO8601 strings are formatted and parsed directly without the use of formatters.
+ *
+ * <p>
+ * The output is the same as {@link CalendarUtils} with the following exceptions:
+ * <ul class='spaced-list'>
+ * 	<li>
+ * 		Strings without time zone information are interpreted in the specified time zone taking daylight savings time
+ * 		into account, instead of using only the raw offset of the time zone.
+ * 	<li>
+ * 		{@link CalendarUtils.Format#ISO8601_DTP} writes non-zero milliseconds once instead of twice.
+ * </ul>
+ */
+public final class TemporalCalendarUtils {
+
+	private static final TimeZone GMT = TimeZone.getTimeZone("GMT");
+	private static final Format[] FORMATS = Format.values();
+
+	// Formatters are immutable and thread-safe, so they're created once per locale.
+	private static final ConcurrentHashMap<Locale,DateTimeFormatter[]> FORMATTERS = new ConcurrentHashMap<>();
+	private static final Map<String,String> LEGACY_ZONES = new HashMap<>();
+	static {
+		LEGACY_ZONES.put("EST", "America/Panama");
+		LEGACY_ZONES.put("MST", "America/Phoenix");
+		LEGACY_ZONES.put("HST", "Pacific/Honolulu");
+	}
+
+	private TemporalCalendarUtils() {}
+
+	/**
+	 * Converts the specified calendar to a string of the specified format.
+	 *
+	 * @param c The calendar to serialize.
+	 * @param format The date format.
+	 * @param locale The locale to use.  If <jk>null</jk>, uses {@link Locale#getDefault()}.
+	 * @param timeZone The time zone to use.  If <jk>null</jk>, uses the time zone of the calendar.
+	 * @return The serialized date, or <jk>null</jk> if the calendar was <jk>null</jk>.
+	 */
+	public static String serialize(Calendar c, Format format, Locale locale, TimeZone timeZone) {
+		if (c == null)
+			return null;
+		return serialize(c.getTimeInMillis(), format, locale, timeZone == null ? c.getTimeZone() : timeZone);
+	}
+
+	/**
+	 * Converts the specified date to a string of the specified format.
+	 *
+	 * @param d The date to serialize.
+	 * @param format The date format.
+	 * @param locale The locale to use.  If <jk>null</jk>, uses {@link Locale#getDefault()}.
+	 * @param timeZone The time zone to use.  If <jk>null</jk>, uses {@link TimeZone#getDefault()}.
+	 * @return The serialized date, or <jk>null</jk> if the date was <jk>null</jk>.
+	 */
+	public static String serialize(Date d, Format format, Locale locale, TimeZone timeZone) {
+		if (d == null)
+			return null;
+		return serialize(d.getTime(), format, locale, timeZone == null ? TimeZone.getDefault() : timeZone);
+	}
+
+	/**
+	 * Converts the specified serialized date back into a {@link Calendar} object.
+	 *
+	 * @param in The serialized date.
+	 * @param format The date format.
+	 * @param locale The locale to use.  If <jk>null</jk>, uses {@link Locale#getDefault()}.
+	 * @param timeZone
+	 * 	The time zone to assume if the input string doesn't contain time zone info.
+	 * 	If <jk>null</jk>, uses {@link TimeZone#getDefault()}.
+	 * @return The date as a {@link Calendar}, or <jk>null</jk> if the input was <jk>null</jk> or empty.
+	 * @throws ParseException If the input could not be parsed.
+	 */
+	public static Calendar parseCalendar(String in, Format format, Locale locale, TimeZone timeZone) throws ParseException {
+		if (isEmpty(in))
+			return null;
+		if (timeZone == null)
+			timeZone = TimeZone.getDefault();
+		if (isISO8601(format))
+			return parseISO8601(in, timeZone);
+		Calendar c = new GregorianCalendar(timeZone);
+		c.setTimeInMillis(parse(in, format, locale, timeZone));
+		return c;
+	}
+
+	/**
+	 * Converts the specified serialized date back into a {@link Date} object.
+	 *
+	 * @param in The serialized date.
+	 * @param format The date format.
+	 * @param locale The locale to use.  If <jk>null</jk>, uses {@link Locale#getDefault()}.
+	 * @param timeZone
+	 * 	The time zone to assume if the input string doesn't contain time zone info.
+	 * 	If <jk>null</jk>, uses {@link TimeZone#getDefault()}.
+	 * @return The date as a {@link Date}, or <jk>null</jk> if the input was <jk>null</jk> or empty.
+	 * @throws ParseException If the input could not be parsed.
+	 */
+	public static Date parseDate(String in, Format format, Locale locale, TimeZone timeZone) throws ParseException {
+		if (isEmpty(in))
+			return null;
+		if (timeZone == null)
+			timeZone = TimeZone.getDefault();
+		if (isISO8601(format))
+			return parseISO8601(in, timeZone).getTime();
+		return new Date(parse(in, format, locale, timeZone));
+	}
+
+	private static String serialize(long millis, Format format, Locale locale, TimeZone timeZone) {
+		switch (format) {
+			case ISO8601_DT: return formatISO8601(millis, timeZone, true, false, true);
+			case ISO8601_DTL: return formatISO8601(millis, timeZone, true, false, false);
+			case ISO8601_DTZ: return formatISO8601(millis, GMT, true, false, true);
+			case ISO8601_DTP: return formatISO8601(millis, timeZone, true, true, true);
+			case ISO8601_DTPZ: return formatISO8601(millis, GMT, true, true, true);
+			case ISO8601_D: return formatISO8601(millis, timeZone, false, false, false);
+			case RFC2822_DTZ: timeZone = GMT; break;
+			default: break;
+		}
+		Instant i = Instant.ofEpochMilli(millis);
+		ZonedDateTime zdt = i.atZone(toZoneId(timeZone));
+		if (zdt.getOffset().getTotalSeconds() * 1000 != timeZone.getOffset(millis))
+			zdt = i.atZone(timeZone.toZoneId());
+		return getFormatter(format, locale).format(zdt);
+	}
+
+	private static long parse(String in, Format format, Locale locale, TimeZone timeZone) throws ParseException {
+		try {
+			TemporalAccessor t = getFormatter(format, locale).parse(in);
+			ZoneId zone = t.query(TemporalQueries.zone());
+			if (zone == null)
+				zone = toZoneId(format == Format.RFC2822_DTZ ? GMT : timeZone);
+			LocalDate date = t.query(TemporalQueries.localDate());
+			LocalTime time = t.query(TemporalQueries.localTime());
+			return ZonedDateTime.of(date == null ? LocalDate.ofEpochDay(0) : date, time == null ? LocalTime.MIDNIGHT : time, zone).toInstant().toEpochMilli();
+		} catch (DateTimeException e) {
+			throw new ParseException(e, "Could not parse date ''{0}'' using format {1}.", in, format);
+		}
+	}
+
+	/*
+	 * The legacy IDs "EST", "MST" and "HST" are mapped to fixed offsets by TimeZone.toZoneId(), which loses their zone
+	 * names, so they're mapped to regions that use the same names instead.
+	 */
+	private static ZoneId toZoneId(TimeZone timeZone) {
+		ZoneId z = timeZone.toZoneId();
+		if (z instanceof ZoneOffset) {
+			String id = LEGACY_ZONES.get(timeZone.getID());
+			if (id != null)
+				return ZoneId.of(id);
+		}
+		return z;
+	}
+
+	private static boolean isISO8601(Format format) {
+		switch (format) {
+			case ISO8601_DT:
+			case ISO8601_DTL:
+			case ISO8601_DTZ:
+			case ISO8601_DTP:
+			case ISO8601_DTPZ:
+			case ISO8601_D: return true;
+			default: return false;
+		}
+	}
+
+	private static DateTimeFormatter getFormatter(Format format, Locale locale) {
+		if (locale == null)
+			locale = Locale.getDefault();
+		DateTimeFormatter[] a = FORMATTERS.get(locale);
+		if (a == null) {
+			a = new DateTimeFormatter[FORMATS.length];
+			for (Format f : FORMATS)
+				a[f.ordinal()] = createFormatter(f, locale);
+			DateTimeFormatter[] a2 = FORMATTERS.putIfAbsent(locale, a);
+			if (a2 != null)
+				a = a2;
+		}
+		return a[format.ordinal()];
+	}
+
+	private static DateTimeFormatter createFormatter(Format format, Locale locale) {
+		switch (format) {
+			case TO_STRING: return DateTimeFormatter.ofPattern("EEE MMM dd HH:mm:ss zzz yyyy", locale);
+			case RFC2822_DT: return DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss Z", locale);
+			case RFC2822_DTZ: return DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", locale);
+			case RFC2822_D: return DateTimeFormatter.ofPattern("dd MMM yyyy", locale);
+			case SIMPLE_DT: return DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss", locale);
+			case SIMPLE_D: return DateTimeFormatter.ofPattern("yyyy/MM/dd", locale);
+			case SIMPLE_T: return DateTimeFormatter.ofPattern("HH:mm:ss", locale);
+			case FULL_D: return DateTimeFormatter.ofLocalizedDate(FormatStyle.FULL).withLocale(locale);
+			case LONG_D: return DateTimeFormatter.ofLocalizedDate(FormatStyle.LONG).withLocale(locale);
+			case MEDIUM_D: return DateTimeFormatter.ofLocalizedDate(FormatStyle.MEDIUM).withLocale(locale);
+			case SHORT_D: return DateTimeFormatter.ofLocalizedDate(FormatStyle.SHORT).withLocale(locale);
+			case FULL_T: return DateTimeFormatter.ofLocalizedTime(FormatStyle.FULL).withLocale(locale);
+			case LONG_T: return DateTimeFormatter.ofLocalizedTime(FormatStyle.LONG).withLocale(locale);
+			case MEDIUM_T: return DateTimeFormatter.ofLocalizedTime(FormatStyle.MEDIUM).withLocale(locale);
+			case SHORT_T: return DateTimeFormatter.ofLocalizedTime(FormatStyle.SHORT).withLocale(locale);
+			case FULL_DT: return DateTimeFormatter.ofLocalizedDateTime(FormatStyle.FULL).withLocale(locale);
+			case LONG_DT: return DateTimeFormatter.ofLocalizedDateTime(FormatStyle.LONG).withLocale(locale);
+			case MEDIUM_DT: return DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM).withLocale(locale);
+			case SHORT_DT: return DateTimeFormatter.ofLocalizedDateTime(FormatStyle.SHORT).withLocale(locale);
+			default: return null;
+		}
+	}
+
+	/*
+	 * Formats a date as "yyyy-MM-dd['T'HH:mm:ss[.SSS]][Z|+hh:mm]".
+	 * Milliseconds are always included if precise, otherwise only if non-zero and the zone is included.
+	 */
+	private static String formatISO8601(long millis, TimeZone timeZone, boolean time, boolean precise, boolean zone) {
+		int offset = timeZone.getOffset(millis);
+		long local = millis + offset;
+		long days = Math.floorDiv(local, 86_400_000L);
+		int ms = (int)Math.floorMod(local, 86_400_000L);
+		LocalDate d = LocalDate.ofEpochDay(days);
+
+		StringBuilder sb = new StringBuilder(29);
+		int year = d.getYear();
+		if (year < 0) {
+			sb.append('-');
+			year = -year;
+		}
+		if (year < 1000)
+			sb.append(year < 10 ? "000" : year < 100 ? "00" : "0");
+		sb.append(year).append('-');
+		pad2(sb, d.getMonthValue()).append('-');
+		pad2(sb, d.getDayOfMonth());
+		if (time) {
+			sb.append('T');
+			pad2(sb, ms / 3_600_000).append(':');
+			pad2(sb, ms / 60_000 % 60).append(':');
+			pad2(sb, ms / 1000 % 60);
+			int fraction = ms % 1000;
+			if (precise || (zone && fraction != 0)) {
+				sb.append('.').append((char)('0' + fraction / 100));
+				pad2(sb, fraction % 100);
+			}
+			if (zone) {
+				if (offset == 0) {
+					sb.append('Z');
+				} else {
+					int m = Math.abs(offset) / 60_000;
+					sb.append(offset < 0 ? '-' : '+');
+					pad2(sb, m / 60).append(':');
+					pad2(sb, m % 60);
+				}
+			}
+		}
+		return sb.toString();
+	}
+
+	private static StringBuilder pad2(StringBuilder sb, int i) {
+		return sb.append((char)('0' + i / 10)).append((char)('0' + i % 10));
+	}
+
+	/*
+	 * Parses "yyyy[-MM[-dd[('T'|' ')HH[:mm[:ss[.S*]]]]]][Z|+hh[[:]mm]]".
+	 * Strings without time zones are interpreted in the specified time zone.
+	 */
+	private static Calendar parseISO8601(String in, TimeZone timeZone) throws ParseException {
+		String s = in.trim();
+		int len = s.length(), i = 0;
+		int month = 1, day = 1, hour = 0, minute = 0, second = 0, nanos = 0;
+		TimeZone tz = null;
+
+		try {
+			int start = (s.charAt(0) == '-' || s.charAt(0) == '+') ? 1 : 0;
+			i = start;
+			while (i < len && isDigit(s.charAt(i)))
+				i++;
+			if (i - start < 4)
+				throw new ParseException("Invalid year.");
+			int year = Integer.parseInt(s.substring(0, i));
+
+			if (i < len && s.charAt(i) == '-') {
+				month = digits2(s, i+1);
+				i += 3;
+				if (i < len && s.charAt(i) == '-') {
+					day = digits2(s, i+1);
+					i += 3;
+					if (i < len && (s.charAt(i) == 'T' || s.charAt(i) == ' ')) {
+						hour = digits2(s, i+1);
+						i += 3;
+						if (i < len && s.charAt(i) == ':') {
+							minute = digits2(s, i+1);
+							i += 3;
+							if (i < len && s.charAt(i) == ':') {
+								second = digits2(s, i+1);
+								i += 3;
+								if (i < len && (s.charAt(i) == '.' || s.charAt(i) == ',')) {
+									int j = ++i, scale = 100_000_000;
+									while (i < len && isDigit(s.charAt(i))) {
+										nanos += (s.charAt(i) - '0') * scale;
+										scale /= 10;
+										i++;
+									}
+									if (i == j)
+										throw new ParseException("Invalid fraction.");
+								}
+							}
+						}
+					}
+				}
+			}
+
+			if (i < len) {
+				char c = s.charAt(i);
+				if (c == 'Z' && i == len-1) {
+					tz = GMT;
+					i++;
+				} else if (c == '+' || c == '-') {
+					int h = digits2(s, i+1), m = 0;
+					i += 3;
+					if (i < len && s.charAt(i) == ':')
+						i++;
+					if (i < len) {
+						m = digits2(s, i);
+						i += 2;
+					}
+					tz = (h == 0 && m == 0) ? GMT : TimeZone.getTimeZone(c == '-' ? ZoneOffset.ofHoursMinutes(-h, -m) : ZoneOffset.ofHoursMinutes(h, m));
+				}
+			}
+			if (i != len)
+				throw new ParseException("Unexpected characters at position {0}.", i);
+
+			LocalDateTime ldt = LocalDateTime.of(year, month, day, hour, minute, second, nanos);
+			if (tz == null)
+				tz = timeZone;
+			Calendar c = new GregorianCalendar(tz);
+			c.setTimeInMillis(ldt.atZone(tz.toZoneId()).toInstant().toEpochMilli());
+			return c;
+		} catch (ParseException | DateTimeException | IndexOutOfBoundsException | NumberFormatException e) {
+			throw new ParseException(e, "Invalid ISO8601 date ''{0}''.", in);
+		}
+	}
+
+	private static int digits2(String s, int i) throws ParseException {
+		char c1 = s.charAt(i), c2 = s.charAt(i+1);
+		if (! (isDigit(c1) && isDigit(c2)))
+			throw new ParseException("Expected two digits at position {0}.", i);
+		return (c1 - '0') * 10 + (c2 - '0');
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+}
@@ -12,9 +12,11 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.xml;
 
+import java.io.*;
 import java.util.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
 import org.apache.juneau.xml.annotation.*;
 
 /**
@@ -31,6 +33,7 @@ public class XmlBeanPropertyMeta extends BeanPropertyMetaExtended {
 	private Namespace namespace = null;
 	private XmlFormat xmlFormat = XmlFormat.DEFAULT;
 	private String childName;
+	private final String encodedName;
 
 	/**
 	 * Constructor.
@@ -49,10 +52,17 @@ public class XmlBeanPropertyMeta extends BeanPropertyMetaExtended {
 
 		if (namespace == null)
 			namespace = bpm.getBeanMeta().getClassMeta().getExtendedMeta(XmlClassMeta.class).getNamespace();
+
+		try {
+			encodedName = XmlUtils.encodeElementName(new StringBuilderWriter(), bpm.getName()).toString();
+		} catch (IOException e) {
+			throw new RuntimeException(e); // Never happens
+		}
 	}
 
 	private XmlBeanPropertyMeta() {
 		super(null);
+		encodedName = null;
 	}
 
 	/**
@@ -96,6 +106,18 @@ public class XmlBeanPropertyMeta extends BeanPropertyMetaExtended {
 		return childName;
 	}
 
+	/**
+	 * Returns the name of this bean property encoded as an XML element name.
+	 *
+	 * <p>
+	 * Computed once so that the name doesn't need to be re-encoded every time the start and end tags are written.
+	 *
+	 * @return The encoded element name, or <jk>null</jk> if this is the default instance.
+	 */
+	public String getEncodedName() {
+		return encodedName;
+	}
+
 	private void findXmlInfo(Xml xml) {
 		if (xml == null)
 			return;
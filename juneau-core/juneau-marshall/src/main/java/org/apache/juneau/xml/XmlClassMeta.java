@@ -18,6 +18,7 @@ import static org.apache.juneau.internal.StringUtils.*;
 import java.util.*;
 
 import org.apache.juneau.*;
+import org.apache.juneau.annotation.*;
 import org.apache.juneau.internal.*;
 import org.apache.juneau.xml.annotation.*;
 
@@ -31,6 +32,12 @@ public class XmlClassMeta extends ClassMetaExtended {
 	private final Xml xml;
 	private final XmlFormat format;
 	private final String childName;
+	private volatile Object[] namespacePlan;
+
+	/**
+	 * Namespace plan step indicating that all the property values of a bean must be searched individually.
+	 */
+	static final Object SEARCH_PROPERTIES = new Object();
 
 	/**
 	 * Constructor.
@@ -100,6 +107,152 @@ public class XmlClassMeta extends ClassMetaExtended {
 		return namespace;
 	}
 
+	/**
+	 * Returns the steps for finding the XML namespaces reachable from an instance of this class.
+	 *
+	 * <p>
+	 * The plan is computed once from the class, bean, and property metadata.
+	 * <br>Each step is one of the following:
+	 * <ul>
+	 * 	<li>A {@link Namespace} that is always added.
+	 * 	<li>A {@link NamespaceSlot} for a bean property value, or for the entries of a collection, array, or map.
+	 * 	<li>{@link #SEARCH_PROPERTIES} if all the bean property values must be searched (e.g. beans with dyna
+	 * 		properties).
+	 * </ul>
+	 *
+	 * @return The namespace plan for this class.  Never <jk>null</jk>.
+	 */
+	Object[] getNamespacePlan() {
+		Object[] p = namespacePlan;
+		if (p == null) {
+			ClassMeta<?> cm = getClassMeta();
+			List<Object> l = new ArrayList<>();
+			if (namespace != null && namespace.uri != null)
+				l.add(namespace);
+			if (cm.isBean()) {
+				if (hasDynaProperty(cm)) {
+					l.add(SEARCH_PROPERTIES);
+				} else {
+					for (BeanPropertyMeta bpm : cm.getBeanMeta().getPropertyMetas()) {
+						if (bpm.canRead()) {
+							Namespace ns = bpm.getExtendedMeta(XmlBeanPropertyMeta.class).getNamespace();
+							if (ns != null && ns.uri == null)
+								ns = null;
+							Namespace[] reachable = bpm.getProperties() == null ? findReachableNamespaces(bpm.getClassMeta(), cm) : null;
+							if (ns != null || reachable == null || reachable.length > 0)
+								l.add(new NamespaceSlot(bpm, ns, reachable));
+						}
+					}
+				}
+			} else {
+				ClassMeta<?> entryType = getEntryType(cm);
+				if (entryType != null) {
+					Namespace[] reachable = findReachableNamespaces(entryType, cm);
+					if (reachable == null || reachable.length > 0)
+						l.add(new NamespaceSlot(null, null, reachable));
+				}
+			}
+			p = l.toArray();
+			namespacePlan = p;
+		}
+		return p;
+	}
+
+	/**
+	 * Namespace plan step for a bean property value, or for the entries of a collection, array, or map.
+	 */
+	static final class NamespaceSlot {
+
+		/** The bean property, or <jk>null</jk> if this slot represents collection, array, or map entries. */
+		final BeanPropertyMeta property;
+
+		/** The namespace of the bean property, or <jk>null</jk> if it doesn't have one. */
+		final Namespace namespace;
+
+		/**
+		 * The namespaces reachable from a non-null value in this slot, or <jk>null</jk> if they can only be found by
+		 * searching the value.
+		 */
+		final Namespace[] reachable;
+
+		NamespaceSlot(BeanPropertyMeta property, Namespace namespace, Namespace[] reachable) {
+			this.property = property;
+			this.namespace = namespace;
+			this.reachable = reachable;
+		}
+	}
+
+	/*
+	 * Returns all the namespaces reachable from a value of the specified declared type.
+	 * Returns null if the namespaces depend on the actual value.
+	 */
+	private static Namespace[] findReachableNamespaces(ClassMeta<?> cm, ClassMeta<?> owner) {
+		List<Namespace> l = new ArrayList<>();
+		Set<ClassMeta<?>> visiting = new HashSet<>();
+		visiting.add(owner);
+		return addReachableNamespaces(l, cm, visiting) ? l.toArray(new Namespace[l.size()]) : null;
+	}
+
+	/*
+	 * Concrete bean types are assumed to hold instances of that type, unless a bean dictionary on the type says
+	 * otherwise.
+	 */
+	private static boolean addReachableNamespaces(List<Namespace> l, ClassMeta<?> cm, Set<ClassMeta<?>> visiting) {
+		if (cm == null)
+			return true;
+		if (cm.isObject() || cm.isDelegate() || cm.isBeanMap() || cm.hasChildPojoSwaps() || visiting.contains(cm))
+			return false;
+		if (cm.isAbstract() && ! (cm.isCollectionOrArray() || cm.isMap()))
+			return false;
+		if (cm.isBean() && (hasDynaProperty(cm) || hasBeanDictionary(cm)))
+			return false;
+
+		visiting.add(cm);
+		try {
+			addNamespace(l, cm.getExtendedMeta(XmlClassMeta.class).getNamespace());
+			if (cm.isBean()) {
+				for (BeanPropertyMeta bpm : cm.getBeanMeta().getPropertyMetas()) {
+					if (bpm.canRead()) {
+						addNamespace(l, bpm.getExtendedMeta(XmlBeanPropertyMeta.class).getNamespace());
+						if (bpm.getProperties() != null || ! addReachableNamespaces(l, bpm.getClassMeta(), visiting))
+							return false;
+					}
+				}
+				return true;
+			}
+			return addReachableNamespaces(l, getEntryType(cm), visiting);
+		} finally {
+			visiting.remove(cm);
+		}
+	}
+
+	private static boolean hasDynaProperty(ClassMeta<?> cm) {
+		for (BeanPropertyMeta bpm : cm.getBeanMeta().getPropertyMetas())
+			if (bpm.isDyna())
+				return true;
+		return false;
+	}
+
+	private static boolean hasBeanDictionary(ClassMeta<?> cm) {
+		for (Bean b : getAnnotations(Bean.class, cm.getInnerClass()))
+			if (b.beanDictionary().length > 0)
+				return true;
+		return false;
+	}
+
+	private static ClassMeta<?> getEntryType(ClassMeta<?> cm) {
+		if (cm.isMap())
+			return cm.getValueType();
+		if (cm.isCollection() || (cm.isArray() && ! cm.getElementType().isPrimitive()))
+			return cm.getElementType();
+		return null;
+	}
+
+	private static void addNamespace(List<Namespace> l, Namespace ns) {
+		if (ns != null && ns.uri != null && ! l.contains(ns))
+			l.add(ns);
+	}
+
 	private static Namespace findNamespace(Class<?> c) {
 		if (c == null)
 			return null;
@@ -12,6 +12,8 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.xml;
 
+import static org.apache.juneau.internal.ClassUtils.*;
+
 import javax.xml.stream.*;
 import javax.xml.stream.util.*;
 
@@ -58,6 +60,46 @@ public class XmlParser extends ReaderParser {
 	 */
 	public static final String XML_eventAllocator = PREFIX + "eventAllocator.c";
 
+	/**
+	 * Configuration property:  XML input factory.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"XmlParser.inputFactory.c"</js>
+	 * 	<li><b>Data type:</b>  <code>Class&lt;? <jk>extends</jk> {@link XMLInputFactory}&gt;</code>
+	 * 	<li><b>Default:</b>  <jk>null</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link XmlParserBuilder#inputFactory(Class)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * The StAX input factory implementation used to create XML stream readers.
+	 *
+	 * <p>
+	 * If not specified, the factory is located using {@link XMLInputFactory#newInstance()}.
+	 * This setting can be used to plug in a faster StAX implementation (e.g. Woodstox or Aalto) without relying on
+	 * the service-loader lookup.
+	 *
+	 * <p>
+	 * Each parser creates and configures its own instance of the factory class when the parser is created.
+	 * <br>That instance is then shared by all sessions of that parser, so it must support creating stream readers
+	 * concurrently.
+	 * <br>Factory instances are not accepted since they would be reconfigured by every parser they were shared with.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	ReaderParser p = XmlParser
+	 * 		.<jsm>create</jsm>()
+	 * 		.inputFactory(com.ctc.wstx.stax.WstxInputFactory.<jk>class</jk>)
+	 * 		.build();
+	 * </p>
+	 */
+	public static final String XML_inputFactory = PREFIX + "inputFactory.c";
+
 	/**
 	 * Configuration property:  Preserve root element during generalized parsing.
 	 *
@@ -152,6 +194,35 @@ public class XmlParser extends ReaderParser {
 	 */
 	public static final String XML_resolver = PREFIX + "resolver.c";
 
+	/**
+	 * Configuration property:  Use declared encoding.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"XmlParser.useDeclaredEncoding.b"</js>
+	 * 	<li><b>Data type:</b>  <code>Boolean</code>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link XmlParserBuilder#useDeclaredEncoding(boolean)}
+	 * 			<li class='jm'>{@link XmlParserBuilder#useDeclaredEncoding()}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * If <jk>true</jk>, byte input (<l>InputStreams</l>, byte arrays and files) is passed directly to the StAX parser
+	 * which decodes it using the encoding declared in the XML declaration (or detected from the byte order mark).
+	 *
+	 * <p>
+	 * This avoids decoding the input in a separate reader, and allows documents in encodings other than the one
+	 * specified by {@link ReaderParser#RPARSER_inputStreamCharset} or {@link ReaderParser#RPARSER_fileCharset} to be
+	 * parsed.
+	 * <br>Ignored when {@link BeanContext#BEAN_debug} is enabled.
+	 */
+	public static final String XML_useDeclaredEncoding = PREFIX + "useDeclaredEncoding.b";
+
 	/**
 	 * Configuration property:  Enable validation.
 	 *
@@ -192,10 +263,12 @@ public class XmlParser extends ReaderParser {
 
 	private final boolean
 		validating,
-		preserveRootElement;
+		preserveRootElement,
+		useDeclaredEncoding;
 	private final XMLReporter reporter;
 	private final XMLResolver resolver;
 	private final XMLEventAllocator eventAllocator;
+	private final XMLInputFactory inputFactory;
 
 	/**
 	 * Constructor.
@@ -222,6 +295,36 @@ public class XmlParser extends ReaderParser {
 		reporter = getInstanceProperty(XML_reporter, XMLReporter.class, null);
 		resolver = getInstanceProperty(XML_resolver, XMLResolver.class, null);
 		eventAllocator = getInstanceProperty(XML_eventAllocator, XMLEventAllocator.class, null);
+		useDeclaredEncoding = getBooleanProperty(XML_useDeclaredEncoding, false);
+		inputFactory = createInputFactory(newInstance(XMLInputFactory.class, getClassProperty(XML_inputFactory, XMLInputFactory.class, null)), validating, reporter, resolver, eventAllocator);
+	}
+
+	/**
+	 * Creates a StAX input factory configured with the specified settings.
+	 *
+	 * @param factory
+	 * 	The new factory to configure, or <jk>null</jk> to use {@link XMLInputFactory#newInstance()}.
+	 * 	<br>The factory is modified in place, so it must not be shared.
+	 * @param validating The value for the {@link XMLInputFactory#IS_VALIDATING} setting.
+	 * @param reporter The value for the {@link XMLInputFactory#REPORTER} setting.
+	 * @param resolver The value for the {@link XMLInputFactory#RESOLVER} setting.
+	 * @param eventAllocator The value for the {@link XMLInputFactory#ALLOCATOR} setting.
+	 * @return The configured factory.
+	 */
+	static XMLInputFactory createInputFactory(XMLInputFactory factory, boolean validating, XMLReporter reporter, XMLResolver resolver, XMLEventAllocator eventAllocator) {
+		if (factory == null)
+			factory = XMLInputFactory.newInstance();
+		factory.setProperty(XMLInputFactory.IS_VALIDATING, validating);
+		factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+		factory.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, false);
+		factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+		if (factory.isPropertySupported(XMLInputFactory.REPORTER) && reporter != null)
+			factory.setProperty(XMLInputFactory.REPORTER, reporter);
+		if (factory.isPropertySupported(XMLInputFactory.RESOLVER) && resolver != null)
+			factory.setProperty(XMLInputFactory.RESOLVER, resolver);
+		if (factory.isPropertySupported(XMLInputFactory.ALLOCATOR) && eventAllocator != null)
+			factory.setProperty(XMLInputFactory.ALLOCATOR, eventAllocator);
+		return factory;
 	}
 
 	@Override /* Context */
@@ -310,6 +413,28 @@ public class XmlParser extends ReaderParser {
 		return eventAllocator;
 	}
 
+	/**
+	 * Configuration property:  Use declared encoding.
+	 *
+	 * @see #XML_useDeclaredEncoding
+	 * @return
+	 * 	<jk>true</jk> if byte input is passed directly to the StAX parser and decoded using the declared encoding.
+	 */
+	protected final boolean isUseDeclaredEncoding() {
+		return useDeclaredEncoding;
+	}
+
+	/**
+	 * Configuration property:  XML input factory.
+	 *
+	 * @see #XML_inputFactory
+	 * @return
+	 * 	The configured StAX input factory shared by all sessions of this parser.
+	 */
+	protected final XMLInputFactory getInputFactory() {
+		return inputFactory;
+	}
+
 	@Override /* Context */
 	public ObjectMap asMap() {
 		return super.asMap()
@@ -319,6 +444,8 @@ public class XmlParser extends ReaderParser {
 				.append("reporter", reporter)
 				.append("resolver", resolver)
 				.append("eventAllocator", eventAllocator)
+				.append("inputFactory", inputFactory)
+				.append("useDeclaredEncoding", useDeclaredEncoding)
 			);
 	}
 }
@@ -72,6 +72,24 @@ public class XmlParserBuilder extends ReaderParserBuilder {
 		return set(XML_eventAllocator, value);
 	}
 
+	/**
+	 * Configuration property:  XML input factory.
+	 *
+	 * <p>
+	 * The StAX input factory implementation used to create XML stream readers.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link XmlParser#XML_inputFactory}
+	 * </ul>
+	 *
+	 * @param value The new value for this property.
+	 * @return This object (for method chaining).
+	 */
+	public XmlParserBuilder inputFactory(Class<? extends XMLInputFactory> value) {
+		return set(XML_inputFactory, value);
+	}
+
 	/**
 	 * Configuration property:  Preserve root element during generalized parsing.
 	 *
@@ -146,6 +164,44 @@ public class XmlParserBuilder extends ReaderParserBuilder {
 		return set(XML_resolver, value);
 	}
 
+	/**
+	 * Configuration property:  Use declared encoding.
+	 *
+	 * <p>
+	 * If <jk>true</jk>, byte input is passed directly to the StAX parser which decodes it using the encoding declared
+	 * in the XML declaration.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link XmlParser#XML_useDeclaredEncoding}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public XmlParserBuilder useDeclaredEncoding(boolean value) {
+		return set(XML_useDeclaredEncoding, value);
+	}
+
+	/**
+	 * Configuration property:  Use declared encoding.
+	 *
+	 * <p>
+	 * Shortcut for calling <code>useDeclaredEncoding(<jk>true</jk>)</code>.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link XmlParser#XML_useDeclaredEncoding}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public XmlParserBuilder useDeclaredEncoding() {
+		return set(XML_useDeclaredEncoding, true);
+	}
+
 	/**
 	 * Configuration property:  Enable validation.
 	 *
@@ -207,6 +263,18 @@ public class XmlParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public XmlParserBuilder compactObjects(boolean value) {
+		super.compactObjects(value);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public XmlParserBuilder compactObjects() {
+		super.compactObjects();
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public XmlParserBuilder debugOutputLines(int value) {
 		super.debugOutputLines(value);
@@ -219,6 +287,24 @@ public class XmlParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* ParserBuilder */
+	public XmlParserBuilder parallelThreshold(int value) {
+		super.parallelThreshold(value);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public XmlParserBuilder recycleBuffers(boolean value) {
+		super.recycleBuffers(value);
+		return this;
+	}
+
+	@Override /* ParserBuilder */
+	public XmlParserBuilder recycleBuffers() {
+		super.recycleBuffers();
+		return this;
+	}
+
 	@Override /* ParserBuilder */
 	public XmlParserBuilder strict(boolean value) {
 		super.strict(value);
@@ -71,7 +71,7 @@ public class XmlParserSession extends ReaderParserSession {
 	 * @throws Exception If problem occurred trying to create reader.
 	 */
 	protected final XmlReader getXmlReader(ParserPipe pipe) throws Exception {
-		return new XmlReader(pipe, isValidating(), getReporter(), getResolver(), getEventAllocator());
+		return new XmlReader(pipe, getInputFactory(), isUseDeclaredEncoding() && ! isDebug());
 	}
 
 	/**
@@ -309,13 +309,13 @@ public class XmlParserSession extends ReaderParserSession {
 
 		if (sType.isObject()) {
 			if (jsonType == OBJECT) {
-				ObjectMap m = new ObjectMap(this);
+				ObjectMap m = newGenericMap();
 				parseIntoMap(r, m, string(), object(), pMeta);
 				if (wrapperAttr != null)
-					m = new ObjectMap(this).append(wrapperAttr, m);
+					m = newGenericMap().append(wrapperAttr, m);
 				o = cast(m, pMeta, eType);
 			} else if (jsonType == ARRAY)
-				o = parseIntoCollection(r, new ObjectList(this), null, pMeta);
+				o = parseIntoCollection(r, newGenericList(), null, pMeta);
 			else if (jsonType == STRING) {
 				o = getElementText(r);
 				if (sType.isChar())
@@ -334,12 +334,12 @@ public class XmlParserSession extends ReaderParserSession {
 		} else if (sType.isChar()) {
 			o = parseCharacter(getElementText(r));
 		} else if (sType.isMap()) {
-			Map m = (sType.canCreateNewInstance(outer) ? (Map)sType.newInstance(outer) : new ObjectMap(this));
+			Map m = (canCreateNewInstance(sType, outer) ? (Map)sType.newInstance(outer) : newGenericMap());
 			o = parseIntoMap(r, m, sType.getKeyType(), sType.getValueType(), pMeta);
 			if (wrapperAttr != null)
-				o = new ObjectMap(this).append(wrapperAttr, m);
+				o = newGenericMap().append(wrapperAttr, m);
 		} else if (sType.isCollection()) {
-			Collection l = (sType.canCreateNewInstance(outer) ? (Collection)sType.newInstance(outer) : new ObjectList(this));
+			Collection l = (canCreateNewInstance(sType, outer) ? (Collection)sType.newInstance(outer) : newGenericList());
 			o = parseIntoCollection(r, l, sType, pMeta);
 		} else if (sType.isNumber()) {
 			o = parseNumber(getElementText(r), (Class<? extends Number>)sType.getInnerClass());
@@ -618,7 +618,7 @@ public class XmlParserSession extends ReaderParserSession {
 
 		// If this element has attributes, then it's always an ObjectMap.
 		if (r.getAttributeCount() > 0) {
-			m = new ObjectMap(this);
+			m = newGenericMap();
 			for (int i = 0; i < r.getAttributeCount(); i++) {
 				String key = getAttributeName(r, i);
 				String val = r.getAttributeValue(i);
@@ -639,7 +639,7 @@ public class XmlParserSession extends ReaderParserSession {
 				// Oops...this has an element in it.
 				// Parse it as a map.
 				if (m == null)
-					m = new ObjectMap(this);
+					m = newGenericMap();
 				int depth = 0;
 				do {
 					int event = (eventType == -1 ? r.nextTag() : eventType);
@@ -740,4 +740,26 @@ public class XmlParserSession extends ReaderParserSession {
 	protected final XMLEventAllocator getEventAllocator() {
 		return ctx.getEventAllocator();
 	}
+
+	/**
+	 * Configuration property:  XML input factory.
+	 *
+	 * @see XmlParser#XML_inputFactory
+	 * @return
+	 * 	The configured StAX input factory shared by all sessions of this parser.
+	 */
+	protected final XMLInputFactory getInputFactory() {
+		return ctx.getInputFactory();
+	}
+
+	/**
+	 * Configuration property:  Use declared encoding.
+	 *
+	 * @see XmlParser#XML_useDeclaredEncoding
+	 * @return
+	 * 	<jk>true</jk> if byte input is passed directly to the StAX parser and decoded using the declared encoding.
+	 */
+	protected final boolean isUseDeclaredEncoding() {
+		return ctx.isUseDeclaredEncoding();
+	}
 }
@@ -43,22 +43,29 @@ public final class XmlReader implements XMLStreamReader, Positionable {
 	 * @throws Exception
 	 */
 	protected XmlReader(ParserPipe pipe, boolean validating, XMLReporter reporter, XMLResolver resolver, XMLEventAllocator eventAllocator) throws Exception {
+		this(pipe, newInputFactory(validating, reporter, resolver, eventAllocator), false);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param pipe The parser input.
+	 * @param factory The configured factory to use for creating the underlying stream reader.
+	 * @param useDeclaredEncoding
+	 * 	If <jk>true</jk> and the input is a source of bytes, the bytes are passed directly to the stream reader so that
+	 * 	they're decoded using the encoding declared in the document.
+	 * @throws Exception
+	 */
+	protected XmlReader(ParserPipe pipe, XMLInputFactory factory, boolean useDeclaredEncoding) throws Exception {
 		this.pipe = pipe;
 		try {
-			@SuppressWarnings("resource")
-			Reader r = pipe.getBufferedReader();
-			XMLInputFactory factory = XMLInputFactory.newInstance();
-			factory.setProperty(XMLInputFactory.IS_VALIDATING, validating);
-			factory.setProperty(XMLInputFactory.IS_COALESCING, true);
-			factory.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, false);
-			factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
-			if (factory.isPropertySupported(XMLInputFactory.REPORTER) && reporter != null)
-				factory.setProperty(XMLInputFactory.REPORTER, reporter);
-			if (factory.isPropertySupported(XMLInputFactory.RESOLVER) && resolver != null)
-				factory.setProperty(XMLInputFactory.RESOLVER, resolver);
-			if (factory.isPropertySupported(XMLInputFactory.ALLOCATOR) && eventAllocator != null)
-				factory.setProperty(XMLInputFactory.ALLOCATOR, eventAllocator);
-			sr = factory.createXMLStreamReader(r);
+			if (useDeclaredEncoding && pipe.isByteInput()) {
+				sr = factory.createXMLStreamReader(pipe.getInputStream());
+			} else {
+				@SuppressWarnings("resource")
+				Reader r = pipe.getBufferedReader();
+				sr = factory.createXMLStreamReader(r);
+			}
 			sr.nextTag();
 			pipe.setPositionable(this);
 		} catch (Error e) {
@@ -68,6 +75,14 @@ public final class XmlReader implements XMLStreamReader, Positionable {
 		}
 	}
 
+	private static XMLInputFactory newInputFactory(boolean validating, XMLReporter reporter, XMLResolver resolver, XMLEventAllocator eventAllocator) throws ParseException {
+		try {
+			return XmlParser.createInputFactory(null, validating, reporter, resolver, eventAllocator);
+		} catch (Error e) {
+			throw new ParseException(e.getLocalizedMessage());
+		}
+	}
+
 	/**
 	 * Returns the pipe passed into the constructor.
 	 *
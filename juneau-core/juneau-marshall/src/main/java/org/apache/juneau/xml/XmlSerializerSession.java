@@ -92,7 +92,7 @@ public class XmlSerializerSession extends WriterSerializerSession {
 	 * @param ns The namespace being added.
 	 */
 	private void addNamespace(Namespace ns) {
-		if (ns == defaultNamespace)
+		if (ns == null || ns.uri == null || ns == defaultNamespace)
 			return;
 
 		for (Namespace n : namespaces)
@@ -144,6 +144,12 @@ public class XmlSerializerSession extends WriterSerializerSession {
 	/**
 	 * Recursively searches for the XML namespaces on the specified POJO and adds them to the serializer context object.
 	 *
+	 * <p>
+	 * The cached {@link XmlClassMeta#getNamespacePlan() namespace plan} of the class is used to skip values whose
+	 * declared types can't contribute any namespaces that haven't already been found.
+	 * <br>Values whose types can't be determined ahead of time (e.g. <code>Object</code> properties) are always
+	 * searched.
+	 *
 	 * @param o The POJO to check.
 	 * @throws SerializeException
 	 */
@@ -156,42 +162,22 @@ public class XmlSerializerSession extends WriterSerializerSession {
 			throw new SerializeException(e);
 		}
 
-		if (aType != null) {
-			Namespace ns = cXml(aType).getNamespace();
-			if (ns != null) {
-				if (ns.uri != null)
-					addNamespace(ns);
-				else
-					ns = null;
-			}
-		}
-
 		// Handle recursion
 		if (aType != null && ! aType.isPrimitive()) {
 
-			BeanMap<?> bm = null;
 			if (aType.isBeanMap()) {
-				bm = (BeanMap<?>)o;
-			} else if (aType.isBean()) {
-				bm = toBeanMap(o);
+				addNamespace(cXml(aType).getNamespace());
+				findPropertyNsfMappings((BeanMap<?>)o);
+
 			} else if (aType.isDelegate()) {
+				addNamespace(cXml(aType).getNamespace());
 				ClassMeta<?> innerType = ((Delegate<?>)o).getClassMeta();
-				Namespace ns = cXml(innerType).getNamespace();
-				if (ns != null) {
-					if (ns.uri != null)
-						addNamespace(ns);
-					else
-						ns = null;
-				}
+				addNamespace(cXml(innerType).getNamespace());
 
 				if (innerType.isBean()) {
-					for (BeanPropertyMeta bpm : innerType.getBeanMeta().getPropertyMetas()) {
-						if (bpm.canRead()) {
-							ns = bpXml(bpm).getNamespace();
-							if (ns != null && ns.uri != null)
-								addNamespace(ns);
-						}
-					}
+					for (BeanPropertyMeta bpm : innerType.getBeanMeta().getPropertyMetas())
+						if (bpm.canRead())
+							addNamespace(bpXml(bpm).getNamespace());
 
 				} else if (innerType.isMap()) {
 					for (Object o2 : ((Map<?,?>)o).values())
@@ -201,35 +187,91 @@ public class XmlSerializerSession extends WriterSerializerSession {
 						findNsfMappings(o2);
 				}
 
-			} else if (aType.isMap()) {
-				for (Object o2 : ((Map<?,?>)o).values())
-					findNsfMappings(o2);
-			} else if (aType.isCollection()) {
-				for (Object o2 : ((Collection<?>)o))
-					findNsfMappings(o2);
-			} else if (aType.isArray() && ! aType.getElementType().isPrimitive()) {
-				for (Object o2 : ((Object[])o))
-					findNsfMappings(o2);
-			}
-			if (bm != null) {
-				for (BeanPropertyValue p : bm.getValues(isTrimNullProperties())) {
-
-					Namespace ns = bpXml(p.getMeta()).getNamespace();
-					if (ns != null && ns.uri != null)
-						addNamespace(ns);
-
-					try {
-						findNsfMappings(p.getValue());
-					} catch (Throwable x) {
-						// Ignore
+			} else {
+				BeanMap<?> bm = null;
+				for (Object step : cXml(aType).getNamespacePlan()) {
+					if (step instanceof Namespace) {
+						addNamespace((Namespace)step);
+					} else if (step == XmlClassMeta.SEARCH_PROPERTIES) {
+						findPropertyNsfMappings(toBeanMap(o));
+					} else {
+						XmlClassMeta.NamespaceSlot slot = (XmlClassMeta.NamespaceSlot)step;
+						if (slot.property != null) {
+							if (bm == null)
+								bm = toBeanMap(o);
+							Object v = null;
+							boolean failed = false;
+							try {
+								v = slot.property.get(bm, null);
+							} catch (Error e) {
+								throw e;
+							} catch (Throwable t) {
+								failed = true;
+							}
+							if (v != null || failed || ! isTrimNullProperties())
+								addNamespace(slot.namespace);
+							if (v != null && ! hasNamespaces(slot.reachable)) {
+								try {
+									findNsfMappings(v);
+								} catch (Throwable x) {
+									// Ignore
+								}
+							}
+						} else if (! hasNamespaces(slot.reachable)) {
+							if (aType.isMap()) {
+								for (Object o2 : ((Map<?,?>)o).values())
+									findNsfMappings(o2);
+							} else if (aType.isCollection()) {
+								for (Object o2 : ((Collection<?>)o))
+									findNsfMappings(o2);
+							} else if (aType.isArray()) {
+								for (Object o2 : ((Object[])o))
+									findNsfMappings(o2);
+							}
+						}
 					}
 				}
 			}
+		} else if (aType != null) {
+			addNamespace(cXml(aType).getNamespace());
 		}
 
 		pop();
 	}
 
+	/*
+	 * Searches all the property values of the specified bean for XML namespaces.
+	 */
+	private void findPropertyNsfMappings(BeanMap<?> bm) {
+		for (BeanPropertyValue p : bm.getValues(isTrimNullProperties())) {
+			addNamespace(bpXml(p.getMeta()).getNamespace());
+			try {
+				findNsfMappings(p.getValue());
+			} catch (Throwable x) {
+				// Ignore
+			}
+		}
+	}
+
+	/*
+	 * Returns true if all the specified namespaces have already been added to this session.
+	 */
+	private boolean hasNamespaces(Namespace[] a) {
+		if (a == null)
+			return false;
+		for (Namespace ns : a) {
+			if (ns == defaultNamespace)
+				continue;
+			boolean found = false;
+			for (Namespace n : namespaces)
+				if (n == ns)
+					found = true;
+			if (! found)
+				return false;
+		}
+		return true;
+	}
+
 	/**
 	 * Workhorse method.
 	 *
@@ -378,6 +420,10 @@ public class XmlSerializerSession extends WriterSerializerSession {
 			type = null;
 		}
 		boolean encodeEn = elementName != null;
+		if (encodeEn && pMeta != null && ! pMeta.isDyna() && elementName.equals(pMeta.getName())) {
+			en = bpXml(pMeta).getEncodedName();
+			encodeEn = false;
+		}
 		String ns = (elementNamespace == null ? null : elementNamespace.name);
 		String dns = null, elementNs = null;
 		if (isEnableNamespaces()) {
@@ -127,6 +127,25 @@ public abstract class Var {
 		return true;
 	}
 
+	/**
+	 * Returns whether the resolved value of this variable depends only on its argument.
+	 *
+	 * <p>
+	 * If <jk>true</jk>, then the value of this variable is cached in the compiled template the first time it's
+	 * resolved as long as the argument doesn't contain other variables that can't be cached.
+	 * <br>For example, <js>"$UC{foo}"</js> is only resolved once, but <js>"$UC{$S{foo}}"</js> is resolved every time.
+	 *
+	 * <p>
+	 * The default implementation of this method always returns <jk>false</jk>.
+	 * <br>Subclasses that don't use the session, system state, or anything else that can change between calls can
+	 * override this method to return <jk>true</jk>.
+	 *
+	 * @return <jk>true</jk> if the resolved value of this variable can be cached.
+	 */
+	protected boolean allowCache() {
+		return false;
+	}
+
 	/**
 	 * The method called from {@link VarResolver}.
 	 *
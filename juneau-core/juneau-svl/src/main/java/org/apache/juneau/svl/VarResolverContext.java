@@ -34,6 +34,11 @@ public class VarResolverContext {
 	private final Class<?>[] vars;
 	private final Map<String,Var> varMap;
 	private final Map<String,Object> contextObjects;
+	private final ConcurrentHashMap<String,VarTemplate> templates = new ConcurrentHashMap<>();
+
+	// Limits on the compiled templates kept by this context.
+	// Strings longer than this (e.g. the contents of resolved files) are compiled on every call.
+	private static final int MAX_CACHED_TEMPLATES = 1000, MAX_CACHED_LENGTH = 4096;
 
 	/**
 	 * Constructor.
@@ -93,4 +98,23 @@ public class VarResolverContext {
 	protected Map<String,Object> getContextObjects() {
 		return contextObjects;
 	}
+
+	/**
+	 * Returns the compiled template for the specified string.
+	 *
+	 * @param s The string containing variables.
+	 * @return The compiled template.  Never <jk>null</jk>.
+	 */
+	VarTemplate getTemplate(String s) {
+		if (s.length() > MAX_CACHED_LENGTH)
+			return new VarTemplate(s, varMap);
+		VarTemplate t = templates.get(s);
+		if (t == null) {
+			t = new VarTemplate(s, varMap);
+			if (templates.size() >= MAX_CACHED_TEMPLATES)
+				templates.clear();
+			templates.put(s, t);
+		}
+		return t;
+	}
 }
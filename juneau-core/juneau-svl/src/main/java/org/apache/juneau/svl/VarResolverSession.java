@@ -12,13 +12,10 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.svl;
 
-import static org.apache.juneau.internal.StringUtils.*;
-
 import java.io.*;
 import java.lang.reflect.*;
 import java.util.*;
-
-import org.apache.juneau.internal.*;
+import java.util.concurrent.*;
 
 /**
  * A var resolver session that combines a {@link VarResolver} with one or more session objects.
@@ -27,7 +24,9 @@ import org.apache.juneau.internal.*;
  * Instances of this class are considered light-weight and fast to construct, use, and discard.
  *
  * <p>
- * This class contains the workhorse code for var resolution.
+ * Strings are resolved using templates compiled and cached by the {@link VarResolverContext}.
+ * <br>Subclasses that override {@link #getVar(String)} have their strings compiled through that method instead, and
+ * the compiled templates are not cached.
  *
  * <p>
  * Instances of this class are created through the {@link VarResolver#createSession()} and
@@ -43,8 +42,11 @@ import org.apache.juneau.internal.*;
  */
 public class VarResolverSession {
 
+	private static final ConcurrentHashMap<Class<?>,Boolean> OVERRIDES_GET_VAR = new ConcurrentHashMap<>();
+
 	private final VarResolverContext context;
 	private final Map<String,Object> sessionObjects;
+	private final Map<String,Var> sessionVarMap;  // Non-null if getVar(String) is overridden.
 
 	/**
 	 * Constructor.
@@ -61,6 +63,7 @@ public class VarResolverSession {
 			this.sessionObjects = sessionObjects;
 		else
 			this.sessionObjects = new HashMap<>();
+		this.sessionVarMap = overridesGetVar(getClass()) ? new SessionVarMap() : null;
 	}
 
 	/**
@@ -92,37 +95,7 @@ public class VarResolverSession {
 		if (s.indexOf('$') == -1 && s.indexOf('\\') == -1)
 			return s;
 
-		// Special case where value consists of a single variable with no embedded variables (e.g. "$X{...}").
-		// This is a common case, so we want an optimized solution that doesn't involve string builders.
-		if (isSimpleVar(s)) {
-			String var = s.substring(1, s.indexOf('{'));
-			String val = s.substring(s.indexOf('{')+1, s.length()-1);
-			Var v = getVar(var);
-			if (v != null) {
-				try {
-					if (v.streamed) {
-						StringWriter sw = new StringWriter();
-						v.resolveTo(this, sw, val);
-						return sw.toString();
-					}
-					s = v.doResolve(this, val);
-					if (s == null)
-						s = "";
-					return (v.allowRecurse() ? resolve(s) : s);
-				} catch (VarResolverException e) {
-					throw e;
-				} catch (Exception e) {
-					throw new VarResolverException(e, "Problem occurred resolving variable ''{0}'' in string ''{1}''", var, s);
-				}
-			}
-			return s;
-		}
-
-		try {
-			return resolveTo(s, new StringWriter()).toString();
-		} catch (IOException e) {
-			throw new RuntimeException(e); // Never happens.
-		}
+		return getTemplate(s).resolve(this);
 	}
 
 	/**
@@ -215,44 +188,6 @@ public class VarResolverSession {
 		return false;
 	}
 
-	/*
-	 * Checks to see if string is of the simple form "$X{...}" with no embedded variables.
-	 * This is a common case, and we can avoid using StringWriters.
-	 */
-	private static boolean isSimpleVar(String s) {
-		int S1 = 1;	   // Not in variable, looking for $
-		int S2 = 2;    // Found $, Looking for {
-		int S3 = 3;    // Found {, Looking for }
-		int S4 = 4;    // Found }
-
-		int length = s.length();
-		int state = S1;
-		for (int i = 0; i < length; i++) {
-			char c = s.charAt(i);
-			if (state == S1) {
-				if (c == '$') {
-					state = S2;
-				} else {
-					return false;
-				}
-			} else if (state == S2) {
-				if (c == '{') {
-					state = S3;
-				} else if (c < 'A' || c > 'z' || (c > 'Z' && c < 'a')) {   // False trigger "$X "
-					return false;
-				}
-			} else if (state == S3) {
-				if (c == '}')
-					state = S4;
-				else if (c == '{' || c == '$')
-					return false;
-			} else if (state == S4) {
-				return false;
-			}
-		}
-		return state == S4;
-	}
-
 	/**
 	 * Resolves variables in the specified string and sends the output to the specified writer.
 	 *
@@ -266,120 +201,9 @@ public class VarResolverSession {
 	 * @throws IOException
 	 */
 	public Writer resolveTo(String s, Writer out) throws IOException {
-
-		int S1 = 1;	   // Not in variable, looking for $
-		int S2 = 2;    // Found $, Looking for {
-		int S3 = 3;    // Found {, Looking for }
-
-		int state = S1;
-		boolean isInEscape = false;
-		boolean hasInternalVar = false;
-		boolean hasInnerEscapes = false;
-		String varType = null;
-		String varVal = null;
-		int x = 0, x2 = 0;
-		int depth = 0;
-		int length = s.length();
-		for (int i = 0; i < length; i++) {
-			char c = s.charAt(i);
-			if (state == S1) {
-				if (isInEscape) {
-					if (c == '\\' || c == '$') {
-						out.append(c);
-					} else {
-						out.append('\\').append(c);
-					}
-					isInEscape = false;
-				} else if (c == '\\') {
-					isInEscape = true;
-				} else if (c == '$') {
-					x = i;
-					x2 = i;
-					state = S2;
-				} else {
-					out.append(c);
-				}
-			} else if (state == S2) {
-				if (isInEscape) {
-					isInEscape = false;
-				} else if (c == '\\') {
-					hasInnerEscapes = true;
-					isInEscape = true;
-				} else if (c == '{') {
-					varType = s.substring(x+1, i);
-					x = i;
-					state = S3;
-				} else if (c < 'A' || c > 'z' || (c > 'Z' && c < 'a')) {  // False trigger "$X "
-					if (hasInnerEscapes)
-						out.append(unEscapeChars(s.substring(x, i+1), AS1));
-					else
-						out.append(s, x, i+1);
-					x = i + 1;
-					state = S1;
-					hasInnerEscapes = false;
-				}
-			} else if (state == S3) {
-				if (isInEscape) {
-					isInEscape = false;
-				} else if (c == '\\') {
-					isInEscape = true;
-					hasInnerEscapes = true;
-				} else if (c == '{') {
-					depth++;
-					hasInternalVar = true;
-				} else if (c == '}') {
-					if (depth > 0) {
-						depth--;
-					} else {
-						varVal = s.substring(x+1, i);
-						Var r = getVar(varType);
-						if (r == null) {
-							if (hasInnerEscapes)
-								out.append(unEscapeChars(s.substring(x2, i+1), AS2));
-							else
-								out.append(s, x2, i+1);
-							x = i+1;
-						} else {
-							varVal = (hasInternalVar && r.allowNested() ? resolve(varVal) : varVal);
-							try {
-								if (r.streamed)
-									r.resolveTo(this, out, varVal);
-								else {
-									String replacement = r.doResolve(this, varVal);
-									if (replacement == null)
-										replacement = "";
-									// If the replacement also contains variables, replace them now.
-									if (replacement.indexOf('$') != -1 && r.allowRecurse())
-										replacement = resolve(replacement);
-									out.append(replacement);
-								}
-							} catch (VarResolverException e) {
-								throw e;
-							} catch (Exception e) {
-								throw new VarResolverException(e, "Problem occurred resolving variable ''{0}'' in string ''{1}''", varType, s);
-							}
-							x = i+1;
-						}
-						state = 1;
-						hasInnerEscapes = false;
-					}
-				}
-			}
-		}
-		if (isInEscape)
-			out.append('\\');
-		else if (state == S2)
-			out.append('$').append(unEscapeChars(s.substring(x+1), AS1));
-		else if (state == S3)
-			out.append('$').append(varType).append('{').append(unEscapeChars(s.substring(x+1), AS2));
-		return out;
+		return getTemplate(s).resolveTo(this, out);
 	}
 
-	private static final AsciiSet
-		AS1 = AsciiSet.create("\\{"),
-		AS2 = AsciiSet.create("\\${}")
-	;
-
 	/**
 	 * Returns the session object with the specified name.
 	 *
@@ -422,4 +246,41 @@ public class VarResolverSession {
 	protected Var getVar(String name) {
 		return this.context.getVarMap().get(name);
 	}
+
+	private VarTemplate getTemplate(String s) {
+		return sessionVarMap == null ? context.getTemplate(s) : new VarTemplate(s, sessionVarMap);
+	}
+
+	private static boolean overridesGetVar(Class<?> c) {
+		if (c == VarResolverSession.class)
+			return false;
+		Boolean b = OVERRIDES_GET_VAR.get(c);
+		if (b == null) {
+			b = false;
+			for (Class<?> c2 = c; c2 != VarResolverSession.class && ! b; c2 = c2.getSuperclass()) {
+				try {
+					c2.getDeclaredMethod("getVar", String.class);
+					b = true;
+				} catch (NoSuchMethodException e) {}
+			}
+			OVERRIDES_GET_VAR.put(c, b);
+		}
+		return b;
+	}
+
+	/*
+	 * Read-only view of the vars of this session as returned by getVar(String).
+	 */
+	private final class SessionVarMap extends AbstractMap<String,Var> {
+
+		@Override /* Map */
+		public Var get(Object key) {
+			return key instanceof String ? getVar((String)key) : null;
+		}
+
+		@Override /* Map */
+		public Set<Map.Entry<String,Var>> entrySet() {
+			return Collections.emptySet();
+		}
+	}
 }
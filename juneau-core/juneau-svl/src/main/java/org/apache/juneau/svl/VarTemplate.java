@@ -0,0 +1,389 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.svl;
+
+import static org.apache.juneau.internal.StringUtils.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.internal.*;
+
+/**
+ * A string containing SVL variables that has been parsed into a list of literal and variable segments.
+ *
+ * <p>
+ * Templates are cached on {@link VarResolverContext} and shared by all sessions created from it, so resolution is a
+ * walk over the segments instead of a rescan of the original string.
+ * <br>Variables that allow caching (see {@link Var#allowCache()}) whose arguments are constant are only resolved
+ * once.
+ */
+final class VarTemplate {
+
+	private static final AsciiSet
+		AS1 = AsciiSet.create("\\{"),
+		AS2 = AsciiSet.create("\\${}")
+	;
+
+	private final String s;                  // The original string.
+	private final Map<String,Var> varMap;
+	private final Node[] nodes;
+
+	// Set if the string is of the simple form "$X{...}" with no embedded variables.
+	private final String simpleName, simpleArg;
+	private final Var simpleVar;
+	private volatile String simpleFolded;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param s The string to compile.
+	 * @param varMap The vars to resolve against.
+	 */
+	VarTemplate(String s, Map<String,Var> varMap) {
+		this.s = s;
+		this.varMap = varMap;
+		if (isSimpleVar(s)) {
+			simpleName = s.substring(1, s.indexOf('{'));
+			simpleArg = s.substring(s.indexOf('{')+1, s.length()-1);
+			simpleVar = varMap.get(simpleName);
+		} else {
+			simpleName = null;
+			simpleArg = null;
+			simpleVar = null;
+		}
+		this.nodes = compile(s);
+	}
+
+	/**
+	 * Resolves this template to a string.
+	 *
+	 * @param session The current session.
+	 * @return The resolved string.
+	 */
+	String resolve(VarResolverSession session) {
+
+		// Special case where value consists of a single variable with no embedded variables (e.g. "$X{...}").
+		// This is a common case, so we want an optimized solution that doesn't involve string builders.
+		if (simpleName != null)
+			return resolveSimple(session);
+
+		if (nodes.length == 0)
+			return "";
+		if (nodes.length == 1 && nodes[0] instanceof Literal)
+			return ((Literal)nodes[0]).value;
+
+		try {
+			return resolveTo(session, new StringWriter()).toString();
+		} catch (IOException e) {
+			throw new RuntimeException(e); // Never happens.
+		}
+	}
+
+	/**
+	 * Resolves this template to the specified writer.
+	 *
+	 * @param session The current session.
+	 * @param out The writer to write to.
+	 * @return The same writer.
+	 * @throws IOException
+	 */
+	Writer resolveTo(VarResolverSession session, Writer out) throws IOException {
+		for (Node n : nodes)
+			n.resolveTo(session, out);
+		return out;
+	}
+
+	/*
+	 * Returns true if the last call to resolve(VarResolverSession) produced a value that will never change.
+	 */
+	private boolean isFolded() {
+		if (simpleName != null)
+			return simpleVar == null || simpleFolded != null;
+		for (Node n : nodes)
+			if (! n.isFolded())
+				return false;
+		return true;
+	}
+
+	private String resolveSimple(VarResolverSession session) {
+		String f = simpleFolded;
+		if (f != null)
+			return f;
+		Var v = simpleVar;
+		if (v == null)
+			return s;
+		try {
+			String r;
+			if (v.streamed) {
+				StringWriter sw = new StringWriter();
+				v.resolveTo(session, sw, simpleArg);
+				r = sw.toString();
+			} else {
+				r = v.doResolve(session, simpleArg);
+				if (r == null)
+					r = "";
+				if (v.allowRecurse() && (r.indexOf('$') != -1 || r.indexOf('\\') != -1))
+					return resolve(session, r, varMap);
+			}
+			if (v.allowCache())
+				simpleFolded = r;
+			return r;
+		} catch (VarResolverException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new VarResolverException(e, "Problem occurred resolving variable ''{0}'' in string ''{1}''", simpleName, s);
+		}
+	}
+
+	/*
+	 * Resolves a string that isn't worth caching, such as the resolved value of another variable.
+	 */
+	static String resolve(VarResolverSession session, String s, Map<String,Var> varMap) {
+		if (s.isEmpty() || (s.indexOf('$') == -1 && s.indexOf('\\') == -1))
+			return s;
+		return new VarTemplate(s, varMap).resolve(session);
+	}
+
+	/*
+	 * Splits the string into literal and variable segments.
+	 * Literal text is identical to what the original character-by-character resolver would have written.
+	 */
+	private Node[] compile(String s) {
+
+		int S1 = 1;	   // Not in variable, looking for $
+		int S2 = 2;    // Found $, Looking for {
+		int S3 = 3;    // Found {, Looking for }
+
+		List<Node> l = new ArrayList<>();
+		StringBuilder out = new StringBuilder();
+		int state = S1;
+		boolean isInEscape = false;
+		boolean hasInternalVar = false;
+		boolean hasInnerEscapes = false;
+		String varType = null;
+		String varVal = null;
+		int x = 0, x2 = 0;
+		int depth = 0;
+		int length = s.length();
+		for (int i = 0; i < length; i++) {
+			char c = s.charAt(i);
+			if (state == S1) {
+				if (isInEscape) {
+					if (c == '\\' || c == '$') {
+						out.append(c);
+					} else {
+						out.append('\\').append(c);
+					}
+					isInEscape = false;
+				} else if (c == '\\') {
+					isInEscape = true;
+				} else if (c == '$') {
+					x = i;
+					x2 = i;
+					state = S2;
+				} else {
+					out.append(c);
+				}
+			} else if (state == S2) {
+				if (isInEscape) {
+					isInEscape = false;
+				} else if (c == '\\') {
+					hasInnerEscapes = true;
+					isInEscape = true;
+				} else if (c == '{') {
+					varType = s.substring(x+1, i);
+					x = i;
+					state = S3;
+				} else if (c < 'A' || c > 'z' || (c > 'Z' && c < 'a')) {  // False trigger "$X "
+					if (hasInnerEscapes)
+						out.append(unEscapeChars(s.substring(x, i+1), AS1));
+					else
+						out.append(s, x, i+1);
+					x = i + 1;
+					state = S1;
+					hasInnerEscapes = false;
+				}
+			} else if (state == S3) {
+				if (isInEscape) {
+					isInEscape = false;
+				} else if (c == '\\') {
+					isInEscape = true;
+					hasInnerEscapes = true;
+				} else if (c == '{') {
+					depth++;
+					hasInternalVar = true;
+				} else if (c == '}') {
+					if (depth > 0) {
+						depth--;
+					} else {
+						varVal = s.substring(x+1, i);
+						Var r = varMap.get(varType);
+						if (r == null) {
+							if (hasInnerEscapes)
+								out.append(unEscapeChars(s.substring(x2, i+1), AS2));
+							else
+								out.append(s, x2, i+1);
+							x = i+1;
+						} else {
+							if (out.length() > 0) {
+								l.add(new Literal(out.toString()));
+								out.setLength(0);
+							}
+							VarTemplate arg = (hasInternalVar && r.allowNested() ? new VarTemplate(varVal, varMap) : null);
+							l.add(new VarNode(varType, r, varVal, arg));
+							x = i+1;
+						}
+						state = 1;
+						hasInnerEscapes = false;
+					}
+				}
+			}
+		}
+		if (isInEscape)
+			out.append('\\');
+		else if (state == S2)
+			out.append('$').append(unEscapeChars(s.substring(x+1), AS1));
+		else if (state == S3)
+			out.append('$').append(varType).append('{').append(unEscapeChars(s.substring(x+1), AS2));
+		if (out.length() > 0)
+			l.add(new Literal(out.toString()));
+		return l.toArray(new Node[l.size()]);
+	}
+
+	/*
+	 * Checks to see if string is of the simple form "$X{...}" with no embedded variables.
+	 * This is a common case, and we can avoid using StringWriters.
+	 */
+	private static boolean isSimpleVar(String s) {
+		int S1 = 1;	   // Not in variable, looking for $
+		int S2 = 2;    // Found $, Looking for {
+		int S3 = 3;    // Found {, Looking for }
+		int S4 = 4;    // Found }
+
+		int length = s.length();
+		int state = S1;
+		for (int i = 0; i < length; i++) {
+			char c = s.charAt(i);
+			if (state == S1) {
+				if (c == '$') {
+					state = S2;
+				} else {
+					return false;
+				}
+			} else if (state == S2) {
+				if (c == '{') {
+					state = S3;
+				} else if (c < 'A' || c > 'z' || (c > 'Z' && c < 'a')) {   // False trigger "$X "
+					return false;
+				}
+			} else if (state == S3) {
+				if (c == '}')
+					state = S4;
+				else if (c == '{' || c == '$')
+					return false;
+			} else if (state == S4) {
+				return false;
+			}
+		}
+		return state == S4;
+	}
+
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Nodes
+	//-----------------------------------------------------------------------------------------------------------------
+
+	private static abstract class Node {
+		abstract void resolveTo(VarResolverSession session, Writer out) throws IOException;
+		abstract boolean isFolded();
+	}
+
+	private static final class Literal extends Node {
+		final String value;
+
+		Literal(String value) {
+			this.value = value;
+		}
+
+		@Override
+		void resolveTo(VarResolverSession session, Writer out) throws IOException {
+			out.append(value);
+		}
+
+		@Override
+		boolean isFolded() {
+			return true;
+		}
+	}
+
+	private final class VarNode extends Node {
+		final String name, rawArg;
+		final Var var;
+		final VarTemplate arg;  // Non-null if the argument contains nested variables.
+		volatile String folded;
+
+		VarNode(String name, Var var, String rawArg, VarTemplate arg) {
+			this.name = name;
+			this.var = var;
+			this.rawArg = rawArg;
+			this.arg = arg;
+		}
+
+		@Override
+		void resolveTo(VarResolverSession session, Writer out) throws IOException {
+			String f = folded;
+			if (f != null) {
+				out.append(f);
+				return;
+			}
+			String val = rawArg;
+			boolean canFold = var.allowCache();
+			if (arg != null) {
+				val = arg.resolve(session);
+				canFold &= arg.isFolded();
+			}
+			try {
+				if (var.streamed) {
+					if (canFold) {
+						StringWriter sw = new StringWriter();
+						var.resolveTo(session, sw, val);
+						folded = sw.toString();
+						out.append(folded);
+					} else {
+						var.resolveTo(session, out, val);
+					}
+				} else {
+					String replacement = var.doResolve(session, val);
+					if (replacement == null)
+						replacement = "";
+					// If the replacement also contains variables, replace them now.
+					if (replacement.indexOf('$') != -1 && var.allowRecurse())
+						replacement = VarTemplate.resolve(session, replacement, varMap);
+					else if (canFold)
+						folded = replacement;
+					out.append(replacement);
+				}
+			} catch (VarResolverException e) {
+				throw e;
+			} catch (Exception e) {
+				throw new VarResolverException(e, "Problem occurred resolving variable ''{0}'' in string ''{1}''", name, s);
+			}
+		}
+
+		@Override
+		boolean isFolded() {
+			return folded != null;
+		}
+	}
+}
@@ -38,6 +38,11 @@ public class CoalesceVar extends MultipartResolvingVar {
 		super(NAME);
 	}
 
+	@Override /* Var */
+	protected boolean allowCache() {
+		return true;
+	}
+
 	@Override
 	public String resolve(VarResolverSession session, String arg) throws Exception {
 		return arg;
@@ -62,6 +62,11 @@ public class IfVar extends MultipartVar {
 		super(NAME);
 	}
 
+	@Override /* Var */
+	protected boolean allowCache() {
+		return true;
+	}
+
 	@Override /* MultipartVar */
 	public String resolve(VarResolverSession session, String[] args) {
 		if (args.length < 2 || args.length > 3)
@@ -61,6 +61,11 @@ public class LenVar extends MultipartVar {
 		super(NAME);
 	}
 
+	@Override /* Var */
+	protected boolean allowCache() {
+		return true;
+	}
+
 	@Override /* MultipartVar */
 	public String resolve(VarResolverSession session, String[] args) {
 		if (args.length > 2)
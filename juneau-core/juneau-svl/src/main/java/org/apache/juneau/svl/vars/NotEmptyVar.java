@@ -44,6 +44,11 @@ public class NotEmptyVar extends SimpleVar {
 		super(NAME);
 	}
 
+	@Override /* Var */
+	protected boolean allowCache() {
+		return true;
+	}
+
 	@Override /* Parameter */
 	public String resolve(VarResolverSession session, String key) {
 		return String.valueOf(! key.trim().isEmpty());
@@ -0,0 +1,80 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.svl.vars;
+
+import java.util.concurrent.*;
+import java.util.regex.*;
+
+/**
+ * Compiled patterns shared by the pattern-matching vars.
+ *
+ * <p>
+ * Patterns are typically literals in templates that get resolved over and over again, so they're only compiled once.
+ * <br>The cache is bounded and is simply cleared when it fills up.
+ */
+final class PatternCache {
+
+	private static final int MAX_SIZE = 1000;
+	private static final ConcurrentHashMap<String,Pattern> CACHE = new ConcurrentHashMap<>();
+
+	private PatternCache() {}
+
+	/**
+	 * Returns the compiled pattern for the specified glob-style pattern.
+	 *
+	 * <p>
+	 * <js>'*'</js> and <js>'?'</js> represent any or one character respectively.
+	 * <br>All other characters are passed through to the regular expression as-is.
+	 *
+	 * @param glob The glob-style pattern.
+	 * @return The compiled pattern.
+	 */
+	static Pattern get(String glob) {
+		Pattern p = CACHE.get(glob);
+		if (p == null) {
+			p = Pattern.compile(toRegex(glob));
+			if (CACHE.size() >= MAX_SIZE)
+				CACHE.clear();
+			CACHE.put(glob, p);
+		}
+		return p;
+	}
+
+	/**
+	 * Converts <js>'*'</js> and <js>'?'</js> characters to <js>".*"</js> and <js>"."</js> in a single pass.
+	 *
+	 * @param glob The glob-style pattern.
+	 * @return The regular expression.
+	 */
+	static String toRegex(String glob) {
+		int len = glob.length(), i = 0;
+		for (; i < len; i++) {
+			char c = glob.charAt(i);
+			if (c == '*' || c == '?')
+				break;
+		}
+		if (i == len)
+			return glob;
+		StringBuilder sb = new StringBuilder(len + 8).append(glob, 0, i);
+		for (; i < len; i++) {
+			char c = glob.charAt(i);
+			if (c == '*')
+				sb.append('.').append('*');
+			else if (c == '?')
+				sb.append('.');
+			else
+				sb.append(c);
+		}
+		return sb.toString();
+	}
+}
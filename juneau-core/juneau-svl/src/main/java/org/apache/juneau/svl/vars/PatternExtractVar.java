@@ -61,6 +61,11 @@ public class PatternExtractVar extends MultipartVar {
 		super(NAME);
 	}
 
+	@Override /* Var */
+	protected boolean allowCache() {
+		return true;
+	}
+
 	@Override /* MultipartVar */
 	public String resolve(VarResolverSession session, String[] args) {
 		if (args.length < 3)
@@ -71,8 +76,7 @@ public class PatternExtractVar extends MultipartVar {
 		String result = "";
 		int groupId = Integer.parseInt(args[2]);
 		
-		Pattern p = Pattern.compile(pattern.replace("*", ".*").replace("?", "."));
-		Matcher m = p.matcher(stringArg);
+		Matcher m = PatternCache.get(pattern).matcher(stringArg);
 			
 		if (m.find() && groupId <= m.groupCount() && groupId >= 0) {
 			result = m.group(groupId);
@@ -14,8 +14,6 @@ package org.apache.juneau.svl.vars;
 
 import static org.apache.juneau.internal.ThrowableUtils.*;
 
-import java.util.regex.*;
-
 import org.apache.juneau.svl.*;
 
 /**
@@ -62,6 +60,11 @@ public class PatternMatchVar extends MultipartVar {
 		super(NAME);
 	}
 
+	@Override /* Var */
+	protected boolean allowCache() {
+		return true;
+	}
+
 	@Override /* MultipartVar */
 	public String resolve(VarResolverSession session, String[] args) {
 		if (args.length < 2)
@@ -69,7 +72,6 @@ public class PatternMatchVar extends MultipartVar {
 
 		String stringArg = args[0];
 		String pattern = args[1];
-		Pattern p = Pattern.compile(pattern.replace("*", ".*").replace("?", "."));
-		return String.valueOf(p.matcher(stringArg).matches());
+		return String.valueOf(PatternCache.get(pattern).matcher(stringArg).matches());
 	}
 }
@@ -61,6 +61,11 @@ public class PatternReplaceVar extends MultipartVar {
 		super(NAME);
 	}
 
+	@Override /* Var */
+	protected boolean allowCache() {
+		return true;
+	}
+
 	@Override /* MultipartVar */
 	public String resolve(VarResolverSession session, String[] args) {
 		if (args.length < 3)
@@ -69,8 +74,7 @@ public class PatternReplaceVar extends MultipartVar {
 		String stringArg = args[0];
 		String pattern = args[1];
 		String replace = args[2];
-		
-		pattern = pattern.replace("*", ".*").replace("?", ".");
-		return stringArg.replaceAll(pattern, replace);
+
+		return PatternCache.get(pattern).matcher(stringArg).replaceAll(replace);
 	}
 }
\ No newline at end of file
@@ -14,8 +14,6 @@ package org.apache.juneau.svl.vars;
 
 import static org.apache.juneau.internal.ThrowableUtils.*;
 
-import java.util.regex.*;
-
 import org.apache.juneau.internal.*;
 import org.apache.juneau.svl.*;
 
@@ -63,6 +61,11 @@ public class SwitchVar extends MultipartVar {
 		super(NAME);
 	}
 
+	@Override /* Var */
+	protected boolean allowCache() {
+		return true;
+	}
+
 	@Override /* MultipartVar */
 	public String resolve(VarResolverSession session, String[] args) {
 		if (args.length < 2)
@@ -76,8 +79,7 @@ public class SwitchVar extends MultipartVar {
 			if (parts.length < 2)
 				illegalArg("Invalid arguments passed to $SW var.  Each case statement must contains 'pattern:value'.");
 
-			Pattern p = Pattern.compile(parts[0].replace("*", ".*").replace("?", "."));
-			if (p.matcher(stringArg).matches())
+			if (PatternCache.get(parts[0]).matcher(stringArg).matches())
 				return parts[1];
 		}
 
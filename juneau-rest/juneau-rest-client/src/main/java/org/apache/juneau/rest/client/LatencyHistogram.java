@@ -0,0 +1,135 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import java.util.concurrent.atomic.*;
+
+/**
+ * Histogram of request latencies.
+ *
+ * <p>
+ * Latencies are counted in fixed buckets so that recording is lock-free and uses constant memory.
+ * <br>The bucket upper bounds (in milliseconds) are returned by {@link #getBucketBounds()}.
+ *
+ * <h5 class='section'>See Also:</h5>
+ * <ul>
+ * 	<li class='jm'>{@link RestClientMetrics#getLatencies()}
+ * </ul>
+ */
+public final class LatencyHistogram {
+
+	private static final long[] BOUNDS = {1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 2000, 5000, 10000, 30000, Long.MAX_VALUE};
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BOUNDS.length);
+	private final AtomicLong count = new AtomicLong(), totalNanos = new AtomicLong(), maxNanos = new AtomicLong();
+
+	/**
+	 * Records a latency.
+	 *
+	 * @param nanos The latency in nanoseconds.
+	 */
+	void record(long nanos) {
+		long ms = nanos / 1_000_000;
+		int i = 0;
+		while (ms >= BOUNDS[i] && i < BOUNDS.length-1)
+			i++;
+		buckets.incrementAndGet(i);
+		count.incrementAndGet();
+		totalNanos.addAndGet(nanos);
+		for (long m = maxNanos.get(); nanos > m && ! maxNanos.compareAndSet(m, nanos); m = maxNanos.get()) {}
+	}
+
+	/**
+	 * Returns the number of recorded latencies.
+	 *
+	 * @return The number of recorded latencies.
+	 */
+	public long getCount() {
+		return count.get();
+	}
+
+	/**
+	 * Returns the mean latency in milliseconds.
+	 *
+	 * @return The mean latency in milliseconds, or <code>0</code> if nothing has been recorded.
+	 */
+	public double getMean() {
+		long c = count.get();
+		return c == 0 ? 0 : totalNanos.get() / 1_000_000d / c;
+	}
+
+	/**
+	 * Returns the maximum latency in milliseconds.
+	 *
+	 * @return The maximum latency in milliseconds, or <code>0</code> if nothing has been recorded.
+	 */
+	public double getMax() {
+		return maxNanos.get() / 1_000_000d;
+	}
+
+	/**
+	 * Returns the exclusive upper bounds of the buckets in milliseconds.
+	 *
+	 * <p>
+	 * The last bucket is unbounded and has an upper bound of {@link Long#MAX_VALUE}.
+	 *
+	 * @return A copy of the bucket bounds.
+	 */
+	public long[] getBucketBounds() {
+		return BOUNDS.clone();
+	}
+
+	/**
+	 * Returns the number of latencies recorded in each bucket.
+	 *
+	 * @return The bucket counts, in the same order as {@link #getBucketBounds()}.
+	 */
+	public long[] getBucketCounts() {
+		long[] l = new long[BOUNDS.length];
+		for (int i = 0; i < l.length; i++)
+			l[i] = buckets.get(i);
+		return l;
+	}
+
+	/**
+	 * Returns an estimate of the specified percentile in milliseconds.
+	 *
+	 * <p>
+	 * The estimate is the upper bound of the bucket containing the percentile, or the maximum latency if it falls in
+	 * the last bucket.
+	 *
+	 * @param percentile The percentile between <code>0</code> and <code>100</code> (e.g. <code>99</code>).
+	 * @return The estimated percentile in milliseconds, or <code>0</code> if nothing has been recorded.
+	 */
+	public double getPercentile(double percentile) {
+		long[] l = getBucketCounts();
+		long total = 0;
+		for (long c : l)
+			total += c;
+		if (total == 0)
+			return 0;
+		long target = (long)Math.ceil(total * percentile / 100);
+		long n = 0;
+		for (int i = 0; i < l.length-1; i++) {
+			n += l[i];
+			if (n >= target)
+				return BOUNDS[i];
+		}
+		return getMax();
+	}
+
+	@Override /* Object */
+	public String toString() {
+		return String.format("count=%d, mean=%.1fms, p50=%.0fms, p99=%.0fms, max=%.1fms", getCount(), getMean(), getPercentile(50), getPercentile(99), getMax());
+	}
+}
@@ -110,6 +110,7 @@ public final class RestCall extends BeanSession implements Closeable {
 	private URIBuilder uriBuilder;
 	private NameValuePairs formData;
 	private boolean softClose = false;  // If true, don't consume response and set isClosed flag, but do call listeners.
+	private String operation;           // The metrics key of this call.
 
 	/**
 	 * Constructs a REST call with the specified method name.
@@ -560,6 +561,24 @@ public final class RestCall extends BeanSession implements Closeable {
 		return this;
 	}
 
+	/**
+	 * Sets the operation name used to group the latency of this call in {@link RestClient#getMetrics()}.
+	 *
+	 * <p>
+	 * The name should identify the endpoint rather than the individual resource, such as an operation ID
+	 * (e.g. <js>"getPet"</js>) or a path template (e.g. <js>"GET /pets/{id}"</js>).
+	 * <br>If not specified, the latency is grouped by HTTP method and host.
+	 *
+	 * @param value
+	 * 	The new operation name.
+	 * 	<br>Can be <jk>null</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public RestCall operation(String value) {
+		this.operation = value;
+		return this;
+	}
+
 	/**
 	 * Specifies the part schema for the request body.
 	 *
@@ -1650,7 +1669,7 @@ public final class RestCall extends BeanSession implements Closeable {
 				retries--;
 				Exception ex = null;
 				try {
-					response = client.execute(request);
+					response = client.execute(request, operation);
 					sc = (response == null || response.getStatusLine() == null) ? -1 : response.getStatusLine().getStatusCode();
 				} catch (Exception e) {
 					ex = e;
@@ -26,6 +26,7 @@ import java.util.regex.*;
 import org.apache.http.*;
 import org.apache.http.client.methods.*;
 import org.apache.http.client.utils.*;
+import org.apache.http.conn.*;
 import org.apache.http.entity.*;
 import org.apache.http.impl.client.*;
 import org.apache.juneau.*;
@@ -413,6 +414,7 @@ public class RestClient extends BeanContext implements Closeable {
 	private volatile boolean isClosed = false;
 	private final StackTraceElement[] creationStack;
 	private StackTraceElement[] closedStack;
+	private final RestClientMetrics metrics;
 
 	// These are read directly by RestCall.
 	final Serializer serializer;
@@ -481,11 +483,36 @@ public class RestClient extends BeanContext implements Closeable {
 	 * 	The HTTP client.
 	 * 	<br>Must not be <jk>null</jk>.
 	 */
-	@SuppressWarnings("unchecked")
 	protected RestClient(
 			PropertyStore ps,
 			HttpClientBuilder httpClientBuilder,
 			CloseableHttpClient httpClient) {
+		this(ps, httpClientBuilder, httpClient, null);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param ps
+	 * 	Configuration properties for this client.
+	 * 	<br>Can be <jk>null</jk>.
+	 * @param httpClientBuilder
+	 * 	The HTTP client builder to use to create the HTTP client.
+	 * 	<br>Can be <jk>null</jk>.
+	 * @param httpClient
+	 * 	The HTTP client.
+	 * 	<br>Must not be <jk>null</jk>.
+	 * @param connectionManager
+	 * 	The connection manager used by the HTTP client.
+	 * 	<br>Used for reporting connection pool statistics through {@link #getMetrics()}.
+	 * 	<br>Can be <jk>null</jk>.
+	 */
+	@SuppressWarnings("unchecked")
+	protected RestClient(
+			PropertyStore ps,
+			HttpClientBuilder httpClientBuilder,
+			CloseableHttpClient httpClient,
+			HttpClientConnectionManager connectionManager) {
 		super(ps);
 		if (ps == null)
 			ps = PropertyStore.DEFAULT;
@@ -533,6 +560,8 @@ public class RestClient extends BeanContext implements Closeable {
 			creationStack = Thread.currentThread().getStackTrace();
 		else
 			creationStack = null;
+
+		this.metrics = new RestClientMetrics(connectionManager);
 	}
 
 	/**
@@ -583,6 +612,36 @@ public class RestClient extends BeanContext implements Closeable {
 		return httpClient.execute(req);
 	}
 
+	/**
+	 * Executes the specified request and records its latency.
+	 *
+	 * @param req The HTTP request.
+	 * @param operation The operation name used as the metrics key, or <jk>null</jk> to key by HTTP method and host.
+	 * @return The HTTP response.
+	 * @throws Exception
+	 */
+	HttpResponse execute(HttpUriRequest req, String operation) throws Exception {
+		long start = System.nanoTime();
+		try {
+			return execute(req);
+		} finally {
+			metrics.record(req, operation, System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Returns the connection pool statistics and request latencies of this client.
+	 *
+	 * <p>
+	 * Latencies are measured from the start of each request until the response headers are received, and are
+	 * grouped by operation name (see {@link RestCall#operation(String)}).
+	 *
+	 * @return The metrics of this client.  Never <jk>null</jk>.
+	 */
+	public RestClientMetrics getMetrics() {
+		return metrics;
+	}
+
 	/**
 	 * Perform a <code>GET</code> request against the specified URL.
 	 *
@@ -1025,13 +1084,18 @@ public class RestClient extends BeanContext implements Closeable {
 		final String restUrl2 = trimSlashes(emptyIfNull(restUrl));
 
 		try {
+			final RemoteResourceMeta rm = new RemoteResourceMeta(interfaceClass);
+			for (Method m : interfaceClass.getMethods()) {
+				RemoteMethodMeta rmm = rm.getMethodMeta(m);
+				if (rmm != null)
+					precompileArgs(rmm);
+			}
+
 			return (T)Proxy.newProxyInstance(
 				interfaceClass.getClassLoader(),
 				new Class[] { interfaceClass },
 				new InvocationHandler() {
 
-					final RemoteResourceMeta rm = new RemoteResourceMeta(interfaceClass);
-
 					@Override /* InvocationHandler */
 					public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
 						RemoteMethodMeta rmm = rm.getMethodMeta(method);
@@ -1050,7 +1114,7 @@ public class RestClient extends BeanContext implements Closeable {
 
 						try (RestCall rc = doCall(httpMethod, url, httpMethod.equals("POST") || httpMethod.equals("PUT"))) {
 
-							rc.serializer(serializer).parser(parser);
+							rc.serializer(serializer).parser(parser).operation(httpMethod + ' ' + urlDecode(url));
 
 							for (RemoteMethodArg a : rmm.getPathArgs())
 								rc.path(a.getName(), args[a.getIndex()], a.getSerializer(s), a.getSchema());
@@ -1239,7 +1303,7 @@ public class RestClient extends BeanContext implements Closeable {
 
 						try (RestCall rc = doCall("POST", url, true)) {
 
-							rc.serializer(serializer).parser(parser).body(args);
+							rc.serializer(serializer).parser(parser).operation("POST " + url).body(args);
 
 							Object v = rc.getResponse(method.getGenericReturnType());
 							if (v == null && method.getReturnType().isPrimitive())
@@ -1285,6 +1349,20 @@ public class RestClient extends BeanContext implements Closeable {
 
 	private Pattern absUrlPattern = Pattern.compile("^\\w+\\:\\/\\/.*");
 
+	/*
+	 * Compiles the part serializer plans for the path, query, form-data, and header arguments of a remote method.
+	 */
+	private void precompileArgs(RemoteMethodMeta rmm) {
+		Class<?>[] pt = rmm.getJavaMethod().getParameterTypes();
+		for (RemoteMethodArg[] args : new RemoteMethodArg[][]{rmm.getPathArgs(), rmm.getQueryArgs(), rmm.getFormDataArgs(), rmm.getHeaderArgs()}) {
+			for (RemoteMethodArg a : args) {
+				HttpPartSerializer s = a.getSerializer(partSerializer);
+				if (s instanceof OpenApiSerializer)
+					((OpenApiSerializer)s).precompile(a.getSchema(), pt[a.getIndex()]);
+			}
+		}
+	}
+
 	HttpPartSerializer getPartSerializer() {
 		return partSerializer;
 	}
@@ -91,7 +91,9 @@ public class RestClientBuilder extends BeanContextBuilder {
 	private TrustManager[] trustManagers;
 	private SecureRandom secureRandom;
 	private String[] sslProtocols, cipherSuites;
-	private boolean pooled;
+	private boolean pooled = true;
+	private int maxConnections = 200, maxPerRoute = 20, validateAfterInactivity = 2000;
+	private HttpClientConnectionManager connectionManager;
 
 	/**
 	 * Constructor.
@@ -114,7 +116,7 @@ public class RestClientBuilder extends BeanContextBuilder {
 			CloseableHttpClient c = httpClient != null ? httpClient : createHttpClient();
 			PropertyStore ps = psb.build();
 
-			return new RestClient(ps, httpClientBuilder, c);
+			return new RestClient(ps, httpClientBuilder, c, httpClient != null ? null : connectionManager);
 		} catch (Exception e) {
 			throw new RuntimeException(e);
 		}
@@ -248,10 +250,8 @@ public class RestClientBuilder extends BeanContextBuilder {
 	 */
 	protected CloseableHttpClient createHttpClient() throws Exception {
 		// Don't call createConnectionManager() if RestClient.setConnectionManager() was called.
-		if (httpClientConnectionManager == null)
-			httpClientBuilder.setConnectionManager(createConnectionManager());
-		else
-			httpClientBuilder.setConnectionManager(httpClientConnectionManager);
+		connectionManager = httpClientConnectionManager != null ? httpClientConnectionManager : createConnectionManager();
+		httpClientBuilder.setConnectionManager(connectionManager);
 		return httpClientBuilder.build();
 	}
 
@@ -283,7 +283,9 @@ public class RestClientBuilder extends BeanContextBuilder {
 	 * Subclasses can override this method to provide their own connection manager.
 	 *
 	 * <p>
-	 * The default implementation returns an instance of a {@link PoolingHttpClientConnectionManager}.
+	 * The default implementation returns an instance of a {@link PoolingHttpClientConnectionManager} configured with
+	 * the {@link #maxConnections(int)}, {@link #maxPerRoute(int)} and {@link #validateAfterInactivity(int)} settings,
+	 * or a {@link BasicHttpClientConnectionManager} if {@link #pooled(boolean)} was called with <jk>false</jk>.
 	 *
 	 * @return The HTTP client builder to use to create the HTTP client.
 	 * @throws NoSuchAlgorithmException
@@ -309,11 +311,18 @@ public class RestClientBuilder extends BeanContextBuilder {
 			SSLConnectionSocketFactory sslcsf = new SSLConnectionSocketFactory(sslContext, sslp, cs, hv);
 			rb.register("https", sslcsf).build();
 
-			return (pooled ? new PoolingHttpClientConnectionManager(rb.build()) : new BasicHttpClientConnectionManager(rb.build()));
+			return (pooled ? configure(new PoolingHttpClientConnectionManager(rb.build())) : new BasicHttpClientConnectionManager(rb.build()));
 		}
 
 		// Using pooling connection so that this client is threadsafe.
-		return (pooled ? new PoolingHttpClientConnectionManager() : new BasicHttpClientConnectionManager());
+		return (pooled ? configure(new PoolingHttpClientConnectionManager()) : new BasicHttpClientConnectionManager());
+	}
+
+	private PoolingHttpClientConnectionManager configure(PoolingHttpClientConnectionManager cm) {
+		cm.setMaxTotal(maxConnections);
+		cm.setDefaultMaxPerRoute(maxPerRoute);
+		cm.setValidateAfterInactivity(validateAfterInactivity);
+		return cm;
 	}
 
 	/**
@@ -523,10 +532,80 @@ public class RestClientBuilder extends BeanContextBuilder {
 	 * When called, the {@link #createConnectionManager()} method will return a {@link PoolingHttpClientConnectionManager}
 	 * instead of a {@link BasicHttpClientConnectionManager}.
 	 *
+	 * <p>
+	 * This is the default behavior.
+	 *
 	 * @return This object (for method chaining).
 	 */
 	public RestClientBuilder pooled() {
-		this.pooled = true;
+		return pooled(true);
+	}
+
+	/**
+	 * Specifies whether the {@link #createConnectionManager()} method should return a
+	 * {@link PoolingHttpClientConnectionManager} or a {@link BasicHttpClientConnectionManager}.
+	 *
+	 * <p>
+	 * A pooled connection manager reuses persistent connections across requests and is safe to share between threads.
+	 * <br>A basic connection manager maintains a single connection and should only be used by one thread at a time.
+	 *
+	 * <p>
+	 * Idle pooled connections can be closed in the background by also calling
+	 * {@link #evictIdleConnections(long, TimeUnit)}.
+	 *
+	 * @param value The new value for this setting.
+	 * <br>The default is <jk>true</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public RestClientBuilder pooled(boolean value) {
+		this.pooled = value;
+		return this;
+	}
+
+	/**
+	 * Sets the maximum number of connections in the connection pool.
+	 *
+	 * <p>
+	 * Only applies when the connection manager is created by {@link #createConnectionManager()} with pooling enabled.
+	 *
+	 * @param value The new value for this setting.
+	 * <br>The default is <code>200</code>.
+	 * @return This object (for method chaining).
+	 */
+	public RestClientBuilder maxConnections(int value) {
+		this.maxConnections = value;
+		return this;
+	}
+
+	/**
+	 * Sets the maximum number of pooled connections per route (i.e. per target host).
+	 *
+	 * <p>
+	 * Only applies when the connection manager is created by {@link #createConnectionManager()} with pooling enabled.
+	 *
+	 * @param value The new value for this setting.
+	 * <br>The default is <code>20</code>.
+	 * @return This object (for method chaining).
+	 */
+	public RestClientBuilder maxPerRoute(int value) {
+		this.maxPerRoute = value;
+		return this;
+	}
+
+	/**
+	 * Sets the period of inactivity in milliseconds after which pooled connections are revalidated before being
+	 * leased to a request.
+	 *
+	 * <p>
+	 * Revalidation detects connections that were closed by the server while sitting in the pool.
+	 * <br>A non-positive value disables revalidation.
+	 *
+	 * @param value The new value for this setting.
+	 * <br>The default is <code>2000</code>.
+	 * @return This object (for method chaining).
+	 */
+	public RestClientBuilder validateAfterInactivity(int value) {
+		this.validateAfterInactivity = value;
 		return this;
 	}
 
@@ -1540,6 +1619,43 @@ public class RestClientBuilder extends BeanContextBuilder {
 		return set(BEANTRAVERSE_maxDepth, value);
 	}
 
+	/**
+	 * Configuration property:  Recycle buffers.
+	 *
+	 * <p>
+	 * If <jk>true</jk>, internal output buffers are reused across serializations on the same thread.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_recycleBuffers}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default value is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public RestClientBuilder recycleBuffersS(boolean value) {
+		return set(SERIALIZER_recycleBuffers, value);
+	}
+
+	/**
+	 * Configuration property:  Recycle buffers.
+	 *
+	 * <p>
+	 * Shortcut for calling <code>recycleBuffersS(<jk>true</jk>)</code>.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_recycleBuffers}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public RestClientBuilder recycleBuffersS() {
+		return set(SERIALIZER_recycleBuffers, true);
+	}
+
 	/**
 	 * Configuration property:  Sort arrays and collections alphabetically.
 	 *
@@ -2007,6 +2123,43 @@ public class RestClientBuilder extends BeanContextBuilder {
 		return set(PARSER_listener, value);
 	}
 
+	/**
+	 * Configuration property:  Recycle buffers.
+	 *
+	 * <p>
+	 * If <jk>true</jk>, internal character buffers are reused across parses on the same thread.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link Parser#PARSER_recycleBuffers}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default value is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public RestClientBuilder recycleBuffersP(boolean value) {
+		return set(PARSER_recycleBuffers, value);
+	}
+
+	/**
+	 * Configuration property:  Recycle buffers.
+	 *
+	 * <p>
+	 * Shortcut for calling <code>recycleBuffersP(<jk>true</jk>)</code>.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link Parser#PARSER_recycleBuffers}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public RestClientBuilder recycleBuffersP() {
+		return set(PARSER_recycleBuffers, true);
+	}
+
 	/**
 	 * Configuration property:  Strict mode.
 	 *
@@ -2667,6 +2820,7 @@ public class RestClientBuilder extends BeanContextBuilder {
 	 * @see HttpClientBuilder#setMaxConnTotal(int)
 	 */
 	public RestClientBuilder maxConnTotal(int maxConnTotal) {
+		this.maxConnections = maxConnTotal;
 		httpClientBuilder.setMaxConnTotal(maxConnTotal);
 		return this;
 	}
@@ -2677,6 +2831,7 @@ public class RestClientBuilder extends BeanContextBuilder {
 	 * @see HttpClientBuilder#setMaxConnPerRoute(int)
 	 */
 	public RestClientBuilder maxConnPerRoute(int maxConnPerRoute) {
+		this.maxPerRoute = maxConnPerRoute;
 		httpClientBuilder.setMaxConnPerRoute(maxConnPerRoute);
 		return this;
 	}
@@ -0,0 +1,167 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import java.net.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.http.client.methods.*;
+import org.apache.http.conn.*;
+import org.apache.http.conn.routing.*;
+import org.apache.http.impl.conn.*;
+import org.apache.http.pool.*;
+
+/**
+ * Connection pool and request latency metrics of a {@link RestClient}.
+ *
+ * <p>
+ * Connection pool statistics are only available when the client uses a {@link PoolingHttpClientConnectionManager}
+ * created by {@link RestClientBuilder} (the default).
+ * <br>Request latencies are measured from sending the request to receiving the response headers, and are keyed by
+ * the operation name of the call (see {@link RestCall#operation(String)}).
+ * <br>Remote proxies use the HTTP method and path template of the remote method (e.g.
+ * <js>"GET http://localhost/pets/{id}"</js>).
+ * <br>Calls without an operation name are keyed by HTTP method and host (e.g. <js>"GET http://localhost"</js>) so that
+ * path variables and query strings don't produce an unbounded number of keys.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	RestClientMetrics m = client.getMetrics();
+ * 	PoolStats s = m.getTotalStats();
+ * 	System.<jsf>err</jsf>.println(<js>"Leased="</js> + s.getLeased() + <js>", pending="</js> + s.getPending());
+ * 	<jk>for</jk> (Map.Entry&lt;String,LatencyHistogram&gt; e : m.getLatencies().entrySet())
+ * 		System.<jsf>err</jsf>.println(e.getKey() + <js>": "</js> + e.getValue());
+ * </p>
+ *
+ * <h5 class='section'>See Also:</h5>
+ * <ul>
+ * 	<li class='jm'>{@link RestClient#getMetrics()}
+ * </ul>
+ */
+public final class RestClientMetrics {
+
+	/** Key used for the combined latencies of all requests beyond the first 1000 distinct keys. */
+	public static final String OTHER = "*";
+
+	private static final int MAX_KEYS = 1000;
+
+	private final PoolingHttpClientConnectionManager pool;
+	private final ConcurrentHashMap<String,LatencyHistogram> latencies = new ConcurrentHashMap<>();
+	private volatile LatencyHistogram other = new LatencyHistogram();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param cm The connection manager of the client.  Can be <jk>null</jk>.
+	 */
+	RestClientMetrics(HttpClientConnectionManager cm) {
+		this.pool = cm instanceof PoolingHttpClientConnectionManager ? (PoolingHttpClientConnectionManager)cm : null;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if connection pool statistics are available.
+	 *
+	 * @return <jk>true</jk> if connection pool statistics are available.
+	 */
+	public boolean isPooled() {
+		return pool != null;
+	}
+
+	/**
+	 * Returns the leased, available, pending, and maximum connections of the entire pool.
+	 *
+	 * @return The pool statistics, or <jk>null</jk> if the client doesn't use a connection pool.
+	 */
+	public PoolStats getTotalStats() {
+		return pool == null ? null : pool.getTotalStats();
+	}
+
+	/**
+	 * Returns the leased, available, pending, and maximum connections of each route in the pool.
+	 *
+	 * @return The pool statistics keyed by route.  Never <jk>null</jk>.
+	 */
+	public Map<HttpRoute,PoolStats> getRouteStats() {
+		Map<HttpRoute,PoolStats> m = new LinkedHashMap<>();
+		if (pool != null)
+			for (HttpRoute r : pool.getRoutes())
+				m.put(r, pool.getStats(r));
+		return m;
+	}
+
+	/**
+	 * Returns the request latencies keyed by operation name.
+	 *
+	 * @return An unmodifiable view of the request latencies.  Never <jk>null</jk>.
+	 */
+	public Map<String,LatencyHistogram> getLatencies() {
+		return Collections.unmodifiableMap(latencies);
+	}
+
+	/**
+	 * Returns the request latencies of the specified operation.
+	 *
+	 * @param operation
+	 * 	The operation name (e.g. <js>"getPet"</js>), or HTTP method and host for calls without an operation name
+	 * 	(e.g. <js>"GET http://localhost"</js>).
+	 * @return The request latencies, or <jk>null</jk> if no requests have been recorded.
+	 */
+	public LatencyHistogram getLatency(String operation) {
+		return latencies.get(operation);
+	}
+
+	/**
+	 * Clears all recorded request latencies.
+	 */
+	public void reset() {
+		other = new LatencyHistogram();
+		latencies.clear();
+	}
+
+	/**
+	 * Records the latency of a request.
+	 *
+	 * @param req The HTTP request.
+	 * @param operation The operation name of the call, or <jk>null</jk> to key by HTTP method and host.
+	 * @param nanos The latency in nanoseconds.
+	 */
+	void record(HttpUriRequest req, String operation, long nanos) {
+		String key = operation != null ? operation : getKey(req);
+		LatencyHistogram h = latencies.get(key);
+		if (h == null) {
+			if (latencies.size() >= MAX_KEYS) {
+				h = other;
+				latencies.putIfAbsent(OTHER, h);
+			} else {
+				h = new LatencyHistogram();
+				LatencyHistogram h2 = latencies.putIfAbsent(key, h);
+				if (h2 != null)
+					h = h2;
+			}
+		}
+		h.record(nanos);
+	}
+
+	private static String getKey(HttpUriRequest req) {
+		URI u = req.getURI();
+		StringBuilder sb = new StringBuilder(req.getMethod()).append(' ');
+		if (u.getScheme() != null)
+			sb.append(u.getScheme()).append("://");
+		if (u.getRawAuthority() != null) {
+			String a = u.getRawAuthority();
+			sb.append(a.substring(a.indexOf('@') + 1));
+		}
+		return sb.toString();
+	}
+}
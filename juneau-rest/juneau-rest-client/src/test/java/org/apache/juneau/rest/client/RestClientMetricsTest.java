@@ -0,0 +1,164 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import static org.junit.Assert.*;
+
+import org.apache.http.client.methods.*;
+import org.apache.juneau.http.annotation.*;
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.client.remote.*;
+import org.apache.juneau.rest.mock.*;
+import org.junit.*;
+import org.junit.runners.*;
+
+/**
+ * Tests the connection pool settings and request metrics of RestClient.
+ */
+@SuppressWarnings({"javadoc","resource"})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class RestClientMetricsTest {
+
+	//=================================================================================================================
+	// Request latencies
+	//=================================================================================================================
+
+	@RestResource
+	public static class A {
+		@RestMethod(path="/a")
+		public String getA() {
+			return "foo";
+		}
+		@RestMethod(path="/a")
+		public String postA() {
+			return "bar";
+		}
+		@RestMethod(path="/b/{id}")
+		public String getB(@Path("id") int id) {
+			return String.valueOf(id);
+		}
+	}
+
+	@RemoteResource
+	public static interface AR {
+		@RemoteMethod(method="GET", path="/b/{id}")
+		String getB(@Path("id") int id);
+	}
+
+	@Test
+	public void a01_latenciesByMethodAndHost() throws Exception {
+		RestClient rc = RestClient.create().mockHttpConnection(MockRest.create(A.class)).build();
+		assertEquals("foo", rc.doGet("/a?x=1").getResponseAsString());
+		assertEquals("1", rc.doGet("/b/1").getResponseAsString());
+		assertEquals("2", rc.doGet("/b/2").getResponseAsString());
+		assertEquals("bar", rc.doPost("/a", "").getResponseAsString());
+
+		RestClientMetrics m = rc.getMetrics();
+		assertEquals(2, m.getLatencies().size());
+		assertEquals(3, m.getLatency("GET http://localhost").getCount());
+		assertEquals(1, m.getLatency("POST http://localhost").getCount());
+		assertNull(m.getLatency("PUT http://localhost"));
+
+		m.reset();
+		assertTrue(m.getLatencies().isEmpty());
+	}
+
+	@Test
+	public void a02_latenciesByOperation() throws Exception {
+		RestClient rc = RestClient.create().mockHttpConnection(MockRest.create(A.class)).build();
+		assertEquals("1", rc.doGet("/b/1").operation("getB").getResponseAsString());
+		assertEquals("2", rc.doGet("/b/2").operation("getB").getResponseAsString());
+
+		RestClientMetrics m = rc.getMetrics();
+		assertEquals(1, m.getLatencies().size());
+		assertEquals(2, m.getLatency("getB").getCount());
+	}
+
+	@Test
+	public void a03_latenciesByRemoteMethodPath() throws Exception {
+		RestClient rc = RestClient.create().mockHttpConnection(MockRest.create(A.class)).rootUrl("http://localhost").build();
+		AR ar = rc.getRemoteResource(AR.class);
+		assertEquals("1", ar.getB(1));
+		assertEquals("2", ar.getB(2));
+
+		RestClientMetrics m = rc.getMetrics();
+		assertEquals(1, m.getLatencies().size());
+		assertEquals(2, m.getLatency("GET http://localhost/b/{id}").getCount());
+	}
+
+	@Test
+	public void a04_overflow() throws Exception {
+		RestClientMetrics m = new RestClientMetrics(null);
+		HttpGet req = new HttpGet("http://localhost/a");
+		for (int i = 0; i < 1005; i++)
+			m.record(req, "op" + i, 1_000_000);
+		assertEquals(1001, m.getLatencies().size());
+		assertEquals(5, m.getLatency(RestClientMetrics.OTHER).getCount());
+		assertEquals(1, m.getLatency("op999").getCount());
+		assertNull(m.getLatency("op1000"));
+
+		m.reset();
+		m.record(req, null, 1_000_000);
+		assertEquals(1, m.getLatencies().size());
+		assertNull(m.getLatency(RestClientMetrics.OTHER));
+	}
+
+	@Test
+	public void a05_histogram() throws Exception {
+		LatencyHistogram h = new LatencyHistogram();
+		assertEquals(0, h.getPercentile(50), 0);
+		h.record(500_000);
+		h.record(3_000_000);
+		h.record(3_000_000);
+		h.record(60_000_000_000L);
+		assertEquals(4, h.getCount());
+		assertEquals(60000, h.getMax(), 0);
+		assertEquals(1, h.getBucketCounts()[0]);
+		assertEquals(2, h.getBucketCounts()[2]);
+		assertEquals(1, h.getBucketCounts()[h.getBucketBounds().length-1]);
+		assertEquals(5, h.getPercentile(50), 0);
+		assertEquals(60000, h.getPercentile(99), 0);
+	}
+
+	//=================================================================================================================
+	// Connection pool
+	//=================================================================================================================
+
+	@Test
+	public void b01_pooledByDefault() throws Exception {
+		RestClient rc = RestClient.create().maxConnections(5).maxPerRoute(2).build();
+		RestClientMetrics m = rc.getMetrics();
+		assertTrue(m.isPooled());
+		assertEquals(5, m.getTotalStats().getMax());
+		assertEquals(0, m.getTotalStats().getLeased());
+		assertTrue(m.getRouteStats().isEmpty());
+		rc.close();
+	}
+
+	@Test
+	public void b02_notPooled() throws Exception {
+		RestClient rc = RestClient.create().pooled(false).build();
+		RestClientMetrics m = rc.getMetrics();
+		assertFalse(m.isPooled());
+		assertNull(m.getTotalStats());
+		assertTrue(m.getRouteStats().isEmpty());
+		rc.close();
+	}
+
+	@Test
+	public void b03_maxConnTotal() throws Exception {
+		RestClient rc = RestClient.create().maxConnTotal(7).build();
+		assertEquals(7, rc.getMetrics().getTotalStats().getMax());
+		rc.close();
+	}
+}
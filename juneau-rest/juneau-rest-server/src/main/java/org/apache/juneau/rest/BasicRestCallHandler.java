@@ -114,14 +114,28 @@ public class BasicRestCallHandler implements RestCallHandler {
 
 			String pathInfo = RestUtils.getPathInfoUndecoded(r1);  // Can't use r1.getPathInfo() because we don't want '%2F' resolved.
 
-			// If this resource has child resources, try to recursively call them.
+			// If this resource has child resources, find the deepest matching descendant and call it directly.
+			// Descendants are only skipped over when they use this same call handler implementation, since
+			// they would simply delegate to their own child in turn.
 			if (pathInfo != null && context.hasChildResources() && (! pathInfo.equals("/"))) {
-				int i = pathInfo.indexOf('/', 1);
-				String pathInfoPart = i == -1 ? pathInfo.substring(1) : pathInfo.substring(1, i);
-				RestContext childResource = context.getChildResource(pathInfoPart);
+				RestContext childResource = null;
+				int i = 0;  // End of the path matched so far.
+				for (RestContext c = context; c != null; ) {
+					int j = pathInfo.indexOf('/', i+1);
+					RestContext c2 = c.getChildResource(j == -1 ? pathInfo.substring(i+1) : pathInfo.substring(i+1, j));
+					if (c2 == null)
+						break;
+					childResource = c2;
+					i = (j == -1 ? pathInfo.length() : j);
+					c = null;
+					if (j != -1 && j < pathInfo.length()-1 && c2.hasChildResources() && c2.getCallHandler().getClass() == BasicRestCallHandler.class) {
+						c2.checkForInitException();
+						c = c2;
+					}
+				}
 				if (childResource != null) {
-					final String pathInfoRemainder = (i == -1 ? null : pathInfo.substring(i));
-					final String servletPath = r1.getServletPath() + "/" + pathInfoPart;
+					final String pathInfoRemainder = (i == pathInfo.length() ? null : pathInfo.substring(i));
+					final String servletPath = r1.getServletPath() + pathInfo.substring(0, i);
 					final HttpServletRequest childRequest = new HttpServletRequestWrapper(r1) {
 						@Override /* ServletRequest */
 						public String getPathInfo() {
@@ -191,7 +205,6 @@ public class BasicRestCallHandler implements RestCallHandler {
 
 			// Make sure our writer in RestResponse gets written.
 			res.flushBuffer();
-			req.close();
 
 			r1.setAttribute("ExecTime", System.currentTimeMillis() - startTime);
 
@@ -200,6 +213,8 @@ public class BasicRestCallHandler implements RestCallHandler {
 			r1.setAttribute("ExecTime", System.currentTimeMillis() - startTime);
 			handleError(r1, r2, e);
 		} finally {
+			if (req != null)
+				req.close();
 			context.clearState();
 		}
 
@@ -15,13 +15,21 @@ package org.apache.juneau.rest;
 import static org.apache.juneau.internal.ClassUtils.*;
 import static org.apache.juneau.internal.StringUtils.*;
 
+import java.io.*;
 import java.lang.reflect.Method;
+import java.nio.charset.*;
+import java.security.*;
 import java.util.*;
 import java.util.concurrent.*;
 
+import org.apache.juneau.*;
 import org.apache.juneau.dto.swagger.*;
+import org.apache.juneau.encoders.*;
+import org.apache.juneau.html.*;
+import org.apache.juneau.http.*;
 import org.apache.juneau.internal.*;
 import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.serializer.*;
 import org.apache.juneau.svl.*;
 
 /**
@@ -43,7 +51,13 @@ public class BasicRestInfoProvider implements RestInfoProvider {
 		siteName,
 		title,
 		description;
-	private final ConcurrentHashMap<Locale,ConcurrentHashMap<Integer,Swagger>> swaggers = new ConcurrentHashMap<>();
+
+	private static final int MAX_CACHED_SWAGGERS = 100, MAX_CACHED_DOCUMENTS = 500;
+
+	// The @RestMethods whose guards determine which parts of the swagger a user can see.
+	private final RestJavaMethod[] guardedMethods;
+	private final ConcurrentHashMap<SwaggerKey,Swagger> swaggers = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<List<Object>,SwaggerDocument> documents = new ConcurrentHashMap<>();
 
 	/**
 	 * Constructor.
@@ -53,6 +67,12 @@ public class BasicRestInfoProvider implements RestInfoProvider {
 	public BasicRestInfoProvider(RestContext context) {
 		this.context = context;
 
+		List<RestJavaMethod> l = new ArrayList<>();
+		for (RestJavaMethod sm : context.getCallMethods().values())
+			if (sm.hasGuards())
+				l.add(sm);
+		this.guardedMethods = l.toArray(new RestJavaMethod[l.size()]);
+
 		Builder b = new Builder(context);
 		this.siteName = b.siteName;
 		this.title = b.title;
@@ -95,26 +115,184 @@ public class BasicRestInfoProvider implements RestInfoProvider {
 		Locale locale = req.getLocale();
 
 		// Find it in the cache.
-		// Swaggers are cached by user locale and an int hash of the @RestMethods they have access to.
-		HashCode userHash = HashCode.create();
-		for (RestJavaMethod sm : context.getCallMethods().values())
-			if (sm.isRequestAllowed(req))
-				userHash.add(sm.hashCode());
-		int hashCode = userHash.get();
-
-		if (! swaggers.containsKey(locale))
-			swaggers.putIfAbsent(locale, new ConcurrentHashMap<Integer,Swagger>());
+		// Swaggers are cached by user locale and the set of guarded @RestMethods they have access to.
+		BitSet allowed = new BitSet(guardedMethods.length);
+		for (int i = 0; i < guardedMethods.length; i++)
+			if (guardedMethods[i].isRequestAllowed(req))
+				allowed.set(i);
+		SwaggerKey key = new SwaggerKey(locale, allowed);
 
-		Swagger swagger = swaggers.get(locale).get(hashCode);
+		Swagger swagger = swaggers.get(key);
 		if (swagger != null)
 			return swagger;
 
 		// Wasn't cached...need to create one.
 		swagger = new SwaggerGenerator(req).getSwagger();
 
-		swaggers.get(locale).put(hashCode, swagger);
+		if (swaggers.size() >= MAX_CACHED_SWAGGERS) {
+			swaggers.clear();
+			documents.clear();
+		}
+		Swagger swagger2 = swaggers.putIfAbsent(key, swagger);
+
+		return swagger2 == null ? swagger : swagger2;
+	}
+
+	/**
+	 * Returns the serialized form of a swagger returned by {@link #getSwagger(RestRequest)}.
+	 *
+	 * <p>
+	 * Serialized documents are cached by swagger, serializer, media type, charset, Java method and URI context so that
+	 * repeated <code>OPTIONS</code> requests are reduced to a copy of the cached bytes.
+	 *
+	 * <p>
+	 * HTML documents are never cached since they contain request-specific content (e.g. navigation links).
+	 * <br>Swaggers not produced by this provider (e.g. swaggers modified or created by an overridden
+	 * {@link #getSwagger(RestRequest)} method) are also never cached.
+	 * <br>Neither are documents for requests that override serializer session properties (e.g. through
+	 * {@link RestRequest#prop(String, Object)}), since those properties can change the serialized form.
+	 *
+	 * @param req The incoming HTTP request.
+	 * @param swagger The swagger being serialized.
+	 * @param serializer The negotiated serializer.
+	 * @param session The serializer session that would otherwise be used to serialize the swagger.
+	 * @param mediaType The negotiated media type.
+	 * @param charset The response character encoding.
+	 * @return The serialized document, or <jk>null</jk> if the document cannot be cached.
+	 * @throws Exception
+	 */
+	public SwaggerDocument getSwaggerDocument(RestRequest req, Swagger swagger, Serializer serializer, SerializerSession session, MediaType mediaType, String charset) throws Exception {
+		if (session instanceof HtmlSerializerSession || ! Charset.isSupported(charset))
+			return null;
+
+		// Request-level properties other than the ones already part of the key can affect serialization.
+		RequestProperties p = req.getProperties();
+		for (String k : p.keySet())
+			if (p.containsOuterKey(k) && ! ("mediaType".equals(k) || "characterEncoding".equals(k)))
+				return null;
+
+		UriContext uc = req.getUriContext();
+		List<Object> key = Arrays.<Object>asList(swagger, serializer, mediaType.toString(), charset, req.getJavaMethod(), uc.authority, uc.contextRoot, uc.servletPath, uc.pathInfo, uc.parentPath);
+
+		SwaggerDocument d = documents.get(key);
+		if (d != null)
+			return d;
+
+		if (! swaggers.containsValue(swagger))
+			return null;
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		if (session.isWriterSerializer()) {
+			try (Writer w = new OutputStreamWriter(baos, charset)) {
+				session.serialize(swagger, w);
+			}
+		} else {
+			session.serialize(swagger, baos);
+		}
+		d = new SwaggerDocument(baos.toByteArray());
 
-		return swagger;
+		if (documents.size() >= MAX_CACHED_DOCUMENTS)
+			documents.clear();
+		SwaggerDocument d2 = documents.putIfAbsent(key, d);
+
+		return d2 == null ? d : d2;
+	}
+
+	/**
+	 * A serialized swagger document.
+	 */
+	public static final class SwaggerDocument {
+		private final byte[] bytes;
+		private final String etag;
+
+		SwaggerDocument(byte[] bytes) throws NoSuchAlgorithmException {
+			this.bytes = bytes;
+			this.etag = "W/\"" + toHex(MessageDigest.getInstance("MD5").digest(bytes)) + "\"";
+		}
+
+		/**
+		 * Returns the weak entity tag of this document.
+		 *
+		 * @return The weak entity tag of this document (e.g. <js>"W/\"737060cd8c284d8af7ad3082f209582d\""</js>).
+		 */
+		public String getETag() {
+			return etag;
+		}
+
+		/**
+		 * Returns <jk>true</jk> if this document matches any of the specified entity validators.
+		 *
+		 * <p>
+		 * Uses the weak comparison function as required for the <code>If-None-Match</code> header.
+		 *
+		 * @param validators The validators from the <code>If-None-Match</code> header.  Can be <jk>null</jk>.
+		 * @return <jk>true</jk> if this document matches any of the specified entity validators.
+		 */
+		public boolean matches(IfNoneMatch validators) {
+			if (validators != null)
+				for (EntityValidator v : validators.asValidators())
+					if (v.isAny() || etag.endsWith('"' + v.asString() + '"'))
+						return true;
+			return false;
+		}
+
+		/**
+		 * Writes the serialized document to the specified output stream.
+		 *
+		 * @param os The output stream to write to.
+		 * @throws IOException
+		 */
+		public void writeTo(OutputStream os) throws IOException {
+			os.write(bytes);
+		}
+
+		/**
+		 * Writes the serialized document encoded with the specified encoder to the specified output stream.
+		 *
+		 * <p>
+		 * The encoded bytes are cached by the encoder using the entity tag of this document.
+		 *
+		 * @param os The output stream to write to.
+		 * @param encoder The encoder to use.
+		 * @throws IOException
+		 */
+		public void writeTo(OutputStream os, Encoder encoder) throws IOException {
+			os.write(encoder.encode(etag, bytes));
+		}
+
+		/**
+		 * Returns the size of the serialized document in bytes.
+		 *
+		 * @return The size of the serialized document in bytes.
+		 */
+		public int size() {
+			return bytes.length;
+		}
+	}
+
+	private static final class SwaggerKey {
+		private final Locale locale;
+		private final BitSet allowed;
+		private final int hashCode;
+
+		SwaggerKey(Locale locale, BitSet allowed) {
+			this.locale = locale;
+			this.allowed = allowed;
+			this.hashCode = Objects.hash(locale, allowed);
+		}
+
+		@Override /* Object */
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override /* Object */
+		public boolean equals(Object o) {
+			if (! (o instanceof SwaggerKey))
+				return false;
+			SwaggerKey k = (SwaggerKey)o;
+			return Objects.equals(locale, k.locale) && allowed.equals(k.allowed);
+		}
 	}
 
 	/**
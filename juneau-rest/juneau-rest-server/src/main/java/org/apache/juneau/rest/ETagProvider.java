@@ -0,0 +1,59 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import org.apache.juneau.annotation.*;
+
+/**
+ * Interface that can be implemented by POJOs returned from Java methods to provide their own entity tags.
+ *
+ * <p>
+ * Allows the entity tag of a response to be computed cheaply (e.g. from a version number or last-modified timestamp)
+ * so that the serializer doesn't need to run when the client's copy is current.
+ * <br>The <code>ETag</code> header is set on the response, and a <code>304 Not Modified</code> response is sent
+ * without a body when it matches the <code>If-None-Match</code> header.
+ *
+ * <p>
+ * The entity tag is not serialized as a bean property.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	<jk>public class</jk> Pet <jk>implements</jk> ETagProvider {
+ * 		<jk>public int</jk> <jf>version</jf>;
+ *
+ * 		<ja>@Override</ja>
+ * 		<jk>public</jk> String getETag() {
+ * 			<jk>return</jk> <js>"W/\"v"</js> + <jf>version</jf> + <js>"\""</js>;
+ * 		}
+ * 	}
+ * </p>
+ *
+ * <h5 class='section'>See Also:</h5>
+ * <ul>
+ * 	<li class='jm'>{@link RestResponse#checkETag(String)}
+ * 	<li class='jf'>{@link RestContext#REST_autoETag}
+ * </ul>
+ */
+public interface ETagProvider {
+
+	/**
+	 * Returns the entity tag of this object.
+	 *
+	 * @return
+	 * 	The entity tag (e.g. <js>"\"xyzzy\""</js> or <js>"W/\"xyzzy\""</js>).
+	 * 	<br>Unquoted values are treated as strong entity tags.
+	 * 	<br>Can be <jk>null</jk> if the entity tag isn't known.
+	 */
+	@BeanIgnore
+	String getETag();
+}
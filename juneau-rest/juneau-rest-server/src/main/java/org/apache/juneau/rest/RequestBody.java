@@ -280,6 +280,36 @@ public class RequestBody {
 		return toSpacedHex(body);
 	}
 
+	/**
+	 * Returns the HTTP body content of a <code>multipart/form-data</code> request as a stream of parts.
+	 *
+	 * <p>
+	 * Parts are read lazily from the request in the order they arrive and are never buffered, which allows large
+	 * uploads to be processed with bounded memory.
+	 *
+	 * <p>
+	 * Equivalent to using a {@link org.apache.juneau.http.annotation.Body @Body} parameter of type
+	 * {@link RequestMultipart}.
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li>
+	 * 		Use of this method is incompatible with {@link RestRequest#getFormData()} and any other methods that consume
+	 * 		the body of the request.
+	 * </ul>
+	 *
+	 * @return The parts of the request body.
+	 * @throws UnsupportedMediaType If the request isn't <code>multipart/form-data</code> with a boundary.
+	 * @throws IOException If a problem occurred trying to read from the reader.
+	 */
+	public RequestMultipart asMultipart() throws UnsupportedMediaType, IOException {
+		String ct = req.getHeader("Content-Type");
+		String boundary = RequestMultipart.getBoundary(ct);
+		if (boundary == null)
+			throw new UnsupportedMediaType("Unsupported media-type in request header ''Content-Type'': ''{0}''\n\tExpected multipart/form-data with a boundary.", ct);
+		return new RequestMultipart(getInputStream(), boundary, req.getCharacterEncoding());
+	}
+
 	/**
 	 * Returns the HTTP body content as a {@link Reader}.
 	 *
@@ -417,6 +447,9 @@ public class RequestBody {
 	/* Workhorse method */
 	private <T> T parse(ClassMeta<T> cm) throws SchemaValidationException, ParseException, UnsupportedMediaType, IOException {
 
+		if (cm.getInnerClass() == RequestMultipart.class)
+			return (T)asMultipart();
+
 		if (cm.isReader())
 			return (T)getReader();
 
@@ -439,7 +472,7 @@ public class RequestBody {
 			try (Closeable in = session.isReaderParser() ? getUnbufferedReader() : getInputStream()) {
 				T o = session.parse(in, cm);
 				if (schema != null)
-					schema.validateOutput(o, cm.getBeanContext());
+					schema.validateOutput(o, session);
 				return o;
 			}
 		}
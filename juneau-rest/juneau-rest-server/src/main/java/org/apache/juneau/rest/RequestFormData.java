@@ -15,6 +15,7 @@ package org.apache.juneau.rest;
 import static org.apache.juneau.internal.ArrayUtils.*;
 import static org.apache.juneau.internal.StringUtils.*;
 
+import java.io.*;
 import java.lang.reflect.*;
 import java.util.*;
 
@@ -59,6 +60,7 @@ public class RequestFormData extends LinkedHashMap<String,String[]> {
 
 	private final RestRequest req;
 	private final HttpPartParser parser;
+	private Map<String,List<RequestPart>> parts;
 
 	RequestFormData(RestRequest req, HttpPartParser parser) {
 		this.req = req;
@@ -117,6 +119,64 @@ public class RequestFormData extends LinkedHashMap<String,String[]> {
 		super.put(name, asStrings(value));
 	}
 
+	/**
+	 * Returns the first <code>multipart/form-data</code> part with the specified name.
+	 *
+	 * <p>
+	 * Parts are buffered in memory, or in a temporary file if larger than {@link RestContext#REST_multipartThreshold}.
+	 *
+	 * @param name The part name.
+	 * @return The part, or <jk>null</jk> if the request isn't multipart or the part does not exist.
+	 */
+	public RequestPart getPart(String name) {
+		List<RequestPart> l = getParts(name);
+		return l.isEmpty() ? null : l.get(0);
+	}
+
+	/**
+	 * Returns all the <code>multipart/form-data</code> parts with the specified name in the order they were received.
+	 *
+	 * @param name The part name.
+	 * @return The parts.  Never <jk>null</jk>.
+	 */
+	public List<RequestPart> getParts(String name) {
+		List<RequestPart> l = parts == null ? null : parts.get(name);
+		return l == null ? Collections.<RequestPart>emptyList() : Collections.unmodifiableList(l);
+	}
+
+	/*
+	 * Adds a buffered multipart part.
+	 * Text parts held in memory are also added as regular parameter values.
+	 */
+	void addPart(RequestPart p) throws IOException {
+		String name = p.getName();
+		if (name == null)
+			return;
+		if (parts == null)
+			parts = new LinkedHashMap<>();
+		List<RequestPart> l = parts.get(name);
+		if (l == null) {
+			l = new ArrayList<>();
+			parts.put(name, l);
+		}
+		l.add(p);
+		if (! p.isFile() && p.getFile() == null) {
+			String v = p.asString();
+			String[] vv = super.get(name);
+			super.put(name, vv == null ? new String[]{v} : append(vv, v));
+		}
+	}
+
+	/*
+	 * Deletes the temporary files of any buffered multipart parts.
+	 */
+	void deleteParts() {
+		if (parts != null)
+			for (List<RequestPart> l : parts.values())
+				for (RequestPart p : l)
+					p.delete();
+	}
+
 	/**
 	 * Returns a form-data parameter value.
 	 *
@@ -0,0 +1,113 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.rest.util.*;
+
+/**
+ * The parts of a <code>multipart/form-data</code> request body, read lazily in the order they arrive.
+ *
+ * <p>
+ * Parts are streamed directly from the request so that large uploads can be processed with bounded memory.
+ * <br>Reading the next part skips over any unread content of the current part.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	<ja>@RestMethod</ja>(name=<jsf>POST</jsf>, path=<js>"/upload"</js>)
+ * 	<jk>public void</jk> upload(<ja>@Body</ja> RequestMultipart parts) <jk>throws</jk> Exception {
+ * 		<jk>for</jk> (RequestPart p = parts.next(); p != <jk>null</jk>; p = parts.next()) {
+ * 			<jk>if</jk> (p.isFile())
+ * 				Files.<jsm>copy</jsm>(p.getInputStream(), uploadDir.resolve(p.getFileName()));
+ * 		}
+ * 	}
+ * </p>
+ *
+ * <h5 class='section'>See Also:</h5>
+ * <ul>
+ * 	<li class='jm'>{@link RequestBody#asMultipart()}
+ * </ul>
+ */
+public final class RequestMultipart {
+
+	private final MultipartStream stream;
+	private final String charset;
+
+	RequestMultipart(InputStream in, String boundary, String charset) {
+		this.stream = new MultipartStream(in, boundary);
+		this.charset = charset;
+	}
+
+	/**
+	 * Returns the next part of the request body.
+	 *
+	 * <p>
+	 * The previously returned part can no longer be read once this method is called.
+	 *
+	 * @return The next part, or <jk>null</jk> if there are no more parts.
+	 * @throws IOException If the request body is malformed or could not be read.
+	 */
+	public RequestPart next() throws IOException {
+		Map<String,String> h = stream.nextPart();
+		if (h == null)
+			return null;
+		return new RequestPart(h, stream.getInputStream(), charset);
+	}
+
+	/*
+	 * Returns the boundary of a multipart/form-data content type, or null if it isn't one.
+	 */
+	static String getBoundary(String contentType) {
+		if (contentType == null || ! contentType.trim().toLowerCase(Locale.ENGLISH).startsWith("multipart/form-data"))
+			return null;
+		return getParameter(contentType, "boundary");
+	}
+
+	/*
+	 * Returns the value of a parameter on a header value such as 'form-data; name="foo"; filename="bar.txt"'.
+	 */
+	static String getParameter(String header, String name) {
+		if (header == null)
+			return null;
+		int i = header.indexOf(';');
+		while (i != -1) {
+			int j = header.indexOf('=', i);
+			if (j == -1)
+				return null;
+			String n = header.substring(i+1, j).trim();
+			String v;
+			int k = j+1;
+			while (k < header.length() && header.charAt(k) == ' ')
+				k++;
+			if (k < header.length() && header.charAt(k) == '"') {
+				StringBuilder sb = new StringBuilder();
+				for (k++; k < header.length() && header.charAt(k) != '"'; k++) {
+					char c = header.charAt(k);
+					if (c == '\\' && k+1 < header.length() && header.charAt(k+1) == '"')
+						c = header.charAt(++k);
+					sb.append(c);
+				}
+				v = sb.toString();
+				i = header.indexOf(';', k);
+			} else {
+				i = header.indexOf(';', k);
+				v = (i == -1 ? header.substring(k) : header.substring(k, i)).trim();
+			}
+			if (n.equalsIgnoreCase(name))
+				return v;
+		}
+		return null;
+	}
+}
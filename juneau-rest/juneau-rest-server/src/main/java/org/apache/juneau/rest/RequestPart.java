@@ -0,0 +1,214 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import static org.apache.juneau.internal.StringUtils.*;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.util.*;
+
+import org.apache.juneau.internal.*;
+
+/**
+ * A single part of a <code>multipart/form-data</code> request body.
+ *
+ * <p>
+ * Parts returned by {@link RequestMultipart#next()} are streamed directly from the request body and can only be read
+ * until the next part is requested.
+ * <br>Parts returned by {@link RequestFormData#getPart(String)} have been buffered in memory, or in a temporary file
+ * if larger than {@link RestContext#REST_multipartThreshold}.
+ *
+ * <h5 class='section'>See Also:</h5>
+ * <ul>
+ * 	<li class='jm'>{@link RequestBody#asMultipart()}
+ * </ul>
+ */
+public final class RequestPart {
+
+	private final Map<String,String> headers;
+	private final String name, fileName, contentType;
+	private final Charset charset;
+	private final InputStream stream;
+	private byte[] bytes;
+	private File file;
+	private long size = -1;
+
+	RequestPart(Map<String,String> headers, InputStream stream, String defaultCharset) {
+		this.headers = Collections.unmodifiableMap(headers);
+		this.stream = stream;
+		String cd = headers.get("content-disposition");
+		this.name = RequestMultipart.getParameter(cd, "name");
+		this.fileName = RequestMultipart.getParameter(cd, "filename");
+		this.contentType = headers.get("content-type");
+		String cs = RequestMultipart.getParameter(contentType, "charset");
+		if (cs == null || ! Charset.isSupported(cs))
+			cs = defaultCharset == null ? "UTF-8" : defaultCharset;
+		this.charset = Charset.forName(cs);
+	}
+
+	/**
+	 * Returns the form field name of this part.
+	 *
+	 * @return The <code>name</code> parameter of the <code>Content-Disposition</code> header, or <jk>null</jk> if not specified.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the original file name of this part.
+	 *
+	 * @return
+	 * 	The <code>filename</code> parameter of the <code>Content-Disposition</code> header, or <jk>null</jk> if this part
+	 * 	isn't a file upload.
+	 */
+	public String getFileName() {
+		return fileName;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this part is a file upload.
+	 *
+	 * @return <jk>true</jk> if the <code>Content-Disposition</code> header has a <code>filename</code> parameter.
+	 */
+	public boolean isFile() {
+		return fileName != null;
+	}
+
+	/**
+	 * Returns the content type of this part.
+	 *
+	 * @return The <code>Content-Type</code> header of this part, or <jk>null</jk> if not specified.
+	 */
+	public String getContentType() {
+		return contentType;
+	}
+
+	/**
+	 * Returns the specified header of this part.
+	 *
+	 * @param name The header name.  Case-insensitive.
+	 * @return The header value, or <jk>null</jk> if not specified.
+	 */
+	public String getHeader(String name) {
+		return headers.get(name.toLowerCase(Locale.ENGLISH));
+	}
+
+	/**
+	 * Returns the size of this part in bytes.
+	 *
+	 * @return The size of this part in bytes, or <code>-1</code> if this part hasn't been buffered.
+	 */
+	public long getSize() {
+		return size;
+	}
+
+	/**
+	 * Returns the temporary file holding the contents of this part.
+	 *
+	 * @return
+	 * 	The temporary file, or <jk>null</jk> if this part wasn't buffered or was small enough to be held in memory.
+	 * 	<br>The file is deleted at the end of the request.
+	 */
+	public File getFile() {
+		return file;
+	}
+
+	/**
+	 * Returns the contents of this part as a stream.
+	 *
+	 * @return The contents of this part as a stream.
+	 * @throws IOException If the temporary file could not be opened.
+	 */
+	public InputStream getInputStream() throws IOException {
+		if (bytes != null)
+			return new ByteArrayInputStream(bytes);
+		if (file != null)
+			return new BufferedInputStream(new FileInputStream(file));
+		return stream;
+	}
+
+	/**
+	 * Returns the contents of this part as a reader.
+	 *
+	 * <p>
+	 * Uses the charset on the <code>Content-Type</code> header of this part, or the request charset if not specified.
+	 *
+	 * @return The contents of this part as a reader.
+	 * @throws IOException If the temporary file could not be opened.
+	 */
+	public Reader getReader() throws IOException {
+		return new InputStreamReader(getInputStream(), charset);
+	}
+
+	/**
+	 * Returns the contents of this part as a string.
+	 *
+	 * @return The contents of this part as a string.
+	 * @throws IOException If the contents could not be read.
+	 */
+	public String asString() throws IOException {
+		if (bytes != null)
+			return new String(bytes, charset);
+		return IOUtils.read(getReader());
+	}
+
+	@Override /* Object */
+	public String toString() {
+		return "RequestPart[name=" + name + (isNotEmpty(fileName) ? ",fileName=" + fileName : "") + "]";
+	}
+
+	/*
+	 * Reads the contents of this part from the request so that it's still available after the next part is read.
+	 * Contents up to the specified size are held in memory, and are written to a temporary file beyond it.
+	 */
+	RequestPart buffer(long threshold) throws IOException {
+		if (size != -1)
+			return this;
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		OutputStream out = baos;
+		byte[] b = new byte[8192];
+		long n = 0;
+		try {
+			for (int i = stream.read(b); i != -1; i = stream.read(b)) {
+				if (file == null && n + i > threshold) {
+					file = File.createTempFile("juneau-part", ".tmp");
+					out = new BufferedOutputStream(new FileOutputStream(file));
+					baos.writeTo(out);
+					baos = null;
+				}
+				out.write(b, 0, i);
+				n += i;
+			}
+		} catch (IOException e) {
+			delete();
+			throw e;
+		} finally {
+			if (out != baos)
+				out.close();
+		}
+		if (file == null)
+			bytes = baos.toByteArray();
+		size = n;
+		return this;
+	}
+
+	/*
+	 * Deletes the temporary file of this part if there is one.
+	 */
+	void delete() {
+		if (file != null)
+			file.delete();
+	}
+}
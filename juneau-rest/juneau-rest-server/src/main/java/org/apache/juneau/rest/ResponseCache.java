@@ -0,0 +1,273 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import static org.apache.juneau.internal.StringUtils.*;
+
+import java.io.*;
+import java.security.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.juneau.http.*;
+
+/**
+ * Cache of the final encoded responses of a single <code>GET</code> Java method.
+ *
+ * <p>
+ * Responses are keyed by the request path (including path variables), the normalized query string (parameters sorted by
+ * name), and the <code>Accept</code>, <code>Accept-Charset</code>, <code>Accept-Encoding</code> and
+ * <code>Accept-Language</code> headers.
+ * <br>Only successful (<code>200</code>) responses are cached.
+ * <br>Each cached response is given a strong <code>ETag</code> computed from its encoded bytes, and requests with a
+ * matching <code>If-None-Match</code> header receive a <code>304 Not Modified</code> response.
+ *
+ * <p>
+ * Guards and matchers are always evaluated, but the Java method is not invoked when a cached response is sent.
+ *
+ * <p>
+ * Cached responses are shared by all callers, so only methods whose responses don't depend on the caller should be
+ * cached.
+ * <br>Requests that carry credentials (an <code>Authorization</code> or <code>Cookie</code> header, or an authenticated
+ * user principal) are never served from or stored in the cache.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	<jc>// Cache responses for 60 seconds.</jc>
+ * 	<ja>@RestMethod</ja>(name=<jsf>GET</jsf>, path=<js>"/pets/{id}"</js>, responseCacheTtl=<js>"60"</js>)
+ * 	<jk>public</jk> Pet getPet(<ja>@Path</ja>(<js>"id"</js>) <jk>int</jk> id) {...}
+ *
+ * 	<jc>// Invalidate the cached responses when a pet is updated.</jc>
+ * 	<ja>@RestMethod</ja>(name=<jsf>PUT</jsf>, path=<js>"/pets/{id}"</js>)
+ * 	<jk>public void</jk> updatePet(RestRequest req, <ja>@Path</ja>(<js>"id"</js>) <jk>int</jk> id, <ja>@Body</ja> Pet pet) {
+ * 		...
+ * 		req.getContext().invalidateResponseCache(<js>"/pets/"</js> + id);
+ * 	}
+ * </p>
+ *
+ * <h5 class='section'>See Also:</h5>
+ * <ul>
+ * 	<li class='jf'>{@link RestContext#REST_responseCacheTtl}
+ * 	<li class='jf'>{@link RestContext#REST_responseCacheSize}
+ * 	<li class='jf'>{@link RestContext#REST_responseCacheMaxEntrySize}
+ * </ul>
+ */
+public final class ResponseCache {
+
+	private static final String[] KEY_HEADERS = {"Accept", "Accept-Charset", "Accept-Encoding", "Accept-Language"};
+	private static final char SEP = '\u0000';
+
+	private final int maxEntries;
+	private final long ttl, maxEntrySize;
+	private final ConcurrentHashMap<String,Entry> entries = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param maxEntries The maximum number of cached responses.
+	 * @param ttl The time-to-live of cached responses in milliseconds.
+	 * @param maxEntrySize The maximum size in bytes of a cached response body.
+	 */
+	ResponseCache(int maxEntries, long ttl, long maxEntrySize) {
+		this.maxEntries = maxEntries;
+		this.ttl = ttl;
+		this.maxEntrySize = maxEntrySize;
+	}
+
+	/**
+	 * Returns the number of responses currently cached.
+	 *
+	 * <p>
+	 * Includes expired responses that haven't been evicted yet.
+	 *
+	 * @return The number of responses currently cached.
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Removes all cached responses.
+	 */
+	public void invalidate() {
+		entries.clear();
+	}
+
+	/**
+	 * Removes all cached responses for the specified path and the paths underneath it.
+	 *
+	 * @param pathInfo
+	 * 	The path relative to the servlet path (e.g. <js>"/pets/123"</js>).
+	 * 	<br>Matched against {@link RestRequest#getPathInfo()}.
+	 */
+	public void invalidate(String pathInfo) {
+		String p = emptyIfNull(pathInfo);
+		while (p.endsWith("/"))
+			p = p.substring(0, p.length()-1);
+		for (String k : entries.keySet()) {
+			if (k.startsWith(p)) {
+				char c = k.charAt(p.length());
+				if (c == SEP || c == '/')
+					entries.remove(k);
+			}
+		}
+	}
+
+	/**
+	 * Returns the maximum size in bytes of a cached response body.
+	 *
+	 * @return The maximum size in bytes of a cached response body.
+	 */
+	long getMaxEntrySize() {
+		return maxEntrySize;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the response to the specified request can be served from or stored in the cache.
+	 *
+	 * <p>
+	 * Requests carrying credentials are excluded since their responses may depend on the caller.
+	 *
+	 * @param req The HTTP request.
+	 * @return <jk>true</jk> if the response to the specified request can be cached.
+	 */
+	static boolean isCacheable(RestRequest req) {
+		return req.getHeader("Authorization") == null && req.getHeader("Cookie") == null && req.getUserPrincipal() == null;
+	}
+
+	/**
+	 * Returns the key identifying the response to the specified request.
+	 *
+	 * @param req The HTTP request.
+	 * @return The cache key.
+	 */
+	static String getKey(RestRequest req) {
+		StringBuilder sb = new StringBuilder(emptyIfNull(req.getPathInfo())).append(SEP);
+		for (Map.Entry<String,String[]> e : new TreeMap<>(req.getQuery()).entrySet()) {
+			if (e.getValue() == null) {
+				sb.append(e.getKey()).append('&');
+			} else {
+				for (String v : e.getValue())
+					sb.append(e.getKey()).append('=').append(v).append('&');
+			}
+		}
+		for (String h : KEY_HEADERS)
+			sb.append(SEP).append(emptyIfNull(req.getHeader(h)));
+		return sb.toString();
+	}
+
+	/**
+	 * Sends the cached response for the specified key if there is one.
+	 *
+	 * @param key The cache key.
+	 * @param req The HTTP request.
+	 * @param res The HTTP response.
+	 * @return <jk>true</jk> if a cached response was sent.
+	 * @throws IOException
+	 */
+	boolean send(String key, RestRequest req, RestResponse res) throws IOException {
+		Entry e = entries.get(key);
+		if (e == null)
+			return false;
+		if (e.expires < System.currentTimeMillis()) {
+			entries.remove(key, e);
+			return false;
+		}
+		res.setStatus(200);
+		if (e.contentType != null)
+			res.setContentType(e.contentType);
+		Set<String> names = new HashSet<>();
+		for (String[] h : e.headers) {
+			if (names.add(h[0]))
+				res.setHeader(h[0], h[1]);
+			else
+				res.addHeader(h[0], h[1]);
+		}
+		res.setHeader("ETag", e.etag);
+		if (matches(e.etag, req.getHeaders().getIfNoneMatch())) {
+			res.setStatus(304);
+		} else {
+			res.getOutputStream().write(e.body);
+		}
+		return true;
+	}
+
+	/**
+	 * Caches a completed response.
+	 *
+	 * @param key The cache key.
+	 * @param res The HTTP response whose headers are being cached.
+	 * @param body The encoded response body.
+	 * @return The strong entity tag of the cached response.
+	 * @throws NoSuchAlgorithmException
+	 */
+	String put(String key, RestResponse res, byte[] body) throws NoSuchAlgorithmException {
+		List<String[]> headers = new ArrayList<>();
+		for (String n : res.getHeaderNames())
+			if (! (n.equalsIgnoreCase("Content-Type") || n.equalsIgnoreCase("Content-Length") || n.equalsIgnoreCase("ETag") || n.equalsIgnoreCase("Set-Cookie")))
+				for (String v : res.getHeaders(n))
+					headers.add(new String[]{n, v});
+		String etag = '"' + toHex(MessageDigest.getInstance("MD5").digest(body)) + '"';
+		Entry e = new Entry(res.getContentType(), headers.toArray(new String[headers.size()][]), body, etag, System.currentTimeMillis() + ttl);
+
+		if (entries.size() >= maxEntries) {
+			long now = System.currentTimeMillis();
+			for (Map.Entry<String,Entry> e2 : entries.entrySet())
+				if (e2.getValue().expires < now)
+					entries.remove(e2.getKey(), e2.getValue());
+			if (entries.size() >= maxEntries)
+				entries.clear();
+		}
+		entries.put(key, e);
+		return etag;
+	}
+
+	/**
+	 * Removes the cached response for the specified key.
+	 *
+	 * @param key The cache key.
+	 */
+	void remove(String key) {
+		entries.remove(key);
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the specified strong entity tag matches any of the specified entity validators.
+	 *
+	 * @param etag The entity tag.
+	 * @param validators The validators from the <code>If-None-Match</code> header.  Can be <jk>null</jk>.
+	 * @return <jk>true</jk> if the entity tag matches any of the validators.
+	 */
+	static boolean matches(String etag, IfNoneMatch validators) {
+		if (validators != null)
+			for (EntityValidator v : validators.asValidators())
+				if (v.isAny() || etag.equals('"' + v.asString() + '"'))
+					return true;
+		return false;
+	}
+
+	private static final class Entry {
+		final String contentType, etag;
+		final String[][] headers;
+		final byte[] body;
+		final long expires;
+
+		Entry(String contentType, String[][] headers, byte[] body, String etag, long expires) {
+			this.contentType = contentType;
+			this.headers = headers;
+			this.body = body;
+			this.etag = etag;
+			this.expires = expires;
+		}
+	}
+}
@@ -282,6 +282,42 @@ public final class RestContext extends BeanContext {
 	 */
 	public static final String REST_allowHeaderParams = PREFIX + "allowHeaderParams.b";
 
+	/**
+	 * Configuration property:  Automatic entity tags.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"RestContext.autoETag.b"</js>
+	 * 	<li><b>Data type:</b>  <code>Boolean</code>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link RestContextBuilder#autoETag(boolean)}
+	 * 			<li class='jm'>{@link RestResponse#setAutoETag(boolean)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * When enabled, successful responses to <code>GET</code> and <code>HEAD</code> requests that are serialized by
+	 * {@link org.apache.juneau.rest.reshandlers.DefaultHandler} are serialized through an MD5 digest into a buffer.
+	 * <br>The weak <code>ETag</code> header is computed from the serialized body, and requests with a matching
+	 * <code>If-None-Match</code> header receive a <code>304 Not Modified</code> response without a body and without
+	 * running the encoder.
+	 *
+	 * <p>
+	 * This saves bandwidth and encoding costs for clients polling unchanged resources.
+	 * <br>Java methods can avoid serialization altogether by returning a POJO implementing {@link ETagProvider}, or by
+	 * calling {@link RestResponse#checkETag(String)} before producing the response.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	builder.autoETag(<jk>true</jk>);
+	 * </p>
+	 */
+	public static final String REST_autoETag = PREFIX + "autoETag.b";
+
 	/**
 	 * Configuration property:  REST call handler.
 	 *
@@ -587,6 +623,91 @@ public final class RestContext extends BeanContext {
 	 */
 	public static final String REST_classpathResourceFinder = PREFIX + "classpathResourceFinder.o";
 
+	/**
+	 * Configuration property:  Classpath resource cache size.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"RestContext.classpathResourceCacheSize.s"</js>
+	 * 	<li><b>Data type:</b>  <code>String</code>
+	 * 	<li><b>Default:</b>  <js>"10M"</js>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link RestContextBuilder#classpathResourceCacheSize(String)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * The maximum number of bytes of classpath resources to hold in memory when {@link #REST_useClasspathResourceCaching}
+	 * is enabled.
+	 *
+	 * <p>
+	 * Least-recently-used resources are evicted once this budget is exceeded, and resources with identical contents
+	 * share the same bytes.
+	 * <br>Resources larger than this value are never cached.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Cache up to 50MB of resources.</jc>
+	 * 	builder.classpathResourceCacheSize(<js>"50M"</js>);
+	 * </p>
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li>
+	 * 		String value that gets resolved to a <jk>long</jk>.
+	 * 	<li>
+	 * 		Can be suffixed with any of the following representing kilobytes, megabytes, and gigabytes:
+	 * 		<js>'K'</js>, <js>'M'</js>, <js>'G'</js>.
+	 * </ul>
+	 */
+	public static final String REST_classpathResourceCacheSize = PREFIX + "classpathResourceCacheSize.s";
+
+	/**
+	 * Configuration property:  Classpath resource memory-map threshold.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"RestContext.classpathResourceMmapThreshold.s"</js>
+	 * 	<li><b>Data type:</b>  <code>String</code>
+	 * 	<li><b>Default:</b>  <js>"-1"</js>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link RestContextBuilder#classpathResourceMmapThreshold(String)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * Resources found on the file system whose size is at least this value are memory-mapped instead of being read
+	 * into the heap.
+	 * <br>Memory-mapped resources do not count against the {@link #REST_classpathResourceCacheSize} budget.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Memory-map working-directory files of 1MB or more.</jc>
+	 * 	builder.classpathResourceMmapThreshold(<js>"1M"</js>);
+	 * </p>
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li>
+	 * 		String value that gets resolved to a <jk>long</jk>.
+	 * 	<li>
+	 * 		Can be suffixed with any of the following representing kilobytes, megabytes, and gigabytes:
+	 * 		<js>'K'</js>, <js>'M'</js>, <js>'G'</js>.
+	 * 	<li>
+	 * 		A value of <js>"-1"</js> disables memory-mapping.
+	 * 	<li>
+	 * 		Only applies to resources resolved as files, such as those found in the JVM working directory by
+	 * 		{@link ClasspathResourceFinderBasic}.
+	 * </ul>
+	 */
+	public static final String REST_classpathResourceMmapThreshold = PREFIX + "classpathResourceMmapThreshold.s";
+
 	/**
 	 * Configuration property:  Client version header.
 	 *
@@ -1364,6 +1485,168 @@ public final class RestContext extends BeanContext {
 	 */
 	public static final String REST_maxInput = PREFIX + "maxInput.s";
 
+	/**
+	 * Configuration property:  Maximum in-memory size of buffered multipart parts.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"RestContext.multipartThreshold.s"</js>
+	 * 	<li><b>Data type:</b>  <code>String</code>
+	 * 	<li><b>Default:</b>  <js>"64K"</js>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link RestContextBuilder#multipartThreshold(String)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * When the parts of a <code>multipart/form-data</code> request are accessed through {@link RestRequest#getFormData()}
+	 * or {@link org.apache.juneau.http.annotation.FormData @FormData} parameters, each part is buffered in memory up
+	 * to this size and spilled to a temporary file beyond it.
+	 * <br>Text parts held in memory are available as regular form-data parameters and are parsed using the part parser.
+	 * <br>Temporary files are deleted at the end of the request.
+	 *
+	 * <p>
+	 * Parts read through {@link RequestBody#asMultipart()} are streamed directly from the request and are never buffered.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Buffer up to 1MB per part in memory.</jc>
+	 * 	builder.multipartThreshold(<js>"1M"</js>);
+	 * </p>
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li>
+	 * 		String value that gets resolved to a <jk>long</jk>.
+	 * 	<li>
+	 * 		Can be suffixed with any of the following representing kilobytes, megabytes, and gigabytes:
+	 * 		<js>'K'</js>, <js>'M'</js>, <js>'G'</js>.
+	 * </ul>
+	 */
+	public static final String REST_multipartThreshold = PREFIX + "multipartThreshold.s";
+
+	/**
+	 * Configuration property:  Maximum size of cached response bodies.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"RestContext.responseCacheMaxEntrySize.s"</js>
+	 * 	<li><b>Data type:</b>  <code>String</code>
+	 * 	<li><b>Default:</b>  <js>"1M"</js>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link RestContextBuilder#responseCacheMaxEntrySize(String)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * Response bodies are buffered in memory up to this size while being captured for the response cache.
+	 * <br>Larger bodies are streamed to the client as usual and are not cached.
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li>
+	 * 		String value that gets resolved to a <jk>long</jk>.
+	 * 	<li>
+	 * 		Can be suffixed with any of the following representing kilobytes, megabytes, and gigabytes:
+	 * 		<js>'K'</js>, <js>'M'</js>, <js>'G'</js>.
+	 * </ul>
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link #REST_responseCacheTtl}
+	 * </ul>
+	 */
+	public static final String REST_responseCacheMaxEntrySize = PREFIX + "responseCacheMaxEntrySize.s";
+
+	/**
+	 * Configuration property:  Maximum number of cached responses per Java method.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"RestContext.responseCacheSize.i"</js>
+	 * 	<li><b>Data type:</b>  <code>Integer</code>
+	 * 	<li><b>Default:</b>  <code>100</code>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Annotations:</b>
+	 * 		<ul>
+	 * 			<li class='ja'>{@link RestMethod#responseCacheSize()}
+	 * 		</ul>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link RestContextBuilder#responseCacheSize(int)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * When the cache is full, expired responses are evicted first.
+	 * <br>If the cache is still full, it's cleared.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link #REST_responseCacheTtl}
+	 * </ul>
+	 */
+	public static final String REST_responseCacheSize = PREFIX + "responseCacheSize.i";
+
+	/**
+	 * Configuration property:  Time-to-live in seconds of cached responses.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"RestContext.responseCacheTtl.i"</js>
+	 * 	<li><b>Data type:</b>  <code>Integer</code>
+	 * 	<li><b>Default:</b>  <code>0</code>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Annotations:</b>
+	 * 		<ul>
+	 * 			<li class='ja'>{@link RestMethod#responseCacheTtl()}
+	 * 		</ul>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link RestContextBuilder#responseCacheTtl(int)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * When greater than zero, the final encoded responses of <code>GET</code> Java methods are cached and served
+	 * without invoking the Java method until they expire.
+	 * <br>Cached responses are given strong <code>ETag</code> headers, and requests with a matching
+	 * <code>If-None-Match</code> header receive a <code>304 Not Modified</code> response.
+	 *
+	 * <p>
+	 * Only enable this on methods whose responses depend solely on the request path, query string, and
+	 * <code>Accept*</code> headers.
+	 * <br>The response must not depend on the caller (e.g. the user principal, session attributes, or anything else
+	 * that differs between users that pass the guards), since cached responses are served to every caller.
+	 * <br>As a safeguard, requests with an <code>Authorization</code> or <code>Cookie</code> header or an authenticated
+	 * user principal are never served from or stored in the cache.
+	 * <br>Cached responses can be invalidated programmatically through {@link #invalidateResponseCache(String)}.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Cache responses of all GET methods for 60 seconds.</jc>
+	 * 	builder.responseCacheTtl(60);
+	 *
+	 * 	<jc>// Disable caching on a specific method.</jc>
+	 * 	<ja>@RestMethod</ja>(name=<jsf>GET</jsf>, path=<js>"/now"</js>, responseCacheTtl=<js>"0"</js>)
+	 * 	<jk>public</jk> Date getNow() {...}
+	 * </p>
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jc'>{@link ResponseCache}
+	 * </ul>
+	 */
+	public static final String REST_responseCacheTtl = PREFIX + "responseCacheTtl.i";
+
 	/**
 	 * Configuration property:  Messages.
 	 *
@@ -2972,6 +3255,7 @@ public final class RestContext extends BeanContext {
 	private final boolean
 		allowHeaderParams,
 		allowBodyParam,
+		autoETag,
 		renderResponseStackTraces,
 		useStackTraceHashes,
 		useClasspathResourceCaching,
@@ -2982,7 +3266,12 @@ public final class RestContext extends BeanContext {
 		uriAuthority,
 		uriContext;
 	private final long
-		maxInput;
+		maxInput,
+		multipartThreshold,
+		responseCacheMaxEntrySize;
+	private final int
+		responseCacheTtl,
+		responseCacheSize;
 
 	final String fullPath;
 
@@ -3107,12 +3396,17 @@ public final class RestContext extends BeanContext {
 
 			allowHeaderParams = getBooleanProperty(REST_allowHeaderParams, true);
 			allowBodyParam = getBooleanProperty(REST_allowBodyParam, true);
+			autoETag = getBooleanProperty(REST_autoETag, false);
 			allowedMethodParams = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(StringUtils.split(getStringProperty(REST_allowedMethodParams, "HEAD,OPTIONS")))));
 			renderResponseStackTraces = getBooleanProperty(REST_renderResponseStackTraces, false);
 			useStackTraceHashes = getBooleanProperty(REST_useStackTraceHashes, true);
 			debug = getBooleanProperty(REST_debug, super.isDebug());
 			defaultCharset = getStringProperty(REST_defaultCharset, "utf-8");
 			maxInput = getLongProperty(REST_maxInput, 100_000_000l);
+			multipartThreshold = parseLongWithSuffix(getStringProperty(REST_multipartThreshold, "64K"));
+			responseCacheMaxEntrySize = parseLongWithSuffix(getStringProperty(REST_responseCacheMaxEntrySize, "1M"));
+			responseCacheTtl = getIntegerProperty(REST_responseCacheTtl, 0);
+			responseCacheSize = getIntegerProperty(REST_responseCacheSize, 100);
 			clientVersionHeader = getStringProperty(REST_clientVersionHeader, "X-Client-Version");
 
 			converters = getInstanceArrayProperty(REST_converters, resource, RestConverter.class, new RestConverter[0], resourceResolver, this);
@@ -3172,7 +3466,12 @@ public final class RestContext extends BeanContext {
 
 			ClasspathResourceFinder rf = getInstanceProperty(REST_classpathResourceFinder, ClasspathResourceFinder.class, ClasspathResourceFinderBasic.class, resourceResolver, this);
 			useClasspathResourceCaching = getProperty(REST_useClasspathResourceCaching, boolean.class, true);
-			staticResourceManager = new ClasspathResourceManager(resourceClass, rf, useClasspathResourceCaching);
+			staticResourceManager = new ClasspathResourceManager(
+				resourceClass,
+				rf,
+				useClasspathResourceCaching ? parseLongWithSuffix(getStringProperty(REST_classpathResourceCacheSize, "10M")) : 0,
+				parseLongWithSuffix(getStringProperty(REST_classpathResourceMmapThreshold, "-1"))
+			);
 
 			consumes = getListProperty(REST_consumes, MediaType.class, parsers.getSupportedMediaTypes());
 			produces = getListProperty(REST_produces, MediaType.class, serializers.getSupportedMediaTypes());
@@ -3194,8 +3493,6 @@ public final class RestContext extends BeanContext {
 
 			fullPath = (builder.parentContext == null ? "" : (builder.parentContext.fullPath + '/')) + builder.path;
 
-			this.childResources = Collections.synchronizedMap(new LinkedHashMap<String,RestContext>());  // Not unmodifiable on purpose so that children can be replaced.
-
 			Map<String,Widget> _widgets = new LinkedHashMap<>();
 			for (Widget w : getInstanceArrayProperty(REST_widgets, resource, Widget.class, new Widget[0], resourceResolver, ps))
 				_widgets.put(w.getName(), w);
@@ -3399,6 +3696,7 @@ public final class RestContext extends BeanContext {
 			this.callRouters = unmodifiableMap(_callRouters);
 
 			// Initialize our child resources.
+			Map<String,RestContext> _childResources = new LinkedHashMap<>();
 			for (Object o : getArrayProperty(REST_children, Object.class)) {
 				String path = null;
 				Object r = null;
@@ -3435,8 +3733,9 @@ public final class RestContext extends BeanContext {
 				if (r instanceof RestServlet)
 					((RestServlet)r).setContext(rc2);
 				path = childBuilder.path;
-				childResources.put(path, rc2);
+				_childResources.put(path, rc2);
 			}
+			this.childResources = unmodifiableMap(_childResources);  // Read without locking on every request to a child resource.
 
 			callHandler = getInstanceProperty(REST_callHandler, resource, RestCallHandler.class, BasicRestCallHandler.class, resourceResolver, this);
 			infoProvider = getInstanceProperty(REST_infoProvider, resource, RestInfoProvider.class, BasicRestInfoProvider.class, resourceResolver, this);
@@ -4095,7 +4394,7 @@ public final class RestContext extends BeanContext {
 	 * 	Keys are the {@link RestResource#path() @RestResource(path)} annotation defined on the child resource.
 	 */
 	public Map<String,RestContext> getChildResources() {
-		return Collections.unmodifiableMap(childResources);
+		return childResources;
 	}
 
 	/**
@@ -4161,6 +4460,20 @@ public final class RestContext extends BeanContext {
 		return allowBodyParam;
 	}
 
+	/**
+	 * Returns whether entity tags are computed automatically from serialized responses.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_autoETag}
+	 * </ul>
+	 *
+	 * @return <jk>true</jk> if setting is enabled.
+	 */
+	public boolean isAutoETag() {
+		return autoETag;
+	}
+
 	/**
 	 * Returns <jk>true</jk> if debug mode is enabled on this resource.
 	 *
@@ -4206,6 +4519,122 @@ public final class RestContext extends BeanContext {
 		return maxInput;
 	}
 
+	/**
+	 * Returns the maximum in-memory size of buffered multipart parts in bytes.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_multipartThreshold}
+	 * </ul>
+	 *
+	 * @return The maximum in-memory size of buffered multipart parts in bytes.
+	 */
+	public long getMultipartThreshold() {
+		return multipartThreshold;
+	}
+
+	/**
+	 * Returns the maximum number of bytes of classpath resources held in memory.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_classpathResourceCacheSize}
+	 * </ul>
+	 *
+	 * @return
+	 * 	The maximum number of bytes of classpath resources held in memory, or <code>0</code> if
+	 * 	{@link RestContext#REST_useClasspathResourceCaching} is disabled.
+	 */
+	public long getClasspathResourceCacheSize() {
+		return staticResourceManager.getMaxCacheSize();
+	}
+
+	/**
+	 * Returns the minimum size in bytes of file resources that are memory-mapped.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_classpathResourceMmapThreshold}
+	 * </ul>
+	 *
+	 * @return The minimum size in bytes of file resources that are memory-mapped, or <code>-1</code> if disabled.
+	 */
+	public long getClasspathResourceMmapThreshold() {
+		return staticResourceManager.getMmapThreshold();
+	}
+
+	/**
+	 * Returns the maximum size of cached response bodies in bytes.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_responseCacheMaxEntrySize}
+	 * </ul>
+	 *
+	 * @return The maximum size of cached response bodies in bytes.
+	 */
+	public long getResponseCacheMaxEntrySize() {
+		return responseCacheMaxEntrySize;
+	}
+
+	/**
+	 * Returns the default time-to-live in seconds of cached responses.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_responseCacheTtl}
+	 * </ul>
+	 *
+	 * @return The default time-to-live in seconds of cached responses, or <code>0</code> if responses aren't cached.
+	 */
+	public int getResponseCacheTtl() {
+		return responseCacheTtl;
+	}
+
+	/**
+	 * Returns the default maximum number of cached responses per Java method.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_responseCacheSize}
+	 * </ul>
+	 *
+	 * @return The default maximum number of cached responses per Java method.
+	 */
+	public int getResponseCacheSize() {
+		return responseCacheSize;
+	}
+
+	/**
+	 * Removes all cached responses of this resource.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_responseCacheTtl}
+	 * </ul>
+	 */
+	public void invalidateResponseCache() {
+		for (RestJavaMethod m : callMethods.values())
+			if (m.responseCache != null)
+				m.responseCache.invalidate();
+	}
+
+	/**
+	 * Removes the cached responses of this resource for the specified path and the paths underneath it.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_responseCacheTtl}
+	 * </ul>
+	 *
+	 * @param pathInfo The path relative to the servlet path (e.g. <js>"/pets/123"</js>).
+	 */
+	public void invalidateResponseCache(String pathInfo) {
+		for (RestJavaMethod m : callMethods.values())
+			if (m.responseCache != null)
+				m.responseCache.invalidate(pathInfo);
+	}
+
 	/**
 	 * Returns the name of the client version header name used by this resource.
 	 *
@@ -558,6 +558,28 @@ public class RestContextBuilder extends BeanContextBuilder implements ServletCon
 		return set(REST_allowHeaderParams, value);
 	}
 
+	/**
+	 * Configuration property:  Automatic entity tags.
+	 *
+	 * <p>
+	 * When enabled, weak <code>ETag</code> headers are computed from serialized responses to <code>GET</code> and
+	 * <code>HEAD</code> requests, and <code>304 Not Modified</code> responses are sent when they match the
+	 * <code>If-None-Match</code> header.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_autoETag}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this setting.
+	 * 	<br>The default is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public RestContextBuilder autoETag(boolean value) {
+		return set(REST_autoETag, value);
+	}
+
 	/**
 	 * Configuration property:  REST call handler.
 	 *
@@ -701,6 +723,46 @@ public class RestContextBuilder extends BeanContextBuilder implements ServletCon
 		return set(REST_classpathResourceFinder, value);
 	}
 
+	/**
+	 * Configuration property:  Classpath resource cache size.
+	 *
+	 * <p>
+	 * The maximum number of bytes of classpath resources to hold in memory when classpath resource caching is enabled.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_classpathResourceCacheSize}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this setting.
+	 * 	<br>The default is <js>"10M"</js>.
+	 * @return This object (for method chaining).
+	 */
+	public RestContextBuilder classpathResourceCacheSize(String value) {
+		return set(REST_classpathResourceCacheSize, value);
+	}
+
+	/**
+	 * Configuration property:  Classpath resource memory-map threshold.
+	 *
+	 * <p>
+	 * File system resources of at least this size are memory-mapped instead of being read into the heap.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_classpathResourceMmapThreshold}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this setting.
+	 * 	<br>The default is <js>"-1"</js> (disabled).
+	 * @return This object (for method chaining).
+	 */
+	public RestContextBuilder classpathResourceMmapThreshold(String value) {
+		return set(REST_classpathResourceMmapThreshold, value);
+	}
+
 	/**
 	 * Configuration property:  Client version header.
 	 *
@@ -1110,6 +1172,83 @@ public class RestContextBuilder extends BeanContextBuilder implements ServletCon
 		return set(REST_maxInput, value);
 	}
 
+	/**
+	 * Configuration property:  Maximum in-memory size of buffered multipart parts.
+	 *
+	 * <p>
+	 * Buffered <code>multipart/form-data</code> parts larger than this size are spilled to temporary files.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_multipartThreshold}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this setting.
+	 * 	<br>The default is <js>"64K"</js>.
+	 * @return This object (for method chaining).
+	 */
+	public RestContextBuilder multipartThreshold(String value) {
+		return set(REST_multipartThreshold, value);
+	}
+
+	/**
+	 * Configuration property:  Maximum size of cached response bodies.
+	 *
+	 * <p>
+	 * Responses with bodies larger than this size are not cached.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_responseCacheMaxEntrySize}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this setting.
+	 * 	<br>The default is <js>"1M"</js>.
+	 * @return This object (for method chaining).
+	 */
+	public RestContextBuilder responseCacheMaxEntrySize(String value) {
+		return set(REST_responseCacheMaxEntrySize, value);
+	}
+
+	/**
+	 * Configuration property:  Maximum number of cached responses per Java method.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_responseCacheSize}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this setting.
+	 * 	<br>The default is <code>100</code>.
+	 * @return This object (for method chaining).
+	 */
+	public RestContextBuilder responseCacheSize(int value) {
+		return set(REST_responseCacheSize, value);
+	}
+
+	/**
+	 * Configuration property:  Time-to-live in seconds of cached responses.
+	 *
+	 * <p>
+	 * Enables the response cache on all <code>GET</code> Java methods of this resource.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_responseCacheTtl}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this setting.
+	 * 	<br>The default is <code>0</code> (no caching).
+	 * @return This object (for method chaining).
+	 */
+	public RestContextBuilder responseCacheTtl(int value) {
+		return set(REST_responseCacheTtl, value);
+	}
+
 	/**
 	 * Configuration property:  Messages.
 	 *
@@ -87,6 +87,7 @@ public class RestJavaMethod implements Comparable<RestJavaMethod>  {
 	final Map<Class<?>,ResponsePartMeta> headerPartMetas = new ConcurrentHashMap<>();
 	final Map<Class<?>,ResponsePartMeta> bodyPartMetas = new ConcurrentHashMap<>();
 	final ResponseBeanMeta responseMeta;
+	final ResponseCache responseCache;
 
 	RestJavaMethod(Object servlet, java.lang.reflect.Method method, RestContext context) throws RestServletException {
 		Builder b = new Builder(servlet, method, context);
@@ -116,6 +117,7 @@ public class RestJavaMethod implements Comparable<RestJavaMethod>  {
 		this.supportedAcceptTypes = b.supportedAcceptTypes;
 		this.supportedContentTypes = b.supportedContentTypes;
 		this.responseMeta = b.responseMeta;
+		this.responseCache = b.responseCache;
 		this.widgets = unmodifiableMap(b.widgets);
 	}
 
@@ -140,6 +142,7 @@ public class RestJavaMethod implements Comparable<RestJavaMethod>  {
 		Map<String,Widget> widgets;
 		List<MediaType> supportedAcceptTypes, supportedContentTypes;
 		ResponseBeanMeta responseMeta;
+		ResponseCache responseCache;
 
 		Builder(Object servlet, java.lang.reflect.Method method, RestContext context) throws RestServletException {
 			String sig = method.getDeclaringClass().getName() + '.' + method.getName();
@@ -214,6 +217,14 @@ public class RestJavaMethod implements Comparable<RestJavaMethod>  {
 
 				priority = m.priority();
 
+				int responseCacheTtl = context.getResponseCacheTtl(), responseCacheSize = context.getResponseCacheSize();
+				if (! m.responseCacheTtl().isEmpty())
+					responseCacheTtl = Integer.parseInt(vr.resolve(m.responseCacheTtl()));
+				if (! m.responseCacheSize().isEmpty())
+					responseCacheSize = Integer.parseInt(vr.resolve(m.responseCacheSize()));
+				if ("GET".equals(httpMethod) && responseCacheTtl > 0 && responseCacheSize > 0)
+					responseCache = new ResponseCache(responseCacheSize, responseCacheTtl * 1000l, context.getResponseCacheMaxEntrySize());
+
 				converters = new RestConverter[m.converters().length];
 				for (int i = 0; i < converters.length; i++)
 					converters[i] = beanContext.newInstance(RestConverter.class, m.converters()[i]);
@@ -392,6 +403,8 @@ public class RestJavaMethod implements Comparable<RestJavaMethod>  {
 					: parsers.getSupportedMediaTypes();
 
 				methodParams = context.findParams(method, false, pathPattern);
+				for (RestMethodParam mp : methodParams)
+					mp.precompile(beanContext, partParser, partSerializer);
 
 				if (hasAnnotation(Response.class, method))
 					responseMeta = ResponseBeanMeta.create(method, serializers.getPropertyStore());
@@ -464,6 +477,13 @@ public class RestJavaMethod implements Comparable<RestJavaMethod>  {
 		return pm;
 	}
 
+	/**
+	 * Returns <jk>true</jk> if this Java method has any guards.
+	 */
+	boolean hasGuards() {
+		return guards.length != 0;
+	}
+
 	/**
 	 * Returns <jk>true</jk> if this Java method has any guards or matchers.
 	 */
@@ -489,12 +509,20 @@ public class RestJavaMethod implements Comparable<RestJavaMethod>  {
 	 * Returns <jk>true</jk> if the specified request object can call this method.
 	 */
 	boolean isRequestAllowed(RestRequest req) {
-		for (RestGuard guard : guards) {
-			req.setJavaMethod(method);
-			if (! guard.isRequestAllowed(req))
-				return false;
+		if (guards.length == 0)
+			return true;
+
+		// Guards may look at the Java method, but the request shouldn't be left pointing at this one.
+		java.lang.reflect.Method m = req.getJavaMethod();
+		req.setJavaMethod(method);
+		try {
+			for (RestGuard guard : guards)
+				if (! guard.isRequestAllowed(req))
+					return false;
+			return true;
+		} finally {
+			req.setJavaMethod(m);
 		}
-		return true;
 	}
 
 	/**
@@ -560,6 +588,14 @@ public class RestJavaMethod implements Comparable<RestJavaMethod>  {
 				if (! guard.guard(req, res))
 					return SC_OK;
 
+			// Send the cached response if there is one, otherwise capture this one.
+			if (responseCache != null && ! req.isDebug() && ResponseCache.isCacheable(req)) {
+				String cacheKey = ResponseCache.getKey(req);
+				if (responseCache.send(cacheKey, req, res))
+					return SC_OK;
+				res.setResponseCache(responseCache, cacheKey);
+			}
+
 			Object output;
 			try {
 				output = method.invoke(context.getResource(), args);
@@ -675,6 +711,15 @@ public class RestJavaMethod implements Comparable<RestJavaMethod>  {
 		return partParser;
 	}
 
+	/**
+	 * Bean property getter:  <property>responseCache</property>.
+	 *
+	 * @return The value of the <property>responseCache</property> property on this bean, or <jk>null</jk> if responses of this method are not cached.
+	 */
+	public ResponseCache getResponseCache() {
+		return responseCache;
+	}
+
 	@Override /* Object */
 	public boolean equals(Object o) {
 		if (! (o instanceof RestJavaMethod))
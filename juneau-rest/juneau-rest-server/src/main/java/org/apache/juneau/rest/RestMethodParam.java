@@ -24,6 +24,7 @@ import org.apache.juneau.config.*;
 import org.apache.juneau.dto.swagger.*;
 import org.apache.juneau.http.*;
 import org.apache.juneau.http.Date;
+import org.apache.juneau.httppart.*;
 import org.apache.juneau.parser.*;
 import org.apache.juneau.utils.*;
 
@@ -198,6 +199,18 @@ public abstract class RestMethodParam {
 	 */
 	public abstract Object resolve(RestRequest req, RestResponse res) throws Exception;
 
+	/**
+	 * Compiles the part parser or serializer plans used by this parameter.
+	 *
+	 * <p>
+	 * Called once when the Java method is initialized.
+	 *
+	 * @param bc The bean context of the Java method.
+	 * @param pp The default part parser of the Java method.
+	 * @param ps The default part serializer of the Java method.
+	 */
+	void precompile(BeanContext bc, HttpPartParser pp, HttpPartSerializer ps) {}
+
 	/**
 	 * Returns the parameter class type that this parameter resolver is meant for.
 	 *
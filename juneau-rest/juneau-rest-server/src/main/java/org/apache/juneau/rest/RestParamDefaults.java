@@ -39,6 +39,7 @@ import org.apache.juneau.http.annotation.Query;
 import org.apache.juneau.httppart.*;
 import org.apache.juneau.httppart.bean.*;
 import org.apache.juneau.internal.*;
+import org.apache.juneau.oapi.*;
 import org.apache.juneau.parser.*;
 import org.apache.juneau.rest.annotation.*;
 import org.apache.juneau.rest.exception.*;
@@ -234,6 +235,11 @@ class RestParamDefaults {
 		public Object resolve(RestRequest req, RestResponse res) throws Exception {
 			return req.getPathMatch().get(partParser, schema, name, type);
 		}
+
+		@Override /* RestMethodParam */
+		void precompile(BeanContext bc, HttpPartParser pp, HttpPartSerializer ps) {
+			precompilePart(firstNonNull(partParser, pp), schema, bc.getClassMeta(type));
+		}
 	}
 
 	static final class BodyObject extends RestMethodParam {
@@ -274,6 +280,11 @@ class RestParamDefaults {
 		public Object resolve(RestRequest req, RestResponse res) throws Exception {
 			return req.getHeaders().get(partParser, schema, name, type);
 		}
+
+		@Override /* RestMethodParam */
+		void precompile(BeanContext bc, HttpPartParser pp, HttpPartSerializer ps) {
+			precompilePart(firstNonNull(partParser, pp), schema, bc.getClassMeta(type));
+		}
 	}
 
 	static final class RequestObject extends RestMethodParam {
@@ -312,6 +323,16 @@ class RestParamDefaults {
 			throw new InternalServerError("@ResponseHeader used without name or value on method ''{0}'' parameter ''{1}''.", m, i);
 		}
 
+		@Override /* RestMethodParam */
+		void precompile(BeanContext bc, HttpPartParser pp, HttpPartSerializer ps) {
+			HttpPartSerializer s = firstNonNull(meta.getSerializer(), ps);
+			if (s instanceof OpenApiSerializer && type instanceof ParameterizedType) {
+				Type t = ((ParameterizedType)type).getActualTypeArguments()[0];
+				if (t instanceof Class)
+					((OpenApiSerializer)s).precompile(meta.getSchema(), (Class<?>)t);
+			}
+		}
+
 		@SuppressWarnings({ "unchecked", "rawtypes" })
 		@Override /* RestMethodParam */
 		public Object resolve(final RestRequest req, final RestResponse res) throws Exception {
@@ -426,8 +447,19 @@ class RestParamDefaults {
 		public Object resolve(RestRequest req, RestResponse res) throws Exception {
 			if (multiPart)
 				return req.getFormData().getAll(partParser, schema, name, type);
+			if (c == RequestPart.class || c == InputStream.class || c == Reader.class) {
+				RequestPart p = req.getFormData().getPart(name);
+				if (p == null || c == RequestPart.class)
+					return p;
+				return c == InputStream.class ? p.getInputStream() : p.getReader();
+			}
 			return req.getFormData().get(partParser, schema, name, type);
 		}
+
+		@Override /* RestMethodParam */
+		void precompile(BeanContext bc, HttpPartParser pp, HttpPartSerializer ps) {
+			precompilePart(firstNonNull(partParser, pp), schema, bc.getClassMeta(type), multiPart);
+		}
 	}
 
 	static final class QueryObject extends RestMethodParam {
@@ -461,6 +493,11 @@ class RestParamDefaults {
 				return req.getQuery().getAll(partParser, schema, name, type);
 			return req.getQuery().get(partParser, schema, name, type);
 		}
+
+		@Override /* RestMethodParam */
+		void precompile(BeanContext bc, HttpPartParser pp, HttpPartSerializer ps) {
+			precompilePart(firstNonNull(partParser, pp), schema, bc.getClassMeta(type), multiPart);
+		}
 	}
 
 	static final class HasFormDataObject extends RestMethodParam {
@@ -825,6 +862,19 @@ class RestParamDefaults {
 		return BeanContext.DEFAULT.getClassMeta(t).isCollectionOrArray();
 	}
 
+	static final void precompilePart(HttpPartParser pp, HttpPartSchema schema, ClassMeta<?> cm) {
+		precompilePart(pp, schema, cm, false);
+	}
+
+	static final void precompilePart(HttpPartParser pp, HttpPartSchema schema, ClassMeta<?> cm, boolean multiPart) {
+		if (pp instanceof OpenApiParser) {
+			if (! multiPart)
+				((OpenApiParser)pp).precompile(schema, cm);
+			else if (cm.getElementType() != null)
+				((OpenApiParser)pp).precompile(schema.getItems(), cm.getElementType());
+		}
+	}
+
 	static final HttpPartParser createPartParser(Class<? extends HttpPartParser> p, PropertyStore ps) {
 		return ClassUtils.newInstance(HttpPartParser.class, p, true, ps);
 	}
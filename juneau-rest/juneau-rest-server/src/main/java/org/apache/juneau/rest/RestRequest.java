@@ -587,7 +587,11 @@ public final class RestRequest extends HttpServletRequestWrapper {
 		try {
 			if (formData == null) {
 				formData = new RequestFormData(this, restJavaMethod == null ? OpenApiParser.DEFAULT : restJavaMethod.partParser);
-				if (! body.isLoaded()) {
+				if (RequestMultipart.getBoundary(getHeader("Content-Type")) != null) {
+					RequestMultipart mp = body.asMultipart();
+					for (RequestPart p = mp.next(); p != null; p = mp.next())
+						formData.addPart(p.buffer(context.getMultipartThreshold()));
+				} else if (! body.isLoaded()) {
 					formData.putAll(getParameterMap());
 				} else {
 					Map<String,String[]> m = RestUtils.parseQuery(body.getReader());
@@ -1666,6 +1670,8 @@ public final class RestRequest extends HttpServletRequestWrapper {
 	}
 
 	void close() {
+		if (formData != null)
+			formData.deleteParts();
 		if (cf != null) {
 			try {
 				cf.close();
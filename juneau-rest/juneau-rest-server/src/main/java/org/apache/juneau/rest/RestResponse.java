@@ -19,6 +19,7 @@ import org.apache.juneau.rest.util.FinishableServletOutputStream;
 
 import java.io.*;
 import java.nio.charset.*;
+import java.security.*;
 import java.util.*;
 
 import javax.servlet.*;
@@ -68,6 +69,8 @@ public final class RestResponse extends HttpServletResponseWrapper {
 	private FinishableServletOutputStream os;
 	private FinishablePrintWriter w;
 	private HtmlDocBuilder htmlDocBuilder;
+	private CacheOutputStream cacheOutputStream;
+	private boolean autoETag;
 
 	private ResponseBeanMeta responseMeta;
 
@@ -77,6 +80,7 @@ public final class RestResponse extends HttpServletResponseWrapper {
 	RestResponse(RestContext context, RestRequest req, HttpServletResponse res) throws BadRequest {
 		super(res);
 		this.request = req;
+		this.autoETag = context.isAutoETag();
 
 		for (Map.Entry<String,Object> e : context.getDefaultResponseHeaders().entrySet())
 			setHeader(e.getKey(), asString(e.getValue()));
@@ -355,49 +359,250 @@ public final class RestResponse extends HttpServletResponseWrapper {
 	 * Equivalent to {@link HttpServletResponse#getOutputStream()}, except wraps the output stream if an {@link Encoder}
 	 * was found that matched the <code>Accept-Encoding</code> header.
 	 *
+	 * <p>
+	 * If the matched encoder has a {@link Encoder#getMinSize() minimum size}, the body is buffered until that many bytes
+	 * have been written.
+	 * <br>Bodies that are finished or flushed before reaching that size are sent without any content encoding.
+	 *
 	 * @return A negotiated output stream.
 	 * @throws NotAcceptable If unsupported Accept-Encoding value specified.
 	 * @throws IOException
 	 */
 	public FinishableServletOutputStream getNegotiatedOutputStream() throws NotAcceptable, IOException {
 		if (os == null) {
-			Encoder encoder = null;
-			EncoderGroup encoders = restJavaMethod == null ? EncoderGroup.DEFAULT : restJavaMethod.encoders;
-
-			String ae = request.getHeader("Accept-Encoding");
-			if (! (ae == null || ae.isEmpty())) {
-				EncoderMatch match = encoders.getEncoderMatch(ae);
-				if (match == null) {
-					// Identity should always match unless "identity;q=0" or "*;q=0" is specified.
-					if (ae.matches(".*(identity|\\*)\\s*;\\s*q\\s*=\\s*(0(?!\\.)|0\\.0).*")) {
-						throw new NotAcceptable(
-							"Unsupported encoding in request header ''Accept-Encoding'': ''{0}''\n\tSupported codings: {1}",
-							ae, encoders.getSupportedEncodings()
-						);
-					}
-				} else {
-					encoder = match.getEncoder();
-					String encoding = match.getEncoding().toString();
-
-					// Some clients don't recognize identity as an encoding, so don't set it.
-					if (! encoding.equals("identity"))
-						setHeader("content-encoding", encoding);
-				}
-			}
+			EncoderMatch match = getEncoderMatch();
 			@SuppressWarnings("resource")
 			ServletOutputStream sos = getOutputStream();
-			os = new FinishableServletOutputStream(encoder == null ? sos : encoder.getOutputStream(sos));
+			if (match == null) {
+				os = new FinishableServletOutputStream(sos);
+			} else if (match.getEncoder().getMinSize() > 0) {
+				os = new FinishableServletOutputStream(new ThresholdOutputStream(sos, match));
+			} else {
+				setHeader("content-encoding", match.getEncoding().toString());
+				os = new FinishableServletOutputStream(match.getEncoder().getOutputStream(sos));
+			}
 		}
 		return os;
 	}
 
+	/**
+	 * Returns the encoder that matched the <code>Accept-Encoding</code> header.
+	 *
+	 * <p>
+	 * Can be used to write pre-encoded bodies (see {@link Encoder#encode(String,byte[])}) directly to
+	 * {@link #getOutputStream()}.
+	 * <br>Callers are responsible for setting the <code>Content-Encoding</code> header in that case.
+	 *
+	 * @return
+	 * 	The matched encoder, or <jk>null</jk> if no <code>Accept-Encoding</code> header was specified or the
+	 * 	matched coding is <js>"identity"</js>.
+	 * @throws NotAcceptable If unsupported Accept-Encoding value specified.
+	 */
+	public EncoderMatch getEncoderMatch() throws NotAcceptable {
+		EncoderGroup encoders = restJavaMethod == null ? EncoderGroup.DEFAULT : restJavaMethod.encoders;
+
+		String ae = request.getHeader("Accept-Encoding");
+		if (ae == null || ae.isEmpty())
+			return null;
+
+		EncoderMatch match = encoders.getEncoderMatch(ae);
+		if (match == null) {
+			// Identity should always match unless "identity;q=0" or "*;q=0" is specified.
+			if (ae.matches(".*(identity|\\*)\\s*;\\s*q\\s*=\\s*(0(?!\\.)|0\\.0).*")) {
+				throw new NotAcceptable(
+					"Unsupported encoding in request header ''Accept-Encoding'': ''{0}''\n\tSupported codings: {1}",
+					ae, encoders.getSupportedEncodings()
+				);
+			}
+			return null;
+		}
+
+		// Some clients don't recognize identity as an encoding, so don't set it.
+		if (match.getEncoding().toString().equals("identity"))
+			return null;
+		return match;
+	}
+
+	/*
+	 * Buffers the start of the body until the encoder's minimum size is reached.
+	 * The Content-Encoding header is only set once the decision to encode has been made.
+	 */
+	private final class ThresholdOutputStream extends OutputStream implements Finishable {
+		private final ServletOutputStream sos;
+		private final EncoderMatch match;
+		private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		private OutputStream out;
+
+		ThresholdOutputStream(ServletOutputStream sos, EncoderMatch match) {
+			this.sos = sos;
+			this.match = match;
+		}
+
+		private void commit(boolean encode) throws IOException {
+			if (encode && ! isCommitted()) {
+				setHeader("content-encoding", match.getEncoding().toString());
+				out = match.getEncoder().getOutputStream(sos);
+			} else {
+				out = sos;
+			}
+			buffer.writeTo(out);
+			buffer = null;
+		}
+
+		@Override /* OutputStream */
+		public void write(int b) throws IOException {
+			write(new byte[]{(byte)b}, 0, 1);
+		}
+
+		@Override /* OutputStream */
+		public void write(byte[] b, int off, int len) throws IOException {
+			if (out != null) {
+				out.write(b, off, len);
+			} else {
+				buffer.write(b, off, len);
+				if (buffer.size() >= match.getEncoder().getMinSize())
+					commit(true);
+			}
+		}
+
+		@Override /* OutputStream */
+		public void flush() throws IOException {
+			if (out == null)
+				commit(false);
+			out.flush();
+		}
+
+		@Override /* Finishable */
+		public void finish() throws IOException {
+			if (out == null)
+				commit(false);
+			if (out instanceof Finishable)
+				((Finishable)out).finish();
+		}
+
+		@Override /* OutputStream */
+		public void close() throws IOException {
+			finish();
+			out.close();
+		}
+	}
+
 	@Override /* ServletResponse */
 	public ServletOutputStream getOutputStream() throws IOException {
-		if (sos == null)
+		if (sos == null) {
 			sos = super.getOutputStream();
+			if (cacheOutputStream != null)
+				sos = cacheOutputStream.init(sos);
+		}
 		return sos;
 	}
 
+	/**
+	 * Captures the body of this response so that it can be stored in the specified response cache.
+	 *
+	 * <p>
+	 * The body is buffered until {@link #flushBuffer()} is called, at which point the <code>ETag</code> header is set and
+	 * the body is either sent or replaced by a <code>304 Not Modified</code> response.
+	 *
+	 * @param cache The response cache.
+	 * @param key The cache key of this response.
+	 */
+	void setResponseCache(ResponseCache cache, String key) {
+		if (sos == null)
+			cacheOutputStream = new CacheOutputStream(cache, key);
+	}
+
+	/*
+	 * Buffers the final encoded response body for the response cache.
+	 * Bodies larger than the maximum entry size are passed through and not cached.
+	 */
+	private final class CacheOutputStream extends ServletOutputStream {
+		private final ResponseCache cache;
+		private final String key;
+		private ServletOutputStream out;
+		private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		private boolean cached;
+
+		CacheOutputStream(ResponseCache cache, String key) {
+			this.cache = cache;
+			this.key = key;
+		}
+
+		CacheOutputStream init(ServletOutputStream out) {
+			this.out = out;
+			return this;
+		}
+
+		@Override /* OutputStream */
+		public void write(int b) throws IOException {
+			write(new byte[]{(byte)b}, 0, 1);
+		}
+
+		@Override /* OutputStream */
+		public void write(byte[] b, int off, int len) throws IOException {
+			if (buffer != null) {
+				buffer.write(b, off, len);
+				if (buffer.size() > cache.getMaxEntrySize()) {
+					buffer.writeTo(out);
+					buffer = null;
+				}
+			} else {
+				// Written after the response was cached, so the cached body is incomplete.
+				if (cached) {
+					cache.remove(key);
+					cached = false;
+				}
+				out.write(b, off, len);
+			}
+		}
+
+		@Override /* OutputStream */
+		public void flush() throws IOException {
+			if (buffer == null)
+				out.flush();
+		}
+
+		@Override /* OutputStream */
+		public void close() throws IOException {
+			if (buffer == null)
+				out.close();
+		}
+
+		@Override /* ServletOutputStream */
+		public boolean isReady() {
+			return out.isReady();
+		}
+
+		@Override /* ServletOutputStream */
+		public void setWriteListener(WriteListener listener) {
+			out.setWriteListener(listener);
+		}
+
+		/*
+		 * Caches the buffered body and sends it (or a 304) to the client.
+		 */
+		void complete() throws IOException {
+			if (buffer == null)
+				return;
+			byte[] b = buffer.toByteArray();
+			buffer = null;
+			if (getStatus() == 200 && ! isCommitted()) {
+				try {
+					String etag = cache.put(key, RestResponse.this, b);
+					cached = true;
+					setHeader("ETag", etag);
+					if (ResponseCache.matches(etag, request.getHeaders().getIfNoneMatch())) {
+						setStatus(304);
+						return;
+					}
+				} catch (NoSuchAlgorithmException e) {
+					throw new IOException(e);
+				}
+			}
+			out.write(b);
+		}
+	}
+
 	/**
 	 * Returns <jk>true</jk> if {@link #getOutputStream()} has been called.
 	 *
@@ -518,6 +723,85 @@ public final class RestResponse extends HttpServletResponseWrapper {
 		setHeader(h.getName(), h.asString());
 	}
 
+	/**
+	 * Sets the <code>ETag</code> header and checks it against the <code>If-None-Match</code> header of the request.
+	 *
+	 * <p>
+	 * If the entity tag matches on a <code>GET</code> or <code>HEAD</code> request, the status is set to
+	 * <code>304 Not Modified</code> and no response body is sent.
+	 * <br>Java methods can use this to short-circuit before producing a response whose entity tag can be computed
+	 * cheaply.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<ja>@RestMethod</ja>(name=<jsf>GET</jsf>, path=<js>"/pets/{id}"</js>)
+	 * 	<jk>public</jk> Pet getPet(RestResponse res, <ja>@Path</ja>(<js>"id"</js>) <jk>int</jk> id) {
+	 * 		<jk>if</jk> (res.checkETag(<js>"W/\"v"</js> + getVersion(id) + <js>"\""</js>))
+	 * 			<jk>return null</jk>;
+	 * 		<jk>return</jk> loadPet(id);
+	 * 	}
+	 * </p>
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jc'>{@link ETagProvider}
+	 * 	<li class='jf'>{@link RestContext#REST_autoETag}
+	 * </ul>
+	 *
+	 * @param etag
+	 * 	The entity tag (e.g. <js>"\"xyzzy\""</js> or <js>"W/\"xyzzy\""</js>).
+	 * 	<br>Unquoted values are treated as strong entity tags.
+	 * @return <jk>true</jk> if the status was set to <code>304 Not Modified</code>.
+	 */
+	public boolean checkETag(String etag) {
+		boolean isWeak = etag.startsWith("W/");
+		String value = isWeak ? etag.substring(2) : etag;
+		if (value.length() > 1 && value.charAt(0) == '"' && value.charAt(value.length()-1) == '"')
+			value = value.substring(1, value.length()-1);
+		setHeader("ETag", (isWeak ? "W/" : "") + '"' + value + '"');
+
+		String method = request.getMethod();
+		if (! ("GET".equalsIgnoreCase(method) || "HEAD".equalsIgnoreCase(method)))
+			return false;
+
+		// If-None-Match uses the weak comparison function.
+		IfNoneMatch inm = request.getHeaders().getIfNoneMatch();
+		if (inm != null) {
+			for (EntityValidator v : inm.asValidators()) {
+				if (v.isAny() || v.asString().equals(value)) {
+					setStatus(304);
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if entity tags are computed automatically from the serialized response.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_autoETag}
+	 * </ul>
+	 *
+	 * @return <jk>true</jk> if entity tags are computed automatically from the serialized response.
+	 */
+	public boolean isAutoETag() {
+		return autoETag;
+	}
+
+	/**
+	 * Overrides the {@link RestContext#REST_autoETag} setting for this response.
+	 *
+	 * @param value The new value for this setting.
+	 * @return This object (for method chaining).
+	 */
+	public RestResponse setAutoETag(boolean value) {
+		this.autoETag = value;
+		return this;
+	}
+
 	/**
 	 * Returns the metadata about this response.
 	 *
@@ -567,6 +851,8 @@ public final class RestResponse extends HttpServletResponseWrapper {
 			w.flush();
 		if (os != null)
 			os.flush();
+		if (cacheOutputStream != null && sos == cacheOutputStream)
+			cacheOutputStream.complete();
 		super.flushBuffer();
 	}
 }
\ No newline at end of file
@@ -692,6 +692,63 @@ public @interface RestMethod {
 	 */
 	Property[] properties() default {};
 
+	/**
+	 * Maximum number of responses cached by this method.
+	 *
+	 * <p>
+	 * Overrides the {@link RestContext#REST_responseCacheSize} setting for this method.
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li>
+	 * 		Supports {@doc DefaultRestSvlVariables}
+	 * 		(e.g. <js>"$S{mySystemProperty}"</js>).
+	 * </ul>
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_responseCacheSize}
+	 * </ul>
+	 */
+	String responseCacheSize() default "";
+
+	/**
+	 * Time-to-live in seconds of responses cached by this method.
+	 *
+	 * <p>
+	 * Overrides the {@link RestContext#REST_responseCacheTtl} setting for this method.
+	 * <br>Only applies to <code>GET</code> methods.
+	 * <br>A value of <js>"0"</js> disables caching for this method.
+	 *
+	 * <p>
+	 * Only use this on methods whose responses are the same for every caller, since cached responses are served to
+	 * anyone who passes the guards.
+	 * <br>Requests with an <code>Authorization</code> or <code>Cookie</code> header or an authenticated user principal
+	 * always bypass the cache.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<ja>@RestMethod</ja>(
+	 * 		name=<jsf>GET</jsf>,
+	 * 		responseCacheTtl=<js>"60"</js>
+	 * 	)
+	 * </p>
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li>
+	 * 		Supports {@doc DefaultRestSvlVariables}
+	 * 		(e.g. <js>"$S{mySystemProperty}"</js>).
+	 * </ul>
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_responseCacheTtl}
+	 * 	<li class='jc'>{@link ResponseCache}
+	 * </ul>
+	 */
+	String responseCacheTtl() default "";
+
 	/**
 	 * Serializers.
 	 *
@@ -214,7 +214,8 @@ public class MockServletResponse implements HttpServletResponse, MockHttpRespons
 
 	@Override /* HttpServletResponse */
 	public void addHeader(String name, String value) {
-		headerMap.put(name, new String[] {value});
+		String[] s = headerMap.get(name);
+		headerMap.put(name, s == null ? new String[] {value} : ArrayUtils.append(s, value));
 	}
 
 	@Override /* HttpServletResponse */
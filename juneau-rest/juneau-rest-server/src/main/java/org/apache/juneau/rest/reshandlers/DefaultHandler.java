@@ -18,13 +18,18 @@ import static org.apache.juneau.httppart.HttpPartType.*;
 
 import java.io.*;
 import java.lang.reflect.*;
+import java.nio.charset.*;
+import java.security.*;
 import java.util.*;
 
+import org.apache.juneau.dto.swagger.*;
+import org.apache.juneau.encoders.*;
 import org.apache.juneau.http.*;
 import org.apache.juneau.httppart.*;
 import org.apache.juneau.httppart.bean.*;
 import org.apache.juneau.internal.*;
 import org.apache.juneau.rest.*;
+import org.apache.juneau.rest.BasicRestInfoProvider.*;
 import org.apache.juneau.rest.exception.*;
 import org.apache.juneau.rest.util.FinishablePrintWriter;
 import org.apache.juneau.rest.util.FinishableServletOutputStream;
@@ -58,6 +63,10 @@ public class DefaultHandler implements ResponseHandler {
 		SerializerMatch sm = g.getSerializerMatch(accept);
 		HttpPartSchema schema = null;
 
+		// The Java method determined that the client's copy is current.  See RestResponse.checkETag(String).
+		if (res.getStatus() == 304)
+			return true;
+
 		Object o = res.getOutput();
 
 		ResponseBeanMeta rm = res.getResponseMeta();
@@ -126,6 +135,12 @@ public class DefaultHandler implements ResponseHandler {
 			schema = rm.getSchema();
 		}
 
+		if (o instanceof ETagProvider) {
+			String etag = ((ETagProvider)o).getETag();
+			if (etag != null && res.checkETag(etag))
+				return true;
+		}
+
 		if (sm != null) {
 			Serializer s = sm.getSerializer();
 			MediaType mediaType = res.getMediaType();
@@ -149,6 +164,44 @@ public class DefaultHandler implements ResponseHandler {
 				for (Map.Entry<String,String> h : session.getResponseHeaders().entrySet())
 					res.setHeader(h.getKey(), h.getValue());
 
+				// Swagger documents are served from pre-serialized bytes when possible.
+				if (o instanceof Swagger && ! (req.isPlainText() || req.isDebug())) {
+					SwaggerDocument d = getSwaggerDocument(req, res, (Swagger)o, s, session, mediaType);
+					if (d != null) {
+						res.setHeader("ETag", d.getETag());
+						if (d.matches(req.getHeaders().getIfNoneMatch())) {
+							res.setStatus(304);
+							return true;
+						}
+						// Compressed forms of the document are cached by the encoder.
+						EncoderMatch em = res.getEncoderMatch();
+						if (em != null && d.size() >= em.getEncoder().getMinSize()) {
+							res.setHeader("content-encoding", em.getEncoding().toString());
+							d.writeTo(res.getOutputStream(), em.getEncoder());
+							return true;
+						}
+						FinishableServletOutputStream os = res.getNegotiatedOutputStream();
+						d.writeTo(os);
+						os.flush();
+						os.finish();
+						return true;
+					}
+				}
+
+				// Serialize through a digest so that the entity tag is known before anything is sent.
+				if (res.isAutoETag() && res.getStatus() == 200 && res.getHeader("ETag") == null && isGetOrHead(req) && ! (req.isPlainText() || req.isDebug())) {
+					byte[] b = serializeWithETag(req, res, session, o);
+					if (b != null) {
+						if (res.getStatus() != 304) {
+							FinishableServletOutputStream os = res.getNegotiatedOutputStream();
+							os.write(b);
+							os.flush();
+							os.finish();
+						}
+						return true;
+					}
+				}
+
 				if (! session.isWriterSerializer()) {
 					if (req.isPlainText()) {
 						FinishablePrintWriter w = res.getNegotiatedWriter();
@@ -193,4 +246,50 @@ public class DefaultHandler implements ResponseHandler {
 			req.getHeaders().getString("Accept", ""), g.getSupportedMediaTypes()
 		);
 	}
+
+	private static boolean isGetOrHead(RestRequest req) {
+		String m = req.getMethod();
+		return "GET".equalsIgnoreCase(m) || "HEAD".equalsIgnoreCase(m);
+	}
+
+	/*
+	 * Serializes the output into a buffer through an MD5 digest and sets the weak ETag header.
+	 * Returns null if the response charset isn't supported, in which case the output should be serialized normally.
+	 */
+	private static byte[] serializeWithETag(RestRequest req, RestResponse res, SerializerSession session, Object o) throws IOException, SerializeException {
+		String charset = res.getCharacterEncoding();
+		if (session.isWriterSerializer() && ! Charset.isSupported(charset))
+			return null;
+
+		MessageDigest md;
+		try {
+			md = MessageDigest.getInstance("MD5");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IOException(e);
+		}
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (OutputStream os = new DigestOutputStream(baos, md)) {
+			if (session.isWriterSerializer()) {
+				Writer w = new OutputStreamWriter(os, charset);
+				session.serialize(o, w);
+				w.flush();
+			} else {
+				session.serialize(o, os);
+			}
+		}
+		res.checkETag("W/\"" + toHex(md.digest()) + '"');
+		return baos.toByteArray();
+	}
+
+	private static SwaggerDocument getSwaggerDocument(RestRequest req, RestResponse res, Swagger swagger, Serializer s, SerializerSession session, MediaType mediaType) throws InternalServerError {
+		RestInfoProvider rip = req.getInfoProvider();
+		if (! (rip instanceof BasicRestInfoProvider))
+			return null;
+		try {
+			return ((BasicRestInfoProvider)rip).getSwaggerDocument(req, swagger, s, session, mediaType, res.getCharacterEncoding());
+		} catch (Exception e) {
+			throw new InternalServerError(e);
+		}
+	}
 }
@@ -0,0 +1,233 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.util;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.internal.*;
+
+/**
+ * Streaming reader for <code>multipart/form-data</code> request bodies.
+ *
+ * <p>
+ * Parts are read one at a time in the order they arrive.
+ * <br>Part contents are read directly from the underlying stream through a fixed-size buffer, so memory usage doesn't
+ * depend on the size of the parts.
+ */
+public final class MultipartStream {
+
+	private static final int BUFFER_SIZE = 8192;
+	private static final int MAX_HEADER_SIZE = BUFFER_SIZE;
+
+	private final InputStream in;
+	private final byte[] delimiter;
+	private final byte[] buf;
+	private int head, tail;
+	private boolean eof, done;
+	private PartInputStream current;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param in The request body.
+	 * @param boundary The <code>boundary</code> parameter of the request <code>Content-Type</code> header.
+	 */
+	public MultipartStream(InputStream in, String boundary) {
+		this.in = in;
+		byte[] b = boundary.getBytes(IOUtils.UTF8);
+		this.delimiter = new byte[b.length + 4];
+		delimiter[0] = '\r';
+		delimiter[1] = '\n';
+		delimiter[2] = '-';
+		delimiter[3] = '-';
+		System.arraycopy(b, 0, delimiter, 4, b.length);
+		this.buf = new byte[Math.max(BUFFER_SIZE, delimiter.length * 2)];
+
+		// The first delimiter isn't preceded by a line break, so pretend one has been read.
+		buf[0] = '\r';
+		buf[1] = '\n';
+		tail = 2;
+	}
+
+	/**
+	 * Advances to the next part.
+	 *
+	 * <p>
+	 * Any unread content in the current part is skipped.
+	 *
+	 * @return
+	 * 	The headers of the next part keyed by lowercase header name, or <jk>null</jk> if there are no more parts.
+	 * @throws IOException If the stream is malformed or could not be read.
+	 */
+	public Map<String,String> nextPart() throws IOException {
+		if (done)
+			return null;
+
+		// Skip the preamble or the remainder of the current part.
+		if (current == null)
+			current = new PartInputStream();
+		current.close();
+
+		head += delimiter.length;
+		if (! ensure(2))
+			throw new IOException("Unexpected end of multipart stream.");
+		if (buf[head] == '-' && buf[head+1] == '-') {
+			done = true;
+			return null;
+		}
+		readLine();
+
+		Map<String,String> m = new LinkedHashMap<>();
+		int size = 0;
+		for (String line = readLine(); ! line.isEmpty(); line = readLine()) {
+			size += line.length();
+			if (size > MAX_HEADER_SIZE)
+				throw new IOException("Multipart part headers exceed maximum size.");
+			int i = line.indexOf(':');
+			if (i > 0)
+				m.put(line.substring(0, i).trim().toLowerCase(Locale.ENGLISH), line.substring(i+1).trim());
+		}
+
+		current = new PartInputStream();
+		return m;
+	}
+
+	/**
+	 * Returns a stream over the contents of the current part.
+	 *
+	 * <p>
+	 * The stream ends at the end of the part and becomes unusable once {@link #nextPart()} is called.
+	 *
+	 * @return A stream over the contents of the current part.
+	 * @throws IllegalStateException If {@link #nextPart()} hasn't returned a part.
+	 */
+	public InputStream getInputStream() {
+		if (current == null || done)
+			throw new IllegalStateException("No current part.");
+		return current;
+	}
+
+	/*
+	 * Returns the number of bytes at the head of the buffer that belong to the current part, reading more input as
+	 * needed.
+	 * Returns -1 if the head of the buffer is at the next delimiter.
+	 */
+	private int partBytes() throws IOException {
+		while (true) {
+			int i = indexOfDelimiter();
+			if (i == head)
+				return -1;
+			if (i != -1)
+				return i - head;
+
+			// Bytes before this point can't be the start of a delimiter.
+			int safe = tail - head - delimiter.length + 1;
+			if (safe > 0 && (eof || tail == buf.length))
+				return safe;
+			if (eof)
+				throw new IOException("Unexpected end of multipart stream.");
+			fill();
+		}
+	}
+
+	private int indexOfDelimiter() {
+		int last = tail - delimiter.length;
+		for (int i = head; i <= last; i++) {
+			if (buf[i] == '\r') {
+				int j = 1;
+				while (j < delimiter.length && buf[i+j] == delimiter[j])
+					j++;
+				if (j == delimiter.length)
+					return i;
+			}
+		}
+		return -1;
+	}
+
+	private boolean ensure(int n) throws IOException {
+		while (tail - head < n && ! eof)
+			fill();
+		return tail - head >= n;
+	}
+
+	private void fill() throws IOException {
+		if (head > 0) {
+			System.arraycopy(buf, head, buf, 0, tail - head);
+			tail -= head;
+			head = 0;
+		}
+		int n = in.read(buf, tail, buf.length - tail);
+		if (n == -1)
+			eof = true;
+		else
+			tail += n;
+	}
+
+	private String readLine() throws IOException {
+		int start = head;
+		while (true) {
+			for (int i = start; i < tail; i++) {
+				if (buf[i] == '\n') {
+					int end = (i > head && buf[i-1] == '\r') ? i-1 : i;
+					String s = new String(buf, head, end - head, IOUtils.UTF8);
+					head = i+1;
+					return s;
+				}
+			}
+			// A line must fit in the buffer, otherwise fill() would have no room to read into.
+			if (tail - head >= MAX_HEADER_SIZE)
+				throw new IOException("Multipart part header line exceeds maximum size.");
+			start = tail - head;
+			if (eof)
+				throw new IOException("Unexpected end of multipart stream.");
+			fill();
+			start += head;
+		}
+	}
+
+	private final class PartInputStream extends InputStream {
+		private boolean closed;
+
+		@Override /* InputStream */
+		public int read() throws IOException {
+			if (closed || partBytes() == -1)
+				return -1;
+			return buf[head++] & 0xFF;
+		}
+
+		@Override /* InputStream */
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (closed)
+				return -1;
+			if (len == 0)
+				return 0;
+			int n = partBytes();
+			if (n == -1)
+				return -1;
+			n = Math.min(n, len);
+			System.arraycopy(buf, head, b, off, n);
+			head += n;
+			return n;
+		}
+
+		@Override /* InputStream */
+		public void close() throws IOException {
+			if (! closed) {
+				for (int n = partBytes(); n != -1; n = partBytes())
+					head += n;
+				closed = true;
+			}
+		}
+	}
+}
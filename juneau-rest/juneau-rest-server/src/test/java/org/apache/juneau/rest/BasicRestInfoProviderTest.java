@@ -15,6 +15,8 @@ package org.apache.juneau.rest;
 import static org.junit.Assert.*;
 import static org.junit.Assert.assertEquals;
 import static org.apache.juneau.http.HttpMethodName.*;
+import static org.apache.juneau.rest.annotation.HookEvent.*;
+import static org.apache.juneau.serializer.Serializer.*;
 import static org.apache.juneau.rest.testutils.TestUtils.*;
 
 import java.io.*;
@@ -2352,4 +2354,100 @@ public class BasicRestInfoProviderTest {
 		ResponseInfo ri = o.getResponse("200");
 		assertEquals("{\n\tf1: 1,\n\tf2: 2\n}", ri.getExamples().get("application/json+simple"));
 	}
+
+	//=================================================================================================================
+	// Cached swagger documents.
+	//=================================================================================================================
+
+	@RestResource
+	public static class Q extends BasicRestServlet {
+		private static final long serialVersionUID = 1L;
+
+		@RestMethod(name=GET,path="/foo")
+		public String doFoo() {
+			return null;
+		}
+
+		@RestMethod(name=GET,path="/admin",guards=QGuard.class)
+		public String doAdmin() {
+			return null;
+		}
+	}
+
+	public static class QGuard extends RestGuard {
+		@Override
+		public boolean isRequestAllowed(RestRequest req) {
+			return "admin".equals(req.getHeader("X-Role"));
+		}
+	}
+
+	static MockRest q = MockRest.create(Q.class);
+
+	@Test
+	public void q01_sameDocumentReturned() throws Exception {
+		MockServletResponse r1 = q.options("/").accept("application/json").execute().assertStatus(200);
+		MockServletResponse r2 = q.options("/").accept("application/json").execute().assertStatus(200);
+		assertNotNull(r1.getHeader("ETag"));
+		assertEquals(r1.getHeader("ETag"), r2.getHeader("ETag"));
+		assertEquals(r1.getBodyAsString(), r2.getBodyAsString());
+		assertTrue(r1.getBodyAsString().contains("/foo"));
+	}
+
+	@Test
+	public void q02_ifNoneMatch() throws Exception {
+		String etag = q.options("/").accept("application/json").execute().getHeader("ETag");
+		q.options("/").accept("application/json").ifNoneMatch(etag).execute().assertStatus(304).assertBody("");
+		q.options("/").accept("application/json").ifNoneMatch("\"foo\"").execute().assertStatus(200).assertBodyContains("/foo");
+	}
+
+	@Test
+	public void q03_differentMediaTypes() throws Exception {
+		String etag1 = q.options("/").accept("application/json").execute().getHeader("ETag");
+		String etag2 = q.options("/").accept("text/xml").execute().assertBodyContains("doFoo").getHeader("ETag");
+		assertNotNull(etag2);
+		assertFalse(etag1.equals(etag2));
+	}
+
+	@Test
+	public void q04_htmlNotCached() throws Exception {
+		q.options("/").accept("text/html").execute().assertStatus(200).assertHeader("ETag", null);
+	}
+
+	@Test
+	public void q05_guardedMethods() throws Exception {
+		MockServletResponse r1 = q.options("/").accept("application/json").execute();
+		MockServletResponse r2 = q.options("/").accept("application/json").header("X-Role", "admin").execute();
+		assertFalse(r1.getBodyAsString().contains("/admin"));
+		assertTrue(r2.getBodyAsString().contains("/admin"));
+		assertFalse(r1.getHeader("ETag").equals(r2.getHeader("ETag")));
+	}
+
+	@RestResource
+	public static class Q07 extends BasicRestServlet {
+		private static final long serialVersionUID = 1L;
+
+		@RestHook(PRE_CALL)
+		public void onPreCall(RestRequest req) {
+			if (req.getHeader("X-Ws") != null)
+				req.prop(SERIALIZER_useWhitespace, true);
+		}
+
+		@RestMethod(name=GET,path="/foo")
+		public String doFoo() {
+			return null;
+		}
+	}
+
+	static MockRest q07 = MockRest.create(Q07.class);
+
+	@Test
+	public void q07_requestPropertiesNotCached() throws Exception {
+		MockServletResponse r1 = q07.options("/").accept("application/json").execute().assertStatus(200);
+		MockServletResponse r2 = q07.options("/").accept("application/json").header("X-Ws", "true").execute().assertStatus(200);
+		MockServletResponse r3 = q07.options("/").accept("application/json").execute().assertStatus(200);
+		assertNotNull(r1.getHeader("ETag"));
+		assertNull(r2.getHeader("ETag"));
+		assertEquals(r1.getHeader("ETag"), r3.getHeader("ETag"));
+		assertEquals(r1.getBodyAsString(), r3.getBodyAsString());
+	}
 }
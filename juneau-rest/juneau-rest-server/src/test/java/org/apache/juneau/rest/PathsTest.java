@@ -645,4 +645,69 @@ public class PathsTest {
 			.assertBodyContains("method:4")
 		;
 	}
+
+	//=================================================================================================================
+	// Nested child resources
+	//=================================================================================================================
+
+	@RestResource(children={E01.class})
+	public static class E {}
+
+	@RestResource(path="/a", children={E02.class})
+	public static class E01 {
+		@RestMethod(name=GET,path="/*")
+		public ObjectMap get(RestRequest req, @Path("/*") String r) {
+			return getPaths(req).append("pathRemainder2", r).append("method",5);
+		}
+	}
+
+	@RestResource(path="/b")
+	public static class E02 {
+		@RestMethod(name=GET,path="/*")
+		public ObjectMap get(RestRequest req, @Path("/*") String r) {
+			return getPaths(req).append("pathRemainder2", r).append("method",6);
+		}
+	}
+	static MockRest e = MockRest.create(E.class);
+
+	@Test
+	public void e01() throws Exception {
+		e.get("http://localhost/cp/sp/a/b").contextPath("/cp").servletPath("/sp").execute()
+			.assertBodyContains("pathInfo:null")
+			.assertBodyContains("pathRemainder:null")
+			.assertBodyContains("requestURI:'/cp/sp/a/b'")
+			.assertBodyContains("servletPath:'/sp/a/b'")
+			.assertBodyContains("servletURI:'/cp/sp/a/b'")
+			.assertBodyContains("method:6")
+		;
+	}
+	@Test
+	public void e02() throws Exception {
+		e.get("http://localhost/cp/sp/a/b/foo/bar").contextPath("/cp").servletPath("/sp").execute()
+			.assertBodyContains("pathInfo:'/foo/bar'")
+			.assertBodyContains("pathRemainder:'foo/bar'")
+			.assertBodyContains("requestURI:'/cp/sp/a/b/foo/bar'")
+			.assertBodyContains("servletPath:'/sp/a/b'")
+			.assertBodyContains("servletURI:'/cp/sp/a/b'")
+			.assertBodyContains("method:6")
+		;
+	}
+	@Test
+	public void e03() throws Exception {
+		e.get("http://localhost/cp/sp/a/c/foo").contextPath("/cp").servletPath("/sp").execute()
+			.assertBodyContains("pathInfo:'/c/foo'")
+			.assertBodyContains("pathRemainder:'c/foo'")
+			.assertBodyContains("servletPath:'/sp/a'")
+			.assertBodyContains("method:5")
+		;
+	}
+	@Test
+	public void e04() throws Exception {
+		e.get("http://localhost/cp/sp/a/b/").contextPath("/cp").servletPath("/sp").execute()
+			.assertBodyContains("pathInfo:'/'")
+			.assertBodyContains("pathRemainder:''")
+			.assertBodyContains("servletPath:'/sp/a/b'")
+			.assertBodyContains("method:6")
+		;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import static org.junit.Assert.*;
+
+import org.apache.juneau.rest.annotation.*;
+import org.junit.*;
+import org.junit.runners.*;
+
+/**
+ * Tests size-valued settings on RestContextBuilder.
+ */
+@SuppressWarnings({"javadoc","serial"})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class RestContextBuilderTest {
+
+	@RestResource
+	public static class A extends BasicRestServlet {}
+
+	//=================================================================================================================
+	// Classpath resource cache
+	//=================================================================================================================
+
+	@Test
+	public void a01_classpathResourceDefaults() throws Exception {
+		RestContext rc = RestContext.create(new A()).build();
+		assertEquals(10*1024*1024, rc.getClasspathResourceCacheSize());
+		assertEquals(-1, rc.getClasspathResourceMmapThreshold());
+	}
+
+	@Test
+	public void a02_classpathResourceSuffixes() throws Exception {
+		RestContext rc = RestContext.create(new A()).classpathResourceCacheSize("50M").classpathResourceMmapThreshold("1K").build();
+		assertEquals(50*1024*1024, rc.getClasspathResourceCacheSize());
+		assertEquals(1024, rc.getClasspathResourceMmapThreshold());
+	}
+
+	@Test
+	public void a03_classpathResourceCachingDisabled() throws Exception {
+		RestContext rc = RestContext.create(new A()).useClasspathResourceCaching(false).classpathResourceCacheSize("50M").build();
+		assertEquals(0, rc.getClasspathResourceCacheSize());
+	}
+
+	//=================================================================================================================
+	// Multipart threshold
+	//=================================================================================================================
+
+	@Test
+	public void b01_multipartThresholdSuffixes() throws Exception {
+		assertEquals(64*1024, RestContext.create(new A()).build().getMultipartThreshold());
+		assertEquals(2*1024*1024, RestContext.create(new A()).multipartThreshold("2M").build().getMultipartThreshold());
+	}
+}
@@ -0,0 +1,154 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.annotation;
+
+import static org.junit.Assert.*;
+
+import org.apache.juneau.http.annotation.*;
+import org.apache.juneau.rest.*;
+import org.apache.juneau.rest.mock.*;
+import org.junit.*;
+import org.junit.runners.*;
+
+/**
+ * Tests that validate the behavior of @RestMethod(responseCacheTtl/responseCacheSize).
+ */
+@SuppressWarnings({"javadoc"})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class RestMethodResponseCacheTest {
+
+	//=================================================================================================================
+	// Basic caching
+	//=================================================================================================================
+
+	@RestResource
+	public static class A {
+		int count;
+
+		@RestMethod(path="/a01/*", responseCacheTtl="60")
+		public String a01() {
+			return "a01-" + (++count);
+		}
+		@RestMethod(path="/a05", responseCacheTtl="60")
+		public String a05(RestResponse res) {
+			res.addHeader("X-Foo", "1");
+			res.addHeader("X-Foo", "2");
+			return "a05-" + (++count);
+		}
+		@RestMethod(path="/a02")
+		public String a02() {
+			return "a02-" + (++count);
+		}
+		@RestMethod(name="POST", path="/invalidate")
+		public String invalidate(RestRequest req, @Query("path") String path) {
+			if (path == null)
+				req.getContext().invalidateResponseCache();
+			else
+				req.getContext().invalidateResponseCache(path);
+			return "OK";
+		}
+	}
+	static MockRest a = MockRest.create(A.class);
+
+	@Test
+	public void a01_cached() throws Exception {
+		String body = a.get("/a01/x?b=1&a=2").execute().assertStatus(200).getBodyAsString();
+		a.get("/a01/x?b=1&a=2").execute().assertBody(body);
+		a.get("/a01/x?a=2&b=1").execute().assertBody(body);
+		assertNotEquals(body, a.get("/a01/x?a=2").execute().getBodyAsString());
+		assertNotEquals(body, a.get("/a01/y?b=1&a=2").execute().getBodyAsString());
+		assertNotEquals(body, a.get("/a01/x?b=1&a=2").accept("text/plain+foo").execute().getBodyAsString());
+	}
+
+	@Test
+	public void a02_notCached() throws Exception {
+		String body = a.get("/a02").execute().getBodyAsString();
+		assertNotEquals(body, a.get("/a02").execute().getBodyAsString());
+	}
+
+	@Test
+	public void a03_etag() throws Exception {
+		MockServletResponse res = a.get("/a01/etag").execute().assertStatus(200);
+		String etag = res.getHeader("ETag");
+		assertTrue(etag.matches("\"[0-9A-F]{32}\""));
+
+		// Cached response.
+		a.get("/a01/etag").execute().assertStatus(200).assertHeader("ETag", etag).assertBody(res.getBodyAsString());
+
+		// Not modified.
+		a.get("/a01/etag").ifNoneMatch(etag).execute().assertStatus(304).assertHeader("ETag", etag).assertBody("");
+		a.get("/a01/etag").ifNoneMatch("\"foo\"").execute().assertStatus(200).assertBody(res.getBodyAsString());
+	}
+
+	@Test
+	public void a04_invalidate() throws Exception {
+		String b1 = a.get("/a01/i1").execute().getBodyAsString(), b2 = a.get("/a01/i2").execute().getBodyAsString();
+
+		a.post("/invalidate?path=/a01/i1", null).execute().assertBody("OK");
+		assertNotEquals(b1, a.get("/a01/i1").execute().getBodyAsString());
+		a.get("/a01/i2").execute().assertBody(b2);
+
+		a.post("/invalidate", null).execute().assertBody("OK");
+		assertNotEquals(b2, a.get("/a01/i2").execute().getBodyAsString());
+	}
+
+	@Test
+	public void a05_credentialsNotCached() throws Exception {
+		String b1 = a.get("/a01/c").header("Authorization", "Basic Zm9vOmJhcg==").execute().assertHeader("ETag", null).getBodyAsString();
+		assertNotEquals(b1, a.get("/a01/c").header("Authorization", "Basic Zm9vOmJhcg==").execute().getBodyAsString());
+		String b2 = a.get("/a01/c").header("Cookie", "id=1").execute().assertHeader("ETag", null).getBodyAsString();
+		assertNotEquals(b2, a.get("/a01/c").header("Cookie", "id=1").execute().getBodyAsString());
+
+		// Anonymous responses are still cached, and aren't served to callers with credentials.
+		String b3 = a.get("/a01/c").execute().getBodyAsString();
+		a.get("/a01/c").execute().assertBody(b3);
+		assertNotEquals(b3, a.get("/a01/c").header("Authorization", "Basic Zm9vOmJhcg==").execute().getBodyAsString());
+	}
+
+	@Test
+	public void a06_multiValuedHeaders() throws Exception {
+		String b1 = a.get("/a05").execute().getBodyAsString();
+		MockServletResponse r = a.get("/a05").execute().assertBody(b1);
+		assertEquals("[1, 2]", r.getHeaders("X-Foo").toString());
+	}
+
+	//=================================================================================================================
+	// Size-based eviction and maximum entry size
+	//=================================================================================================================
+
+	@RestResource(properties=@Property(name=RestContext.REST_responseCacheMaxEntrySize,value="10"))
+	public static class B {
+		int count;
+
+		@RestMethod(path="/b01/*", responseCacheTtl="60", responseCacheSize="2")
+		public String b01(@Query("s") String s) {
+			return s + "-" + (++count);
+		}
+	}
+	static MockRest b = MockRest.create(B.class);
+
+	@Test
+	public void b01_evicted() throws Exception {
+		String b1 = b.get("/b01/1?s=a").execute().getBodyAsString();
+		b.get("/b01/1?s=a").execute().assertBody(b1);
+		b.get("/b01/2?s=a").execute();
+		b.get("/b01/3?s=a").execute();
+		assertNotEquals(b1, b.get("/b01/1?s=a").execute().getBodyAsString());
+	}
+
+	@Test
+	public void b02_tooLarge() throws Exception {
+		String b1 = b.get("/b01/4?s=0123456789").execute().assertHeader("ETag", null).getBodyAsString();
+		assertNotEquals(b1, b.get("/b01/4?s=0123456789").execute().getBodyAsString());
+	}
+}
@@ -15,11 +15,15 @@ package org.apache.juneau.rest.annotation2;
 import static org.apache.juneau.http.HttpMethodName.*;
 import static org.apache.juneau.rest.testutils.TestUtils.*;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
+import java.io.*;
 import java.util.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.dto.swagger.*;
+import org.apache.juneau.internal.*;
+import org.apache.juneau.http.annotation.Body;
 import org.apache.juneau.http.annotation.FormData;
 import org.apache.juneau.rest.*;
 import org.apache.juneau.rest.annotation.*;
@@ -156,6 +160,50 @@ public class FormDataAnnotationTest {
 		c.post("/annotatedAndDefaultFormData", null).contentType("application/x-www-form-urlencoded").formData("f1",7).formData("f2",8).formData("f3",9).execute().assertBody("{f1:'7',f2:'8',f3:'9'}");
 	}
 
+	//=================================================================================================================
+	// Multipart form data
+	//=================================================================================================================
+
+	@RestResource(properties=@Property(name=RestContext.REST_multipartThreshold,value="8"))
+	public static class D {
+		static File d01File;
+
+		@RestMethod(name=POST, path="/parts")
+		public String d01(RequestFormData formData, @FormData("p1") String p1, @FormData("p2") int p2, @FormData("f1") RequestPart f1, @FormData("f2") InputStream f2) throws Exception {
+			d01File = f1.getFile();
+			return "p1=["+p1+"],p2=["+p2+"],p3=["+formData.getString("p3")+","+formData.getPart("p3").asString()+"],f1=["+f1.getFileName()+","+f1.getContentType()+","+f1.asString()+","+f1.getSize()+","+d01File.exists()+"],f2=["+IOUtils.read(f2)+"]";
+		}
+
+		@RestMethod(name=POST, path="/stream")
+		public String d02(@Body RequestMultipart parts) throws Exception {
+			StringBuilder sb = new StringBuilder();
+			for (RequestPart p = parts.next(); p != null; p = parts.next())
+				sb.append(p.getName()).append('=').append(p.getSize()).append(',').append(IOUtils.read(p.getReader()).length()).append(';');
+			return sb.toString();
+		}
+	}
+	static MockRest d = MockRest.create(D.class);
+
+	private static String part(String name, String fileName, String content) {
+		return "--XyZ\r\nContent-Disposition: form-data; name=\""+name+"\""+(fileName == null ? "" : "; filename=\""+fileName+"\"\r\nContent-Type: text/plain")+"\r\n\r\n"+content+"\r\n";
+	}
+
+	@Test
+	public void d01_multipartParts() throws Exception {
+		String body = "preamble\r\n" + part("p1",null,"foo") + part("p2",null,"2") + part("p3",null,"0123456789") + part("f1","a.txt","hello world!!") + part("f2","b.bin","a\r\n--XyAb") + "--XyZ--\r\n";
+		d.post("/parts", body).contentType("multipart/form-data; boundary=XyZ").execute().assertBody("p1=[foo],p2=[2],p3=[null,0123456789],f1=[a.txt,text/plain,hello world!!,13,true],f2=[a\r\n--XyAb]");
+		assertFalse(D.d01File.exists());
+	}
+
+	@Test
+	public void d02_multipartStream() throws Exception {
+		StringBuilder big = new StringBuilder();
+		for (int i = 0; i < 20000; i++)
+			big.append((char)('a' + i%26));
+		String body = part("p1",null,"foo") + part("f1","a.txt",big.toString()) + part("p2",null,"") + "--XyZ--";
+		d.post("/stream", body).contentType("multipart/form-data; boundary=\"XyZ\"").execute().assertBody("p1=-1,3;f1=-1,20000;p2=-1,0;");
+	}
+
 	//=================================================================================================================
 	// @FormData on POJO
 	//=================================================================================================================
@@ -16,8 +16,11 @@ import static org.apache.juneau.rest.testutils.TestUtils.*;
 import static org.junit.Assert.*;
 
 import java.io.*;
+import java.util.zip.*;
 
 import org.apache.juneau.encoders.*;
+import org.apache.juneau.http.annotation.*;
+import org.apache.juneau.internal.*;
 import org.apache.juneau.rest.*;
 import org.apache.juneau.rest.annotation.*;
 import org.apache.juneau.rest.mock.*;
@@ -42,6 +45,12 @@ public class AcceptEncodingTest {
 		}
 	}
 
+	public static class MyDeflateEncoder extends DeflateEncoder {
+		public MyDeflateEncoder() {
+			super(Deflater.BEST_SPEED, 1024, 10);
+		}
+	}
+
 	//=================================================================================================================
 	// Test with no compression enabled.
 	//=================================================================================================================
@@ -260,4 +269,37 @@ public class AcceptEncodingTest {
 			.assertHeader("Content-Encoding", null) // Should not be set
 			.assertBody("foo");
 	}
+
+	//=================================================================================================================
+	// Test with deflate compression and a minimum body size.
+	//=================================================================================================================
+
+	@RestResource(encoders=MyDeflateEncoder.class)
+	public static class D {
+		@RestMethod
+		public String d01(@Query("s") String s) {
+			return s;
+		}
+	}
+	static MockRest d = MockRest.create(D.class);
+
+	@Test
+	public void d01_deflate_belowMinSize() throws Exception {
+		d.get("/d01?s=foo").acceptEncoding("deflate").execute()
+			.assertHeader("content-encoding", null)
+			.assertBody("foo");
+	}
+	@Test
+	public void d02_deflate_aboveMinSize() throws Exception {
+		for (int i = 0; i < 3; i++) {
+			byte[] body = d.get("/d01?s=foobarbazqux").acceptEncoding("deflate").execute()
+				.assertHeader("content-encoding", "deflate")
+				.getBody();
+			assertEquals("foobarbazqux", inflate(body));
+		}
+	}
+
+	private static String inflate(byte[] b) throws Exception {
+		return IOUtils.read(new InflaterInputStream(new ByteArrayInputStream(b)));
+	}
 }
@@ -0,0 +1,140 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.headers;
+
+import static org.apache.juneau.rest.testutils.TestUtils.*;
+import static org.junit.Assert.*;
+
+import org.apache.juneau.encoders.*;
+import org.apache.juneau.http.annotation.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.rest.*;
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.mock.*;
+import org.junit.*;
+import org.junit.runners.*;
+
+/**
+ * Test behavior involving ETag and If-None-Match headers.
+ */
+@SuppressWarnings({"javadoc"})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class IfNoneMatchTest {
+
+	//=================================================================================================================
+	// Automatic entity tags.
+	//=================================================================================================================
+
+	@RestResource(serializers=SimpleJsonSerializer.class, encoders=GzipEncoder.class, properties=@Property(name=RestContext.REST_autoETag,value="true"))
+	public static class A {
+		@RestMethod
+		public String a01(@Query("s") String s) {
+			return s;
+		}
+		@RestMethod(name="POST")
+		public String a02(@Query("s") String s) {
+			return s;
+		}
+		@RestMethod
+		public String a03(RestResponse res, @Query("s") String s) {
+			res.setAutoETag(false);
+			return s;
+		}
+	}
+	static MockRest a = MockRest.create(A.class);
+
+	@Test
+	public void a01_autoETag() throws Exception {
+		String etag = a.get("/a01?s=foo").json().execute().assertStatus(200).assertBody("'foo'").getHeader("ETag");
+		assertTrue(etag.matches("W/\"[0-9A-F]{32}\""));
+		a.get("/a01?s=foo").json().execute().assertHeader("ETag", etag);
+		assertNotEquals(etag, a.get("/a01?s=bar").json().execute().getHeader("ETag"));
+
+		a.get("/a01?s=foo").json().ifNoneMatch(etag).execute().assertStatus(304).assertHeader("ETag", etag).assertBody("");
+		a.get("/a01?s=foo").json().ifNoneMatch("*").execute().assertStatus(304).assertBody("");
+		a.get("/a01?s=foo").json().ifNoneMatch("W/\"foo\"").execute().assertStatus(200).assertBody("'foo'");
+	}
+
+	@Test
+	public void a02_autoETag_encoded() throws Exception {
+		MockServletResponse r = a.get("/a01?s=foo").json().acceptEncoding("gzip").execute().assertStatus(200).assertHeader("content-encoding", "gzip");
+		assertEquals("'foo'", decompress(r.getBody()));
+		String etag = r.getHeader("ETag");
+
+		// Same entity tag regardless of encoding, and the encoder isn't used on 304 responses.
+		a.get("/a01?s=foo").json().execute().assertHeader("ETag", etag);
+		a.get("/a01?s=foo").json().acceptEncoding("gzip").ifNoneMatch(etag).execute().assertStatus(304).assertHeader("content-encoding", null).assertBody("");
+	}
+
+	@Test
+	public void a03_autoETag_notGet() throws Exception {
+		String etag = a.get("/a01?s=foo").json().execute().getHeader("ETag");
+		a.post("/a02?s=foo", null).json().ifNoneMatch(etag).execute().assertStatus(200).assertHeader("ETag", null).assertBody("'foo'");
+	}
+
+	@Test
+	public void a04_autoETag_disabledOnResponse() throws Exception {
+		a.get("/a03?s=foo").json().execute().assertStatus(200).assertHeader("ETag", null).assertBody("'foo'");
+	}
+
+	//=================================================================================================================
+	// Entity tags provided by the Java method.
+	//=================================================================================================================
+
+	public static class Versioned implements ETagProvider {
+		public String name;
+		private final int version;
+
+		public Versioned(String name, int version) {
+			this.name = name;
+			this.version = version;
+		}
+
+		@Override /* ETagProvider */
+		public String getETag() {
+			return "v" + version;
+		}
+	}
+
+	@RestResource(serializers=SimpleJsonSerializer.class)
+	public static class B {
+		int loads;
+
+		@RestMethod
+		public Versioned b01() {
+			return new Versioned("foo", 1);
+		}
+		@RestMethod
+		public String b02(RestResponse res) {
+			if (res.checkETag("W/\"v2\""))
+				return null;
+			return "bar-" + (++loads);
+		}
+	}
+	static MockRest b = MockRest.create(B.class);
+
+	@Test
+	public void b01_etagProvider() throws Exception {
+		b.get("/b01").json().execute().assertStatus(200).assertHeader("ETag", "\"v1\"").assertBody("{name:'foo'}");
+		b.get("/b01").json().ifNoneMatch("\"v1\"").execute().assertStatus(304).assertBody("");
+		b.get("/b01").json().ifNoneMatch("W/\"v1\"").execute().assertStatus(304).assertBody("");
+		b.get("/b01").json().ifNoneMatch("\"v0\"").execute().assertStatus(200).assertBody("{name:'foo'}");
+	}
+
+	@Test
+	public void b02_checkETag() throws Exception {
+		b.get("/b02").json().execute().assertStatus(200).assertHeader("ETag", "W/\"v2\"").assertBody("'bar-1'");
+		b.get("/b02").json().ifNoneMatch("\"v2\"").execute().assertStatus(304).assertHeader("ETag", "W/\"v2\"").assertBody("");
+		b.get("/b02").json().ifNoneMatch("\"v1\"").execute().assertStatus(200).assertBody("'bar-2'");
+	}
+}
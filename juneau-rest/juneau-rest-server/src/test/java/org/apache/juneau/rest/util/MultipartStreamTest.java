@@ -0,0 +1,86 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.util;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.internal.*;
+import org.junit.*;
+import org.junit.runners.*;
+
+/**
+ * Validates the functionality of the MultipartStream class.
+ */
+@SuppressWarnings({"javadoc"})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class MultipartStreamTest {
+
+	private static MultipartStream stream(String body) {
+		return new MultipartStream(new ByteArrayInputStream(body.getBytes(IOUtils.UTF8)), "XyZ");
+	}
+
+	private static String repeat(char c, int n) {
+		char[] a = new char[n];
+		Arrays.fill(a, c);
+		return new String(a);
+	}
+
+	@Test
+	public void a01_parts() throws Exception {
+		MultipartStream s = stream("--XyZ\r\nContent-Disposition: form-data; name=\"p1\"\r\n\r\nfoo\r\n--XyZ\r\nContent-Disposition: form-data; name=\"p2\"\r\n\r\nbar\r\n--XyZ--\r\n");
+		assertEquals("{content-disposition=form-data; name=\"p1\"}", s.nextPart().toString());
+		assertEquals("foo", IOUtils.read(s.getInputStream()));
+		assertEquals("{content-disposition=form-data; name=\"p2\"}", s.nextPart().toString());
+		assertEquals("bar", IOUtils.read(s.getInputStream()));
+		assertNull(s.nextPart());
+	}
+
+	@Test(timeout=10000)
+	public void a02_oversizedHeaderLine() throws Exception {
+		MultipartStream s = stream("--XyZ\r\nX-Foo: " + repeat('a', 20000) + "\r\n\r\nfoo\r\n--XyZ--\r\n");
+		try {
+			s.nextPart();
+			fail();
+		} catch (IOException e) {
+			assertEquals("Multipart part header line exceeds maximum size.", e.getMessage());
+		}
+	}
+
+	@Test(timeout=10000)
+	public void a03_missingCrlf() throws Exception {
+		MultipartStream s = stream("--XyZ\r\nX-Foo: " + repeat('a', 100));
+		try {
+			s.nextPart();
+			fail();
+		} catch (IOException e) {
+			assertEquals("Unexpected end of multipart stream.", e.getMessage());
+		}
+	}
+
+	@Test(timeout=10000)
+	public void a04_oversizedHeaders() throws Exception {
+		StringBuilder sb = new StringBuilder("--XyZ\r\n");
+		for (int i = 0; i < 100; i++)
+			sb.append("X-Foo").append(i).append(": ").append(repeat('a', 100)).append("\r\n");
+		MultipartStream s = stream(sb.append("\r\nfoo\r\n--XyZ--\r\n").toString());
+		try {
+			s.nextPart();
+			fail();
+		} catch (IOException e) {
+			assertEquals("Multipart part headers exceed maximum size.", e.getMessage());
+		}
+	}
+}